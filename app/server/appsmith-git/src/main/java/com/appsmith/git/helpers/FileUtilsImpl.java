@@ -22,16 +22,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
+import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
 import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
@@ -42,10 +43,12 @@ import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -81,6 +84,22 @@ public class FileUtilsImpl implements FileInterface {
 
     private final Scheduler scheduler = Schedulers.boundedElastic();
 
+    // Maximum number of files which are serialised and written at the same time while saving the application
+    private static final int FILE_WRITE_CONCURRENCY = 8;
+
+    // Gson to pretty format JSON file
+    // Keep Long type as is by default GSON have behavior to convert to Double
+    // Convert unordered set to ordered one
+    // Gson instances are thread-safe, so this one is shared by all the files which are written in parallel
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(Double.class,  new GsonDoubleToLongConverter())
+            .registerTypeAdapter(Set.class, new GsonUnorderedToOrderedConverter())
+            .registerTypeAdapter(Map.class, new GsonUnorderedToOrderedConverter())
+            .registerTypeAdapter(Instant.class, new GsonISOStringToInstantConverter())
+            .disableHtmlEscaping()
+            .setPrettyPrinting()
+            .create();
+
     /**
          Application will be stored in the following structure:
 
@@ -144,162 +163,259 @@ public class FileUtilsImpl implements FileInterface {
                 .flatMap(isSwitched -> {
 
                     Path baseRepo = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
+                    ApplicationFiles applicationFiles = getApplicationFiles(applicationGitReference);
 
-                    // Gson to pretty format JSON file
-                    // Keep Long type as is by default GSON have behavior to convert to Double
-                    // Convert unordered set to ordered one
-                    Gson gson = new GsonBuilder()
-                            .registerTypeAdapter(Double.class,  new GsonDoubleToLongConverter())
-                            .registerTypeAdapter(Set.class, new GsonUnorderedToOrderedConverter())
-                            .registerTypeAdapter(Map.class, new GsonUnorderedToOrderedConverter())
-                            .registerTypeAdapter(Instant.class, new GsonISOStringToInstantConverter())
-                            .disableHtmlEscaping()
-                            .setPrettyPrinting()
-                            .create();
-
-                    Set<String> validFileNames = new HashSet<>();
-                    Map<String, Set<String>> updatedResources = applicationGitReference.getUpdatedResources();
-
+                    // Remove the files of the deleted resources first, so that the files which are written afterwards
+                    // are never removed
                     // Remove unwanted directories which was present in v1 of the git file format version
                     deleteDirectory(baseRepo.resolve(ACTION_DIRECTORY));
                     deleteDirectory(baseRepo.resolve(ACTION_COLLECTION_DIRECTORY));
+                    scanAndDeleteDirectoryForDeletedResources(applicationFiles.validPages, baseRepo.resolve(PAGE_DIRECTORY));
+                    applicationFiles.validPageResourceFiles.forEach((resourceDirectory, validFileNames) ->
+                            scanAndDeleteFileForDeletedResources(validFileNames, baseRepo.resolve(resourceDirectory)));
+                    // Scan datasource directory and delete any unwanted files if present
+                    if (!applicationFiles.validDatasourceFiles.isEmpty()) {
+                        scanAndDeleteFileForDeletedResources(applicationFiles.validDatasourceFiles, baseRepo.resolve(DATASOURCE_DIRECTORY));
+                    }
 
-                    // Save application
-                    saveFile(applicationGitReference.getApplication(), baseRepo.resolve(CommonConstants.APPLICATION + CommonConstants.JSON_EXTENSION), gson);
+                    // Serialise and write the files in parallel, each file is only written if its content changed
+                    return Flux.fromIterable(applicationFiles.updatedFiles.entrySet())
+                            .flatMap(file -> Mono.fromCallable(() -> saveFile(file.getValue(), baseRepo.resolve(file.getKey())))
+                                            .subscribeOn(scheduler),
+                                    FILE_WRITE_CONCURRENCY)
+                            .then(Mono.fromCallable(() -> {
+                                processStopwatch.stopAndLogTimeInMillis();
+                                return baseRepo;
+                            }));
+                })
+                .subscribeOn(scheduler);
+    }
 
-                    // Save application metadata
-                    JsonObject metadata = gson.fromJson(gson.toJson(applicationGitReference.getMetadata()), JsonObject.class);
-                    metadata.addProperty(CommonConstants.FILE_FORMAT_VERSION, CommonConstants.fileFormatVersion);
-                    saveFile(metadata, baseRepo.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION), gson);
+    /**
+     * Lists the files which are written when the application is saved and the files which remain valid, based on the
+     * resources of the application. Pages, actions and JSObjects which are not updated since the last commit are not
+     * written as their files already have the committed content.
+     * @param applicationGitReference application reference object from which entire application can be rehydrated
+     * @return files of the application relative to the repo
+     */
+    private ApplicationFiles getApplicationFiles(ApplicationGitReference applicationGitReference) {
+        ApplicationFiles applicationFiles = new ApplicationFiles();
+        Map<String, Object> updatedFiles = applicationFiles.updatedFiles;
+        Map<String, Set<String>> updatedResources = applicationGitReference.getUpdatedResources();
+
+        // Save application
+        updatedFiles.put(CommonConstants.APPLICATION + CommonConstants.JSON_EXTENSION, applicationGitReference.getApplication());
+
+        // Save application metadata
+        JsonObject metadata = gson.fromJson(gson.toJson(applicationGitReference.getMetadata()), JsonObject.class);
+        metadata.addProperty(CommonConstants.FILE_FORMAT_VERSION, CommonConstants.fileFormatVersion);
+        updatedFiles.put(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION, metadata);
+
+        // Save application theme
+        updatedFiles.put(CommonConstants.THEME + CommonConstants.JSON_EXTENSION, applicationGitReference.getTheme());
+
+        // Save pages
+        for (Map.Entry<String, Object> pageResource : applicationGitReference.getPages().entrySet()) {
+            final String pageName = pageResource.getKey();
+            if (updatedResources.get(PAGE_LIST).contains(pageName)) {
+                updatedFiles.put(String.join("/", PAGE_DIRECTORY, pageName, CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION),
+                        pageResource.getValue());
+            }
+            applicationFiles.validPages.add(pageName);
+        }
 
-                    // Save application theme
-                    saveFile(applicationGitReference.getTheme(), baseRepo.resolve(CommonConstants.THEME + CommonConstants.JSON_EXTENSION), gson);
+        // Save actions
+        addPageResourceFiles(applicationFiles, applicationGitReference.getActions(), updatedResources, ACTION_LIST, ACTION_DIRECTORY);
 
-                    // Save pages
-                    Path pageDirectory = baseRepo.resolve(PAGE_DIRECTORY);
-                    Set<Map.Entry<String, Object>> pageEntries = applicationGitReference.getPages().entrySet();
+        // Save JSObjects
+        addPageResourceFiles(applicationFiles, applicationGitReference.getActionCollections(), updatedResources, ACTION_COLLECTION_LIST, ACTION_COLLECTION_DIRECTORY);
 
-                    Set<String> validPages = new HashSet<>();
-                    for (Map.Entry<String, Object> pageResource : pageEntries) {
-                        final String pageName = pageResource.getKey();
-                        Path pageSpecificDirectory = pageDirectory.resolve(pageName);
-                        Boolean isResourceUpdated = updatedResources.get(PAGE_LIST).contains(pageName);
-                        if(Boolean.TRUE.equals(isResourceUpdated)) {
-                            saveFile(pageResource.getValue(), pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION), gson);
-                        }
-                        validPages.add(pageName);
-                    }
+        // Save datasources ref
+        for (Map.Entry<String, Object> resource : applicationGitReference.getDatasources().entrySet()) {
+            updatedFiles.put(DATASOURCE_DIRECTORY + "/" + resource.getKey() + CommonConstants.JSON_EXTENSION, resource.getValue());
+            applicationFiles.validDatasourceFiles.add(resource.getKey() + CommonConstants.JSON_EXTENSION);
+        }
 
-                    scanAndDeleteDirectoryForDeletedResources(validPages, baseRepo.resolve(PAGE_DIRECTORY));
+        return applicationFiles;
+    }
 
-                    // Create HashMap for valid actions and actionCollections
-                    HashMap<String, Set<String>> validActionsMap = new HashMap<>();
-                    HashMap<String, Set<String>> validActionCollectionsMap = new HashMap<>();
-                    validPages.forEach(validPage -> {
-                        validActionsMap.put(validPage, new HashSet<>());
-                        validActionCollectionsMap.put(validPage, new HashSet<>());
-                    });
+    /**
+     * Adds the files of the actions or JSObjects, which are stored in the directory of their page
+     * @param applicationFiles files of the application, which are updated in place
+     * @param resources resourceName_pageName => resource
+     * @param updatedResources keys of the resources which are updated since the last commit, by resource type
+     * @param resourceType key of the resource type in updatedResources
+     * @param resourceDirectory directory of the resource within the page directory
+     */
+    private void addPageResourceFiles(ApplicationFiles applicationFiles,
+                                      Map<String, Object> resources,
+                                      Map<String, Set<String>> updatedResources,
+                                      String resourceType,
+                                      String resourceDirectory) {
+
+        applicationFiles.validPages.forEach(validPage -> applicationFiles.validPageResourceFiles
+                .put(String.join("/", PAGE_DIRECTORY, validPage, resourceDirectory), new HashSet<>()));
+
+        for (Map.Entry<String, Object> resource : resources.entrySet()) {
+            // queryName_pageName => nomenclature for the keys
+            // TODO
+            //  queryName => for app level queries, this is not implemented yet
+            String[] names = resource.getKey().split(NAME_SEPARATOR);
+            if (names.length > 1 && StringUtils.hasLength(names[1])) {
+                // For actions, we are referring to validNames to maintain unique file names as just name
+                // field don't guarantee unique constraint for actions within JSObject
+                final String resourceName = ACTION_DIRECTORY.equals(resourceDirectory) ? names[0].replace(".", "-") : names[0];
+                final String pageName = names[1];
+                final String fileName = resourceName + CommonConstants.JSON_EXTENSION;
+                final String pageResourceDirectory = String.join("/", PAGE_DIRECTORY, pageName, resourceDirectory);
+
+                applicationFiles.validPageResourceFiles
+                        .computeIfAbsent(pageResourceDirectory, ignored -> new HashSet<>())
+                        .add(fileName);
+                if (updatedResources.get(resourceType).contains(resource.getKey())) {
+                    applicationFiles.updatedFiles.put(pageResourceDirectory + "/" + fileName, resource.getValue());
+                }
+            }
+        }
+    }
 
-                    // Save actions
-                    for (Map.Entry<String, Object> resource : applicationGitReference.getActions().entrySet()) {
-                        // queryName_pageName => nomenclature for the keys
-                        // TODO
-                        //  queryName => for app level queries, this is not implemented yet
-                        String[] names = resource.getKey().split(NAME_SEPARATOR);
-                        if (names.length > 1 && StringUtils.hasLength(names[1])) {
-                            // For actions, we are referring to validNames to maintain unique file names as just name
-                            // field don't guarantee unique constraint for actions within JSObject
-                            Boolean isResourceUpdated = updatedResources.get(ACTION_LIST).contains(resource.getKey());
-                            final String queryName = names[0].replace(".", "-");
-                            final String pageName = names[1];
-                            Path pageSpecificDirectory = pageDirectory.resolve(pageName);
-
-                            if(!validActionsMap.containsKey(pageName)) {
-                                validActionsMap.put(pageName, new HashSet<>());
-                            }
-                            validActionsMap.get(pageName).add(queryName + CommonConstants.JSON_EXTENSION);
-                            if(Boolean.TRUE.equals(isResourceUpdated)) {
-                                saveFile(
-                                        resource.getValue(),
-                                        pageSpecificDirectory.resolve(ACTION_DIRECTORY).resolve(queryName + CommonConstants.JSON_EXTENSION),
-                                        gson
-                                );
-                            }
+    /**
+     * This method will compute the files which would differ from the last commit of the branch if the application was
+     * saved with saveApplicationToGitRepo. The resulting working tree is derived from the index of the committed files
+     * by applying the same deletions and writes in memory, where only the written resources need to be serialised.
+     * @param baseRepoSuffix path suffix used to create a repo path
+     * @param applicationGitReference application reference object from which entire application can be rehydrated
+     * @param branchName name of the branch for the current application
+     * @return paths of the added, modified and removed files, empty if the branch can't be read from the local repo
+     */
+    @Override
+    public Mono<Set<String>> getModifiedFiles(Path baseRepoSuffix,
+                                              ApplicationGitReference applicationGitReference,
+                                              String branchName) {
 
-                        }
+        Stopwatch processStopwatch = new Stopwatch("FS application status");
+        return Mono.fromCallable(() -> {
+                    Path baseRepo = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
+                    GitStatusIndex index;
+                    try (Git git = Git.open(baseRepo.toFile())) {
+                        index = GitStatusIndex.load(git.getRepository(), branchName);
+                    }
+                    if (index == null) {
+                        return null;
                     }
 
-                    validActionsMap.forEach((pageName, validActionNames) -> {
-                        Path pageSpecificDirectory = pageDirectory.resolve(pageName);
-                        scanAndDeleteFileForDeletedResources(validActionNames, pageSpecificDirectory.resolve(ACTION_DIRECTORY));
-                    });
+                    Map<String, String> committedFiles = index.getFileHashes();
+                    Map<String, String> savedFiles = getSavedFileHashes(committedFiles, getApplicationFiles(applicationGitReference));
 
-                    // Save JSObjects
-                    for (Map.Entry<String, Object> resource : applicationGitReference.getActionCollections().entrySet()) {
-                        // JSObjectName_pageName => nomenclature for the keys
-                        // TODO
-                        //  JSObjectName => for app level JSObjects, this is not implemented yet
-                        String[] names = resource.getKey().split(NAME_SEPARATOR);
-                        if (names.length > 1 && StringUtils.hasLength(names[1])) {
-                            final String actionCollectionName = names[0];
-                            final String pageName = names[1];
-                            Path pageSpecificDirectory = pageDirectory.resolve(pageName);
-
-                            if(!validActionCollectionsMap.containsKey(pageName)) {
-                                validActionCollectionsMap.put(pageName, new HashSet<>());
-                            }
-                            validActionCollectionsMap.get(pageName).add(actionCollectionName + CommonConstants.JSON_EXTENSION);
-                            Boolean isResourceUpdated = updatedResources.get(ACTION_COLLECTION_LIST).contains(resource.getKey());
-                            if(Boolean.TRUE.equals(isResourceUpdated)) {
-                                saveFile(
-                                        resource.getValue(),
-                                        pageSpecificDirectory.resolve(ACTION_COLLECTION_DIRECTORY).resolve(actionCollectionName + CommonConstants.JSON_EXTENSION),
-                                        gson
-                                );
-                            }
+                    Set<String> modifiedFiles = new HashSet<>();
+                    savedFiles.forEach((filePath, objectId) -> {
+                        if (!objectId.equals(committedFiles.get(filePath))) {
+                            modifiedFiles.add(filePath);
+                        }
+                    });
+                    committedFiles.keySet().forEach(filePath -> {
+                        if (!savedFiles.containsKey(filePath)) {
+                            modifiedFiles.add(filePath);
                         }
-                    }
-
-                    validActionCollectionsMap.forEach((pageName, validActionCollectionNames) -> {
-                        Path pageSpecificDirectory = pageDirectory.resolve(pageName);
-                        scanAndDeleteFileForDeletedResources(validActionCollectionNames, pageSpecificDirectory.resolve(ACTION_COLLECTION_DIRECTORY));
                     });
-
-                    // Save datasources ref
-                    for (Map.Entry<String, Object> resource : applicationGitReference.getDatasources().entrySet()) {
-                        saveFile(resource.getValue(), baseRepo.resolve(DATASOURCE_DIRECTORY).resolve(resource.getKey() + CommonConstants.JSON_EXTENSION), gson);
-                        validFileNames.add(resource.getKey() + CommonConstants.JSON_EXTENSION);
-                    }
-                    // Scan datasource directory and delete any unwanted files if present
-                    if (!applicationGitReference.getDatasources().isEmpty()) {
-                        scanAndDeleteFileForDeletedResources(validFileNames, baseRepo.resolve(DATASOURCE_DIRECTORY));
-                    }
                     processStopwatch.stopAndLogTimeInMillis();
-                    return Mono.just(baseRepo);
+                    return modifiedFiles;
+                })
+                .onErrorResume(error -> {
+                    log.debug("Unable to compute modified files for repo {}, branch {} with error {}", baseRepoSuffix, branchName, error.getMessage());
+                    return Mono.empty();
                 })
                 .subscribeOn(scheduler);
     }
 
     /**
-     * This method will be used to store the DB resource to JSON file
+     * Replays the deletions and writes of saveApplicationToGitRepo on the committed files
+     * @param committedFiles path => object id of the files in the last commit
+     * @param applicationFiles files of the application which would be saved
+     * @return path => object id of the files which would be present after saving the application
+     */
+    private Map<String, String> getSavedFileHashes(Map<String, String> committedFiles, ApplicationFiles applicationFiles) {
+
+        Map<String, String> files = new HashMap<>(committedFiles);
+
+        // Remove unwanted directories which was present in v1 of the git file format version
+        files.keySet().removeIf(filePath -> filePath.startsWith(ACTION_DIRECTORY + "/")
+                || filePath.startsWith(ACTION_COLLECTION_DIRECTORY + "/"));
+
+        // Directories of deleted pages are removed along with their queries and JSObjects
+        files.keySet().removeIf(filePath -> {
+            String[] names = filePath.split("/");
+            return names.length > 2 && PAGE_DIRECTORY.equals(names[0]) && !applicationFiles.validPages.contains(names[1]);
+        });
+
+        applicationFiles.validPageResourceFiles.forEach((resourceDirectory, validFileNames) -> files.keySet()
+                .removeIf(filePath -> filePath.startsWith(resourceDirectory + "/") && !validFileNames.contains(getFileName(filePath))));
+
+        if (!applicationFiles.validDatasourceFiles.isEmpty()) {
+            files.keySet().removeIf(filePath -> filePath.startsWith(DATASOURCE_DIRECTORY + "/")
+                    && !applicationFiles.validDatasourceFiles.contains(getFileName(filePath)));
+        }
+
+        applicationFiles.updatedFiles.forEach((filePath, sourceEntity) ->
+                files.put(filePath, GitStatusIndex.getObjectId(serialise(sourceEntity))));
+
+        return files;
+    }
+
+    private static String getFileName(String filePath) {
+        return filePath.substring(filePath.lastIndexOf('/') + 1);
+    }
+
+    private byte[] serialise(Object sourceEntity) {
+        return gson.toJson(sourceEntity).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * This method will be used to store the DB resource to JSON file. The file is left untouched if it already has the
+     * same content, otherwise the content is written to a temporary file which then replaces the file, so that the file
+     * is never left partially written.
      * @param sourceEntity resource extracted from DB to be stored in file
      * @param path file path where the resource to be stored
-     * @param gson
      * @return if the file operation is successful
      */
-    private boolean saveFile(Object sourceEntity, Path path, Gson gson) {
+    private boolean saveFile(Object sourceEntity, Path path) {
+        byte[] content = serialise(sourceEntity);
         try {
-            Files.createDirectories(path.getParent());
-            try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-                gson.toJson(sourceEntity, fileWriter);
+            if (Files.isRegularFile(path) && Files.size(path) == content.length
+                    && Arrays.equals(content, Files.readAllBytes(path))) {
                 return true;
             }
+
+            Files.createDirectories(path.getParent());
+            Path tempPath = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try {
+                Files.write(tempPath, content);
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempPath);
+            }
+            return true;
         } catch (IOException e) {
             log.debug(e.getMessage());
         }
         return false;
     }
 
+    /**
+     * Files of the application relative to the repo
+     */
+    private static class ApplicationFiles {
+        // path => resource, for the files which are written when the application is saved
+        final Map<String, Object> updatedFiles = new LinkedHashMap<>();
+
+        final Set<String> validPages = new HashSet<>();
+
+        // pages/pageName/resourceDirectory => names of the valid action or JSObject files in the directory
+        final Map<String, Set<String>> validPageResourceFiles = new HashMap<>();
+
+        final Set<String> validDatasourceFiles = new HashSet<>();
+    }
+
     /**
      * This method will delete the JSON resource available in local git directory on subsequent commit made after the
      * deletion of respective resource from DB
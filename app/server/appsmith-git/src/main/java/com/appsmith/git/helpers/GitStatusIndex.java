@@ -0,0 +1,115 @@
+package com.appsmith.git.helpers;
+
+import com.google.gson.Gson;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of the files in the last commit of a branch, along with the git object id of the content of each file.
+ * Comparing the object id of a serialised resource with the one in the index tells if the resource file would be
+ * modified, without writing it to the working tree. The index is persisted per branch inside the .git directory of the
+ * repo and is rebuilt from the commit tree whenever the branch moves to another commit, e.g. after a commit or a pull.
+ */
+@Slf4j
+@Getter
+public class GitStatusIndex {
+
+    private static final String INDEX_DIRECTORY = "appsmith-status-index";
+
+    private static final Gson gson = new Gson();
+
+    // Commit for which the file hashes are indexed
+    private String commitId;
+
+    // Path of the file relative to the repo => Object id of the file content
+    private Map<String, String> fileHashes;
+
+    /**
+     * Loads the index for the last commit of the branch, rebuilding and persisting it if the persisted one is missing
+     * or was built for another commit.
+     *
+     * @param repository git repository of the application
+     * @param branchName local branch for which the index is required
+     * @return index of the committed files, null if the branch does not exist in the local repo
+     */
+    public static GitStatusIndex load(Repository repository, String branchName) throws IOException {
+        ObjectId headId = repository.resolve(Constants.R_HEADS + branchName);
+        if (headId == null) {
+            return null;
+        }
+
+        Path indexPath = repository.getDirectory().toPath()
+                .resolve(INDEX_DIRECTORY)
+                .resolve(URLEncoder.encode(branchName, StandardCharsets.UTF_8) + ".json");
+        GitStatusIndex index = readIndex(indexPath);
+        if (index != null && headId.name().equals(index.commitId) && index.fileHashes != null) {
+            return index;
+        }
+
+        index = new GitStatusIndex();
+        index.commitId = headId.name();
+        index.fileHashes = new HashMap<>();
+        try (RevWalk revWalk = new RevWalk(repository); TreeWalk treeWalk = new TreeWalk(repository)) {
+            RevCommit commit = revWalk.parseCommit(headId);
+            treeWalk.addTree(commit.getTree());
+            treeWalk.setRecursive(true);
+            while (treeWalk.next()) {
+                index.fileHashes.put(treeWalk.getPathString(), treeWalk.getObjectId(0).name());
+            }
+        }
+        writeIndex(index, indexPath);
+        return index;
+    }
+
+    /**
+     * @param content content of a file as it would be written to the working tree
+     * @return object id that git assigns to a file with this content
+     */
+    public static String getObjectId(byte[] content) {
+        return new ObjectInserter.Formatter().idFor(Constants.OBJ_BLOB, content).name();
+    }
+
+    private static GitStatusIndex readIndex(Path indexPath) {
+        if (!Files.exists(indexPath)) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(indexPath, StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, GitStatusIndex.class);
+        } catch (Exception e) {
+            log.debug("Unable to read git status index {}, with error {}", indexPath, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void writeIndex(GitStatusIndex index, Path indexPath) throws IOException {
+        Files.createDirectories(indexPath.getParent());
+        // Write to a temporary file first so that concurrent readers never see a partially written index
+        Path tempPath = Files.createTempFile(indexPath.getParent(), "index", ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+                gson.toJson(index, writer);
+            }
+            Files.move(tempPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+}
@@ -472,41 +472,10 @@ public class GitExecutorImpl implements GitExecutor {
                 modifiedAssets.addAll(status.getUntracked());
                 response.setAdded(status.getAdded());
                 response.setRemoved(status.getRemoved());
-
-                long modifiedPages = 0L;
-                long modifiedQueries = 0L;
-                long modifiedJSObjects = 0L;
-                long modifiedDatasources = 0L;
-                for (String x : modifiedAssets) {
-                    if (x.contains(CommonConstants.CANVAS)) {
-                        modifiedPages++;
-                    } else if (x.contains(GitDirectories.ACTION_DIRECTORY + "/")) {
-                        modifiedQueries++;
-                    } else if (x.contains(GitDirectories.ACTION_COLLECTION_DIRECTORY + "/")) {
-                        modifiedJSObjects++;
-                    } else if (x.contains(GitDirectories.DATASOURCE_DIRECTORY + "/")) {
-                        modifiedDatasources++;
-                    }
-                }
-                response.setModified(modifiedAssets);
+                setModifiedAssets(response, modifiedAssets);
                 response.setConflicting(status.getConflicting());
                 response.setIsClean(status.isClean());
-                response.setModifiedPages(modifiedPages);
-                response.setModifiedQueries(modifiedQueries);
-                response.setModifiedJSObjects(modifiedJSObjects);
-                response.setModifiedDatasources(modifiedDatasources);
-
-                BranchTrackingStatus trackingStatus = BranchTrackingStatus.of(git.getRepository(), branchName);
-                if (trackingStatus != null) {
-                    response.setAheadCount(trackingStatus.getAheadCount());
-                    response.setBehindCount(trackingStatus.getBehindCount());
-                    response.setRemoteBranch(trackingStatus.getRemoteTrackingBranch());
-                } else {
-                    log.debug("Remote tracking details not present for branch: {}, repo: {}", branchName, repoPath);
-                    response.setAheadCount(0);
-                    response.setBehindCount(0);
-                    response.setRemoteBranch("untracked");
-                }
+                setTrackingStatus(response, git, repoPath, branchName);
 
                 // Remove modified changes from current branch so that checkout to other branches will be possible
                 if (!status.isClean()) {
@@ -525,6 +494,66 @@ public class GitExecutorImpl implements GitExecutor {
         .subscribeOn(scheduler);
     }
 
+    @Override
+    public Mono<GitStatusDTO> getStatusFromModifiedFiles(Path repoSuffix, String branchName, Set<String> modifiedFiles) {
+        Stopwatch processStopwatch = StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_STATUS.getEventName());
+        Path repoPath = createRepoPath(repoSuffix);
+        return Mono.fromCallable(() -> {
+            try (Git git = Git.open(repoPath.toFile())) {
+                log.debug(Thread.currentThread().getName() + ": Get status from modified files for repo  " + repoPath + ", branch " + branchName);
+                GitStatusDTO response = new GitStatusDTO();
+                // Nothing is staged or conflicting as the modified files are never written to the working tree
+                response.setAdded(new HashSet<>());
+                response.setRemoved(new HashSet<>());
+                setModifiedAssets(response, new HashSet<>(modifiedFiles));
+                response.setConflicting(new HashSet<>());
+                response.setIsClean(modifiedFiles.isEmpty());
+                setTrackingStatus(response, git, repoPath, branchName);
+                processStopwatch.stopAndLogTimeInMillis();
+                return response;
+            }
+        })
+        .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
+        .subscribeOn(scheduler);
+    }
+
+    private void setModifiedAssets(GitStatusDTO response, Set<String> modifiedAssets) {
+        long modifiedPages = 0L;
+        long modifiedQueries = 0L;
+        long modifiedJSObjects = 0L;
+        long modifiedDatasources = 0L;
+        for (String x : modifiedAssets) {
+            if (x.contains(CommonConstants.CANVAS)) {
+                modifiedPages++;
+            } else if (x.contains(GitDirectories.ACTION_DIRECTORY + "/")) {
+                modifiedQueries++;
+            } else if (x.contains(GitDirectories.ACTION_COLLECTION_DIRECTORY + "/")) {
+                modifiedJSObjects++;
+            } else if (x.contains(GitDirectories.DATASOURCE_DIRECTORY + "/")) {
+                modifiedDatasources++;
+            }
+        }
+        response.setModified(modifiedAssets);
+        response.setModifiedPages(modifiedPages);
+        response.setModifiedQueries(modifiedQueries);
+        response.setModifiedJSObjects(modifiedJSObjects);
+        response.setModifiedDatasources(modifiedDatasources);
+    }
+
+    private void setTrackingStatus(GitStatusDTO response, Git git, Path repoPath, String branchName) throws IOException {
+        BranchTrackingStatus trackingStatus = BranchTrackingStatus.of(git.getRepository(), branchName);
+        if (trackingStatus != null) {
+            response.setAheadCount(trackingStatus.getAheadCount());
+            response.setBehindCount(trackingStatus.getBehindCount());
+            response.setRemoteBranch(trackingStatus.getRemoteTrackingBranch());
+        } else {
+            log.debug("Remote tracking details not present for branch: {}, repo: {}", branchName, repoPath);
+            response.setAheadCount(0);
+            response.setBehindCount(0);
+            response.setRemoteBranch("untracked");
+        }
+    }
+
     @Override
     public Mono<String> mergeBranch(Path repoSuffix, String sourceBranch, String destinationBranch) {
         return Mono.fromCallable(() -> {
@@ -4,25 +4,35 @@ import com.appsmith.external.models.ApplicationGitReference;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.service.GitExecutorImpl;
 import org.apache.commons.io.FileUtils;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.Status;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static com.appsmith.external.constants.GitConstants.ACTION_COLLECTION_LIST;
+import static com.appsmith.external.constants.GitConstants.ACTION_LIST;
+import static com.appsmith.external.constants.GitConstants.NAME_SEPARATOR;
+import static com.appsmith.external.constants.GitConstants.PAGE_LIST;
 import static com.appsmith.git.constants.GitDirectories.ACTION_COLLECTION_DIRECTORY;
 import static com.appsmith.git.constants.GitDirectories.ACTION_DIRECTORY;
 import static com.appsmith.git.constants.GitDirectories.PAGE_DIRECTORY;
@@ -167,6 +177,129 @@ public class FileUtilsImplTest {
         this.deleteLocalTestDirectoryPath();
     }
 
+    @Test
+    public void getModifiedFiles_comparedToSavedRepoStatus_sameFiles(@TempDir Path gitRootPath) throws GitAPIException, IOException {
+        gitServiceConfig.setGitRootPath(gitRootPath.toString());
+        Path repoSuffix = Path.of("repo");
+
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(new HashMap<>(Map.of("appIsExample", false)));
+        applicationGitReference.setMetadata(new HashMap<>(Map.of("serverSchemaVersion", 4)));
+        applicationGitReference.setTheme(new HashMap<>(Map.of("name", "Default")));
+        applicationGitReference.setPages(new HashMap<>(Map.of(
+                "Page1", Map.of("gitSyncId", "page1"),
+                "Page2", Map.of("gitSyncId", "page2"))));
+        applicationGitReference.setActions(new HashMap<>(Map.of(
+                "Query1" + NAME_SEPARATOR + "Page1", new HashMap<>(Map.of("body", "select 1")),
+                "Api.v1" + NAME_SEPARATOR + "Page2", Map.of("body", "{}"))));
+        applicationGitReference.setActionCollections(new HashMap<>(Map.of(
+                "JSObject1" + NAME_SEPARATOR + "Page1", Map.of("body", "export default {}"))));
+        applicationGitReference.setDatasources(new HashMap<>(Map.of("DS1", Map.of("pluginId", "postgres-plugin"))));
+        applicationGitReference.setUpdatedResources(Map.of(
+                PAGE_LIST, applicationGitReference.getPages().keySet(),
+                ACTION_LIST, applicationGitReference.getActions().keySet(),
+                ACTION_COLLECTION_LIST, applicationGitReference.getActionCollections().keySet()));
+
+        Path repoPath = fileUtils.saveApplicationToGitRepo(repoSuffix, applicationGitReference, "master").block();
+        String branchName;
+        try (Git git = Git.init().setDirectory(repoPath.toFile()).call()) {
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Initial commit").setAuthor("test", "test@test.com").call();
+            branchName = git.getRepository().getBranch();
+        }
+
+        StepVerifier.create(fileUtils.getModifiedFiles(repoSuffix, applicationGitReference, branchName))
+                .assertNext(modifiedFiles -> Assertions.assertEquals(Set.of(), modifiedFiles))
+                .verifyComplete();
+
+        // Update a query, add a query and a datasource, and delete a page along with its query
+        ((Map<String, Object>) applicationGitReference.getActions().get("Query1" + NAME_SEPARATOR + "Page1")).put("body", "select 2");
+        applicationGitReference.getActions().put("Query2" + NAME_SEPARATOR + "Page1", Map.of("body", "select 3"));
+        applicationGitReference.getActions().remove("Api.v1" + NAME_SEPARATOR + "Page2");
+        applicationGitReference.getPages().remove("Page2");
+        applicationGitReference.getDatasources().put("DS2", Map.of("pluginId", "mysql-plugin"));
+        applicationGitReference.setUpdatedResources(Map.of(
+                PAGE_LIST, Set.of(),
+                ACTION_LIST, Set.of("Query1" + NAME_SEPARATOR + "Page1", "Query2" + NAME_SEPARATOR + "Page1"),
+                ACTION_COLLECTION_LIST, Set.of()));
+
+        Set<String> modifiedFiles = fileUtils.getModifiedFiles(repoSuffix, applicationGitReference, branchName).block();
+
+        fileUtils.saveApplicationToGitRepo(repoSuffix, applicationGitReference, branchName).block();
+        try (Git git = Git.open(repoPath.toFile())) {
+            Status status = git.status().call();
+            Set<String> expectedFiles = new HashSet<>(status.getUncommittedChanges());
+            expectedFiles.addAll(status.getUntracked());
+            Assertions.assertEquals(expectedFiles, modifiedFiles);
+        }
+        Assertions.assertEquals(Set.of(
+                "pages/Page1/queries/Query1.json",
+                "pages/Page1/queries/Query2.json",
+                "pages/Page2/canvas.json",
+                "pages/Page2/queries/Api-v1.json",
+                "datasources/DS2.json"), modifiedFiles);
+    }
+
+    @Test
+    public void saveApplicationRef_unchangedFiles_notRewritten(@TempDir Path gitRootPath) throws GitAPIException, IOException {
+        gitServiceConfig.setGitRootPath(gitRootPath.toString());
+        Path repoSuffix = Path.of("repo");
+
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(new HashMap<>(Map.of("appIsExample", false)));
+        applicationGitReference.setMetadata(new HashMap<>(Map.of("serverSchemaVersion", 4)));
+        applicationGitReference.setTheme(new HashMap<>(Map.of("name", "Default")));
+        applicationGitReference.setPages(new HashMap<>(Map.of("Page1", Map.of("gitSyncId", "page1"))));
+        applicationGitReference.setActions(new HashMap<>(Map.of(
+                "Query1" + NAME_SEPARATOR + "Page1", Map.of("body", "select 1"),
+                "Query2" + NAME_SEPARATOR + "Page1", Map.of("body", "select 2"))));
+        applicationGitReference.setActionCollections(new HashMap<>());
+        applicationGitReference.setDatasources(new HashMap<>(Map.of(
+                "DS1", Map.of("pluginId", "postgres-plugin"),
+                "DS2", Map.of("pluginId", "mysql-plugin"))));
+        applicationGitReference.setUpdatedResources(Map.of(
+                PAGE_LIST, applicationGitReference.getPages().keySet(),
+                ACTION_LIST, applicationGitReference.getActions().keySet(),
+                ACTION_COLLECTION_LIST, Set.of()));
+
+        Path repoPath = fileUtils.saveApplicationToGitRepo(repoSuffix, applicationGitReference, "master").block();
+        FileTime initialTime = FileTime.fromMillis(0);
+        Path query1Path = repoPath.resolve("pages/Page1/queries/Query1.json");
+        Path query2Path = repoPath.resolve("pages/Page1/queries/Query2.json");
+        Path datasource1Path = repoPath.resolve("datasources/DS1.json");
+        Path datasource2Path = repoPath.resolve("datasources/DS2.json");
+        for (Path path : Set.of(query1Path, query2Path, datasource1Path, datasource2Path)) {
+            Files.setLastModifiedTime(path, initialTime);
+        }
+
+        // Datasources are always saved, so DS1 is serialised again with the same content
+        applicationGitReference.getActions().put("Query2" + NAME_SEPARATOR + "Page1", Map.of("body", "select 3"));
+        applicationGitReference.getDatasources().put("DS2", Map.of("pluginId", "mongo-plugin"));
+        applicationGitReference.setUpdatedResources(Map.of(
+                PAGE_LIST, Set.of(),
+                ACTION_LIST, Set.of("Query1" + NAME_SEPARATOR + "Page1", "Query2" + NAME_SEPARATOR + "Page1"),
+                ACTION_COLLECTION_LIST, Set.of()));
+        fileUtils.saveApplicationToGitRepo(repoSuffix, applicationGitReference, "master").block();
+
+        Assertions.assertEquals(initialTime, Files.getLastModifiedTime(query1Path));
+        Assertions.assertEquals(initialTime, Files.getLastModifiedTime(datasource1Path));
+        Assertions.assertNotEquals(initialTime, Files.getLastModifiedTime(query2Path));
+        Assertions.assertNotEquals(initialTime, Files.getLastModifiedTime(datasource2Path));
+        Assertions.assertTrue(Files.readString(query2Path).contains("select 3"));
+        Assertions.assertTrue(Files.readString(datasource2Path).contains("mongo-plugin"));
+
+        // No temporary file is left behind by the writes
+        try (Stream<Path> paths = Files.walk(repoPath)) {
+            Assertions.assertTrue(paths.noneMatch(path -> path.toString().endsWith(".tmp")));
+        }
+    }
+
     /**
      * This will delete localTestDirectory and its contents after the test is executed.
      */
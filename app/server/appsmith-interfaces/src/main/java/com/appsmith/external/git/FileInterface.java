@@ -6,6 +6,7 @@ import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Set;
 
 public interface FileInterface {
     /**
@@ -32,6 +33,20 @@ public interface FileInterface {
                                         ApplicationGitReference applicationGitReference,
                                         String branchName) throws IOException, GitAPIException;
 
+    /**
+     * This method will compute the files which would differ from the last commit of the branch if the application was
+     * saved to the repo, without writing anything to the file system. Only the resources which are updated after the
+     * last commit are serialised, the others are compared through the index of the committed files.
+     * @param baseRepoSuffix path suffix used to create a repo path
+     * @param applicationGitReference application reference object from which entire application can be rehydrated
+     * @param branchName name of the branch for the current application
+     * @return paths of the added, modified and removed files relative to the repo, empty if the files can't be
+     *         compared this way and the application has to be saved to the repo instead
+     */
+    Mono<Set<String>> getModifiedFiles(Path baseRepoSuffix,
+                                       ApplicationGitReference applicationGitReference,
+                                       String branchName);
+
     /**
      * This method will reconstruct the application from the repo
      *
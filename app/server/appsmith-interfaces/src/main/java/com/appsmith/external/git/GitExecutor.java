@@ -11,6 +11,7 @@ import reactor.core.publisher.Mono;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
 
 @Component
 public interface GitExecutor {
@@ -119,6 +120,17 @@ public interface GitExecutor {
      */
     Mono<GitStatusDTO> getStatus(Path repoPath, String branchName);
 
+    /**
+     * This method will build the git-status response from the files which are already known to differ from the last
+     * commit of the branch, without scanning the working tree
+     *
+     * @param repoSuffix suffixedPath used to generate the base repo path this includes orgId, defaultAppId, repoName
+     * @param branchName branch name for which the status is required
+     * @param modifiedFiles files which are added, modified or removed with respect to the last commit of the branch
+     * @return Map of file names those are added, removed, modified
+     */
+    Mono<GitStatusDTO> getStatusFromModifiedFiles(Path repoSuffix, String branchName, Set<String> modifiedFiles);
+
     /**
      * @param repoSuffix suffixedPath used to generate the base repo path this includes orgId, defaultAppId, repoName
      * @param sourceBranch name of the branch whose commits will be referred amd merged to destinationBranch
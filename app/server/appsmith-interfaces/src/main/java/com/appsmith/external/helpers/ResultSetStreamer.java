@@ -0,0 +1,283 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
+
+/**
+ * Streams the rows of a JDBC query result in batches, reading them from the database cursor only as fast as the
+ * subscriber requests them. Unlike the regular execution path of the JDBC plugins, the rows that have already been
+ * emitted are not held in memory.
+ * <p>
+ * Most drivers (Postgres and Redshift in particular) only honour the fetch size, and hence only use a cursor, when auto
+ * commit is turned off. So the query is executed in a transaction which gets committed once all the rows have been
+ * read, and rolled back if the stream fails or is cancelled.
+ */
+@Slf4j
+public class ResultSetStreamer {
+
+    // Number of rows fetched from the database in one round trip.
+    public static final int FETCH_SIZE = 500;
+
+    // Number of rows emitted together to the subscriber.
+    public static final int BATCH_SIZE = 500;
+
+    private ResultSetStreamer() {
+    }
+
+    @FunctionalInterface
+    public interface ConnectionSupplier {
+        /**
+         * Implementations are expected to throw a `StaleConnectionException` if the connection pool is no longer usable.
+         */
+        Connection getConnection() throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface QueryExecutor {
+        /**
+         * Creates the statement on the given connection, sets the fetch size on it and executes it.
+         *
+         * @return The executed statement, whose result set or update count is read by the streamer.
+         */
+        Statement execute(Connection connection, int fetchSize) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface RowMapper {
+        Map<String, Object> getRow(ResultSet resultSet) throws SQLException, IOException;
+    }
+
+    /**
+     * @param connectionSupplier : Provides the connection to execute the query on. The connection is closed at the end.
+     * @param queryExecutor      : Executes the query on the connection.
+     * @param rowMapper          : Converts the current row of the result set into a map from column name to value.
+     * @param maxSize            : Maximum size in bytes of the whole result, as estimated by {@link RowSizeEstimator}.
+     * @param scheduler          : Scheduler to run the blocking JDBC calls on.
+     * @return Flux of row batches. Statements that do not return a result set emit a single `affectedRows` row.
+     */
+    public static Flux<List<Map<String, Object>>> stream(ConnectionSupplier connectionSupplier,
+                                                        QueryExecutor queryExecutor,
+                                                        RowMapper rowMapper,
+                                                        long maxSize,
+                                                        Scheduler scheduler) {
+        return stream(connectionSupplier, queryExecutor, rowMapper, columns -> {}, maxSize, scheduler);
+    }
+
+    /**
+     * Same as {@link #stream(ConnectionSupplier, QueryExecutor, RowMapper, long, Scheduler)}, but also hands the column
+     * names of the result set to the columns consumer, once the query has been executed and before the first row is
+     * emitted. Plugins use them to populate the hint messages for duplicate column names.
+     */
+    public static Flux<List<Map<String, Object>>> stream(ConnectionSupplier connectionSupplier,
+                                                        QueryExecutor queryExecutor,
+                                                        RowMapper rowMapper,
+                                                        Consumer<List<String>> columnsConsumer,
+                                                        long maxSize,
+                                                        Scheduler scheduler) {
+        return Flux
+                .<Map<String, Object>, Cursor>generate(
+                        () -> Cursor.open(connectionSupplier, queryExecutor, columnsConsumer, maxSize),
+                        (cursor, sink) -> {
+                            cursor.next(rowMapper, sink);
+                            return cursor;
+                        },
+                        Cursor::close
+                )
+                // Requests from downstream are also moved to the scheduler, so that rows are always fetched from the
+                // cursor on the scheduler and never on the thread that writes the response.
+                .subscribeOn(scheduler)
+                .buffer(BATCH_SIZE);
+    }
+
+    /**
+     * Wraps each batch of rows into the body of an ActionExecutionResult, the way the streaming execution of a plugin
+     * returns it to the server. Only the first result carries the request, and the hint messages returned by the given
+     * function, as these are the same for the whole result.
+     *
+     * @param batches          : Row batches as returned by {@link #stream}.
+     * @param objectMapper     : Mapper to convert the rows into the JSON body.
+     * @param request          : Request details of the query, set on the first result.
+     * @param messagesSupplier : Computes the hint messages of the first result. Called once the first batch has been
+     *                         read, so that it can rely on the columns handed to the columns consumer.
+     * @return Flux with one result per batch.
+     */
+    public static Flux<ActionExecutionResult> toActionExecutionResults(Flux<List<Map<String, Object>>> batches,
+                                                                       ObjectMapper objectMapper,
+                                                                       ActionExecutionRequest request,
+                                                                       Supplier<Set<String>> messagesSupplier) {
+        return batches
+                .index()
+                .map(indexedRows -> {
+                    ActionExecutionResult result = new ActionExecutionResult();
+                    result.setBody(objectMapper.valueToTree(indexedRows.getT2()));
+                    result.setIsExecutionSuccess(true);
+                    if (indexedRows.getT1() == 0) {
+                        result.setMessages(messagesSupplier.get());
+                        result.setRequest(request);
+                    }
+                    return result;
+                });
+    }
+
+    private static class Cursor {
+        private final Connection connection;
+        private final boolean autoCommit;
+        private final long maxSize;
+        private final RowSizeEstimator rowSizeEstimator;
+        private Statement statement;
+        private ResultSet resultSet;
+        private boolean isDone = false;
+        private boolean isCommitted = false;
+        private boolean isClosed = false;
+
+        private Cursor(Connection connection, long maxSize) throws SQLException {
+            this.connection = connection;
+            this.autoCommit = connection.getAutoCommit();
+            this.maxSize = maxSize;
+            this.rowSizeEstimator = new RowSizeEstimator(maxSize);
+        }
+
+        static Cursor open(ConnectionSupplier connectionSupplier,
+                           QueryExecutor queryExecutor,
+                           Consumer<List<String>> columnsConsumer,
+                           long maxSize) throws SQLException {
+            final Connection connection = connectionSupplier.getConnection();
+
+            Cursor cursor = null;
+            try {
+                cursor = new Cursor(connection, maxSize);
+                connection.setAutoCommit(false);
+                cursor.statement = queryExecutor.execute(connection, FETCH_SIZE);
+                cursor.resultSet = cursor.statement.getResultSet();
+                if (cursor.resultSet != null) {
+                    columnsConsumer.accept(getColumnsListForJdbcPlugin(cursor.resultSet.getMetaData()));
+                }
+                return cursor;
+            } catch (SQLException | RuntimeException e) {
+                // Binding substitution errors are thrown as runtime exceptions. Release the connection for those too.
+                if (cursor != null) {
+                    cursor.close();
+                } else {
+                    closeQuietly(connection);
+                }
+
+                if (e instanceof RuntimeException) {
+                    throw (RuntimeException) e;
+                }
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, e.getMessage());
+            }
+        }
+
+        void next(RowMapper rowMapper, SynchronousSink<Map<String, Object>> sink) {
+            if (isDone) {
+                sink.complete();
+                return;
+            }
+
+            try {
+                if (resultSet == null) {
+                    final int updateCount = statement.getUpdateCount();
+                    connection.commit();
+                    isCommitted = true;
+                    isDone = true;
+                    sink.next(Map.of("affectedRows", Math.max(updateCount, 0)));
+                    return;
+                }
+
+                if (!resultSet.next()) {
+                    isDone = true;
+                    connection.commit();
+                    isCommitted = true;
+                    sink.complete();
+                    return;
+                }
+
+                final Map<String, Object> row = rowMapper.getRow(resultSet);
+                if (!rowSizeEstimator.add(row)) {
+                    log.debug("Streamed result size greater than maximum supported size of {} bytes.", maxSize);
+                    fail(sink, new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED,
+                            (float) (maxSize / (1024 * 1024))));
+                    return;
+                }
+
+                sink.next(row);
+            } catch (SQLException e) {
+                fail(sink, new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, e.getMessage()));
+            } catch (IOException e) {
+                fail(sink, new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
+            }
+        }
+
+        /**
+         * Releases the connection before the error is signalled, so that it is already back in the pool by the time the
+         * subscriber reacts to the error.
+         */
+        private void fail(SynchronousSink<Map<String, Object>> sink, Throwable error) {
+            close();
+            sink.error(error);
+        }
+
+        void close() {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+
+            if (resultSet != null) {
+                try {
+                    resultSet.close();
+                } catch (SQLException e) {
+                    log.debug("Error closing streamed ResultSet", e);
+                }
+            }
+
+            if (statement != null) {
+                try {
+                    statement.close();
+                } catch (SQLException e) {
+                    log.debug("Error closing streamed Statement", e);
+                }
+            }
+
+            try {
+                if (!isCommitted) {
+                    connection.rollback();
+                }
+                connection.setAutoCommit(autoCommit);
+            } catch (SQLException e) {
+                log.debug("Error ending the transaction of the streamed query", e);
+            }
+
+            closeQuietly(connection);
+        }
+
+        private static void closeQuietly(Connection connection) {
+            try {
+                // Returns the connection back to the pool.
+                connection.close();
+            } catch (SQLException e) {
+                log.debug("Error closing connection after streaming the query result", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Keeps a running estimate of the size of a query result while its rows are being read, so that plugins can stop
+ * reading as soon as the result grows beyond the maximum response size that is supported.
+ * <p>
+ * The estimate approximates the number of bytes that each value takes up when the result is serialized to JSON. It is
+ * computed from the value's type and length only, so accounting a row costs about as much as iterating over its
+ * columns once, no matter how many rows have been read before it.
+ */
+public class RowSizeEstimator {
+
+    // Sizes of the JSON representation of scalar values, rounded up.
+    private static final int NULL_SIZE = 4;
+    private static final int BOOLEAN_SIZE = 5;
+    private static final int INTEGER_SIZE = 11;
+    private static final int LONG_SIZE = 20;
+    private static final int DECIMAL_SIZE = 24;
+    private static final int DATE_TIME_SIZE = 32;
+
+    // Quotes around strings and keys, and separators between entries.
+    private static final int QUOTES_SIZE = 2;
+    private static final int SEPARATOR_SIZE = 1;
+
+    private final long maxSize;
+
+    @Getter
+    private long size = 0;
+
+    public RowSizeEstimator(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Accounts for a row that has been added to the result.
+     *
+     * @param row - A row of the result, usually a map from column name to value.
+     * @return true if the result is still within the maximum size after adding this row, false otherwise.
+     */
+    public boolean add(Object row) {
+        size += estimateSize(row) + SEPARATOR_SIZE;
+        return !isMaxSizeExceeded();
+    }
+
+    public boolean isMaxSizeExceeded() {
+        return size > maxSize;
+    }
+
+    public static long estimateSize(Object value) {
+        if (value == null) {
+            return NULL_SIZE;
+        }
+
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() + QUOTES_SIZE;
+        }
+
+        if (value instanceof Boolean) {
+            return BOOLEAN_SIZE;
+        }
+
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return INTEGER_SIZE;
+        }
+
+        if (value instanceof Long) {
+            return LONG_SIZE;
+        }
+
+        if (value instanceof Double || value instanceof Float) {
+            return DECIMAL_SIZE;
+        }
+
+        if (value instanceof BigDecimal) {
+            final BigDecimal decimal = (BigDecimal) value;
+            // Digits, plus the sign and the decimal point.
+            return decimal.precision() + 2;
+        }
+
+        if (value instanceof BigInteger) {
+            // Each bit is worth log10(2) ~ 0.302 digits, plus the sign and a digit lost to rounding down.
+            return (long) (((BigInteger) value).bitLength() * 0.302) + 2;
+        }
+
+        if (value instanceof Date || value instanceof TemporalAccessor) {
+            return DATE_TIME_SIZE;
+        }
+
+        if (value instanceof byte[]) {
+            // Byte arrays are serialized as base64 strings.
+            return 4L * ((((byte[]) value).length + 2) / 3) + QUOTES_SIZE;
+        }
+
+        if (value instanceof JsonNode) {
+            return estimateJsonNodeSize((JsonNode) value);
+        }
+
+        if (value instanceof Map) {
+            long mapSize = QUOTES_SIZE;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                mapSize += estimateSize(String.valueOf(entry.getKey())) + estimateSize(entry.getValue())
+                        + 2 * SEPARATOR_SIZE;
+            }
+            return mapSize;
+        }
+
+        if (value instanceof Collection) {
+            long collectionSize = QUOTES_SIZE;
+            for (Object element : (Collection<?>) value) {
+                collectionSize += estimateSize(element) + SEPARATOR_SIZE;
+            }
+            return collectionSize;
+        }
+
+        if (value.getClass().isArray()) {
+            long arraySize = QUOTES_SIZE;
+            final int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) {
+                arraySize += estimateSize(Array.get(value, i)) + SEPARATOR_SIZE;
+            }
+            return arraySize;
+        }
+
+        return value.toString().length() + QUOTES_SIZE;
+    }
+
+    private static long estimateJsonNodeSize(JsonNode node) {
+        if (node.isTextual()) {
+            return node.textValue().length() + QUOTES_SIZE;
+        }
+
+        if (node.isObject()) {
+            long objectSize = QUOTES_SIZE;
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                objectSize += field.getKey().length() + QUOTES_SIZE + estimateJsonNodeSize(field.getValue())
+                        + 2 * SEPARATOR_SIZE;
+            }
+            return objectSize;
+        }
+
+        if (node.isArray()) {
+            long arraySize = QUOTES_SIZE;
+            for (JsonNode element : node) {
+                arraySize += estimateJsonNodeSize(element) + SEPARATOR_SIZE;
+            }
+            return arraySize;
+        }
+
+        if (node.isNull() || node.isMissingNode()) {
+            return NULL_SIZE;
+        }
+
+        if (node.isBoolean()) {
+            return BOOLEAN_SIZE;
+        }
+
+        if (node.isBinary()) {
+            return estimateSize(node.asText());
+        }
+
+        // Numbers and other scalars.
+        return node.asText().length();
+    }
+}
@@ -0,0 +1,187 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.helpers.SSLHelper;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the reactor-netty `HttpClient` instances used by REST API based plugins (REST API, GraphQL, SaaS) alive across
+ * action executions, so that consecutive calls to the same host re-use pooled keep-alive connections instead of paying
+ * for a fresh TCP and TLS handshake every time.
+ * <p>
+ * Reactor-netty pools connections per remote address *and* per client configuration, which includes the SSL provider.
+ * Hence, it is the fully configured `HttpClient` that gets cached here, keyed by the URL and the connection related
+ * settings of the datasource. The server evicts the client of a datasource when the datasource is updated or deleted,
+ * and clients that are not used for `UNUSED_CLIENT_EVICTION_TIME` are disposed by a periodic sweep.
+ */
+@Slf4j
+public class ConnectionProviderRegistry {
+
+    private static final String PROVIDER_NAME = "rest-api-provider";
+
+    // Maximum number of connections kept per remote host. Reactor-netty maintains a separate pool for each host.
+    public static final int MAX_CONNECTIONS_PER_HOST = 100;
+
+    // Most servers close idle keep-alive connections after about a minute. Retire them on our side before that.
+    public static final Duration MAX_IDLE_TIME = Duration.ofSeconds(45);
+
+    public static final Duration MAX_LIFE_TIME = Duration.ofSeconds(600);
+
+    public static final Duration PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(45);
+
+    public static final Duration BACKGROUND_EVICTION_INTERVAL = Duration.ofSeconds(60);
+
+    public static final Duration UNUSED_CLIENT_EVICTION_TIME = Duration.ofMinutes(15);
+
+    private static final boolean METRICS_ENABLED = isMicrometerPresent();
+
+    private static final Map<String, PooledHttpClient> clients = new ConcurrentHashMap<>();
+
+    private static final AtomicReference<Instant> lastSweepAt = new AtomicReference<>(Instant.now());
+
+    private ConnectionProviderRegistry() {
+    }
+
+    private static class PooledHttpClient {
+        private final ConnectionProvider provider;
+        private final HttpClient httpClient;
+        private volatile Instant lastUsedAt;
+
+        PooledHttpClient(ConnectionProvider provider, HttpClient httpClient) {
+            this.provider = provider;
+            this.httpClient = httpClient;
+            this.lastUsedAt = Instant.now();
+        }
+    }
+
+    public static HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration) {
+        sweepUnusedClients();
+
+        // The client is marked as used within the same atomic step that looks it up, so that a concurrent sweep can
+        // never dispose a client that has just been handed out.
+        final PooledHttpClient pooledHttpClient = clients.compute(getPoolKey(datasourceConfiguration),
+                (key, existingClient) -> {
+                    final PooledHttpClient client = existingClient == null
+                            ? createPooledHttpClient(datasourceConfiguration)
+                            : existingClient;
+                    client.lastUsedAt = Instant.now();
+                    return client;
+                });
+
+        return pooledHttpClient.httpClient;
+    }
+
+    /**
+     * Disposes the pooled client of a datasource, to be called when the datasource is updated or deleted. The
+     * connections that are in use are closed once they are released.
+     *
+     * @param datasourceConfiguration configuration of the datasource as it was before the update
+     */
+    public static void evictHttpClient(DatasourceConfiguration datasourceConfiguration) {
+        if (datasourceConfiguration == null) {
+            return;
+        }
+
+        final PooledHttpClient pooledHttpClient = clients.remove(getPoolKey(datasourceConfiguration));
+        if (pooledHttpClient != null) {
+            log.debug("Disposing connection pool of an updated REST API datasource.");
+            pooledHttpClient.provider.disposeLater().subscribe();
+        }
+    }
+
+    private static PooledHttpClient createPooledHttpClient(DatasourceConfiguration datasourceConfiguration) {
+        log.debug("Creating a new connection pool for REST API datasources.");
+        final ConnectionProvider provider = ConnectionProvider
+                .builder(PROVIDER_NAME)
+                .maxConnections(MAX_CONNECTIONS_PER_HOST)
+                .maxIdleTime(MAX_IDLE_TIME)
+                .maxLifeTime(MAX_LIFE_TIME)
+                .pendingAcquireTimeout(PENDING_ACQUIRE_TIMEOUT)
+                .evictInBackground(BACKGROUND_EVICTION_INTERVAL)
+                // Pool gauges are published to Micrometer under `reactor.netty.connection.provider.*`. Reactor-netty
+                // refuses to enable metrics when Micrometer is not on the classpath, as is the case for plugins.
+                .metrics(METRICS_ENABLED)
+                .build();
+
+        final HttpClient httpClient = HttpClient.create(provider)
+                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
+                .keepAlive(true)
+                .compress(true);
+
+        return new PooledHttpClient(provider, httpClient);
+    }
+
+    private static boolean isMicrometerPresent() {
+        try {
+            Class.forName("io.micrometer.core.instrument.Metrics", false,
+                    ConnectionProviderRegistry.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The datasource URL and the settings that change the way a connection is established make up the key, so that
+     * each datasource gets its own pools. Everything else (headers, authentication) is applied per request.
+     */
+    private static String getPoolKey(DatasourceConfiguration datasourceConfiguration) {
+        final String url = Objects.requireNonNullElse(datasourceConfiguration.getUrl(), "");
+        final Connection connection = datasourceConfiguration.getConnection();
+        if (connection == null || connection.getSsl() == null) {
+            return url + "|" + SSLDetails.AuthType.DEFAULT.name();
+        }
+
+        final SSLDetails ssl = connection.getSsl();
+        final SSLDetails.AuthType authType = ssl.getAuthType() == null ? SSLDetails.AuthType.DEFAULT : ssl.getAuthType();
+        if (authType != SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
+            return url + "|" + authType.name();
+        }
+
+        final UploadedFile certificateFile = ssl.getCertificateFile();
+        final String certificate = certificateFile == null ? null : certificateFile.getBase64Content();
+        return url + "|" + authType.name() + ":" + Objects.requireNonNullElse(certificate, "");
+    }
+
+    /**
+     * Disposes the clients that have not been used for `UNUSED_CLIENT_EVICTION_TIME`. Runs at most once every
+     * `BACKGROUND_EVICTION_INTERVAL`, piggybacking on the executions instead of a dedicated thread.
+     */
+    private static void sweepUnusedClients() {
+        final Instant now = Instant.now();
+        final Instant lastSweep = lastSweepAt.get();
+        if (lastSweep.plus(BACKGROUND_EVICTION_INTERVAL).isAfter(now) || !lastSweepAt.compareAndSet(lastSweep, now)) {
+            return;
+        }
+
+        final Instant evictBefore = now.minus(UNUSED_CLIENT_EVICTION_TIME);
+        for (String key : clients.keySet()) {
+            final PooledHttpClient[] evictedClient = new PooledHttpClient[1];
+            // Checked and removed atomically with respect to `getHttpClient`, which marks the client as used
+            clients.computeIfPresent(key, (k, pooledHttpClient) -> {
+                if (pooledHttpClient.lastUsedAt.isAfter(evictBefore)) {
+                    return pooledHttpClient;
+                }
+                evictedClient[0] = pooledHttpClient;
+                return null;
+            });
+
+            if (evictedClient[0] != null) {
+                log.debug("Disposing unused connection pool for REST API datasources.");
+                evictedClient[0].provider.disposeLater().subscribe();
+            }
+        }
+    }
+}
@@ -11,14 +11,15 @@ import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Property;
 import com.appsmith.util.WebClientUtils;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.NoArgsConstructor;
-import org.bson.internal.Base64;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -31,15 +32,17 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
-import reactor.netty.resources.ConnectionProvider;
 
 import javax.crypto.SecretKey;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -62,115 +65,153 @@ public class TriggerUtils {
                                                              ActionExecutionRequest actionExecutionRequest,
                                                              ObjectMapper objectMapper, Set<String> hintMessages,
                                                              ActionExecutionResult errorResult,
-                                                             RequestCaptureFilter requestCaptureFilter) {
+                                                             RequestCaptureFilter requestCaptureFilter,
+                                                             int maxResponseSize) {
         return httpCall(client, httpMethod, uri, requestBody, 0)
-                .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
-                .map(stringResponseEntity -> {
-                    HttpHeaders headers = stringResponseEntity.getHeaders();
-                        /*
-                            Find the media type of the response to parse the body as required. In case the content-type
-                            header is not present in the response then set it to our default i.e. "text/plain" although
-                            the RFC 7231 standard suggests assuming "application/octet-stream" content-type in case
-                            it's not present in response header.
-                         */
-                    MediaType contentType = headers.getContentType();
-                    if (contentType == null) {
-                        contentType = MediaType.TEXT_PLAIN;
-                    }
-                    byte[] body = stringResponseEntity.getBody();
-                    HttpStatus statusCode = stringResponseEntity.getStatusCode();
-
-                    ActionExecutionResult result = new ActionExecutionResult();
+                .flatMap(clientResponse -> readResponseBody(clientResponse, maxResponseSize)
+                        .map(body -> getActionExecutionResult(clientResponse, body, actionExecutionRequest,
+                                objectMapper, hintMessages, requestCaptureFilter))
+                        .switchIfEmpty(Mono.fromSupplier(() -> getActionExecutionResult(clientResponse, null,
+                                actionExecutionRequest, objectMapper, hintMessages, requestCaptureFilter))))
+                .onErrorResume(error -> {
+                    errorResult.setRequest(requestCaptureFilter.populateRequestFields(actionExecutionRequest));
+                    errorResult.setIsExecutionSuccess(false);
+                    errorResult.setErrorInfo(error);
+                    return Mono.just(errorResult);
+                });
 
-                    // Set the request fields
-                    result.setRequest(requestCaptureFilter.populateRequestFields(actionExecutionRequest));
+    }
 
-                    result.setStatusCode(statusCode.toString());
-                    result.setIsExecutionSuccess(statusCode.is2xxSuccessful());
+    /**
+     * Collects the response body into a single pooled buffer. The size limit is enforced while the body is being
+     * received, so an oversized response aborts the connection as soon as the limit is crossed (or right away, if the
+     * server announces the size via the Content-Length header) instead of being buffered in full first.
+     */
+    protected Mono<DataBuffer> readResponseBody(ClientResponse clientResponse, int maxResponseSize) {
+        final long contentLength = clientResponse.headers().contentLength().orElse(-1);
+        if (contentLength > maxResponseSize) {
+            return clientResponse.releaseBody()
+                    .then(Mono.error(new DataBufferLimitException(
+                            "Exceeded limit on max bytes to buffer : " + maxResponseSize)));
+        }
 
-                    // Convert the headers into json tree to store in the results
-                    String headerInJsonString;
-                    try {
-                        headerInJsonString = objectMapper.writeValueAsString(headers);
-                    } catch (JsonProcessingException e) {
-                        throw Exceptions.propagate(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e));
-                    }
+        return DataBufferUtils.join(clientResponse.bodyToFlux(DataBuffer.class), maxResponseSize);
+    }
 
-                    // Set headers in the result now
+    private ActionExecutionResult getActionExecutionResult(ClientResponse clientResponse, DataBuffer body,
+                                                           ActionExecutionRequest actionExecutionRequest,
+                                                           ObjectMapper objectMapper, Set<String> hintMessages,
+                                                           RequestCaptureFilter requestCaptureFilter) {
+        try {
+            HttpHeaders headers = clientResponse.headers().asHttpHeaders();
+            /*
+                Find the media type of the response to parse the body as required. In case the content-type
+                header is not present in the response then set it to our default i.e. "text/plain" although
+                the RFC 7231 standard suggests assuming "application/octet-stream" content-type in case
+                it's not present in response header.
+             */
+            MediaType contentType = headers.getContentType();
+            if (contentType == null) {
+                contentType = MediaType.TEXT_PLAIN;
+            }
+            HttpStatus statusCode = clientResponse.statusCode();
+
+            ActionExecutionResult result = new ActionExecutionResult();
+
+            // Set the request fields
+            result.setRequest(requestCaptureFilter.populateRequestFields(actionExecutionRequest));
+
+            result.setStatusCode(statusCode.toString());
+            result.setIsExecutionSuccess(statusCode.is2xxSuccessful());
+
+            // Convert the headers into json tree to store in the results
+            ObjectNode headersObjectNode = getHeadersAsJsonNode(headers, objectMapper);
+            result.setHeaders(headersObjectNode);
+
+            if (body != null) {
+
+                ResponseDataType responseDataType = ResponseDataType.UNDEFINED;
+
+                /**TODO
+                 * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
+                 * are kept as is and returned as a string.
+                 */
+                if (contentType.includes(MediaType.APPLICATION_JSON)) {
                     try {
-                        result.setHeaders(objectMapper.readTree(headerInJsonString));
+                        // Parse straight from the pooled buffer, without an intermediate String copy of the body.
+                        result.setBody(objectMapper.readTree(body.asInputStream()));
+                        responseDataType = ResponseDataType.JSON;
                     } catch (IOException e) {
-                        throw Exceptions.propagate(
-                                new AppsmithPluginException(
-                                        AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR,
-                                        headerInJsonString,
-                                        e.getMessage()
-                                )
-                        );
+                        System.out.println("Unable to parse response JSON. Setting response body as string.");
+                        String bodyString = body.toString(StandardCharsets.UTF_8);
+                        result.setBody(bodyString.trim());
+
+                        // Warn user that the API response is not a valid JSON.
+                        hintMessages.add("The response returned by this API is not a valid JSON. Please " +
+                                "be careful when using the API response anywhere a valid JSON is required" +
+                                ". You may resolve this issue either by modifying the 'Content-Type' " +
+                                "Header to indicate a non-JSON response or by modifying the API response " +
+                                "to return a valid JSON.");
                     }
+                } else if (MediaType.IMAGE_GIF.equals(contentType) ||
+                        MediaType.IMAGE_JPEG.equals(contentType) ||
+                        MediaType.IMAGE_PNG.equals(contentType)) {
+                    result.setBody(encodeToBase64(body));
+                    responseDataType = ResponseDataType.IMAGE;
+
+                } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
+                    result.setBody(encodeToBase64(body));
+                    responseDataType = ResponseDataType.BINARY;
+                } else {
+                    // If the body is not of JSON type, just set it as is.
+                    String bodyString = body.toString(StandardCharsets.UTF_8);
+                    result.setBody(bodyString.trim());
+                    responseDataType = ResponseDataType.TEXT;
+                }
+
+                // Now add a new header which specifies the data type of the response as per Appsmith
+                headersObjectNode.putArray(RESPONSE_DATA_TYPE)
+                        .add(String.valueOf(responseDataType));
+
+            }
+
+            result.setMessages(hintMessages);
+            return result;
+        } finally {
+            if (body != null) {
+                DataBufferUtils.release(body);
+            }
+        }
+    }
 
-                    if (body != null) {
-
-                        ResponseDataType responseDataType = ResponseDataType.UNDEFINED;
-
-                        /**TODO
-                         * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
-                         * are kept as is and returned as a string.
-                         */
-                        if (contentType.includes(MediaType.APPLICATION_JSON)) {
-                            try {
-                                String jsonBody = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(objectMapper.readTree(jsonBody));
-                                responseDataType = ResponseDataType.JSON;
-                            } catch (IOException e) {
-                                System.out.println("Unable to parse response JSON. Setting response body as string.");
-                                String bodyString = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(bodyString.trim());
-
-                                // Warn user that the API response is not a valid JSON.
-                                hintMessages.add("The response returned by this API is not a valid JSON. Please " +
-                                        "be careful when using the API response anywhere a valid JSON is required" +
-                                        ". You may resolve this issue either by modifying the 'Content-Type' " +
-                                        "Header to indicate a non-JSON response or by modifying the API response " +
-                                        "to return a valid JSON.");
-                            }
-                        } else if (MediaType.IMAGE_GIF.equals(contentType) ||
-                                MediaType.IMAGE_JPEG.equals(contentType) ||
-                                MediaType.IMAGE_PNG.equals(contentType)) {
-                            String encode = Base64.encode(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.IMAGE;
-
-                        } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
-                            String encode = Base64.encode(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.BINARY;
-                        } else {
-                            // If the body is not of JSON type, just set it as is.
-                            String bodyString = new String(body, StandardCharsets.UTF_8);
-                            result.setBody(bodyString.trim());
-                            responseDataType = ResponseDataType.TEXT;
-                        }
-
-                        // Now add a new header which specifies the data type of the response as per Appsmith
-                        JsonNode headersJsonNode = result.getHeaders();
-                        ObjectNode headersObjectNode = (ObjectNode) headersJsonNode;
-                        headersObjectNode.putArray(RESPONSE_DATA_TYPE)
-                                .add(String.valueOf(responseDataType));
-                        result.setHeaders(headersObjectNode);
-
-                    }
+    /**
+     * Builds the headers tree directly. This yields the same shape as serializing `HttpHeaders` with Jackson, i.e. a
+     * JSON object mapping each header name to the array of its values.
+     */
+    protected ObjectNode getHeadersAsJsonNode(HttpHeaders headers, ObjectMapper objectMapper) {
+        ObjectNode headersObjectNode = objectMapper.createObjectNode();
+        headers.forEach((name, values) -> {
+            ArrayNode valuesArrayNode = headersObjectNode.putArray(name);
+            values.forEach(valuesArrayNode::add);
+        });
+
+        return headersObjectNode;
+    }
 
-                    result.setMessages(hintMessages);
-                    return result;
-                })
-                .onErrorResume(error -> {
-                    errorResult.setRequest(requestCaptureFilter.populateRequestFields(actionExecutionRequest));
-                    errorResult.setIsExecutionSuccess(false);
-                    errorResult.setErrorInfo(error);
-                    return Mono.just(errorResult);
-                });
+    /**
+     * Encodes the body chunk by chunk into a single output buffer, instead of first copying it into a byte array.
+     */
+    protected String encodeToBase64(DataBuffer body) {
+        final int readableByteCount = body.readableByteCount();
+        final ByteArrayOutputStream encodedOutputStream = new ByteArrayOutputStream(4 * (readableByteCount / 3 + 1));
+        try (OutputStream encodingStream = Base64.getEncoder().wrap(encodedOutputStream);
+             InputStream bodyInputStream = body.asInputStream()) {
+            bodyInputStream.transferTo(encodingStream);
+        } catch (IOException e) {
+            throw Exceptions.propagate(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e));
+        }
 
+        return encodedOutputStream.toString(StandardCharsets.US_ASCII);
     }
 
     protected Mono<ClientResponse> httpCall(WebClient webClient, HttpMethod httpMethod, URI uri, Object requestBody,
@@ -287,17 +328,8 @@ public class TriggerUtils {
     }
 
     protected HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration) {
-        // Initializing webClient to be used for http call
-        final ConnectionProvider provider = ConnectionProvider
-                .builder("rest-api-provider")
-                .maxIdleTime(Duration.ofSeconds(600))
-                .maxLifeTime(Duration.ofSeconds(600))
-                .build();
-
-        HttpClient httpClient = HttpClient.create(provider)
-                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
-                .compress(true);
-
-        return httpClient;
+        // Re-use the pooled client for this datasource's connection settings, so that keep-alive connections survive
+        // across executions.
+        return ConnectionProviderRegistry.getHttpClient(datasourceConfiguration);
     }
 }
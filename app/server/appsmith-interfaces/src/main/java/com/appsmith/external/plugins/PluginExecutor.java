@@ -2,6 +2,7 @@ package com.appsmith.external.plugins;
 
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -14,6 +15,7 @@ import com.appsmith.external.models.TriggerRequestDTO;
 import com.appsmith.external.models.TriggerResultDTO;
 import org.pf4j.ExtensionPoint;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple2;
@@ -171,6 +173,39 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
         return this.execute(connection, datasourceConfiguration, actionConfiguration);
     }
 
+    /**
+     * This function tells the platform if the plugin can stream the rows of its result using
+     * {@link #executeParameterizedStreaming(Object, ExecuteActionDTO, DatasourceConfiguration, ActionConfiguration)}.
+     * For plugins that can't, the streaming execute endpoint falls back to the regular execution.
+     *
+     * @return boolean
+     */
+    default boolean isStreamingSupported() {
+        return false;
+    }
+
+    /**
+     * Appsmith Server calls this function for the streaming execution of the action. Instead of collecting the whole
+     * result into a single ActionExecutionResult, the rows are emitted in batches as they are read from the data source,
+     * with backpressure from the client that the result is being written to. Each ActionExecutionResult carries one
+     * batch of rows as its body. The request and the hint messages are only set on the first one.
+     *
+     * @param connection              : This is the connection that is established to the data source.
+     * @param executeActionDTO        : This is the data structure sent by the client during execute. This contains the params
+     *                                which would be used for substitution
+     * @param datasourceConfiguration : These are the configurations which have been used to create a Datasource from a Plugin
+     * @param actionConfiguration     : These are the configurations which have been used to create an Action from a Datasource.
+     * @return Flux of results with one batch of rows each. Errors are signalled as error signals, and a
+     * StaleConnectionException is only ever signalled before the first batch.
+     */
+    default Flux<ActionExecutionResult> executeParameterizedStreaming(C connection,
+                                                                      ExecuteActionDTO executeActionDTO,
+                                                                      DatasourceConfiguration datasourceConfiguration,
+                                                                      ActionConfiguration actionConfiguration) {
+        return Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                "Streaming execution is not supported by this plugin."));
+    }
+
     /**
      * This function is responsible for preparing the action and datasource configurations to be ready for execution.
      *
@@ -0,0 +1,1044 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Condition;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.appsmith.external.helpers.DataTypeStringUtils.stringToKnownDataTypeConverter;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * An in-memory, column oriented copy of the rows handed to `FilterDataServiceCE`, on which the UQI where clause,
+ * sorting and pagination are evaluated directly.
+ * <p>
+ * Every column is decoded once into a primitive (or otherwise typed) array as per the data type inferred for it in the
+ * schema. Predicates are compiled once per call and then evaluated row by row over these arrays. The semantics match
+ * those of the SQL query that used to be run on the in memory H2 database for the same input, i.e. comparisons with
+ * null values never match, nulls are sorted first in ascending order, and `LIKE` matching on dates and timestamps is
+ * done on their SQL string representation.
+ * <p>
+ * An instance is confined to a single filter call, hence no synchronization is required.
+ */
+class ColumnarDataTable {
+
+    private static final String DEFAULT_LIMIT = "20";
+    private static final String DEFAULT_OFFSET = "0";
+
+    private static final Set<ConditionalOperator> IS_NULL_OPERATORS = Set.of(
+            ConditionalOperator.EQ,
+            ConditionalOperator.IN,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.LTE,
+            ConditionalOperator.LT
+    );
+
+    private static final Set<ConditionalOperator> IS_NOT_NULL_OPERATORS = Set.of(
+            ConditionalOperator.NOT_IN,
+            ConditionalOperator.NOT_EQ,
+            ConditionalOperator.GTE,
+            ConditionalOperator.GT
+    );
+
+    private static final Pattern DATE_PATTERN = Pattern.compile("(-?\\d+)-(\\d{1,2})-(\\d{1,2})");
+
+    private static final Pattern TIMESTAMP_PATTERN = Pattern.compile(
+            "(-?\\d+)-(\\d{1,2})-(\\d{1,2})(?:[ T](\\d{1,2}):(\\d{1,2})(?::(\\d{1,2})(?:\\.(\\d{1,9}))?)?)?");
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ObjectMapper objectMapper;
+    private final int rowCount;
+    private final Map<String, Column> columns;
+
+    private ColumnarDataTable(ObjectMapper objectMapper, int rowCount, Map<String, Column> columns) {
+        this.objectMapper = objectMapper;
+        this.rowCount = rowCount;
+        this.columns = columns;
+    }
+
+    /**
+     * Decodes all the rows into typed column vectors as per the schema.
+     *
+     * @param items                 - data
+     * @param schema                - data type of each column, in the order in which the columns are to be returned
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     */
+    static ColumnarDataTable of(ObjectMapper objectMapper, ArrayNode items, Map<String, DataType> schema,
+                                Map<DataType, DataType> dataTypeConversionMap) {
+        final int rowCount = items.size();
+        final Map<String, Column> columns = new LinkedHashMap<>();
+        for (Map.Entry<String, DataType> entry : schema.entrySet()) {
+            columns.put(entry.getKey(), Column.create(entry.getKey(), entry.getValue(), rowCount));
+        }
+
+        for (int row = 0; row < rowCount; row++) {
+            final JsonNode item = items.get(row);
+            for (Column column : columns.values()) {
+                final JsonNode fieldNode = item.get(column.name);
+                final String value = fieldNode == null ? "" : fieldNode.asText();
+                final DataType dataType = FilterDataServiceCE.getValueDataType(value, column.dataType,
+                        dataTypeConversionMap);
+
+                if (dataType == DataType.NULL) {
+                    column.nulls.set(row);
+                } else {
+                    column.set(row, value);
+                }
+            }
+        }
+
+        return new ColumnarDataTable(objectMapper, rowCount, columns);
+    }
+
+    /**
+     * Applies the where clause, sorting and pagination in this order and returns the selected rows, restricted to the
+     * projection columns if any.
+     */
+    ArrayNode filter(Condition condition, List<String> projectionColumns, List<Map<String, String>> sortBy,
+                     Map<String, String> paginateBy) {
+
+        final List<Column> outputColumns = getOutputColumns(projectionColumns);
+        final Predicate predicate = compileWhereClause(condition);
+        final RowComparator rowComparator = compileSortBy(sortBy);
+
+        int offset = 0;
+        int limit = Integer.MAX_VALUE;
+        if (!CollectionUtils.isEmpty(paginateBy)) {
+            limit = parsePaginationValue(paginateBy.get(PAGINATE_LIMIT_KEY), DEFAULT_LIMIT, "result FETCH");
+            offset = parsePaginationValue(paginateBy.get(PAGINATE_OFFSET_KEY), DEFAULT_OFFSET, "result OFFSET");
+        }
+
+        int[] selectedRows = new int[rowCount];
+        int selectedCount = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (predicate == null || predicate.test(row)) {
+                selectedRows[selectedCount++] = row;
+            }
+        }
+
+        final int[] resultRows;
+        if (rowComparator == null) {
+            final int from = Math.min(offset, selectedCount);
+            final int to = (int) Math.min((long) from + limit, selectedCount);
+            resultRows = Arrays.copyOfRange(selectedRows, from, to);
+        } else {
+            resultRows = sortAndPaginate(selectedRows, selectedCount, rowComparator, offset, limit);
+        }
+
+        final ArrayNode result = objectMapper.createArrayNode();
+        for (int row : resultRows) {
+            final ObjectNode rowNode = result.addObject();
+            for (Column column : outputColumns) {
+                if (column.nulls.get(row)) {
+                    // Set null values to empty strings
+                    rowNode.put(column.name, "");
+                } else {
+                    column.putValue(rowNode, row);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Sorts only as much as required. When the result is paginated, only the top `offset + limit` rows are kept in a
+     * bounded heap. Ties are broken on the row index, so that the order is the same as that of a stable sort. Row
+     * indices are kept in `int` arrays throughout, so no row is ever boxed.
+     */
+    private static int[] sortAndPaginate(int[] rows, int count, RowComparator rowComparator, int offset, int limit) {
+        final RowComparator stableComparator = (a, b) -> {
+            final int comparison = rowComparator.compare(a, b);
+            return comparison != 0 ? comparison : Integer.compare(a, b);
+        };
+        final int topK = (int) Math.min((long) offset + limit, count);
+
+        final int[] sortedRows;
+        if (topK < count) {
+            sortedRows = selectTopRows(rows, count, topK, stableComparator);
+        } else {
+            sortedRows = Arrays.copyOf(rows, count);
+        }
+        mergeSort(sortedRows, new int[sortedRows.length], 0, sortedRows.length, stableComparator);
+
+        final int from = Math.min(offset, sortedRows.length);
+        return Arrays.copyOfRange(sortedRows, from, sortedRows.length);
+    }
+
+    /**
+     * Keeps the `topK` smallest rows in a binary max-heap, whose root is the largest of the rows kept so far.
+     */
+    private static int[] selectTopRows(int[] rows, int count, int topK, RowComparator comparator) {
+        final int[] heap = new int[topK];
+        if (topK == 0) {
+            return heap;
+        }
+
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            final int row = rows[i];
+            if (size < topK) {
+                // Sift up
+                int child = size++;
+                while (child > 0) {
+                    final int parent = (child - 1) >>> 1;
+                    if (comparator.compare(heap[parent], row) >= 0) {
+                        break;
+                    }
+                    heap[child] = heap[parent];
+                    child = parent;
+                }
+                heap[child] = row;
+            } else if (comparator.compare(row, heap[0]) < 0) {
+                // Replace the root and sift down
+                int parent = 0;
+                while (true) {
+                    int child = 2 * parent + 1;
+                    if (child >= size) {
+                        break;
+                    }
+                    if (child + 1 < size && comparator.compare(heap[child + 1], heap[child]) > 0) {
+                        child++;
+                    }
+                    if (comparator.compare(row, heap[child]) >= 0) {
+                        break;
+                    }
+                    heap[parent] = heap[child];
+                    parent = child;
+                }
+                heap[parent] = row;
+            }
+        }
+
+        return heap;
+    }
+
+    /**
+     * Top-down merge sort of `rows[from, to)`, using `buffer` of the same length as scratch space.
+     */
+    private static void mergeSort(int[] rows, int[] buffer, int from, int to, RowComparator comparator) {
+        if (to - from < 2) {
+            return;
+        }
+
+        final int middle = (from + to) >>> 1;
+        mergeSort(rows, buffer, from, middle, comparator);
+        mergeSort(rows, buffer, middle, to, comparator);
+        if (comparator.compare(rows[middle - 1], rows[middle]) <= 0) {
+            // Already in order
+            return;
+        }
+
+        System.arraycopy(rows, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && comparator.compare(buffer[left], buffer[right]) <= 0)) {
+                rows[i] = buffer[left++];
+            } else {
+                rows[i] = buffer[right++];
+            }
+        }
+    }
+
+    private List<Column> getOutputColumns(List<String> projectionColumns) {
+        if (CollectionUtils.isEmpty(projectionColumns)) {
+            return new ArrayList<>(columns.values());
+        }
+
+        final List<Column> outputColumns = new ArrayList<>();
+        for (String columnName : projectionColumns) {
+            outputColumns.add(getColumn(columnName));
+        }
+
+        return outputColumns;
+    }
+
+    private Column getColumn(String columnName) {
+        final Column column = columns.get(columnName);
+        if (column == null) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : Column \"" + columnName + "\" not found");
+        }
+
+        return column;
+    }
+
+    private int parsePaginationValue(String value, String defaultValue, String parameterName) {
+        if (isBlank(value)) {
+            value = defaultValue;
+        }
+
+        Integer parsedValue = null;
+        if (stringToKnownDataTypeConverter(value) != DataType.NULL) {
+            try {
+                parsedValue = Integer.parseInt(getNumericString(value));
+            } catch (NumberFormatException e) {
+                throw getValueParsingException(value, DataType.INTEGER, e);
+            }
+        }
+
+        if (parsedValue == null || parsedValue < 0) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : Invalid value \"" + (parsedValue == null ? "NULL" : parsedValue)
+                            + "\" for parameter \"" + parameterName + "\"");
+        }
+
+        return parsedValue;
+    }
+
+    private RowComparator compileSortBy(List<Map<String, String>> sortBy) {
+        if (CollectionUtils.isEmpty(sortBy)) {
+            return null;
+        }
+
+        final List<Column> sortColumns = new ArrayList<>();
+        final List<Boolean> descendingFlags = new ArrayList<>();
+        for (Map<String, String> sortCondition : sortBy) {
+            final String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+            if (isBlank(columnName)) {
+                continue;
+            }
+
+            SortType sortType;
+            try {
+                sortType = SortType.valueOf(sortCondition.get(SORT_BY_TYPE_KEY).toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Appsmith server failed " +
+                        "to parse the type of sort condition. Please reach out to Appsmith customer support " +
+                        "to resolve this.");
+            }
+
+            sortColumns.add(getColumn(columnName));
+            descendingFlags.add(sortType == SortType.DESCENDING);
+        }
+
+        if (sortColumns.isEmpty()) {
+            return null;
+        }
+
+        final Column[] columns = sortColumns.toArray(new Column[0]);
+        final boolean[] descending = new boolean[columns.length];
+        for (int i = 0; i < descending.length; i++) {
+            descending[i] = descendingFlags.get(i);
+        }
+
+        return (a, b) -> {
+            for (int i = 0; i < columns.length; i++) {
+                final Column column = columns[i];
+                final boolean isANull = column.nulls.get(a);
+                final boolean isBNull = column.nulls.get(b);
+                final int comparison;
+                if (isANull || isBNull) {
+                    // Null values are the lowest, i.e. they come first in ascending order and last in descending order.
+                    comparison = Boolean.compare(!isANull, !isBNull);
+                } else {
+                    comparison = column.compareRows(a, b);
+                }
+
+                if (comparison != 0) {
+                    return descending[i] ? -comparison : comparison;
+                }
+            }
+            return 0;
+        };
+    }
+
+    private Predicate compileWhereClause(Condition condition) {
+        if (!Condition.isValid(condition)) {
+            return null;
+        }
+
+        return compileLogicalExpression((List<Condition>) condition.getValue(), condition.getOperator());
+    }
+
+    /**
+     * Compiles the conditions combined with the given logical operator. Returns null if there is no condition to be
+     * applied. Operand values are parsed here, so that invalid values are reported irrespective of the data.
+     */
+    private Predicate compileLogicalExpression(List<Condition> conditions, ConditionalOperator logicOp) {
+        final List<Predicate> predicates = new ArrayList<>();
+        for (Condition condition : conditions) {
+            final ConditionalOperator operator = condition.getOperator();
+            final Predicate predicate;
+            if (operator == ConditionalOperator.AND || operator == ConditionalOperator.OR) {
+                predicate = compileLogicalExpression((List<Condition>) condition.getValue(), operator);
+            } else if (StringUtils.isNotEmpty(condition.getPath())) {
+                predicate = compileCondition(condition.getPath(), operator, (String) condition.getValue());
+            } else {
+                predicate = null;
+            }
+
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+
+        if (predicates.isEmpty()) {
+            return null;
+        }
+
+        final Predicate[] predicateArray = predicates.toArray(new Predicate[0]);
+        if (logicOp == ConditionalOperator.OR) {
+            return row -> {
+                for (Predicate predicate : predicateArray) {
+                    if (predicate.test(row)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
+        return row -> {
+            for (Predicate predicate : predicateArray) {
+                if (!predicate.test(row)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private Predicate compileCondition(String path, ConditionalOperator operator, String value) {
+        final Column column = getColumn(path);
+        final BitSet nulls = column.nulls;
+
+        if (value == null || value.equals(StringUtils.EMPTY)) {
+            if (IS_NULL_OPERATORS.contains(operator)) {
+                return nulls::get;
+            } else if (IS_NOT_NULL_OPERATORS.contains(operator)) {
+                return row -> !nulls.get(row);
+            }
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    operator + " is not supported currently for filtering.");
+        }
+
+        switch (operator) {
+            case IN:
+            case NOT_IN: {
+                final List<Object> operands = new ArrayList<>();
+                try {
+                    List<Object> arrayValues = objectMapper.readValue(value, List.class);
+                    for (Object arrayValue : arrayValues) {
+                        operands.add(column.parseOperand(String.valueOf(arrayValue)));
+                    }
+                } catch (IOException e) {
+                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            value + " could not be parsed into an array");
+                }
+
+                // As in SQL, a null in the list makes `NOT IN` unknown for all the non-matching values.
+                final boolean hasNullOperand = operands.contains(null);
+                final Object[] nonNullOperands = operands.stream().filter(o -> o != null).toArray();
+                final boolean isIn = operator == ConditionalOperator.IN;
+                if (operands.isEmpty()) {
+                    // An empty list is decided without looking at the row, hence even null values are `NOT IN` it.
+                    return row -> !isIn;
+                }
+
+                return row -> {
+                    if (nulls.get(row)) {
+                        return false;
+                    }
+                    for (Object operand : nonNullOperands) {
+                        if (column.compare(row, operand) == 0) {
+                            return isIn;
+                        }
+                    }
+                    return !isIn && !hasNullOperand;
+                };
+            }
+            case CONTAINS: {
+                final Object operand = column.parseLikeOperand("%" + value + "%");
+                if (operand == null) {
+                    return row -> false;
+                }
+                return row -> !nulls.get(row) && column.contains(row, value, operand);
+            }
+            case LT:
+            case LTE:
+            case EQ:
+            case NOT_EQ:
+            case GT:
+            case GTE: {
+                final Object operand = column.parseOperand(value);
+                if (operand == null) {
+                    return row -> false;
+                }
+                return row -> !nulls.get(row) && matchesComparison(operator, column.compare(row, operand));
+            }
+            default:
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        operator + " is not supported currently for filtering.");
+        }
+    }
+
+    private static boolean matchesComparison(ConditionalOperator operator, int comparison) {
+        switch (operator) {
+            case LT:
+                return comparison < 0;
+            case LTE:
+                return comparison <= 0;
+            case EQ:
+                return comparison == 0;
+            case NOT_EQ:
+                return comparison != 0;
+            case GT:
+                return comparison > 0;
+            case GTE:
+            default:
+                return comparison >= 0;
+        }
+    }
+
+    /**
+     * Compares a decimal number with a `BigDecimal` operand. Floating point numbers are compared as per their shortest
+     * decimal representation, i.e. `4.99f` is equal to `4.99`. Since rounding is monotonic, the binary values only
+     * need to be compared exactly when they are equal.
+     */
+    private static int compareDecimal(double value, String decimalRepresentation, double operandValue,
+                                      BigDecimal operand) {
+        final int comparison = Double.compare(value, operandValue);
+        if (comparison != 0 || Double.isInfinite(value)) {
+            return comparison;
+        }
+
+        return new BigDecimal(decimalRepresentation).compareTo(operand);
+    }
+
+    private static AppsmithPluginException getValueParsingException(String value, DataType dataType,
+                                                                    IllegalArgumentException e) {
+        return new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                "Error while interacting with value " + value + " : " + e.getMessage() +
+                        ". The data type value was being parsed to was : " + dataType);
+    }
+
+    private static String getNumericString(String value) {
+        return value.trim().replaceAll(",", "");
+    }
+
+    private static LocalDate parseDate(String value, String errorMessagePrefix) {
+        final Matcher matcher = DATE_PATTERN.matcher(value.trim());
+        if (!matcher.matches()) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    errorMessagePrefix + "Cannot parse \"DATE\" constant \"" + value + "\"");
+        }
+
+        try {
+            return LocalDate.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)),
+                    Integer.parseInt(matcher.group(3)));
+        } catch (RuntimeException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    errorMessagePrefix + "Cannot parse \"DATE\" constant \"" + value + "\"");
+        }
+    }
+
+    private static LocalDateTime parseTimestamp(String value, String errorMessagePrefix) {
+        final Matcher matcher = TIMESTAMP_PATTERN.matcher(value.trim());
+        if (!matcher.matches()) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    errorMessagePrefix + "Cannot parse \"TIMESTAMP\" constant \"" + value + "\"");
+        }
+
+        try {
+            final LocalDate date = LocalDate.of(Integer.parseInt(matcher.group(1)),
+                    Integer.parseInt(matcher.group(2)), Integer.parseInt(matcher.group(3)));
+            if (matcher.group(4) == null) {
+                return date.atStartOfDay();
+            }
+
+            final int seconds = matcher.group(6) == null ? 0 : Integer.parseInt(matcher.group(6));
+            final int nanos = matcher.group(7) == null
+                    ? 0
+                    : Integer.parseInt(StringUtils.rightPad(matcher.group(7), 9, '0'));
+            return LocalDateTime.of(date, LocalTime.of(Integer.parseInt(matcher.group(4)),
+                    Integer.parseInt(matcher.group(5)), seconds, nanos));
+        } catch (RuntimeException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    errorMessagePrefix + "Cannot parse \"TIMESTAMP\" constant \"" + value + "\"");
+        }
+    }
+
+    @FunctionalInterface
+    private interface Predicate {
+        boolean test(int row);
+    }
+
+    @FunctionalInterface
+    private interface RowComparator {
+        int compare(int rowA, int rowB);
+    }
+
+    /**
+     * A typed vector of values for one column. Null values are tracked separately in `nulls`, so the value arrays can
+     * hold primitives.
+     */
+    private abstract static class Column {
+        final String name;
+        final DataType dataType;
+        final BitSet nulls;
+
+        Column(String name, DataType dataType, int rowCount) {
+            this.name = name;
+            this.dataType = dataType;
+            this.nulls = new BitSet(rowCount);
+        }
+
+        static Column create(String name, DataType dataType, int rowCount) {
+            switch (dataType) {
+                case INTEGER:
+                    return new IntegerColumn(name, dataType, rowCount);
+                case LONG:
+                    return new LongColumn(name, dataType, rowCount);
+                case FLOAT:
+                    return new FloatColumn(name, dataType, rowCount);
+                case DOUBLE:
+                    return new DoubleColumn(name, dataType, rowCount);
+                case BOOLEAN:
+                    return new BooleanColumn(name, dataType, rowCount);
+                case DATE:
+                    return new DateColumn(name, dataType, rowCount);
+                case TIMESTAMP:
+                    return new TimestampColumn(name, dataType, rowCount);
+                case NULL: {
+                    // A column that only ever holds null values.
+                    final Column column = new StringColumn(name, dataType, rowCount);
+                    column.nulls.set(0, rowCount);
+                    return column;
+                }
+                default:
+                    // The data type recognized does not have a native support in appsmith right now, default to String
+                    return new StringColumn(name, dataType, rowCount);
+            }
+        }
+
+        /**
+         * Parses a value used in a condition. Returns null if the value represents a null.
+         */
+        Object parseOperand(String value) {
+            if (StringUtils.isEmpty(value) || stringToKnownDataTypeConverter(value) == DataType.NULL
+                    || dataType == DataType.NULL) {
+                return null;
+            }
+
+            return parseNonNullOperand(value);
+        }
+
+        /**
+         * Parses the pattern of a `LIKE` condition. By default, the pattern is parsed as per the column type, so that
+         * a `LIKE` condition on a numeric column fails just as it did with SQL.
+         */
+        Object parseLikeOperand(String pattern) {
+            return parseOperand(pattern);
+        }
+
+        abstract void set(int row, String value);
+
+        abstract Object parseNonNullOperand(String value);
+
+        abstract int compare(int row, Object operand);
+
+        abstract int compareRows(int a, int b);
+
+        /**
+         * Evaluates `LIKE '%value%'`. Comparison is done on the SQL string representation of the value in the cell.
+         */
+        boolean contains(int row, String value, Object operand) {
+            return getString(row).contains(value);
+        }
+
+        abstract String getString(int row);
+
+        abstract void putValue(ObjectNode rowNode, int row);
+    }
+
+    private static class IntegerColumn extends Column {
+        private final int[] values;
+
+        IntegerColumn(String name, DataType dataType, int rowCount) {
+            super(name, dataType, rowCount);
+            this.values = new int[rowCount];
+        }
+
+        @Override
+        void set(int row, String value) {
+            values[row] = (Integer) parseNonNullOperand(value);
+        }
+
+        @Override
+        Object parseNonNullOperand(String value) {
+            try {
+                return Integer.parseInt(getNumericString(value));
+            } catch (NumberFormatException e) {
+                throw getValueParsingException(value, dataType, e);
+            }
+        }
+
+        @Override
+        int compare(int row, Object operand) {
+            return Integer.compare(values[row], (Integer) operand);
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return Integer.compare(values[a], values[b]);
+        }
+
+        @Override
+        String getString(int row) {
+            return String.valueOf(values[row]);
+        }
+
+        @Override
+        void putValue(ObjectNode rowNode, int row) {
+            rowNode.put(name, values[row]);
+        }
+    }
+
+    private static class LongColumn extends Column {
+        private final long[] values;
+
+        LongColumn(String name, DataType dataType, int rowCount) {
+            super(name, dataType, rowCount);
+            this.values = new long[rowCount];
+        }
+
+        @Override
+        void set(int row, String value) {
+            values[row] = (Long) parseNonNullOperand(value);
+        }
+
+        @Override
+        Object parseNonNullOperand(String value) {
+            try {
+                return Long.parseLong(getNumericString(value));
+            } catch (NumberFormatException e) {
+                throw getValueParsingException(value, dataType, e);
+            }
+        }
+
+        @Override
+        int compare(int row, Object operand) {
+            return Long.compare(values[row], (Long) operand);
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return Long.compare(values[a], values[b]);
+        }
+
+        @Override
+        String getString(int row) {
+            return String.valueOf(values[row]);
+        }
+
+        @Override
+        void putValue(ObjectNode rowNode, int row) {
+            rowNode.put(name, values[row]);
+        }
+    }
+
+    private static class FloatColumn extends Column {
+        private final float[] values;
+
+        FloatColumn(String name, DataType dataType, int rowCount) {
+            super(name, dataType, rowCount);
+            this.values = new float[rowCount];
+        }
+
+        @Override
+        void set(int row, String value) {
+            values[row] = ((BigDecimal) parseNonNullOperand(value)).floatValue();
+        }
+
+        @Override
+        Object parseNonNullOperand(String value) {
+            try {
+                return new BigDecimal(getNumericString(value));
+            } catch (NumberFormatException e) {
+                throw getValueParsingException(value, dataType, e);
+            }
+        }
+
+        @Override
+        int compare(int row, Object operand) {
+            final BigDecimal decimalOperand = (BigDecimal) operand;
+            final float operandValue = decimalOperand.floatValue();
+            final int comparison = Float.compare(values[row], operandValue);
+            if (comparison != 0) {
+                return comparison;
+            }
+            return compareDecimal(values[row], Float.toString(values[row]), operandValue, decimalOperand);
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return Float.compare(values[a], values[b]);
+        }
+
+        @Override
+        String getString(int row) {
+            return Float.toString(values[row]);
+        }
+
+        @Override
+        void putValue(ObjectNode rowNode, int row) {
+            rowNode.put(name, values[row]);
+        }
+    }
+
+    private static class DoubleColumn extends Column {
+        private final double[] values;
+
+        DoubleColumn(String name, DataType dataType, int rowCount) {
+            super(name, dataType, rowCount);
+            this.values = new double[rowCount];
+        }
+
+        @Override
+        void set(int row, String value) {
+            values[row] = ((BigDecimal) parseNonNullOperand(value)).doubleValue();
+        }
+
+        @Override
+        Object parseNonNullOperand(String value) {
+            try {
+                return new BigDecimal(getNumericString(value));
+            } catch (NumberFormatException e) {
+                throw getValueParsingException(value, dataType, e);
+            }
+        }
+
+        @Override
+        int compare(int row, Object operand) {
+            final BigDecimal decimalOperand = (BigDecimal) operand;
+            return compareDecimal(values[row], Double.toString(values[row]), decimalOperand.doubleValue(),
+                    decimalOperand);
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return Double.compare(values[a], values[b]);
+        }
+
+        @Override
+        String getString(int row) {
+            return Double.toString(values[row]);
+        }
+
+        @Override
+        void putValue(ObjectNode rowNode, int row) {
+            rowNode.put(name, values[row]);
+        }
+    }
+
+    private static class BooleanColumn extends Column {
+        private final BitSet values;
+
+        BooleanColumn(String name, DataType dataType, int rowCount) {
+            super(name, dataType, rowCount);
+            this.values = new BitSet(rowCount);
+        }
+
+        @Override
+        void set(int row, String value) {
+            values.set(row, Boolean.parseBoolean(value));
+        }
+
+        @Override
+        Object parseNonNullOperand(String value) {
+            return Boolean.parseBoolean(value);
+        }
+
+        @Override
+        int compare(int row, Object operand) {
+            return Boolean.compare(values.get(row), (Boolean) operand);
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return Boolean.compare(values.get(a), values.get(b));
+        }
+
+        @Override
+        boolean contains(int row, String value, Object operand) {
+            // The pattern itself gets parsed into a boolean, hence this is a plain equality check.
+            return compare(row, operand) == 0;
+        }
+
+        @Override
+        String getString(int row) {
+            return values.get(row) ? "TRUE" : "FALSE";
+        }
+
+        @Override
+        void putValue(ObjectNode rowNode, int row) {
+            rowNode.put(name, values.get(row));
+        }
+    }
+
+    private static class DateColumn extends Column {
+        private final long[] epochDays;
+
+        DateColumn(String name, DataType dataType, int rowCount) {
+            super(name, dataType, rowCount);
+            this.epochDays = new long[rowCount];
+        }
+
+        @Override
+        void set(int row, String value) {
+            epochDays[row] = parseDate(value, "Error in ingesting the data : ").toEpochDay();
+        }
+
+        @Override
+        Object parseNonNullOperand(String value) {
+            return parseDate(value, "Filtering failure seen : ").toEpochDay();
+        }
+
+        @Override
+        Object parseLikeOperand(String pattern) {
+            return pattern;
+        }
+
+        @Override
+        int compare(int row, Object operand) {
+            return Long.compare(epochDays[row], (Long) operand);
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return Long.compare(epochDays[a], epochDays[b]);
+        }
+
+        @Override
+        String getString(int row) {
+            return LocalDate.ofEpochDay(epochDays[row]).toString();
+        }
+
+        @Override
+        void putValue(ObjectNode rowNode, int row) {
+            // Same as the serialized form of `java.sql.Date`, i.e. epoch millis of midnight in the local time zone.
+            rowNode.put(name, java.sql.Date.valueOf(LocalDate.ofEpochDay(epochDays[row])).getTime());
+        }
+    }
+
+    private static class TimestampColumn extends Column {
+        private final LocalDateTime[] values;
+
+        TimestampColumn(String name, DataType dataType, int rowCount) {
+            super(name, dataType, rowCount);
+            this.values = new LocalDateTime[rowCount];
+        }
+
+        @Override
+        void set(int row, String value) {
+            values[row] = parseTimestamp(value, "Error in ingesting the data : ");
+        }
+
+        @Override
+        Object parseNonNullOperand(String value) {
+            return parseTimestamp(value, "Filtering failure seen : ");
+        }
+
+        @Override
+        Object parseLikeOperand(String pattern) {
+            return pattern;
+        }
+
+        @Override
+        int compare(int row, Object operand) {
+            return values[row].compareTo((LocalDateTime) operand);
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return values[a].compareTo(values[b]);
+        }
+
+        @Override
+        String getString(int row) {
+            final LocalDateTime value = values[row];
+            final String timestamp = value.format(TIMESTAMP_FORMATTER);
+            if (value.getNano() == 0) {
+                return timestamp;
+            }
+            return timestamp + "." + StringUtils.stripEnd(String.format("%09d", value.getNano()), "0");
+        }
+
+        @Override
+        void putValue(ObjectNode rowNode, int row) {
+            // Same as the serialized form of `java.sql.Timestamp`, i.e. epoch millis in the local time zone.
+            rowNode.put(name, Timestamp.valueOf(values[row]).getTime());
+        }
+    }
+
+    private static class StringColumn extends Column {
+        private final String[] values;
+
+        StringColumn(String name, DataType dataType, int rowCount) {
+            super(name, dataType, rowCount);
+            this.values = new String[rowCount];
+        }
+
+        @Override
+        void set(int row, String value) {
+            values[row] = value;
+        }
+
+        @Override
+        Object parseNonNullOperand(String value) {
+            return value;
+        }
+
+        @Override
+        int compare(int row, Object operand) {
+            return values[row].compareTo((String) operand);
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return values[a].compareTo(values[b]);
+        }
+
+        @Override
+        String getString(int row) {
+            return values[row];
+        }
+
+        @Override
+        void putValue(ObjectNode rowNode, int row) {
+            rowNode.put(name, values[row]);
+        }
+    }
+}
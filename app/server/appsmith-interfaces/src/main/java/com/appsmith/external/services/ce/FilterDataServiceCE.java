@@ -2,7 +2,6 @@ package com.appsmith.external.services.ce;
 
 import com.appsmith.external.constants.ConditionalOperator;
 import com.appsmith.external.constants.DataType;
-import com.appsmith.external.constants.SortType;
 import com.appsmith.external.dtos.PreparedStatementValueDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
@@ -15,15 +14,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.bson.types.ObjectId;
 import org.h2.jdbc.JdbcSQLSyntaxErrorException;
-import org.springframework.util.CollectionUtils;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
@@ -93,13 +89,6 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public FilterDataServiceCE() {
 
         objectMapper = new ObjectMapper();
-
-        try {
-            connection = DriverManager.getConnection(URL);
-        } catch (SQLException e) {
-            log.error(e.getMessage());
-            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Failed to connect to the in memory database. Unable to perform filtering : " + e.getMessage());
-        }
     }
 
     /**
@@ -125,219 +114,13 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
 
         Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
-        String tableName = generateTable(schema);
-
-        // insert the data
-        insertAllData(tableName, items, schema, dataTypeConversionMap);
-
-        // Filter the data
-        List<Map<String, Object>> finalResults = executeFilterQueryNew(tableName, schema, uqiDataFilterParams, dataTypeConversionMap);
-
-        // Now that the data has been filtered. Clean Up. Drop the table
-        dropTable(tableName);
-
-        ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
-
-        return finalResultsNode;
-    }
-
-    private List<Map<String, Object>> executeFilterQueryNew(String tableName, Map<String, DataType> schema,
-                                                            UQIDataFilterParams uqiDataFilterParams,
-                                                            Map<DataType, DataType> dataTypeConversionMap) {
-
-        Condition condition = uqiDataFilterParams.getCondition();
-        List<String> projectionColumns = uqiDataFilterParams.getProjectionColumns();
-        List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
-        Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
-
-        Connection conn = checkAndGetConnection();
-
-        StringBuilder sb = new StringBuilder();
-
-        // Add projection columns condition otherwise use `select *`
-        addProjectionCondition(sb, projectionColumns, tableName);
-
-        /**
-         * Moving this from a LinkedHashMap to an ArrayList of objects because with LinkedHashMap we were using
-         * the data value as key. Hence, if two identical data values existed then they would overwrite each other. E.g.
-         * if there was where clause like `Name == John` Or `Name != John, (which is a perfectly valid query) then
-         * the prepared statement substitution would fail because instead of two values to substitute it would only
-         * fine one i.e. {"John" -> DataType.String} is the only entry it would find whereas two entries are
-         * actually required {"John" -> DataType.String, "John" -> DataType.String} - one for each condition in the
-         * where clause. JUnit TC `testProjectionSortingAndPaginationTogether` takes care of this case as well.
-         */
-        List<PreparedStatementValueDTO> values = new ArrayList<>();
-
-        if (Condition.isValid(condition)) {
-            ConditionalOperator operator = condition.getOperator();
-            List<Condition> conditions = (List<Condition>) condition.getValue();
-
-            String whereClause = generateLogicalExpression(conditions, values, schema, operator);
-
-            if (StringUtils.isNotEmpty(whereClause)) {
-                sb.append(" WHERE ");
-                sb.append(whereClause);
-            }
-        }
-
-        // Add `order by` condition
-        addSortCondition(sb, sortBy);
-
-        // Add `limit <num> offset <num>` condition
-        addPaginationCondition(sb, paginateBy, values);
-
-        sb.append(";");
-
-        List<Map<String, Object>> rowsList = new ArrayList<>(50);
-
-        String selectQuery = sb.toString();
-        log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), selectQuery);
-
-        try (PreparedStatement preparedStatement = conn.prepareStatement(selectQuery)) {
-            Iterator<PreparedStatementValueDTO> iterator = values.iterator();
-            for (int i = 0; iterator.hasNext(); i++) {
-                PreparedStatementValueDTO dataInfo = iterator.next();
-                String value = dataInfo.getValue();
-                DataType dataType = dataInfo.getDataType();
-                setValueInStatement(preparedStatement, i + 1, value, dataType, null);
-            }
-
-            ResultSet resultSet = preparedStatement.executeQuery();
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
-
-            while (resultSet.next()) {
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-                for (int i = 1; i <= colCount; i++) {
-                    Object resultValue = resultSet.getObject(i);
-
-                    // Set null values to empty strings
-                    if (null == resultValue) {
-                        resultValue = "";
-                    }
-
-                    row.put(metaData.getColumnName(i), resultValue);
-                }
-                rowsList.add(row);
-            }
-        } catch (SQLException e) {
-            // Getting an SQL Exception here means that our generated query is incorrect. Raise an alarm!
-            log.error(e.getMessage());
-            if (e instanceof JdbcSQLSyntaxErrorException) {
-                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Filtering failure seen : " + ((JdbcSQLSyntaxErrorException) e).getOriginalMessage());
-            }
-            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Filtering failure seen : " + e);
-        }
-
-        return rowsList;
-    }
-
-    /**
-     * This method adds the following clause to the SQL query: `LIMIT <num> OFFSET <num>`
-     *
-     * @param sb         - SQL query builder
-     * @param paginateBy - values for limit and offset
-     * @param values     - list to hold values to be substituted in prepared statement
-     */
-    private void addPaginationCondition(StringBuilder sb, Map<String, String> paginateBy,
-                                        List<PreparedStatementValueDTO> values) {
-        if (CollectionUtils.isEmpty(paginateBy)) {
-            return;
-        }
-
-        sb.append(" LIMIT ? OFFSET ?");
-
-        // Set limit value and data type for prepared statement substitution
-        String limit = paginateBy.get(PAGINATE_LIMIT_KEY);
-        if (isBlank(limit)) {
-            limit = "20";
-        }
-        values.add(new PreparedStatementValueDTO(limit, DataType.INTEGER));
-
-        // Set offset value and data type for prepared statement substitution
-        String offset = paginateBy.get(PAGINATE_OFFSET_KEY);
-        if (isBlank(offset)) {
-            offset = "0";
-        }
-        values.add(new PreparedStatementValueDTO(offset, DataType.INTEGER));
-    }
-
-    /**
-     * Display only those columns that the user has chosen to display.
-     * E.g. if the projectionColumns is a list that contains ["ID, Name"], then this method will add the following
-     * SQL line: `SELECT ID, Name from tableName`, otherwise it will add: `SELECT * FROM tableName`
-     *
-     * @param sb                - SQL query builder
-     * @param projectionColumns - list of columns that need to be displayed
-     * @param tableName         - table name in database
-     */
-    private void addProjectionCondition(StringBuilder sb, List<String> projectionColumns, String tableName) {
-        if (!CollectionUtils.isEmpty(projectionColumns)) {
-            sb.append("SELECT");
-            projectionColumns.stream()
-                    .forEach(columnName -> sb.append(" `" + columnName + "`,"));
-
-            sb.setLength(sb.length() - 1);
-            sb.append(" FROM " + tableName);
-        } else {
-            sb.append("SELECT * FROM " + tableName);
-        }
-    }
-
-    /**
-     * This method adds `ORDER BY` clause to the SQL query. E.g. if the sortBy list is
-     * [
-     * {"columnName": "ID", "type": "ASCENDING"},
-     * {"columnName": "Name", "type": "DESCENDING"}
-     * ]
-     * then this method will add the following line to the SQL query: `ORDER BY ID ASC, Name DESC`
-     *
-     * @param sb     - SQL query builder
-     * @param sortBy - list of columns to sort by and sort type (ascending / descending)
-     * @throws AppsmithPluginException
-     */
-    private void addSortCondition(StringBuilder sb, List<Map<String, String>> sortBy) throws AppsmithPluginException {
-
-        /**
-         * Checks if:
-         *  o `sortBy` condition list is null or empty
-         *  o all column names in the sortBy list are empty
-         */
-        if (isSortConditionEmpty(sortBy)) {
-            return;
-        }
 
-        sb.append(" ORDER BY");
-        sortBy.stream()
-                .filter(sortCondition -> !isBlank(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)))
-                .forEachOrdered(sortCondition -> {
-                    String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
-                    SortType sortType;
-                    try {
-                        sortType = SortType.valueOf(sortCondition.get(SORT_BY_TYPE_KEY).toUpperCase());
-                    } catch (IllegalArgumentException e) {
-                        throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Appsmith server failed " +
-                                "to parse the type of sort condition. Please reach out to Appsmith customer support " +
-                                "to resolve this.");
-                    }
-                    sb.append(" `" + columnName + "` " + sortType + ",");
-                });
+        // Decode the data into typed columns and filter it in place. Each call works on its own copy, hence concurrent
+        // calls do not contend with each other.
+        ColumnarDataTable table = ColumnarDataTable.of(objectMapper, items, schema, dataTypeConversionMap);
 
-        sb.setLength(sb.length() - 1);
-    }
-
-    /**
-     * Checks if:
-     * o `sortBy` condition list is null or empty
-     * o all column names in the sortBy list are empty
-     */
-    private boolean isSortConditionEmpty(List<Map<String, String>> sortBy) {
-        if (CollectionUtils.isEmpty(sortBy)) {
-            return true;
-        }
-
-        return sortBy.stream()
-                .allMatch(sortCondition -> isBlank(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)));
+        return table.filter(uqiDataFilterParams.getCondition(), uqiDataFilterParams.getProjectionColumns(),
+                uqiDataFilterParams.getSortBy(), uqiDataFilterParams.getPaginateBy());
     }
 
     /**
@@ -469,7 +252,11 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
     }
 
-    private Connection checkAndGetConnection() {
+    /**
+     * The in memory database is only required for the table based methods of this service, and is hence connected to
+     * lazily. Filtering via `filterDataNew` does not use it.
+     */
+    private synchronized Connection checkAndGetConnection() {
         try {
             if (connection == null || connection.isClosed() || !connection.isValid(5)) {
                 connection = DriverManager.getConnection(URL);
@@ -646,34 +433,9 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
      */
     private PreparedStatement setValueInStatement(PreparedStatement preparedStatement, int index, String value, DataType topRowDataType, Map<DataType, DataType> dataTypeConversionMap) {
 
-        DataType dataType = topRowDataType;
-        if (dataTypeConversionMap != null) {
-            //The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
-            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
-        }
-
+        DataType dataType = getValueDataType(value, topRowDataType, dataTypeConversionMap);
         String strNumericValue = value.trim().replaceAll(",", "");
 
-        // Override datatype to null for empty values
-        if (StringUtils.isEmpty(value)) {
-            dataType = DataType.NULL;
-        } else {
-            // value is not empty.
-            DataType currentRowDataType = stringToKnownDataTypeConverter(value);
-            DataType inputDataType = currentRowDataType;
-            if (dataTypeConversionMap != null) {
-                //Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
-                inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
-            }
-            if (DataType.NULL.equals(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-            //We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
-            if (dataTypeConversionMap != null && inputDataType != dataType && !datatypeCompatibilityMap.getOrDefault(dataType, Set.of()).contains(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-        }
-
         try {
             switch (dataType) {
                 case NULL: {
@@ -720,6 +482,45 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     }
 
 
+    /**
+     * Finds the data type that a value of a column, whose type is `topRowDataType`, is to be stored as. Empty values
+     * and values incompatible with the column type are stored as null.
+     *
+     * @param value
+     * @param topRowDataType
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return
+     */
+    static DataType getValueDataType(String value, DataType topRowDataType, Map<DataType, DataType> dataTypeConversionMap) {
+        DataType dataType = topRowDataType;
+        if (dataTypeConversionMap != null) {
+            //The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
+            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
+        }
+
+        // Override datatype to null for empty values
+        if (StringUtils.isEmpty(value)) {
+            dataType = DataType.NULL;
+        } else {
+            // value is not empty.
+            DataType currentRowDataType = stringToKnownDataTypeConverter(value);
+            DataType inputDataType = currentRowDataType;
+            if (dataTypeConversionMap != null) {
+                //Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
+                inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
+            }
+            if (DataType.NULL.equals(inputDataType)) {
+                dataType = DataType.NULL;
+            }
+            //We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
+            if (dataTypeConversionMap != null && inputDataType != dataType && !datatypeCompatibilityMap.getOrDefault(dataType, Set.of()).contains(inputDataType)) {
+                dataType = DataType.NULL;
+            }
+        }
+
+        return dataType;
+    }
+
     public boolean validConditionList(List<Condition> conditionList, Map<String, DataType> schema) {
 
         conditionList
@@ -0,0 +1,164 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultSetStreamerTest {
+
+    private static final String URL = "jdbc:h2:mem:streamer;DB_CLOSE_DELAY=-1";
+
+    private Connection setupConnection;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        setupConnection = DriverManager.getConnection(URL);
+        try (Statement statement = setupConnection.createStatement()) {
+            statement.execute("CREATE TABLE users (id INT PRIMARY KEY, name VARCHAR(50))");
+            statement.execute("INSERT INTO users SELECT X, 'user' || X FROM SYSTEM_RANGE(1, 1200)");
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        try (Statement statement = setupConnection.createStatement()) {
+            statement.execute("DROP TABLE users");
+        }
+        setupConnection.close();
+    }
+
+    private static Map<String, Object> getRow(ResultSet resultSet) throws SQLException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", resultSet.getInt("id"));
+        row.put("name", resultSet.getString("name"));
+        return row;
+    }
+
+    private static ResultSetStreamer.QueryExecutor query(String query) {
+        return (connection, fetchSize) -> {
+            Statement statement = connection.createStatement();
+            statement.setFetchSize(fetchSize);
+            statement.execute(query);
+            return statement;
+        };
+    }
+
+    @Test
+    public void testRowsAreStreamedInBatchesAndConnectionIsClosed() throws SQLException {
+        final Connection connection = DriverManager.getConnection(URL);
+
+        StepVerifier.create(ResultSetStreamer.stream(() -> connection,
+                        query("SELECT id, name FROM users ORDER BY id"),
+                        ResultSetStreamerTest::getRow, Long.MAX_VALUE, Schedulers.boundedElastic()))
+                .assertNext(batch -> {
+                    assertEquals(ResultSetStreamer.BATCH_SIZE, batch.size());
+                    assertEquals(Map.of("id", 1, "name", "user1"), batch.get(0));
+                })
+                .assertNext(batch -> assertEquals(ResultSetStreamer.BATCH_SIZE, batch.size()))
+                .assertNext(batch -> {
+                    assertEquals(200, batch.size());
+                    assertEquals(Map.of("id", 1200, "name", "user1200"), batch.get(199));
+                })
+                .verifyComplete();
+
+        assertTrue(connection.isClosed());
+    }
+
+    @Test
+    public void testResultsCarryRequestAndColumnsOnlyOnFirstBatch() throws SQLException {
+        final Connection connection = DriverManager.getConnection(URL);
+        final List<String> columnsList = new ArrayList<>();
+        final ActionExecutionRequest request = new ActionExecutionRequest();
+        request.setQuery("SELECT id, name FROM users ORDER BY id");
+
+        StepVerifier.create(ResultSetStreamer.toActionExecutionResults(
+                        ResultSetStreamer.stream(() -> connection,
+                                query("SELECT id, name FROM users ORDER BY id"),
+                                ResultSetStreamerTest::getRow, columnsList::addAll, Long.MAX_VALUE,
+                                Schedulers.boundedElastic()),
+                        new ObjectMapper(),
+                        request,
+                        () -> Set.of(String.join(",", columnsList))))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(ResultSetStreamer.BATCH_SIZE, ((JsonNode) result.getBody()).size());
+                    assertSame(request, result.getRequest());
+                    assertEquals(Set.of("ID,NAME"), result.getMessages());
+                })
+                .assertNext(result -> {
+                    assertEquals(ResultSetStreamer.BATCH_SIZE, ((JsonNode) result.getBody()).size());
+                    assertNull(result.getRequest());
+                })
+                .assertNext(result -> assertEquals(200, ((JsonNode) result.getBody()).size()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testUpdateStatementEmitsAffectedRowsAndIsCommitted() throws SQLException {
+        final Connection connection = DriverManager.getConnection(URL);
+
+        StepVerifier.create(ResultSetStreamer.stream(() -> connection,
+                        query("UPDATE users SET name = 'updated' WHERE id <= 10"),
+                        ResultSetStreamerTest::getRow, Long.MAX_VALUE, Schedulers.boundedElastic()))
+                .assertNext(batch -> assertEquals(List.of(Map.of("affectedRows", 10)), batch))
+                .verifyComplete();
+
+        try (Statement statement = setupConnection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM users WHERE name = 'updated'")) {
+            resultSet.next();
+            assertEquals(10, resultSet.getInt(1));
+        }
+        assertTrue(connection.isClosed());
+    }
+
+    @Test
+    public void testMaxSizeExceededFailsTheStreamAndClosesConnection() throws SQLException {
+        final Connection connection = DriverManager.getConnection(URL);
+
+        StepVerifier.create(ResultSetStreamer.stream(() -> connection,
+                        query("SELECT id, name FROM users ORDER BY id"),
+                        ResultSetStreamerTest::getRow, 1000, Schedulers.boundedElastic()))
+                .expectErrorMatches(e -> e instanceof AppsmithPluginException
+                        && ((AppsmithPluginException) e).getError() == AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED)
+                .verify();
+
+        assertTrue(connection.isClosed());
+    }
+
+    @Test
+    public void testInvalidQueryFailsWithExecuteError() throws SQLException {
+        final Connection connection = DriverManager.getConnection(URL);
+
+        StepVerifier.create(ResultSetStreamer.stream(() -> connection,
+                        query("SELECT * FROM missing_table"),
+                        ResultSetStreamerTest::getRow, Long.MAX_VALUE, Schedulers.boundedElastic()))
+                .expectErrorMatches(e -> e instanceof AppsmithPluginException
+                        && ((AppsmithPluginException) e).getError() == AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR)
+                .verify();
+
+        assertTrue(connection.isClosed());
+    }
+}
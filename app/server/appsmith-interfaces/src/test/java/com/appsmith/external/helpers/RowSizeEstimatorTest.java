@@ -0,0 +1,75 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RowSizeEstimatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Map<String, Object> getRow(int id) throws JsonProcessingException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("name", "Row number " + id);
+        row.put("price", new BigDecimal("1234.56"));
+        row.put("active", id % 2 == 0);
+        row.put("description", null);
+        row.put("tags", new String[]{"one", "two", "three"});
+        row.put("details", objectMapper.readTree("{\"color\": \"red\", \"sizes\": [1, 2, 3]}"));
+        return row;
+    }
+
+    @Test
+    public void testEstimateIsCloseToSerializedSize() throws JsonProcessingException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        RowSizeEstimator estimator = new RowSizeEstimator(Long.MAX_VALUE);
+        for (int i = 0; i < 1000; i++) {
+            Map<String, Object> row = getRow(i);
+            rows.add(row);
+            assertTrue(estimator.add(row));
+        }
+
+        long serializedSize = objectMapper.writeValueAsBytes(rows).length;
+        assertTrue(estimator.getSize() >= serializedSize * 0.8, "Estimate " + estimator.getSize()
+                + " is too far below the serialized size " + serializedSize);
+        assertTrue(estimator.getSize() <= serializedSize * 1.5, "Estimate " + estimator.getSize()
+                + " is too far above the serialized size " + serializedSize);
+    }
+
+    @Test
+    public void testMaxSizeIsExceededAtTheRowThatCrossesIt() throws JsonProcessingException {
+        long rowSize = RowSizeEstimator.estimateSize(getRow(0)) + 1;
+        RowSizeEstimator estimator = new RowSizeEstimator(rowSize * 3);
+
+        assertTrue(estimator.add(getRow(0)));
+        assertTrue(estimator.add(getRow(2)));
+        assertTrue(estimator.add(getRow(4)));
+        assertFalse(estimator.isMaxSizeExceeded());
+
+        assertFalse(estimator.add(getRow(6)));
+        assertTrue(estimator.isMaxSizeExceeded());
+    }
+
+    @Test
+    public void testEstimateOfScalarValues() {
+        assertEquals(4, RowSizeEstimator.estimateSize(null));
+        assertEquals(7, RowSizeEstimator.estimateSize("hello"));
+        assertEquals(5, RowSizeEstimator.estimateSize(true));
+        assertEquals(6, RowSizeEstimator.estimateSize(new byte[]{1, 2, 3}));
+
+        JsonNode node = objectMapper.valueToTree(List.of("a", "b"));
+        assertEquals(10, RowSizeEstimator.estimateSize(node));
+    }
+}
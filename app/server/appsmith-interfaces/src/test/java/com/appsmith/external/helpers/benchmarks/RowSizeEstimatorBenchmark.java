@@ -0,0 +1,120 @@
+package com.appsmith.external.helpers.benchmarks;
+
+import com.appsmith.external.helpers.RowSizeEstimator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the result size check of the Postgres plugin while reading rows, as it was done before, i.e. Java
+ * serializing the whole result list every 100 rows, with accounting each row once through RowSizeEstimator.
+ * <p>
+ * Run with the test classpath, e.g. from the IDE, using the main method. Add <code>-prof gc</code> to the options to
+ * compare the allocation rates as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowSizeEstimatorBenchmark {
+
+    // Frequency at which the Postgres plugin used to measure the result
+    private static final int HEAVY_OP_FREQUENCY = 100;
+
+    private static final long MAX_SIZE = 1024L * 1024 * 1024;
+
+    @Param({"1000", "5000", "10000"})
+    int rowCount;
+
+    List<Map<String, Object>> rows;
+
+    @Setup
+    public void setUp() {
+        rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("name", "User number " + i);
+            row.put("email", "user" + i + "@example.com");
+            row.put("balance", new BigDecimal("12345.67").add(BigDecimal.valueOf(i)));
+            row.put("active", i % 2 == 0);
+            row.put("created_on", LocalDate.of(2022, 1, 1).plusDays(i % 365).toString());
+            row.put("notes", null);
+            rows.add(row);
+        }
+    }
+
+    @Benchmark
+    public int serializeResultEveryHundredRows() throws IOException {
+        List<Map<String, Object>> rowsList = new ArrayList<>();
+        int objectSize = 0;
+        int iterator = 0;
+        for (Map<String, Object> row : rows) {
+            rowsList.add(row);
+            iterator++;
+            if (iterator % HEAVY_OP_FREQUENCY == 0) {
+                objectSize = sizeof(rowsList);
+                if (objectSize > MAX_SIZE) {
+                    break;
+                }
+            }
+        }
+        return objectSize;
+    }
+
+    @Benchmark
+    public long estimateEveryRow() {
+        List<Map<String, Object>> rowsList = new ArrayList<>();
+        RowSizeEstimator rowSizeEstimator = new RowSizeEstimator(MAX_SIZE);
+        for (Map<String, Object> row : rows) {
+            rowsList.add(row);
+            if (!rowSizeEstimator.add(row)) {
+                break;
+            }
+        }
+        return rowSizeEstimator.getSize();
+    }
+
+    // Sizeof.sizeof, which the Postgres plugin used before, kept here as the baseline.
+    private static int sizeof(Object obj) throws IOException {
+        ByteArrayOutputStream byteOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteOutputStream);
+
+        objectOutputStream.writeObject(obj);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+
+        return byteOutputStream.toByteArray().length;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RowSizeEstimatorBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,63 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.models.DatasourceConfiguration;
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ConnectionProviderRegistryTest {
+
+    private DatasourceConfiguration getDatasourceConfiguration(String url) {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl(url);
+        return datasourceConfiguration;
+    }
+
+    @Test
+    public void testGetHttpClient_sameDatasource_reusesClient() {
+        DatasourceConfiguration datasourceConfiguration = getDatasourceConfiguration("https://reuse.example.com");
+
+        HttpClient httpClient = ConnectionProviderRegistry.getHttpClient(datasourceConfiguration);
+
+        assertSame(httpClient, ConnectionProviderRegistry.getHttpClient(getDatasourceConfiguration("https://reuse.example.com")));
+        assertNotSame(httpClient, ConnectionProviderRegistry.getHttpClient(getDatasourceConfiguration("https://other.example.com")));
+    }
+
+    @Test
+    public void testEvictHttpClient_updatedDatasource_createsNewClient() {
+        DatasourceConfiguration datasourceConfiguration = getDatasourceConfiguration("https://evict.example.com");
+        HttpClient httpClient = ConnectionProviderRegistry.getHttpClient(datasourceConfiguration);
+
+        ConnectionProviderRegistry.evictHttpClient(datasourceConfiguration);
+
+        assertNotSame(httpClient, ConnectionProviderRegistry.getHttpClient(datasourceConfiguration));
+    }
+
+    @Test
+    public void testGetHttpClient_concurrentCalls_shareOneClient() throws Exception {
+        DatasourceConfiguration datasourceConfiguration = getDatasourceConfiguration("https://concurrent.example.com");
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<HttpClient>> calls = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                calls.add(() -> ConnectionProviderRegistry.getHttpClient(datasourceConfiguration));
+            }
+
+            List<Future<HttpClient>> httpClients = executorService.invokeAll(calls);
+            for (Future<HttpClient> httpClient : httpClients) {
+                assertSame(httpClients.get(0).get(), httpClient.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
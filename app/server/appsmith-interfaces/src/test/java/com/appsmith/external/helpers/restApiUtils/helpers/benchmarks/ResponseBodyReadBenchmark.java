@@ -0,0 +1,126 @@
+package com.appsmith.external.helpers.restApiUtils.helpers.benchmarks;
+
+import com.appsmith.external.helpers.restApiUtils.helpers.TriggerUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a JSON response body into a byte array and then a String, as TriggerUtils did before, with
+ * joining the received buffers through TriggerUtils.readResponseBody and parsing straight from the joined buffer.
+ * <p>
+ * Run with the test classpath, e.g. from the IDE, using the main method. Add <code>-prof gc</code> to the options to
+ * compare the allocation rates as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseBodyReadBenchmark {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final DefaultDataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
+
+    // The plugins raise the in-memory limit of the codecs to the configured codec size
+    private static final ExchangeStrategies exchangeStrategies = ExchangeStrategies.builder()
+            .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(-1))
+            .build();
+
+    @Param({"10240", "1048576", "10485760"})
+    int bodySize;
+
+    List<byte[]> chunks;
+
+    BenchmarkTriggerUtils triggerUtils = new BenchmarkTriggerUtils();
+
+    // Exposes the protected method under measurement
+    static class BenchmarkTriggerUtils extends TriggerUtils {
+        DataBuffer read(ClientResponse clientResponse, int maxResponseSize) {
+            return readResponseBody(clientResponse, maxResponseSize).block();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; body.length() < bodySize; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"id\":").append(i)
+                    .append(",\"name\":\"User ").append(i)
+                    .append("\",\"email\":\"user").append(i).append("@example.com\",\"active\":true}");
+        }
+        body.append(']');
+
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        chunks = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += CHUNK_SIZE) {
+            chunks.add(Arrays.copyOfRange(bytes, offset, Math.min(offset + CHUNK_SIZE, bytes.length)));
+        }
+    }
+
+    private ClientResponse createClientResponse() {
+        return ClientResponse.create(HttpStatus.OK, exchangeStrategies)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(Flux.fromIterable(chunks).map(dataBufferFactory::wrap))
+                .build();
+    }
+
+    @Benchmark
+    public JsonNode byteArrayAndString() throws IOException {
+        byte[] body = createClientResponse().toEntity(byte[].class).block().getBody();
+        return objectMapper.readTree(new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public JsonNode joinedBuffer() throws IOException {
+        DataBuffer body = triggerUtils.read(createClientResponse(), Integer.MAX_VALUE);
+        try {
+            return objectMapper.readTree(body.asInputStream());
+        } finally {
+            DataBufferUtils.release(body);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ResponseBodyReadBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
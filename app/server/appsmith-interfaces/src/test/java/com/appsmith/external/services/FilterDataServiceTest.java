@@ -1384,4 +1384,123 @@ public class FilterDataServiceTest {
             fail(e.getMessage());
         }
     }
+
+    @Test
+    public void testSortAndPaginateWithEmptyValuesInSortColumn() {
+        String data = "[\n" +
+                "  {\n" +
+                "    \"id\": 2381224,\n" +
+                "    \"productName\": \"Chicken Sandwich\",\n" +
+                "    \"orderAmount\": 4.99,\n" +
+                "    \"orderStatus\": \"READY\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": 2736212,\n" +
+                "    \"productName\": \"Tuna Salad\",\n" +
+                "    \"orderAmount\": \"\",\n" +
+                "    \"orderStatus\": \"READY\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": 6788734,\n" +
+                "    \"productName\": \"Beef steak\",\n" +
+                "    \"orderAmount\": 19.99,\n" +
+                "    \"orderStatus\": \"NOT READY\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": 7788734,\n" +
+                "    \"productName\": \"Club Sandwich\",\n" +
+                "    \"orderAmount\": 9.99,\n" +
+                "    \"orderStatus\": \"READY\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": 8788734,\n" +
+                "    \"productName\": \"Egg Salad\",\n" +
+                "    \"orderAmount\": 14.99,\n" +
+                "    \"orderStatus\": \"\"\n" +
+                "  }\n" +
+                "]";
+
+        String whereJson = "{\n" +
+                "  \"where\": {\n" +
+                "    \"children\": [\n" +
+                "      {\n" +
+                "        \"key\": \"orderStatus\",\n" +
+                "        \"condition\": \"NOT_IN\",\n" +
+                "        \"value\": \"[\\\"NOT READY\\\"]\"\n" +
+                "      }\n" +
+                "    ],\n" +
+                "    \"condition\": \"AND\"\n" +
+                "  }\n" +
+                "}";
+
+        try {
+            ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+
+            Map<String, Object> whereClause = objectMapper.readValue(whereJson, HashMap.class);
+            Map<String, Object> unparsedWhereClause = (Map<String, Object>) whereClause.get("where");
+            Condition condition = parseWhereClause(unparsedWhereClause);
+
+            List<Map<String, String>> sortBy = new ArrayList<>();
+            Map<String, String> sortCondition = new HashMap<>();
+            sortCondition.put(SORT_BY_COLUMN_NAME_KEY, "orderAmount");
+            sortCondition.put(SORT_BY_TYPE_KEY, VALUE_DESCENDING);
+            sortBy.add(sortCondition);
+
+            HashMap<String, String> paginateBy = new HashMap<>();
+            paginateBy.put(PAGINATE_LIMIT_KEY, "5");
+            paginateBy.put(PAGINATE_OFFSET_KEY, "0");
+
+            ArrayNode filteredData = filterDataService.filterDataNew(items, new UQIDataFilterParams(condition,
+                    List.of("productName", "orderAmount"), sortBy, paginateBy));
+
+            // Empty order status is null, which is neither in nor not in the list. Null amounts are sorted last when
+            // descending.
+            assertEquals(3, filteredData.size());
+            assertEquals("Club Sandwich", filteredData.get(0).get("productName").asText());
+            assertEquals("Chicken Sandwich", filteredData.get(1).get("productName").asText());
+            assertEquals("Tuna Salad", filteredData.get(2).get("productName").asText());
+            assertEquals("", filteredData.get(2).get("orderAmount").asText());
+            assertEquals(2, filteredData.get(0).size());
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSortAndPaginate_withTies_pagesMatchStableSortOfAllRows() {
+        ArrayNode items = objectMapper.createArrayNode();
+        for (int i = 0; i < 500; i++) {
+            items.addObject()
+                    .put("id", i)
+                    .put("city", "City " + (i * 37 % 7))
+                    .put("rank", i * 13 % 11);
+        }
+
+        List<Map<String, String>> sortBy = List.of(
+                Map.of(SORT_BY_COLUMN_NAME_KEY, "city", SORT_BY_TYPE_KEY, "ASCENDING"),
+                Map.of(SORT_BY_COLUMN_NAME_KEY, "rank", SORT_BY_TYPE_KEY, VALUE_DESCENDING));
+
+        // Stable sort of the row ids on the same keys
+        List<Integer> expectedIds = Stream.iterate(0, i -> i + 1).limit(500)
+                .sorted((a, b) -> {
+                    int comparison = ("City " + (a * 37 % 7)).compareTo("City " + (b * 37 % 7));
+                    return comparison != 0 ? comparison : Integer.compare(b * 13 % 11, a * 13 % 11);
+                })
+                .collect(Collectors.toList());
+
+        List<Integer> allIds = new ArrayList<>();
+        filterDataService.filterDataNew(items, new UQIDataFilterParams(null, null, sortBy, null))
+                .forEach(row -> allIds.add(row.get("id").asInt()));
+        assertEquals(expectedIds, allIds);
+
+        // Every page but the last is selected through the bounded heap
+        List<Integer> pagedIds = new ArrayList<>();
+        for (int offset = 0; offset < 500; offset += 30) {
+            Map<String, String> paginateBy = Map.of(PAGINATE_LIMIT_KEY, "30", PAGINATE_OFFSET_KEY, String.valueOf(offset));
+            filterDataService.filterDataNew(items, new UQIDataFilterParams(null, null, sortBy, paginateBy))
+                    .forEach(row -> pagedIds.add(row.get("id").asInt()));
+        }
+        assertEquals(expectedIds, pagedIds);
+    }
 }
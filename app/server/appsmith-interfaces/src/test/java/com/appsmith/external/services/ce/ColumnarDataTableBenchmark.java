@@ -0,0 +1,93 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.services.FilterDataService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+
+/**
+ * Measures sorting and paginating an already decoded ColumnarDataTable on two columns. The first page is served from
+ * the bounded heap and the last page from a full sort of all the rows.
+ * <p>
+ * Lives in the package of ColumnarDataTable, as the table is package private. Run with the test classpath, e.g. from
+ * the IDE, using the main method. Add <code>-prof gc</code> to the options to compare the allocation rates as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class ColumnarDataTableBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final List<Map<String, String>> SORT_BY = List.of(
+            Map.of(SORT_BY_COLUMN_NAME_KEY, "city", SORT_BY_TYPE_KEY, "ASCENDING"),
+            Map.of(SORT_BY_COLUMN_NAME_KEY, "price", SORT_BY_TYPE_KEY, "DESCENDING"));
+
+    @Param({"1000", "100000", "1000000"})
+    int rowCount;
+
+    ColumnarDataTable table;
+
+    @Setup
+    public void setUp() {
+        ArrayNode items = objectMapper.createArrayNode();
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode row = items.addObject();
+            row.put("id", i);
+            row.put("city", "City " + (i * 7919 % 1000));
+            row.put("price", (i * 104729L % 100000) / 100.0);
+        }
+
+        Map<String, DataType> schema = FilterDataService.getInstance().generateSchema(items, null);
+        table = ColumnarDataTable.of(objectMapper, items, schema, null);
+    }
+
+    @Benchmark
+    public ArrayNode sortFirstPage() {
+        return table.filter(null, null, SORT_BY,
+                Map.of(PAGINATE_LIMIT_KEY, String.valueOf(PAGE_SIZE), PAGINATE_OFFSET_KEY, "0"));
+    }
+
+    @Benchmark
+    public ArrayNode sortLastPage() {
+        return table.filter(null, null, SORT_BY,
+                Map.of(PAGINATE_LIMIT_KEY, String.valueOf(PAGE_SIZE),
+                        PAGINATE_OFFSET_KEY, String.valueOf(Math.max(rowCount - PAGE_SIZE, 0))));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ColumnarDataTableBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
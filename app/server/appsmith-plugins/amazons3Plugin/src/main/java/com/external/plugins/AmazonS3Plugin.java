@@ -8,14 +8,15 @@ import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.transfer.TransferManager;
 import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
-import com.amazonaws.util.IOUtils;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
@@ -60,7 +61,6 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Base64;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
@@ -69,6 +69,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.LinkedHashMap;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
@@ -85,6 +86,7 @@ import static com.external.plugins.constants.FieldName.COMMAND;
 import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_MAX_FILES;
 import static com.external.plugins.constants.FieldName.LIST_PAGINATE;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
@@ -93,8 +95,13 @@ import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
+import static com.external.plugins.constants.FieldName.READ_MAX_SIZE;
+import static com.external.plugins.constants.FieldName.READ_RANGE;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
+import static com.external.utils.FileContentUtils.getDecodedLength;
+import static com.external.utils.FileContentUtils.getDecodingStream;
+import static com.external.utils.FileContentUtils.readContent;
 import static com.external.utils.TemplateUtils.getTemplates;
 import static java.lang.Boolean.TRUE;
 
@@ -109,6 +116,9 @@ public class AmazonS3Plugin extends BasePlugin {
     public static final String YES = "YES";
     public static final String NO = "NO";
     private static final String BASE64_DELIMITER = ";base64,";
+    private static final int PARALLEL_SIGNING_THRESHOLD = 100;
+    private static final long MULTIPART_UPLOAD_THRESHOLD = 16L * 1024 * 1024;
+    private static final long MULTIPART_UPLOAD_PART_SIZE = 8L * 1024 * 1024;
     private static final String OTHER_S3_SERVICE_PROVIDER = "other";
     private static final String AWS_S3_SERVICE_PROVIDER = "amazon-s3";
     public static String DEFAULT_FILE_NAME = "MyFile.txt";
@@ -161,7 +171,9 @@ public class AmazonS3Plugin extends BasePlugin {
          */
         ArrayList<String> listAllFilesInBucket(AmazonS3 connection,
                                                String bucketName,
-                                               String prefix) throws AppsmithPluginException {
+                                               String prefix,
+                                               int maxFiles,
+                                               Set<String> hintMessages) throws AppsmithPluginException {
             if (connection == null) {
                 throw new AppsmithPluginException(
                         AppsmithPluginError.PLUGIN_ERROR,
@@ -194,14 +206,28 @@ public class AmazonS3Plugin extends BasePlugin {
                 );
             }
 
+            /*
+             * - Pages are fetched one after the other, since each page request needs the marker returned with the
+             *   previous page. Paging stops as soon as maxFiles keys have been collected, in which case a hint message
+             *   tells that the listing was truncated.
+             */
             ObjectListing result = connection.listObjects(bucketName, prefix);
             ArrayList<String> fileList = new ArrayList<>(getFilenamesFromObjectListing(result));
 
-            while (result.isTruncated()) {
+            while (result.isTruncated() && fileList.size() < maxFiles) {
                 result = connection.listNextBatchOfObjects(result);
                 fileList.addAll(getFilenamesFromObjectListing(result));
             }
 
+            if (fileList.size() > maxFiles || result.isTruncated()) {
+                if (fileList.size() > maxFiles) {
+                    fileList.subList(maxFiles, fileList.size()).clear();
+                }
+                hintMessages.add("Listed the first " + maxFiles + " files only, the bucket has more files. Please " +
+                        "increase the value of 'Max Files' to list more. Sorting, filtering and pagination apply to " +
+                        "the listed files only.");
+            }
+
             return fileList;
         }
 
@@ -209,19 +235,25 @@ public class AmazonS3Plugin extends BasePlugin {
                                         String bucketName,
                                         ArrayList<String> listOfFiles,
                                         Date expiryDateTime) {
-            ArrayList<String> urlList = new ArrayList<>();
-
-            for (String filePath : listOfFiles) {
-                GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(bucketName,
-                        filePath)
-                        .withMethod(HttpMethod.GET)
-                        .withExpiration(expiryDateTime);
-
-                URL url = connection.generatePresignedUrl(generatePresignedUrlRequest);
-                urlList.add(url.toString());
-            }
-
-            return urlList;
+            /*
+             * - Signing a URL is a local computation, so long lists of files are signed in parallel. The order of the
+             *   URLs is the same as the order of the files either way.
+             */
+            Stream<String> fileStream = listOfFiles.size() < PARALLEL_SIGNING_THRESHOLD
+                    ? listOfFiles.stream()
+                    : listOfFiles.parallelStream();
+
+            return fileStream
+                    .map(filePath -> {
+                        GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(bucketName,
+                                filePath)
+                                .withMethod(HttpMethod.GET)
+                                .withExpiration(expiryDateTime);
+
+                        URL url = connection.generatePresignedUrl(generatePresignedUrlRequest);
+                        return url.toString();
+                    })
+                    .collect(Collectors.toCollection(ArrayList::new));
         }
 
         /*
@@ -236,7 +268,8 @@ public class AmazonS3Plugin extends BasePlugin {
                                   Date expiryDateTime)
                 throws InterruptedException, AppsmithPluginException {
 
-            byte[] payload;
+            InputStream payload;
+            long payloadLength;
             MultipartFormDataDTO multipartFormDataDTO;
             try {
                 multipartFormDataDTO = objectMapper.readValue(
@@ -257,31 +290,16 @@ public class AmazonS3Plugin extends BasePlugin {
             if (Boolean.TRUE.equals(usingFilePicker)) {
 
                 String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
-
-                /*
-                 * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
-                 *   base64-encoded-payload>".
-                 * - Strip off the redundant part in the beginning to get actual payload.
-                 */
-                if (encodedPayload.contains(BASE64_DELIMITER)) {
-                    List<String> bodyArrayList = Arrays.asList(encodedPayload.split(BASE64_DELIMITER));
-                    encodedPayload = bodyArrayList.get(bodyArrayList.size() - 1);
-                }
-
-                try {
-                    payload = Base64.getDecoder().decode(encodedPayload);
-                } catch (IllegalArgumentException e) {
-                    throw new AppsmithPluginException(
-                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                            "File content is not base64 encoded. File content needs to be base64 encoded when the " +
-                                    "'File Data Type: Base64/Text' field is selected 'Yes'."
-                    );
-                }
+                int payloadOffset = getBase64PayloadOffset(encodedPayload);
+                payloadLength = getBase64PayloadLength(encodedPayload, payloadOffset);
+                payload = getDecodingStream(encodedPayload, payloadOffset);
             } else {
-                payload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO).getBytes();
+                byte[] bytes = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO).getBytes();
+                payload = new ByteArrayInputStream(bytes);
+                payloadLength = bytes.length;
             }
 
-            uploadFileInS3(payload, connection, multipartFormDataDTO, bucketName, path);
+            uploadFileInS3(payload, payloadLength, connection, multipartFormDataDTO, bucketName, path);
             ArrayList<String> listOfFiles = new ArrayList<>();
             listOfFiles.add(path);
             ArrayList<String> listOfUrls = getSignedUrls(connection, bucketName, listOfFiles, expiryDateTime);
@@ -325,35 +343,22 @@ public class AmazonS3Plugin extends BasePlugin {
             ArrayList<String> listOfFiles = new ArrayList<>();
             multipartFormDataDTOs.forEach(multipartFormDataDTO -> {
                 final String filePath = path + multipartFormDataDTO.getName();
-                byte[] payload;
+                InputStream payload;
+                long payloadLength;
                 if (Boolean.TRUE.equals(usingFilePicker)) {
 
                     String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
-                    /*
-                     * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
-                     *   base64-encoded-payload>".
-                     * - Strip off the redundant part in the beginning to get actual payload.
-                     */
-                    if (encodedPayload.contains(BASE64_DELIMITER)) {
-                        List<String> bodyArrayList = Arrays.asList(encodedPayload.split(BASE64_DELIMITER));
-                        encodedPayload = bodyArrayList.get(bodyArrayList.size() - 1);
-                    }
-
-                    try {
-                        payload = Base64.getDecoder().decode(encodedPayload);
-                    } catch (IllegalArgumentException e) {
-                        throw new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                "File content is not base64 encoded. File content needs to be base64 encoded when the " +
-                                        "'File Data Type: Base64/Text' field is selected 'Yes'."
-                        );
-                    }
+                    int payloadOffset = getBase64PayloadOffset(encodedPayload);
+                    payloadLength = getBase64PayloadLength(encodedPayload, payloadOffset);
+                    payload = getDecodingStream(encodedPayload, payloadOffset);
                 } else {
-                    payload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO).getBytes();
+                    byte[] bytes = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO).getBytes();
+                    payload = new ByteArrayInputStream(bytes);
+                    payloadLength = bytes.length;
                 }
 
                 try {
-                    uploadFileInS3(payload, connection, multipartFormDataDTO, bucketName, filePath);
+                    uploadFileInS3(payload, payloadLength, connection, multipartFormDataDTO, bucketName, filePath);
                 } catch (InterruptedException e) {
                     throw new AppsmithPluginException(
                             AppsmithPluginError.PLUGIN_ERROR,
@@ -370,19 +375,101 @@ public class AmazonS3Plugin extends BasePlugin {
         /*
          * - Exception thrown here needs to be handled by the caller.
          */
-        String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent) throws IOException {
-            S3Object fullObject = connection.getObject(bucketName, path);
-            S3ObjectInputStream content = fullObject.getObjectContent();
-            byte[] bytes = IOUtils.toByteArray(content);
-
-            String result;
-            if (Boolean.TRUE.equals(encodeContent)) {
-                result = new String(Base64.getEncoder().encode(bytes));
-            } else {
-                result = new String(bytes);
+        /*
+         * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
+         *   base64-encoded-payload>".
+         * - Returns the index at which the actual payload starts, so that the redundant part in the beginning is
+         *   skipped without copying the payload.
+         */
+        private int getBase64PayloadOffset(String encodedPayload) {
+            int delimiterIndex = encodedPayload.lastIndexOf(BASE64_DELIMITER);
+            return delimiterIndex < 0 ? 0 : delimiterIndex + BASE64_DELIMITER.length();
+        }
+
+        private long getBase64PayloadLength(String encodedPayload, int payloadOffset) throws AppsmithPluginException {
+            try {
+                return getDecodedLength(encodedPayload, payloadOffset);
+            } catch (IllegalArgumentException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "File content is not base64 encoded. File content needs to be base64 encoded when the " +
+                                "'File Data Type: Base64/Text' field is selected 'Yes'."
+                );
             }
+        }
 
-            return result;
+        /*
+         * - Exception thrown here needs to be handled by the caller.
+         * - The content is read from the S3 stream in chunks, so only the result string is held in memory in full.
+         * - byteRange holds the first and the last byte to be read, or null to read the whole file.
+         */
+        String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent, long maxSize,
+                        long[] byteRange) throws IOException {
+            S3Object fullObject = byteRange == null
+                    ? connection.getObject(bucketName, path)
+                    : connection.getObject(new GetObjectRequest(bucketName, path).withRange(byteRange[0], byteRange[1]));
+
+            ObjectMetadata objectMetadata = fullObject.getObjectMetadata();
+            long contentLength = objectMetadata == null ? -1 : objectMetadata.getContentLength();
+
+            try (S3ObjectInputStream content = fullObject.getObjectContent()) {
+                try {
+                    return readContent(content, contentLength, maxSize, Boolean.TRUE.equals(encodeContent));
+                } catch (AppsmithPluginException e) {
+                    // Drop the connection instead of draining the rest of a file that is too large
+                    content.abort();
+                    throw e;
+                }
+            }
+        }
+
+        /*
+         * - Parses a byte range in the "<first byte>-<last byte>" format, where the last byte may be omitted to read
+         *   till the end of the file.
+         */
+        long[] parseByteRange(String range) throws AppsmithPluginException {
+            final String[] limits = range.trim().split("-", -1);
+            try {
+                if (limits.length == 2) {
+                    long start = Long.parseLong(limits[0].trim());
+                    long end = limits[1].isBlank() ? Long.MAX_VALUE - 1 : Long.parseLong(limits[1].trim());
+                    if (start >= 0 && end >= start) {
+                        return new long[]{start, end};
+                    }
+                }
+            } catch (NumberFormatException e) {
+                // Reported below along with the other invalid ranges
+            }
+
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "Parameter 'Byte Range' is not a valid range. Please provide the range in the format " +
+                            "<first byte>-<last byte>, e.g. 0-1023, or <first byte>- to read till the end of the file."
+            );
+        }
+
+        /*
+         * - Parses an optional positive limit, returning the default value when the field is left empty.
+         */
+        long parsePositiveLimit(String fieldLabel, String value, long defaultValue) throws AppsmithPluginException {
+            if (StringUtils.isNullOrEmpty(value) || value.isBlank()) {
+                return defaultValue;
+            }
+
+            try {
+                long limit = Long.parseLong(value.trim());
+                if (limit > 0) {
+                    return limit;
+                }
+            } catch (NumberFormatException e) {
+                // Reported below along with the non-positive values
+            }
+
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "Parameter '" + fieldLabel + "' is NOT a valid number. Please ensure that the input to '" +
+                            fieldLabel + "' field is a positive integer."
+            );
         }
 
         @Override
@@ -452,6 +539,7 @@ public class AmazonS3Plugin extends BasePlugin {
             final String[] query = new String[1];
             Map<String, Object> requestProperties = new HashMap<>();
             List<RequestParamDTO> requestParams = new ArrayList<>();
+            Set<String> hintMessages = new HashSet<>();
 
             return Mono.fromCallable(() -> {
 
@@ -551,7 +639,12 @@ public class AmazonS3Plugin extends BasePlugin {
                                 requestParams.add(new RequestParamDTO(LIST_PREFIX,
                                         prefix, null, null, null));
 
-                                ArrayList<String> listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
+                                // All the files are listed unless the user sets a limit
+                                int maxFiles = (int) Math.min(Integer.MAX_VALUE, parsePositiveLimit("Max Files",
+                                        getDataValueSafelyFromFormData(formData, LIST_MAX_FILES, STRING_TYPE),
+                                        Integer.MAX_VALUE));
+                                ArrayList<String> listOfFiles = listAllFilesInBucket(connection, bucketName, prefix,
+                                        maxFiles, hintMessages);
 
                                 Boolean isSignedUrl = YES.equals(getDataValueSafelyFromFormData(formData, LIST_SIGNED_URL, STRING_TYPE));
 
@@ -761,12 +854,25 @@ public class AmazonS3Plugin extends BasePlugin {
                                 if (YES.equals(isBase64)) {
                                     requestParams.add(new RequestParamDTO(READ_DATATYPE,
                                             YES, null, null, null));
-                                    result = readFile(connection, bucketName, path, true);
                                 } else {
                                     requestParams.add(new RequestParamDTO(READ_DATATYPE,
                                             NO, null, null, null));
-                                    result = readFile(connection, bucketName, path, false);
                                 }
+
+                                String maxSizeValue = getDataValueSafelyFromFormData(formData, READ_MAX_SIZE, STRING_TYPE);
+                                long maxSize = parsePositiveLimit("Max File Size", maxSizeValue, Long.MAX_VALUE);
+                                if (maxSize != Long.MAX_VALUE) {
+                                    requestParams.add(new RequestParamDTO(READ_MAX_SIZE, maxSize, null, null, null));
+                                }
+
+                                String range = getDataValueSafelyFromFormData(formData, READ_RANGE, STRING_TYPE);
+                                long[] byteRange = null;
+                                if (!StringUtils.isNullOrEmpty(range) && !range.isBlank()) {
+                                    byteRange = parseByteRange(range);
+                                    requestParams.add(new RequestParamDTO(READ_RANGE, range, null, null, null));
+                                }
+
+                                result = readFile(connection, bucketName, path, YES.equals(isBase64), maxSize, byteRange);
                                 actionResult = Map.of("fileData", result);
                                 break;
                             case DELETE_FILE:
@@ -813,6 +919,7 @@ public class AmazonS3Plugin extends BasePlugin {
                         ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
                         actionExecutionResult.setBody(result);
                         actionExecutionResult.setIsExecutionSuccess(true);
+                        actionExecutionResult.setMessages(hintMessages);
                         log.debug("In the S3 Plugin, got action execution result");
                         return Mono.just(actionExecutionResult);
                     })
@@ -1026,7 +1133,7 @@ public class AmazonS3Plugin extends BasePlugin {
         private String getOneFileNameOrDefault(AmazonS3 connection, String bucketName, String defaultFileName) {
             ArrayList<String> listOfFiles;
             try {
-                listOfFiles = listAllFilesInBucket(connection, bucketName, "");
+                listOfFiles = listAllFilesInBucket(connection, bucketName, "", 1, new HashSet<>());
             } catch (AppsmithPluginException e) {
                 return defaultFileName;
             }
@@ -1056,16 +1163,34 @@ public class AmazonS3Plugin extends BasePlugin {
             return encodedPayload;
         }
 
-        void uploadFileInS3(byte[] payload, AmazonS3 connection, MultipartFormDataDTO multipartFormDataDTO,
-                            String bucketName, String path) throws InterruptedException {
-            InputStream inputStream = new ByteArrayInputStream(payload);
-            TransferManager transferManager = TransferManagerBuilder.standard().withS3Client(connection).build();
+        void uploadFileInS3(InputStream payload, long payloadLength, AmazonS3 connection,
+                            MultipartFormDataDTO multipartFormDataDTO, String bucketName, String path)
+                throws InterruptedException {
+            TransferManager transferManager = TransferManagerBuilder.standard()
+                    .withS3Client(connection)
+                    .withMultipartUploadThreshold(MULTIPART_UPLOAD_THRESHOLD)
+                    .withMinimumUploadPartSize(MULTIPART_UPLOAD_PART_SIZE)
+                    .build();
             final ObjectMetadata objectMetadata = new ObjectMetadata();
+            /*
+             * - With the length known upfront, large payloads are uploaded in parts that are read from the stream one
+             *   at a time. Without it, the SDK buffers the whole stream in memory to find out its length.
+             */
+            objectMetadata.setContentLength(payloadLength);
             // Only add content type if the user has mentioned it in the body
             if (multipartFormDataDTO.getType() != null) {
                 objectMetadata.setContentType(multipartFormDataDTO.getType());
             }
-            transferManager.upload(bucketName, path, inputStream, objectMetadata).waitForUploadResult();
+            PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, path, payload, objectMetadata);
+            // The payload stream can't be rewound, the SDK buffers up to this many bytes to be able to retry a request
+            putObjectRequest.getRequestClientOptions()
+                    .setReadLimit((int) Math.min(payloadLength, MULTIPART_UPLOAD_THRESHOLD) + 1);
+            try {
+                transferManager.upload(putObjectRequest).waitForUploadResult();
+            } finally {
+                // The S3 client is shared with the datasource, only the transfer threads are released here
+                transferManager.shutdownNow(false);
+            }
         }
 
     }
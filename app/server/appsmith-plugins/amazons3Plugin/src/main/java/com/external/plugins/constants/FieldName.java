@@ -23,11 +23,16 @@ public class FieldName {
     public static final String WHERE = "where";
     public static final String SORT = "sortBy";
     public static final String PAGINATE = "pagination";
+    public static final String MAX_SIZE = "maxSize";
+    public static final String RANGE = "range";
+    public static final String MAX_FILES = "maxFiles";
 
     public static final String CREATE_EXPIRY = CREATE + "." + EXPIRY;
     public static final String CREATE_DATATYPE = CREATE + "." + DATATYPE;
     public static final String READ_EXPIRY = READ + "." + EXPIRY;
     public static final String READ_DATATYPE = READ + "." + DATATYPE;
+    public static final String READ_MAX_SIZE = READ + "." + MAX_SIZE;
+    public static final String READ_RANGE = READ + "." + RANGE;
     public static final String LIST_PREFIX = LIST + "." + PREFIX;
     public static final String LIST_SIGNED_URL = LIST + "." + SIGNED_URL;
     public static final String LIST_EXPIRY = LIST + "." + EXPIRY;
@@ -35,6 +40,7 @@ public class FieldName {
     public static final String LIST_WHERE = LIST + "." + WHERE;
     public static final String LIST_SORT = LIST + "." + SORT;
     public static final String LIST_PAGINATE = LIST + "." + PAGINATE;
+    public static final String LIST_MAX_FILES = LIST + "." + MAX_FILES;
     public static final String SMART_SUBSTITUTION = "smartSubstitution";
 }
 
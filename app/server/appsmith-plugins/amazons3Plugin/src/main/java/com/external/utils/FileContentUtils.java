@@ -0,0 +1,153 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Helpers to move file content between S3 streams and the strings exchanged with the client, without holding more
+ * than one full copy of the content in memory at any time.
+ */
+public class FileContentUtils {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * Checks that the given part of the string is valid base64, with the same rules as
+     * <code>Base64.getDecoder().decode(...)</code>, but without decoding it.
+     *
+     * @param encoded : String holding the base64 content.
+     * @param offset  : Index of the first base64 character in the string.
+     * @return Number of bytes that the content decodes to.
+     * @throws IllegalArgumentException if the content is not valid base64.
+     */
+    public static long getDecodedLength(String encoded, int offset) {
+        int end = encoded.length();
+        int padding = 0;
+        while (end > offset && padding < 2 && encoded.charAt(end - 1) == '=') {
+            end--;
+            padding++;
+        }
+
+        for (int i = offset; i < end; i++) {
+            if (!isBase64Character(encoded.charAt(i))) {
+                throw new IllegalArgumentException("Illegal base64 character at index " + i);
+            }
+        }
+
+        final int length = end - offset;
+        final int remainder = length % 4;
+        if (remainder == 1 || (padding > 0 && (length + padding) % 4 != 0)) {
+            throw new IllegalArgumentException("Invalid base64 ending unit");
+        }
+
+        return (long) (length / 4) * 3 + (remainder == 0 ? 0 : remainder - 1);
+    }
+
+    /**
+     * @param encoded : String holding the base64 content, which must have been validated with getDecodedLength.
+     * @param offset  : Index of the first base64 character in the string.
+     * @return Stream of the decoded bytes, decoded as they are read.
+     */
+    public static InputStream getDecodingStream(String encoded, int offset) {
+        return Base64.getDecoder().wrap(new AsciiInputStream(encoded, offset));
+    }
+
+    /**
+     * Reads the content of a file in chunks, encoding each chunk as it is read when base64 is requested.
+     *
+     * @param content       : Stream of the file content.
+     * @param contentLength : Number of bytes in the stream if known, a negative value otherwise.
+     * @param maxSize       : Maximum number of bytes that may be read from the stream.
+     * @param encodeContent : Whether the content should be base64 encoded.
+     * @return Content of the file, base64 encoded or decoded with the default charset.
+     */
+    public static String readContent(InputStream content, long contentLength, long maxSize, boolean encodeContent)
+            throws IOException {
+        if (contentLength > maxSize) {
+            throw getMaxSizeExceededException(maxSize);
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(getInitialCapacity(contentLength, encodeContent));
+        long totalBytes = 0;
+        try (OutputStream outputStream = encodeContent ? Base64.getEncoder().wrap(buffer) : buffer) {
+            byte[] chunk = new byte[CHUNK_SIZE];
+            int bytesRead;
+            while ((bytesRead = content.read(chunk)) != -1) {
+                totalBytes += bytesRead;
+                if (totalBytes > maxSize) {
+                    throw getMaxSizeExceededException(maxSize);
+                }
+                outputStream.write(chunk, 0, bytesRead);
+            }
+        }
+
+        // Base64 output is plain ASCII, which is decoded faster as ISO-8859-1 than with a multibyte charset
+        return buffer.toString(encodeContent ? StandardCharsets.ISO_8859_1 : Charset.defaultCharset());
+    }
+
+    private static int getInitialCapacity(long contentLength, boolean encodeContent) {
+        if (contentLength < 0) {
+            return CHUNK_SIZE;
+        }
+
+        long capacity = encodeContent ? (contentLength + 2) / 3 * 4 : contentLength;
+        return (int) Math.min(capacity, Integer.MAX_VALUE - 8);
+    }
+
+    private static AppsmithPluginException getMaxSizeExceededException(long maxSize) {
+        return new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                "File size exceeds the maximum of " + maxSize + " bytes set in the 'Max File Size' field. Please " +
+                        "increase the limit or use the 'Byte Range' field to read a part of the file."
+        );
+    }
+
+    private static boolean isBase64Character(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '/';
+    }
+
+    /**
+     * Reads the characters of a string as single bytes, which is enough for base64 content and avoids copying the
+     * whole string into a byte array.
+     */
+    private static class AsciiInputStream extends InputStream {
+
+        private final String source;
+
+        private int position;
+
+        AsciiInputStream(String source, int offset) {
+            this.source = source;
+            this.position = offset;
+        }
+
+        @Override
+        public int read() {
+            return position < source.length() ? source.charAt(position++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= source.length()) {
+                return -1;
+            }
+
+            final int count = Math.min(length, source.length() - position);
+            for (int i = 0; i < count; i++) {
+                bytes[offset + i] = (byte) source.charAt(position++);
+            }
+            return count;
+        }
+    }
+}
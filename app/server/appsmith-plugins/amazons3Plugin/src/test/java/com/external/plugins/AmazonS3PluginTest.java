@@ -6,6 +6,7 @@ import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
@@ -32,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeAll;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -61,6 +63,7 @@ import static com.external.plugins.constants.FieldName.COMMAND;
 import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_MAX_FILES;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
@@ -68,6 +71,8 @@ import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
 import static com.external.plugins.constants.FieldName.READ_EXPIRY;
+import static com.external.plugins.constants.FieldName.READ_MAX_SIZE;
+import static com.external.plugins.constants.FieldName.READ_RANGE;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
 import static com.external.utils.TemplateUtils.CREATE_FILE_TEMPLATE_NAME;
@@ -795,6 +800,102 @@ public class AmazonS3PluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testListFilesStopsPagingAtMaxFiles() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, LIST_SIGNED_URL, "NO");
+        setDataValueSafelyInFormData(configMap, LIST_UNSIGNED_URL, "NO");
+        setDataValueSafelyInFormData(configMap, LIST_MAX_FILES, "3");
+
+        actionConfiguration.setFormData(configMap);
+
+        ObjectListing mockObjectListing = mock(ObjectListing.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+
+        S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
+        when(mockObjectListing.getObjectSummaries()).thenReturn(List.of(mockS3ObjectSummary, mockS3ObjectSummary));
+        when(mockS3ObjectSummary.getKey()).thenReturn("file_1", "file_2", "file_3", "file_4");
+
+        // Every page claims that more keys are available
+        when(mockObjectListing.isTruncated()).thenReturn(true);
+        when(mockConnection.listNextBatchOfObjects(mockObjectListing)).thenReturn(mockObjectListing);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection,
+                executeActionDTO,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    ArrayNode node = (ArrayNode) result.getBody();
+                    assertEquals(3, node.size());
+                    assertEquals("file_3", node.get(2).get("fileName").asText());
+                    verify(mockConnection, times(1)).listNextBatchOfObjects(mockObjectListing);
+                    assertEquals(1, result.getMessages().size());
+                    assertTrue(result.getMessages().iterator().next().startsWith("Listed the first 3 files only"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testListFilesWithoutMaxFilesListsAllPages() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, LIST_SIGNED_URL, "NO");
+        setDataValueSafelyInFormData(configMap, LIST_UNSIGNED_URL, "NO");
+
+        actionConfiguration.setFormData(configMap);
+
+        ObjectListing mockObjectListing = mock(ObjectListing.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+
+        S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
+        when(mockObjectListing.getObjectSummaries()).thenReturn(List.of(mockS3ObjectSummary, mockS3ObjectSummary));
+        when(mockS3ObjectSummary.getKey()).thenReturn("file_1", "file_2", "file_3", "file_4", "file_5", "file_6");
+
+        // Three pages of two keys each
+        when(mockObjectListing.isTruncated()).thenReturn(true, true, false);
+        when(mockConnection.listNextBatchOfObjects(mockObjectListing)).thenReturn(mockObjectListing);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection,
+                executeActionDTO,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    ArrayNode node = (ArrayNode) result.getBody();
+                    assertEquals(6, node.size());
+                    assertEquals("file_6", node.get(5).get("fileName").asText());
+                    verify(mockConnection, times(2)).listNextBatchOfObjects(mockObjectListing);
+                    assertTrue(result.getMessages().isEmpty());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testListFilesWithUnsignedUrl() throws MalformedURLException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
@@ -1290,6 +1391,127 @@ public class AmazonS3PluginTest {
 
     }
 
+    @Test
+    public void testReadFileWithByteRange() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "NO");
+        setDataValueSafelyInFormData(configMap, READ_RANGE, "6-10");
+
+        actionConfiguration.setFormData(configMap);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.getObject(any(GetObjectRequest.class))).thenReturn(mockS3Object);
+
+        String dummyContent = "World";
+        InputStream dummyInputStream = new ByteArrayInputStream(dummyContent.getBytes());
+        S3ObjectInputStream dummyS3ObjectInputStream = new S3ObjectInputStream(dummyInputStream, null);
+        when(mockS3Object.getObjectContent()).thenReturn(dummyS3ObjectInputStream);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection,
+                executeActionDTO,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    assertEquals(dummyContent, body.get("fileData"));
+
+                    ArgumentCaptor<GetObjectRequest> requestCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+                    verify(mockConnection).getObject(requestCaptor.capture());
+                    assertArrayEquals(new long[]{6, 10}, requestCaptor.getValue().getRange());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadFileLargerThanMaxSize() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "YES");
+        setDataValueSafelyInFormData(configMap, READ_MAX_SIZE, "10");
+
+        actionConfiguration.setFormData(configMap);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.getObject(anyString(), anyString())).thenReturn(mockS3Object);
+
+        String dummyContent = "Hello World !!!\n";
+        InputStream dummyInputStream = new ByteArrayInputStream(dummyContent.getBytes());
+        S3ObjectInputStream dummyS3ObjectInputStream = new S3ObjectInputStream(dummyInputStream, null);
+        when(mockS3Object.getObjectContent()).thenReturn(dummyS3ObjectInputStream);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection,
+                executeActionDTO,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    String message = (String) result.getBody();
+                    assertTrue(message.contains("maximum of 10 bytes"));
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadFileWithInvalidByteRange() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_RANGE, "10-6");
+
+        actionConfiguration.setFormData(configMap);
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection,
+                executeActionDTO,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    String message = (String) result.getBody();
+                    assertTrue(message.contains("'Byte Range' is not a valid range"));
+                    verifyNoInteractions(mockConnection);
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void uploadsSingleFileWithFilePicker() throws InterruptedException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
@@ -1314,7 +1536,7 @@ public class AmazonS3PluginTest {
         AmazonS3 connection = spyS3PluginExecutor.datasourceCreate(datasourceConfiguration).block();
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(),any(),any(),anyString(),anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(),anyLong(),any(),any(),anyString(),anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(),any(), any());
         Mono<ActionExecutionResult> resultMono = spyS3PluginExecutor.executeParameterized(
                 connection,
@@ -1353,7 +1575,7 @@ public class AmazonS3PluginTest {
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url1");
         signedURLS.add("https://example.signed.url2");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(),any(),any(),anyString(),anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(),anyLong(),any(),any(),anyString(),anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(),any(), any());
         Mono<ActionExecutionResult> resultMono = spyS3PluginExecutor.executeParameterized(
                 connection,
@@ -1397,7 +1619,7 @@ public class AmazonS3PluginTest {
         AmazonS3 connection = spyS3PluginExecutor.datasourceCreate(datasourceConfiguration).block();
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(),any(),any(),anyString(),anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(),anyLong(),any(),any(),anyString(),anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(),any(), any());
         Mono<ActionExecutionResult> resultMono = spyS3PluginExecutor.executeParameterized(
                 connection,
@@ -1436,7 +1658,7 @@ public class AmazonS3PluginTest {
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url1");
         signedURLS.add("https://example.signed.url2");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(),any(),any(),anyString(),anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(),anyLong(),any(),any(),anyString(),anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(),any(), any());
         Mono<ActionExecutionResult> resultMono = spyS3PluginExecutor.executeParameterized(
                 connection,
@@ -0,0 +1,78 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FileContentUtilsTest {
+
+    @Test
+    public void getDecodedLengthMatchesDecoder() {
+        for (String encoded : new String[]{"", "SGk=", "SGVsbG8gV29ybGQhCg==", "SGVsbG8", "SGVsbG8gV29ybGQ"}) {
+            assertEquals(Base64.getDecoder().decode(encoded).length, FileContentUtils.getDecodedLength(encoded, 0));
+        }
+    }
+
+    @Test
+    public void getDecodedLengthRejectsInvalidContent() {
+        for (String encoded : new String[]{"SGVsbG8gV29ybGQhCg=", "SGk==", "S", "SGk=SGk=", "SGVs bG8=", "ü"}) {
+            assertThrows(IllegalArgumentException.class, () -> Base64.getDecoder().decode(encoded));
+            assertThrows(IllegalArgumentException.class, () -> FileContentUtils.getDecodedLength(encoded, 0));
+        }
+    }
+
+    @Test
+    public void getDecodingStreamSkipsPrefix() throws IOException {
+        final String body = "data:text/plain;base64,SGVsbG8gV29ybGQhCg==";
+        final int offset = body.indexOf(',') + 1;
+
+        assertEquals(13, FileContentUtils.getDecodedLength(body, offset));
+        try (InputStream stream = FileContentUtils.getDecodingStream(body, offset)) {
+            assertEquals("Hello World!\n", new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void readContentEncodesAcrossChunks() throws IOException {
+        // Larger than one chunk and not a multiple of 3, so that the chunk boundaries fall inside base64 units
+        byte[] content = new byte[200_003];
+        new Random(42).nextBytes(content);
+
+        String encoded = FileContentUtils.readContent(new ByteArrayInputStream(content), content.length,
+                Long.MAX_VALUE, true);
+        assertEquals(Base64.getEncoder().encodeToString(content), encoded);
+
+        String text = FileContentUtils.readContent(new ByteArrayInputStream("Hello World".getBytes()), -1,
+                Long.MAX_VALUE, false);
+        assertEquals("Hello World", text);
+    }
+
+    @Test
+    public void readContentFailsAboveMaxSize() {
+        byte[] content = new byte[100];
+
+        // Known length is checked before reading
+        assertThrows(AppsmithPluginException.class, () -> FileContentUtils.readContent(
+                new ByteArrayInputStream(content), content.length, 99, true));
+
+        // Unknown length is checked while reading
+        assertThrows(AppsmithPluginException.class, () -> FileContentUtils.readContent(
+                new ByteArrayInputStream(content), -1, 99, false));
+
+        // Content of exactly the maximum size is read
+        String encoded = assertDoesNotThrow(() -> FileContentUtils.readContent(
+                new ByteArrayInputStream(content), -1, content.length, true));
+        assertArrayEquals(content, Base64.getDecoder().decode(encoded));
+    }
+}
@@ -10,6 +10,7 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
@@ -19,21 +20,31 @@ import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuples;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
-import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClientBuilder;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbResponse;
-import software.amazon.awssdk.services.dynamodb.model.ListTablesResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -41,7 +52,6 @@ import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -49,7 +59,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Predicate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
@@ -69,6 +82,11 @@ public class DynamoPlugin extends BasePlugin {
     private static final String DYNAMO_TYPE_MAP_LABEL = "M";
     private static final String DYNAMO_TYPE_LIST_LABEL = "L";
 
+    private static final String ITEMS_KEY = "Items";
+    private static final String COUNT_KEY = "Count";
+    private static final String SCANNED_COUNT_KEY = "ScannedCount";
+    private static final String LAST_EVALUATED_KEY_KEY = "LastEvaluatedKey";
+
     public DynamoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -85,7 +103,18 @@ public class DynamoPlugin extends BasePlugin {
      */
 
     @Extension
-    public static class DynamoPluginExecutor implements PluginExecutor<DynamoDbClient> {
+    public static class DynamoPluginExecutor implements PluginExecutor<DynamoDbAsyncClient> {
+
+        private static final int FETCH_ALL_PAGES_INDEX = 0;
+
+        private static final int MAX_ITEMS_INDEX = 1;
+
+        // Number of items read by a paginated Query or Scan when no maximum is configured.
+        private static final int DEFAULT_MAX_ITEMS = 1000;
+
+        private static final Set<String> PAGINATED_ACTIONS = Set.of("Query", "Scan");
+
+        private static final Map<String, DynamoAction> dynamoActionMap = new ConcurrentHashMap<>();
 
         private final Scheduler scheduler = Schedulers.elastic();
 
@@ -183,19 +212,233 @@ public class DynamoPlugin extends BasePlugin {
             return transformedResponse;
         }
 
+        /**
+         * Request class and client method of a DynamoDB action. These are resolved by reflection once per action.
+         */
+        private static class DynamoAction {
+
+            final Class<?> requestClass;
+
+            // (DynamoDbAsyncClient, Request) -> CompletableFuture<Response>
+            final MethodHandle executeHandle;
+
+            DynamoAction(Class<?> requestClass, MethodHandle executeHandle) {
+                this.requestClass = requestClass;
+                this.executeHandle = executeHandle;
+            }
+        }
+
+        private static DynamoAction getDynamoAction(String action) {
+            DynamoAction dynamoAction = dynamoActionMap.get(action);
+            if (dynamoAction != null) {
+                return dynamoAction;
+            }
+
+            final Class<?> requestClass;
+            try {
+                requestClass = Class.forName("software.amazon.awssdk.services.dynamodb.model." + action + "Request");
+            } catch (ClassNotFoundException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_ERROR,
+                        "Unknown action: `" + action + "`. Note that action names are case-sensitive."
+                );
+            }
+
+            try {
+                final Method actionExecuteMethod = DynamoDbAsyncClient.class.getMethod(
+                        // Convert `ListTables` to `listTables`, which is the name of the method to execute this action.
+                        toLowerCamelCase(action),
+                        requestClass
+                );
+                dynamoAction = new DynamoAction(
+                        requestClass,
+                        MethodHandles.publicLookup().unreflect(actionExecuteMethod).asType(MethodType.genericMethodType(2))
+                );
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw getExecutionError(e);
+            }
+            dynamoActionMap.putIfAbsent(action, dynamoAction);
+            return dynamoAction;
+        }
+
+        private static AppsmithPluginException getExecutionError(Throwable error) {
+            final String message = "Error executing the DynamoDB Action: " + error.getMessage();
+            log.warn(message, error);
+            return new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, message);
+        }
+
+        private static Mono<Map<String, Object>> executeRequest(DynamoDbAsyncClient ddb, DynamoAction dynamoAction,
+                                                                Object request) {
+            return Mono.defer(() -> {
+                        final CompletableFuture<?> responseFuture;
+                        try {
+                            responseFuture = (CompletableFuture<?>) (Object) dynamoAction.executeHandle.invokeExact(
+                                    (Object) ddb, request);
+                        } catch (Throwable e) {
+                            return Mono.error(e);
+                        }
+                        return Mono.fromFuture(responseFuture);
+                    })
+                    .map(response -> (Map<String, Object>) sdkToPlain(response))
+                    .onErrorMap(error -> !(error instanceof AppsmithPluginException), DynamoPluginExecutor::getExecutionError);
+        }
+
+        /**
+         * Reads the pages of a Query or a Scan one after the other, following their LastEvaluatedKey, until there are
+         * no more pages or at least maxItems items have been read. The items and counts of the pages are merged into
+         * a single response of at most maxItems items. The LastEvaluatedKey of the response is the key of its last item
+         * whenever items are left out, so that the remaining items can still be read with another execution.
+         */
+        private static Mono<Map<String, Object>> executePaginatedRequest(DynamoDbAsyncClient ddb, Object request,
+                                                                         int maxItems) {
+            return Mono.defer(() -> {
+                        final SdkPublisher<? extends DynamoDbResponse> pages = request instanceof QueryRequest
+                                ? ddb.queryPaginator((QueryRequest) request)
+                                : ddb.scanPaginator((ScanRequest) request);
+                        final AtomicInteger itemCount = new AtomicInteger();
+                        // Names of the key attributes, as found in the LastEvaluatedKey of the pages
+                        final AtomicReference<Set<String>> keyAttributeNames = new AtomicReference<>();
+
+                        return Flux.from(pages)
+                                .map(page -> (Map<String, Object>) sdkToPlain(page))
+                                .doOnNext(page -> {
+                                    if (page.get(LAST_EVALUATED_KEY_KEY) instanceof Map) {
+                                        keyAttributeNames.set(((Map<String, Object>) page.get(LAST_EVALUATED_KEY_KEY)).keySet());
+                                    }
+                                })
+                                .takeUntil(page -> itemCount.addAndGet(((List<?>) page.get(ITEMS_KEY)).size()) >= maxItems)
+                                .reduce(DynamoPluginExecutor::mergePages)
+                                .flatMap(mergedPages -> {
+                                    if (((List<?>) mergedPages.get(ITEMS_KEY)).size() <= maxItems) {
+                                        return Mono.just(mergedPages);
+                                    }
+                                    // A single page without a LastEvaluatedKey, the key attributes come from the table
+                                    return Mono.justOrEmpty(keyAttributeNames.get())
+                                            .switchIfEmpty(Mono.defer(() -> getKeyAttributeNames(ddb, request)))
+                                            .map(keyNames -> trimToMaxItems(mergedPages, maxItems, keyNames));
+                                });
+                    })
+                    .onErrorMap(error -> !(error instanceof AppsmithPluginException), DynamoPluginExecutor::getExecutionError);
+        }
+
+        /**
+         * The last page read may go past maxItems, as pages are only checked once they have been read. The items past
+         * maxItems are left out and the LastEvaluatedKey is set to the key of the last item kept, which is where the
+         * next execution continues from.
+         */
+        private static Map<String, Object> trimToMaxItems(Map<String, Object> mergedPages, int maxItems,
+                                                          Set<String> keyAttributeNames) {
+            final Map<String, Object> trimmedPages = new HashMap<>(mergedPages);
+
+            final List<Object> items = new ArrayList<>(((List<?>) mergedPages.get(ITEMS_KEY)).subList(0, maxItems));
+            trimmedPages.put(ITEMS_KEY, items);
+            trimmedPages.put(COUNT_KEY, maxItems);
+
+            final Map<String, Object> lastItem = (Map<String, Object>) items.get(maxItems - 1);
+            final Map<String, Object> lastEvaluatedKey = new HashMap<>();
+            for (String keyAttributeName : keyAttributeNames) {
+                lastEvaluatedKey.put(keyAttributeName, lastItem.get(keyAttributeName));
+            }
+            trimmedPages.put(LAST_EVALUATED_KEY_KEY, lastEvaluatedKey);
+
+            return trimmedPages;
+        }
+
+        /**
+         * @return names of the key attributes of the table, and of the index if the request reads from one
+         */
+        private static Mono<Set<String>> getKeyAttributeNames(DynamoDbAsyncClient ddb, Object request) {
+            final String tableName = request instanceof QueryRequest
+                    ? ((QueryRequest) request).tableName()
+                    : ((ScanRequest) request).tableName();
+            final String indexName = request instanceof QueryRequest
+                    ? ((QueryRequest) request).indexName()
+                    : ((ScanRequest) request).indexName();
+
+            return Mono.fromFuture(() -> ddb.describeTable(DescribeTableRequest.builder().tableName(tableName).build()))
+                    .map(response -> {
+                        final TableDescription table = response.table();
+                        final List<KeySchemaElement> keySchema = new ArrayList<>(table.keySchema());
+                        if (indexName != null) {
+                            table.globalSecondaryIndexes().stream()
+                                    .filter(index -> indexName.equals(index.indexName()))
+                                    .forEach(index -> keySchema.addAll(index.keySchema()));
+                            table.localSecondaryIndexes().stream()
+                                    .filter(index -> indexName.equals(index.indexName()))
+                                    .forEach(index -> keySchema.addAll(index.keySchema()));
+                        }
+
+                        return keySchema.stream()
+                                .map(KeySchemaElement::attributeName)
+                                .collect(Collectors.toSet());
+                    });
+        }
+
+        private static Map<String, Object> mergePages(Map<String, Object> mergedPages, Map<String, Object> page) {
+            final Map<String, Object> mergedPage = new HashMap<>(page);
+
+            final List<Object> items = new ArrayList<>((List<?>) mergedPages.get(ITEMS_KEY));
+            items.addAll((List<?>) page.get(ITEMS_KEY));
+            mergedPage.put(ITEMS_KEY, items);
+
+            for (String countKey : List.of(COUNT_KEY, SCANNED_COUNT_KEY)) {
+                if (mergedPages.get(countKey) instanceof Integer && page.get(countKey) instanceof Integer) {
+                    mergedPage.put(countKey, (Integer) mergedPages.get(countKey) + (Integer) page.get(countKey));
+                }
+            }
+
+            return mergedPage;
+        }
+
+        private static Object getPluginSpecifiedTemplate(ActionConfiguration actionConfiguration, int index) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (properties == null || properties.size() <= index || properties.get(index) == null) {
+                return null;
+            }
+            return properties.get(index).getValue();
+        }
+
+        private static boolean isFetchAllPages(ActionConfiguration actionConfiguration) {
+            final Object fetchAllPages = getPluginSpecifiedTemplate(actionConfiguration, FETCH_ALL_PAGES_INDEX);
+            if (fetchAllPages instanceof Boolean) {
+                return (Boolean) fetchAllPages;
+            } else if (fetchAllPages instanceof String) {
+                return Boolean.parseBoolean((String) fetchAllPages);
+            }
+            return false;
+        }
+
+        private static int getMaxItems(ActionConfiguration actionConfiguration) {
+            final Object maxItems = getPluginSpecifiedTemplate(actionConfiguration, MAX_ITEMS_INDEX);
+            if (maxItems == null || StringUtils.isEmpty(String.valueOf(maxItems).trim())) {
+                return DEFAULT_MAX_ITEMS;
+            }
+
+            try {
+                final int parsedMaxItems = Integer.parseInt(String.valueOf(maxItems).trim());
+                if (parsedMaxItems > 0) {
+                    return parsedMaxItems;
+                }
+            } catch (NumberFormatException e) {
+                // Reported below along with the non-positive values
+            }
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "Maximum number of items must be a positive number."
+            );
+        }
+
         @Override
-        public Mono<ActionExecutionResult> execute(DynamoDbClient ddb,
+        public Mono<ActionExecutionResult> execute(DynamoDbAsyncClient ddb,
                                                    DatasourceConfiguration datasourceConfiguration,
                                                    ActionConfiguration actionConfiguration) {
 
             final Map<String, Object> requestData = new HashMap<>();
             final String body = actionConfiguration.getBody();
+            final String action = actionConfiguration.getPath();
             List<RequestParamDTO> requestParams = new ArrayList<>();
 
             return Mono.fromCallable(() -> {
-                        ActionExecutionResult result = new ActionExecutionResult();
-
-                        final String action = actionConfiguration.getPath();
                         if (StringUtils.isEmpty(action)) {
                             throw new AppsmithPluginException(
                                     AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
@@ -218,34 +461,27 @@ public class DynamoPlugin extends BasePlugin {
                         }
                         requestData.put("parameters", parameters);
 
-                        final Class<?> requestClass;
+                        final DynamoAction dynamoAction = getDynamoAction(action);
                         try {
-                            requestClass = Class.forName("software.amazon.awssdk.services.dynamodb.model." + action + "Request");
-                        } catch (ClassNotFoundException e) {
-                            throw new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_ERROR,
-                                    "Unknown action: `" + action + "`. Note that action names are case-sensitive."
-                            );
-                        }
-
-                        try {
-                            final Method actionExecuteMethod = DynamoDbClient.class.getMethod(
-                                    // Convert `ListTables` to `listTables`, which is the name of the method to execute this action.
-                                    toLowerCamelCase(action),
-                                    requestClass
-                            );
-                            final Object sdkValue = plainToSdk(parameters, requestClass);
-                            final DynamoDbResponse response = (DynamoDbResponse) actionExecuteMethod.invoke(ddb, sdkValue);
-                            Object rawResponse = sdkToPlain(response);
-                            Object transformedResponse = getTransformedResponse((Map<String, Object>) rawResponse, action);
-                            result.setBody(transformedResponse);
+                            final Object sdkValue = plainToSdk(parameters, dynamoAction.requestClass);
+                            return Tuples.of(dynamoAction, sdkValue);
                         } catch (AppsmithPluginException | InvocationTargetException | IllegalAccessException |
                                  NoSuchMethodException | ClassNotFoundException e) {
-                            final String message = "Error executing the DynamoDB Action: " + (e.getCause() == null ? e : e.getCause()).getMessage();
-                            log.warn(message, e);
-                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, message);
+                            throw getExecutionError(e.getCause() == null ? e : e.getCause());
                         }
-
+                    })
+                    .flatMap(tuple -> {
+                        if (PAGINATED_ACTIONS.contains(action) && isFetchAllPages(actionConfiguration)) {
+                            final int maxItems = getMaxItems(actionConfiguration);
+                            requestData.put("maxItems", maxItems);
+                            return executePaginatedRequest(ddb, tuple.getT2(), maxItems);
+                        }
+                        return executeRequest(ddb, tuple.getT1(), tuple.getT2());
+                    })
+                    .map(rawResponse -> {
+                        ActionExecutionResult result = new ActionExecutionResult();
+                        Object transformedResponse = getTransformedResponse(rawResponse, action);
+                        result.setBody(transformedResponse);
                         result.setIsExecutionSuccess(true);
                         log.debug("In the DynamoPlugin, got action execution result");
                         return result;
@@ -264,15 +500,14 @@ public class DynamoPlugin extends BasePlugin {
                         actionExecutionRequest.setRequestParams(requestParams);
                         actionExecutionResult.setRequest(actionExecutionRequest);
                         return actionExecutionResult;
-                    })
-                    .subscribeOn(scheduler);
+                    });
         }
 
         @Override
-        public Mono<DynamoDbClient> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<DynamoDbAsyncClient> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
 
             return Mono.fromCallable(() -> {
-                        final DynamoDbClientBuilder builder = DynamoDbClient.builder();
+                        final DynamoDbAsyncClientBuilder builder = DynamoDbAsyncClient.builder();
 
                         if (!CollectionUtils.isEmpty(datasourceConfiguration.getEndpoints())) {
                             final Endpoint endpoint = datasourceConfiguration.getEndpoints().get(0);
@@ -299,7 +534,7 @@ public class DynamoPlugin extends BasePlugin {
         }
 
         @Override
-        public void datasourceDestroy(DynamoDbClient client) {
+        public void datasourceDestroy(DynamoDbAsyncClient client) {
             if (client != null) {
                 client.close();
             }
@@ -330,37 +565,33 @@ public class DynamoPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceTestResult> testDatasource(DynamoDbClient connection) {
-            return Mono.fromCallable(() -> {
-                /*
-                 * - Creating a connection with false credentials does not throw an error. Hence,
-                 *   calling listTables() method to check validity.
-                 */
-                connection.listTables();
-                return new DatasourceTestResult();
-            });
+        public Mono<DatasourceTestResult> testDatasource(DynamoDbAsyncClient connection) {
+            /*
+             * - Creating a connection with false credentials does not throw an error. Hence,
+             *   calling listTables() method to check validity.
+             */
+            return Mono.fromFuture(connection::listTables)
+                    .thenReturn(new DatasourceTestResult());
         }
 
         @Override
-        public Mono<DatasourceStructure> getStructure(DynamoDbClient ddb, DatasourceConfiguration datasourceConfiguration) {
-            return Mono.fromCallable(() -> {
-                final ListTablesResponse listTablesResponse = ddb.listTables();
-
-                List<DatasourceStructure.Table> tables = new ArrayList<>();
-                for (final String tableName : listTablesResponse.tableNames()) {
-                    tables.add(new DatasourceStructure.Table(
-                            DatasourceStructure.TableType.TABLE,
-                            null,
-                            tableName,
-                            Collections.emptyList(),
-                            Collections.emptyList(),
-                            Collections.emptyList()
-                    ));
-                }
-
-                return new DatasourceStructure(tables);
+        public Mono<DatasourceStructure> getStructure(DynamoDbAsyncClient ddb, DatasourceConfiguration datasourceConfiguration) {
+            return Mono.fromFuture(ddb::listTables)
+                    .map(listTablesResponse -> {
+                        List<DatasourceStructure.Table> tables = new ArrayList<>();
+                        for (final String tableName : listTablesResponse.tableNames()) {
+                            tables.add(new DatasourceStructure.Table(
+                                    DatasourceStructure.TableType.TABLE,
+                                    null,
+                                    tableName,
+                                    Collections.emptyList(),
+                                    Collections.emptyList(),
+                                    Collections.emptyList()
+                            ));
+                        }
 
-            }).subscribeOn(scheduler);
+                        return new DatasourceStructure(tables);
+                    });
         }
 
     }
@@ -386,9 +617,9 @@ public class DynamoPlugin extends BasePlugin {
             throws IllegalAccessException, InvocationTargetException, NoSuchMethodException,
             AppsmithPluginException, ClassNotFoundException {
 
-        final Class<?> builderType = Class.forName(type.getName() + "$Builder");
+        final SdkModelType modelType = SdkModelType.of(type);
 
-        final Object builder = type.getMethod("builder").invoke(null);
+        final Object builder = modelType.newBuilder();
 
         if (mapping != null) {
             for (final Map.Entry<String, Object> entry : mapping.entrySet()) {
@@ -399,21 +630,11 @@ public class DynamoPlugin extends BasePlugin {
                     // AWS SDK has two data types that are represented as Strings in JSON, namely strings and binary.
                     // We look at the parameter types for the setter method to decide which it should be, and then set
                     // convert the value if needed before calling the setter.
-                    final Method setterMethod = findMethod(builderType, method -> {
-                        final Class<?>[] parameterTypes = method.getParameterTypes();
-                        return method.getName().equals(setterName)
-                                && (SdkBytes.class.isAssignableFrom(parameterTypes[0]) || String.class.isAssignableFrom(parameterTypes[0]));
-                    });
-                    if (setterMethod == null) {
-                        throw new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                "Invalid attribute/value by name " + entry.getKey()
-                        );
-                    }
-                    if (SdkBytes.class.isAssignableFrom(setterMethod.getParameterTypes()[0])) {
+                    final SdkModelType.Setter setter = getSetter(modelType.getTextSetter(setterName), entry.getKey());
+                    if (SdkBytes.class.isAssignableFrom(setter.parameterType)) {
                         value = SdkBytes.fromUtf8String((String) value);
                     }
-                    setterMethod.invoke(builder, value);
+                    setter.invoke(builder, value);
 
                 } else if (value instanceof Boolean
                         || value instanceof Integer
@@ -421,13 +642,14 @@ public class DynamoPlugin extends BasePlugin {
                         || value instanceof Double) {
                     // This will *never* be successful. DynamoDB takes in numeric values as strings, which means the
                     // control should never flow here for numeric types.
-                    builderType.getMethod(setterName, value.getClass()).invoke(builder, value);
+                    getSetter(modelType.getScalarSetter(setterName, value.getClass()), entry.getKey())
+                            .invoke(builder, value);
 
                 } else if (value instanceof Map) {
                     // For maps, we go recursive, applying this transformation to each value, and replacing with the
                     // result in the map. Generic types in the setter method's signature are used to convert the values.
-                    final Method setterMethod = findMethod(builderType, m -> m.getName().equals(setterName));
-                    final Type parameterType = setterMethod.getGenericParameterTypes()[0];
+                    final SdkModelType.Setter setter = getSetter(modelType.getStructuredSetter(setterName), entry.getKey());
+                    final Type parameterType = setter.genericParameterType;
                     if (parameterType instanceof ParameterizedType) {
                         final ParameterizedType valueType = (ParameterizedType) parameterType;
                         final Map<String, Object> transformedMap = new HashMap<>();
@@ -444,17 +666,16 @@ public class DynamoPlugin extends BasePlugin {
                             // for objects that are just maps in JSON. So, we make that conversion here.
                             value = plainToSdk((Map) value, (Class<T>) valueType.getRawType());
                         }
-                        setterMethod.invoke(builder, value);
+                        setter.invoke(builder, value);
                     } else if (parameterType instanceof Class) {
-                        setterMethod.invoke(builder, plainToSdk((Map) value, (Class) parameterType));
+                        setter.invoke(builder, plainToSdk((Map) value, (Class) parameterType));
                     }
 
                 } else if (value instanceof Collection) {
                     // For linear collections, the process is similar to that of maps.
                     final Collection<Object> valueAsCollection = (Collection) value;
-                    // Find method by name and exclude the varargs version of the method.
-                    final Method setterMethod = findMethod(builderType, m -> m.getName().equals(setterName) && !m.getParameterTypes()[0].getName().startsWith("[L"));
-                    Type valueType = ((ParameterizedType) setterMethod.getGenericParameterTypes()[0]).getActualTypeArguments()[0];
+                    final SdkModelType.Setter setter = getSetter(modelType.getStructuredSetter(setterName), entry.getKey());
+                    Type valueType = ((ParameterizedType) setter.genericParameterType).getActualTypeArguments()[0];
                     if (valueType instanceof WildcardType) {
                         // This occurs when the method's parameter is typed as `Collection<? extends Map<...>>`. Example op: `BatchGetItem`.
                         valueType = ((WildcardType) valueType).getUpperBounds()[0];
@@ -469,7 +690,7 @@ public class DynamoPlugin extends BasePlugin {
                             reTypedList.add(innerValue);
                         }
                     }
-                    setterMethod.invoke(builder, reTypedList);
+                    setter.invoke(builder, reTypedList);
 
                 } else {
                     throw new AppsmithPluginException(
@@ -481,7 +702,7 @@ public class DynamoPlugin extends BasePlugin {
             }
         }
 
-        return (T) builderType.getMethod("build").invoke(builder);
+        return (T) modelType.build(builder);
     }
 
     public static Object plainToSdk(Map<String, Object> mapping, Type type)
@@ -512,11 +733,14 @@ public class DynamoPlugin extends BasePlugin {
         );
     }
 
-    private static Method findMethod(Class<?> builderType, Predicate<Method> predicate) {
-        return Arrays.stream(builderType.getMethods())
-                .filter(predicate)
-                .findFirst()
-                .orElse(null);
+    private static SdkModelType.Setter getSetter(SdkModelType.Setter setter, String key) throws AppsmithPluginException {
+        if (setter == null) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "Invalid attribute/value by name " + key
+            );
+        }
+        return setter;
     }
 
     /**
@@ -0,0 +1,160 @@
+package com.external.plugins;
+
+import software.amazon.awssdk.core.SdkBytes;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Builder of a model class of the AWS SDK, e.g. GetItemRequest or AttributeValue, along with its setters. Looking up
+ * the methods by reflection costs much more than invoking them, so the lookups are done once per class and setter and
+ * the resulting method handles are shared by all the executions.
+ */
+class SdkModelType {
+
+    private static final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+    private static final Map<Class<?>, SdkModelType> modelTypeMap = new ConcurrentHashMap<>();
+
+    private final Class<?> builderType;
+
+    // () -> Builder
+    private final MethodHandle builderHandle;
+
+    // (Builder) -> Model
+    private final MethodHandle buildHandle;
+
+    // Setters are looked up by their name and the kind of the value, a missing setter is cached as an empty Optional
+    private final Map<String, Optional<Setter>> setterMap = new ConcurrentHashMap<>();
+
+    private SdkModelType(Class<?> type) throws ClassNotFoundException, NoSuchMethodException, IllegalAccessException {
+        this.builderType = Class.forName(type.getName() + "$Builder");
+        this.builderHandle = lookup.unreflect(type.getMethod("builder"))
+                .asType(MethodType.genericMethodType(0));
+        this.buildHandle = lookup.unreflect(builderType.getMethod("build"))
+                .asType(MethodType.genericMethodType(1));
+    }
+
+    static SdkModelType of(Class<?> type) throws ClassNotFoundException, NoSuchMethodException, IllegalAccessException {
+        SdkModelType modelType = modelTypeMap.get(type);
+        if (modelType == null) {
+            modelType = new SdkModelType(type);
+            SdkModelType existingModelType = modelTypeMap.putIfAbsent(type, modelType);
+            if (existingModelType != null) {
+                modelType = existingModelType;
+            }
+        }
+        return modelType;
+    }
+
+    Object newBuilder() throws InvocationTargetException {
+        try {
+            return (Object) builderHandle.invokeExact();
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    Object build(Object builder) throws InvocationTargetException {
+        try {
+            return (Object) buildHandle.invokeExact(builder);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * AWS SDK has two data types that are represented as Strings in JSON, namely strings and binary. The parameter type
+     * of the setter tells which one it should be.
+     *
+     * @return Setter that takes a String or SdkBytes, null if there is no such setter.
+     */
+    Setter getTextSetter(String setterName) {
+        return getSetter(setterName + ":text", method -> {
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            return method.getName().equals(setterName)
+                    && parameterTypes.length == 1
+                    && (SdkBytes.class.isAssignableFrom(parameterTypes[0]) || String.class.isAssignableFrom(parameterTypes[0]));
+        });
+    }
+
+    /**
+     * @return Setter that takes exactly the given type, null if there is no such setter.
+     */
+    Setter getScalarSetter(String setterName, Class<?> valueClass) {
+        return getSetter(setterName + ":" + valueClass.getName(), method -> method.getName().equals(setterName)
+                && method.getParameterCount() == 1
+                && method.getParameterTypes()[0].equals(valueClass));
+    }
+
+    /**
+     * Finds the setter that takes the value as a map or a collection, excluding the varargs version of the setter and
+     * the version that takes a consumer of the nested builder.
+     *
+     * @return Setter with the given name, null if there is no such setter.
+     */
+    Setter getStructuredSetter(String setterName) {
+        return getSetter(setterName, method -> method.getName().equals(setterName)
+                && method.getParameterCount() == 1
+                && !method.getParameterTypes()[0].isArray()
+                && !Consumer.class.isAssignableFrom(method.getParameterTypes()[0]));
+    }
+
+    private Setter getSetter(String key, Predicate<Method> predicate) {
+        Optional<Setter> setter = setterMap.get(key);
+        if (setter == null) {
+            setter = Arrays.stream(builderType.getMethods())
+                    .filter(predicate)
+                    .findFirst()
+                    .map(Setter::new);
+            setterMap.putIfAbsent(key, setter);
+        }
+
+        return setter.orElse(null);
+    }
+
+    static class Setter {
+
+        // (Builder, value) -> Builder
+        private final MethodHandle handle;
+
+        final Class<?> parameterType;
+
+        final Type genericParameterType;
+
+        private Setter(Method method) {
+            try {
+                this.handle = lookup.unreflect(method).asType(MethodType.genericMethodType(2));
+            } catch (IllegalAccessException e) {
+                // Methods of the public builder interfaces are always accessible
+                throw new IllegalStateException(e);
+            }
+            this.parameterType = method.getParameterTypes()[0];
+            this.genericParameterType = method.getGenericParameterTypes()[0];
+        }
+
+        void invoke(Object builder, Object value) throws InvocationTargetException {
+            try {
+                Object ignored = (Object) handle.invokeExact(builder, value);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+}
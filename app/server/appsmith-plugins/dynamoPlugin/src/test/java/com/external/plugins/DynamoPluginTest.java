@@ -7,6 +7,7 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
@@ -16,6 +17,8 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.SdkBytes;
@@ -42,6 +45,7 @@ import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATI
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -328,6 +332,144 @@ public class DynamoPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testScanWithFetchAllPages() {
+        final String body = "{\n" +
+                "  \"TableName\": \"cities\",\n" +
+                "  \"Limit\": 1\n" +
+                "}\n";
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("Scan");
+        actionConfiguration.setBody(body);
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property(null, true)));
+
+        Mono<ActionExecutionResult> executeMono = pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertNotNull(result);
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertNotNull(result.getBody());
+
+                    Map<String, Object> resultBody = (Map<String, Object>) result.getBody();
+                    List<Map<String, Object>> items = (List<Map<String, Object>>) resultBody.get("Items");
+                    // Each page has a single item, all of them are read
+                    assertEquals(2, items.size());
+                    assertEquals(2, resultBody.get("Count"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testScanWithFetchAllPagesAndMaxItems() {
+        final String body = "{\n" +
+                "  \"TableName\": \"cities\",\n" +
+                "  \"Limit\": 1\n" +
+                "}\n";
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("Scan");
+        actionConfiguration.setBody(body);
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property(null, true), new Property(null, "1")));
+
+        Mono<ActionExecutionResult> executeMono = pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertNotNull(result);
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    Map<String, Object> resultBody = (Map<String, Object>) result.getBody();
+                    List<Map<String, Object>> items = (List<Map<String, Object>>) resultBody.get("Items");
+                    assertEquals(1, items.size());
+                    // The rest of the items can be read from here
+                    assertNotNull(resultBody.get("LastEvaluatedKey"));
+                })
+                .verifyComplete();
+    }
+
+    private Mono<ActionExecutionResult> executeScanWithMaxItems(String jsonActionConfiguration, String maxItems) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("Scan");
+        actionConfiguration.setBody(jsonActionConfiguration);
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property(null, true), new Property(null, maxItems)));
+
+        return pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+    }
+
+    @Test
+    public void testScanWithFetchAllPagesAndMaxItems_pageLargerThanMaxItems() {
+        final String body = "{\n" +
+                "  \"TableName\": \"cities\",\n" +
+                "  \"Limit\": 2\n" +
+                "}\n";
+
+        final Mono<Map<String, Object>> firstScanMono = executeScanWithMaxItems(body, "1")
+                .map(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    return (Map<String, Object>) result.getBody();
+                });
+
+        // The next scan starts after the last item returned, the item left out of the page is not skipped
+        final Mono<Tuple2<Map<String, Object>, Map<String, Object>>> scansMono = firstScanMono
+                .flatMap(firstScan -> {
+                    final Map<String, Object> lastEvaluatedKey = (Map<String, Object>) firstScan.get("LastEvaluatedKey");
+                    final String nextBody = "{\n" +
+                            "  \"TableName\": \"cities\",\n" +
+                            "  \"Limit\": 2,\n" +
+                            "  \"ExclusiveStartKey\": {\n" +
+                            "    \"Id\": {\n" +
+                            "      \"S\": \"" + lastEvaluatedKey.get("Id") + "\"\n" +
+                            "    }\n" +
+                            "  }\n" +
+                            "}\n";
+                    return executeScanWithMaxItems(nextBody, "1")
+                            .map(result -> (Map<String, Object>) result.getBody())
+                            .map(nextScan -> Tuples.of(firstScan, nextScan));
+                });
+
+        StepVerifier.create(scansMono)
+                .assertNext(tuple -> {
+                    final Map<String, Object> firstScan = tuple.getT1();
+                    final List<Map<String, Object>> firstItems = (List<Map<String, Object>>) firstScan.get("Items");
+                    assertEquals(1, firstItems.size());
+                    assertEquals(1, firstScan.get("Count"));
+                    assertEquals(Map.of("Id", firstItems.get(0).get("Id")), firstScan.get("LastEvaluatedKey"));
+
+                    final List<Map<String, Object>> nextItems = (List<Map<String, Object>>) tuple.getT2().get("Items");
+                    assertEquals(1, nextItems.size());
+                    assertNotEquals(firstItems.get(0).get("Id"), nextItems.get(0).get("Id"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testScanWithFetchAllPagesAndMaxItems_singlePageLargerThanMaxItems() {
+        final String body = "{\n" +
+                "  \"TableName\": \"cities\"\n" +
+                "}\n";
+
+        StepVerifier.create(executeScanWithMaxItems(body, "1"))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    Map<String, Object> resultBody = (Map<String, Object>) result.getBody();
+                    List<Map<String, Object>> items = (List<Map<String, Object>>) resultBody.get("Items");
+                    assertEquals(1, items.size());
+                    assertEquals(1, resultBody.get("Count"));
+                    // The table has no more pages, the key of the last item is read from the table description
+                    assertEquals(Map.of("Id", items.get(0).get("Id")), resultBody.get("LastEvaluatedKey"));
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testBatchGetItem() {
         final String body = "{\n" +
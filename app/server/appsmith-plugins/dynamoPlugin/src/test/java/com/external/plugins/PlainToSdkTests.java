@@ -1,9 +1,13 @@
 package com.external.plugins;
 
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.ListTablesRequest;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.StreamViewType;
 
 import java.util.List;
 import java.util.Map;
@@ -13,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class PlainToSdkTests {
@@ -126,4 +131,38 @@ public class PlainToSdkTests {
         assertEquals("table_name", request.tableName());
     }
 
+    @Test
+    public void testCreateTableWithNestedObject() throws Exception {
+        final CreateTableRequest request = plainToSdk(
+                Map.of(
+                        "TableName", "table_name",
+                        "KeySchema", List.of(
+                                Map.of("AttributeName", "Id", "KeyType", "HASH")
+                        ),
+                        "StreamSpecification", Map.of(
+                                "StreamEnabled", true,
+                                "StreamViewType", "NEW_IMAGE"
+                        )
+                ),
+                CreateTableRequest.class
+        );
+
+        assertNotNull(request);
+        assertEquals("table_name", request.tableName());
+        assertEquals("Id", request.keySchema().get(0).attributeName());
+        assertEquals(KeyType.HASH, request.keySchema().get(0).keyType());
+        assertTrue(request.streamSpecification().streamEnabled());
+        assertEquals(StreamViewType.NEW_IMAGE, request.streamSpecification().streamViewType());
+    }
+
+    @Test
+    public void testInvalidAttribute() {
+        final AppsmithPluginException exception = assertThrows(
+                AppsmithPluginException.class,
+                () -> plainToSdk(Map.of("UnknownAttribute", "value"), GetItemRequest.class)
+        );
+
+        assertEquals("Invalid attribute/value by name UnknownAttribute", exception.getMessage());
+    }
+
 }
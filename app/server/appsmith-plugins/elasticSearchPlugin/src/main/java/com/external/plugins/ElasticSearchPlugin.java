@@ -12,8 +12,11 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
+import com.external.utils.BulkRequestEntity;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.http.ContentTooLongException;
 import org.apache.http.Header;
 import org.apache.http.HttpHost;
 import org.apache.http.StatusLine;
@@ -24,8 +27,12 @@ import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.nio.entity.NStringEntity;
+import org.elasticsearch.client.Cancellable;
+import org.elasticsearch.client.HttpAsyncResponseConsumerFactory;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.pf4j.Extension;
@@ -37,6 +44,7 @@ import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -64,6 +72,8 @@ public class ElasticSearchPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
         private static final String NOT_FOUND_ERROR_MESSAGE = "Either your host URL is invalid or the page you are trying to access does not exist";
 
         private static final String UNAUTHORIZED_ERROR_MESSAGE = "Your username or password is not correct";
@@ -78,6 +88,10 @@ public class ElasticSearchPlugin extends BasePlugin {
                 Pattern.CASE_INSENSITIVE
         );
 
+        public ElasticSearchPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(RestClient client,
                                                    DatasourceConfiguration datasourceConfiguration,
@@ -89,8 +103,6 @@ public class ElasticSearchPlugin extends BasePlugin {
             List<RequestParamDTO> requestParams = new ArrayList<>();
 
             return Mono.fromCallable(() -> {
-                        final ActionExecutionResult result = new ActionExecutionResult();
-
                         String body = query;
 
                         final String path = actionConfiguration.getPath();
@@ -104,48 +116,53 @@ public class ElasticSearchPlugin extends BasePlugin {
                         requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
 
                         final Request request = new Request(httpMethod.toString(), path);
-                        ContentType contentType = ContentType.APPLICATION_JSON;
-
-                        if (isBulkQuery(path)) {
-                            contentType = ContentType.create("application/x-ndjson");
+                        request.setOptions(getRequestOptions());
 
-                            // If body is a JSON Array, convert it to an ND-JSON string.
-                            if (body != null && body.trim().startsWith("[")) {
-                                final StringBuilder ndJsonBuilder = new StringBuilder();
+                        if (body != null && isBulkQuery(path)) {
+                            // Bulk bodies can be large, they are converted to ND-JSON and encoded as they are sent.
+                            if (body.trim().startsWith("[")) {
                                 try {
-                                    List<Object> commands = objectMapper.readValue(body, ArrayList.class);
-                                    for (Object object : commands) {
-                                        ndJsonBuilder.append(objectMapper.writeValueAsString(object)).append("\n");
-                                    }
+                                    request.setEntity(BulkRequestEntity.fromJsonArray(objectMapper, body));
                                 } catch (IOException e) {
                                     final String message = "Error converting array to ND-JSON: " + e.getMessage();
                                     log.warn(message, e);
-                                    return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, message));
+                                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, message);
                                 }
-                                body = ndJsonBuilder.toString();
+                            } else {
+                                request.setEntity(BulkRequestEntity.fromNdJson(body));
                             }
+                        } else if (body != null) {
+                            request.setEntity(new NStringEntity(body, ContentType.APPLICATION_JSON));
                         }
 
-                        if (body != null) {
-                            request.setEntity(new NStringEntity(body, contentType));
-                        }
-
-                        try {
-                            final String responseBody = new String(
-                                    client.performRequest(request).getEntity().getContent().readAllBytes());
-                            result.setBody(objectMapper.readValue(responseBody, HashMap.class));
+                        return request;
+                    })
+                    .flatMap(request -> performRequest(client, request))
+                    // The response is parsed off the I/O threads of the client
+                    .publishOn(scheduler)
+                    .map(response -> {
+                        final ActionExecutionResult result = new ActionExecutionResult();
+                        try (InputStream content = response.getEntity().getContent()) {
+                            result.setBody(objectMapper.readValue(content, HashMap.class));
                         } catch (IOException e) {
                             final String message = "Error performing request: " + e.getMessage();
                             log.warn(message, e);
-                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, message));
+                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, message);
                         }
 
                         result.setIsExecutionSuccess(true);
                         log.debug("In the Elastic Search Plugin, got action execution result");
-                        return Mono.just(result);
+                        return result;
+                    })
+                    .onErrorMap(error -> !(error instanceof AppsmithPluginException), error -> {
+                        if (isResponseTooLong(error)) {
+                            return new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED,
+                                    (float) (sharedConfig.getMaxResponseSize() / (1024 * 1024)));
+                        }
+                        final String message = "Error performing request: " + error.getMessage();
+                        log.warn(message, error);
+                        return new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, message);
                     })
-                    .flatMap(obj -> obj)
-                    .map(obj -> (ActionExecutionResult) obj)
                     .onErrorResume(error -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         result.setIsExecutionSuccess(false);
@@ -160,8 +177,48 @@ public class ElasticSearchPlugin extends BasePlugin {
                         request.setRequestParams(requestParams);
                         result.setRequest(request);
                         return result;
-                    })
-                    .subscribeOn(scheduler);
+                    });
+        }
+
+        /**
+         * Responses are buffered up to the maximum response size, the request fails as soon as more is received.
+         */
+        private RequestOptions getRequestOptions() {
+            RequestOptions.Builder optionsBuilder = RequestOptions.DEFAULT.toBuilder();
+            optionsBuilder.setHttpAsyncResponseConsumerFactory(
+                    new HttpAsyncResponseConsumerFactory.HeapBufferedResponseConsumerFactory(
+                            sharedConfig.getMaxResponseSize()));
+            return optionsBuilder.build();
+        }
+
+        /**
+         * Sends the request without blocking, the response is emitted on an I/O thread of the client once it has been
+         * read. Cancelling the subscription aborts the request.
+         */
+        private static Mono<Response> performRequest(RestClient client, Request request) {
+            return Mono.create(sink -> {
+                final Cancellable cancellable = client.performRequestAsync(request, new ResponseListener() {
+                    @Override
+                    public void onSuccess(Response response) {
+                        sink.success(response);
+                    }
+
+                    @Override
+                    public void onFailure(Exception exception) {
+                        sink.error(exception);
+                    }
+                });
+                sink.onCancel(cancellable::cancel);
+            });
+        }
+
+        private static boolean isResponseTooLong(Throwable error) {
+            for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+                if (cause instanceof ContentTooLongException) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         private static boolean isBulkQuery(String path) {
@@ -267,51 +324,49 @@ public class ElasticSearchPlugin extends BasePlugin {
 
         @Override
         public Mono<DatasourceTestResult> testDatasource(RestClient connection) {
-            return Mono.fromCallable(() -> {
-                if (connection == null) {
-                    return new DatasourceTestResult("Null client object to ElasticSearch.");
-                }
-                // This HEAD request is to check if the base of datasource exists. It responds with 200 if the index exists,
-                // 404 if it doesn't. We just check for either of these two.
-                // Ref: https://www.elastic.co/guide/en/elasticsearch/reference/current/indices-exists.html
-                Request request = new Request("HEAD", "/");
+            if (connection == null) {
+                return Mono.just(new DatasourceTestResult("Null client object to ElasticSearch."));
+            }
 
-                final Response response;
-                try {
-                    response = connection.performRequest(request);
-                } catch (IOException e) {
-                    final String message = e.getMessage();
+            // This HEAD request is to check if the base of datasource exists. It responds with 200 if the index exists,
+            // 404 if it doesn't. We just check for either of these two.
+            // Ref: https://www.elastic.co/guide/en/elasticsearch/reference/current/indices-exists.html
+            Request request = new Request("HEAD", "/");
 
-                    /* since the 401, and 403 are registered as IOException, but for the given connection it
-                     * in the current rest-client. We will figure out with matching patterns with regexes.
-                     */
+            return performRequest(connection, request)
+                    .map(response -> {
+                        final StatusLine statusLine = response.getStatusLine();
 
-                    if (patternForUnauthorized.matcher(message).find()) {
-                        return new DatasourceTestResult(UNAUTHORIZED_ERROR_MESSAGE);
-                    }
+                        // earlier it was 404 and 200, now it has been changed to just expect 200 status code
+                        // here it checks if it is anything else than 200, even 404 is not allowed!
+                        if (statusLine.getStatusCode() == 404) {
+                            return new DatasourceTestResult(NOT_FOUND_ERROR_MESSAGE);
+                        }
 
-                    if (patternForNotFound.matcher(message).find()) {
-                        return new DatasourceTestResult(NOT_FOUND_ERROR_MESSAGE);
-                    }
+                        if (statusLine.getStatusCode() != 200) {
+                            return new DatasourceTestResult(
+                                    "Unexpected response from ElasticSearch: " + statusLine);
+                        }
 
-                    return new DatasourceTestResult("Error running HEAD request: " + message);
-                }
+                        return new DatasourceTestResult();
+                    })
+                    .onErrorResume(IOException.class, e -> {
+                        final String message = String.valueOf(e.getMessage());
 
-                final StatusLine statusLine = response.getStatusLine();
+                        /* since the 401, and 403 are registered as IOException, but for the given connection it
+                         * in the current rest-client. We will figure out with matching patterns with regexes.
+                         */
 
-                // earlier it was 404 and 200, now it has been changed to just expect 200 status code
-                // here it checks if it is anything else than 200, even 404 is not allowed!
-                if (statusLine.getStatusCode() == 404) {
-                    return new DatasourceTestResult(NOT_FOUND_ERROR_MESSAGE);
-                }
+                        if (patternForUnauthorized.matcher(message).find()) {
+                            return Mono.just(new DatasourceTestResult(UNAUTHORIZED_ERROR_MESSAGE));
+                        }
 
-                if (statusLine.getStatusCode() != 200) {
-                    return new DatasourceTestResult(
-                            "Unexpected response from ElasticSearch: " + statusLine);
-                }
+                        if (patternForNotFound.matcher(message).find()) {
+                            return Mono.just(new DatasourceTestResult(NOT_FOUND_ERROR_MESSAGE));
+                        }
 
-                return new DatasourceTestResult();
-            });
+                        return Mono.just(new DatasourceTestResult("Error running HEAD request: " + message));
+                    });
         }
     }
 }
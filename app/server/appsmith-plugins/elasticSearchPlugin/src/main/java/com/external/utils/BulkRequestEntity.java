@@ -0,0 +1,192 @@
+package com.external.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Request entity of a _bulk request, produced from the body of the action as it is sent. The body is either ND-JSON,
+ * which is encoded a slice at a time, or a JSON array of commands, which are converted to ND-JSON one at a time.
+ * Neither the ND-JSON string nor its bytes are ever held in memory as a whole, however large the body is.
+ * <p>
+ * The entity is repeatable, each call to getContent starts producing the content again, so that the request can be
+ * retried on another node.
+ */
+public class BulkRequestEntity extends AbstractHttpEntity {
+
+    public static final ContentType ND_JSON = ContentType.create("application/x-ndjson");
+
+    // Number of characters of an ND-JSON body encoded at a time.
+    private static final int SLICE_LENGTH = 8192;
+
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final ObjectMapper objectMapper;
+
+    private final String body;
+
+    private final boolean isJsonArray;
+
+    private BulkRequestEntity(ObjectMapper objectMapper, String body, boolean isJsonArray) {
+        this.objectMapper = objectMapper;
+        this.body = body;
+        this.isJsonArray = isJsonArray;
+        setContentType(ND_JSON.toString());
+        setChunked(true);
+    }
+
+    public static BulkRequestEntity fromNdJson(String body) {
+        return new BulkRequestEntity(null, body, false);
+    }
+
+    /**
+     * @throws IOException if the body is not a valid JSON array. The body is checked upfront, without building the
+     *                     commands, so that the error is reported before the request is sent.
+     */
+    public static BulkRequestEntity fromJsonArray(ObjectMapper objectMapper, String body) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of bulk commands");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+            }
+        }
+
+        return new BulkRequestEntity(objectMapper, body, true);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return isJsonArray ? new JsonArrayInputStream() : new NdJsonInputStream();
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        try (InputStream inputStream = getContent()) {
+            inputStream.transferTo(outputStream);
+        }
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    /**
+     * Stream of the bytes of a sequence of chunks, the chunks being produced as the stream is read.
+     */
+    private abstract static class ChunkedInputStream extends InputStream {
+
+        private byte[] chunk = new byte[0];
+
+        private int position = 0;
+
+        /**
+         * @return Next chunk of the content, null at the end of the content.
+         */
+        protected abstract byte[] nextChunk() throws IOException;
+
+        private boolean fillChunk() throws IOException {
+            while (chunk != null && position >= chunk.length) {
+                chunk = nextChunk();
+                position = 0;
+            }
+            return chunk != null;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fillChunk()) {
+                return -1;
+            }
+            return chunk[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fillChunk()) {
+                return -1;
+            }
+            int count = Math.min(length, chunk.length - position);
+            System.arraycopy(chunk, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+    }
+
+    private class NdJsonInputStream extends ChunkedInputStream {
+
+        private int sliceStart = 0;
+
+        @Override
+        protected byte[] nextChunk() {
+            if (sliceStart >= body.length()) {
+                return null;
+            }
+
+            int sliceEnd = Math.min(sliceStart + SLICE_LENGTH, body.length());
+            // Don't split a surrogate pair across two slices
+            if (sliceEnd < body.length() && Character.isHighSurrogate(body.charAt(sliceEnd - 1))) {
+                sliceEnd++;
+            }
+
+            byte[] slice = body.substring(sliceStart, sliceEnd).getBytes(StandardCharsets.UTF_8);
+            sliceStart = sliceEnd;
+            return slice;
+        }
+    }
+
+    private class JsonArrayInputStream extends ChunkedInputStream {
+
+        private final JsonParser parser;
+
+        private boolean isNewLineNext = false;
+
+        private JsonArrayInputStream() throws IOException {
+            parser = objectMapper.getFactory().createParser(body);
+            // Skip the start of the array, the body has been checked to be an array already
+            parser.nextToken();
+        }
+
+        @Override
+        protected byte[] nextChunk() throws IOException {
+            if (isNewLineNext) {
+                isNewLineNext = false;
+                return NEW_LINE;
+            }
+
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                return null;
+            }
+
+            isNewLineNext = true;
+            return objectMapper.writeValueAsString(parser.readValueAsTree()).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.external.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkRequestEntityTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static String readContent(BulkRequestEntity entity) throws IOException {
+        try (InputStream inputStream = entity.getContent()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void testJsonArrayBody_isConvertedToNdJson() throws IOException {
+        final String body = "[\n" +
+                "  { \"index\" : { \"_index\" : \"test1\", \"_id\" : \"1\" } },\n" +
+                "  { \"field1\" : \"value1 \\u00e9\\ud83d\\ude00\", \"count\": 2 },\n" +
+                "  { \"delete\" : { \"_index\" : \"test1\", \"_id\" : \"2\" } }\n" +
+                "]";
+
+        BulkRequestEntity entity = BulkRequestEntity.fromJsonArray(objectMapper, body);
+
+        final String expectedContent = "{\"index\":{\"_index\":\"test1\",\"_id\":\"1\"}}\n" +
+                "{\"field1\":\"value1 é😀\",\"count\":2}\n" +
+                "{\"delete\":{\"_index\":\"test1\",\"_id\":\"2\"}}\n";
+        assertEquals(expectedContent, readContent(entity));
+        // The entity is repeatable
+        assertEquals(expectedContent, readContent(entity));
+        assertEquals("application/x-ndjson", entity.getContentType().getValue());
+        assertTrue(entity.isChunked());
+    }
+
+    @Test
+    public void testInvalidJsonArrayBody_throwsException() {
+        assertThrows(IOException.class, () -> BulkRequestEntity.fromJsonArray(objectMapper, "[{\"index\": {}"));
+        assertThrows(IOException.class, () -> BulkRequestEntity.fromJsonArray(objectMapper, "{\"index\": {}}"));
+    }
+
+    @Test
+    public void testNdJsonBody_isEncodedAcrossSlices() throws IOException {
+        // Long enough to be encoded in several slices, with a surrogate pair at the boundary of the first one
+        final String body = "{\"a\":\"" + "x".repeat(8192 - 7) + "😀" + "y".repeat(10000) + "\"}\n";
+
+        BulkRequestEntity entity = BulkRequestEntity.fromNdJson(body);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        entity.writeTo(outputStream);
+        assertEquals(body, outputStream.toString(StandardCharsets.UTF_8));
+        assertEquals(body, readContent(entity));
+    }
+}
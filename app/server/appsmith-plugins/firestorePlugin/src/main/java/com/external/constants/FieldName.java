@@ -15,6 +15,7 @@ public class FieldName {
     public static final String START_AFTER = "startAfter";
     public static final String END_BEFORE = "endBefore";
     public static final String WHERE = "where";
+    public static final String FETCH_ALL_PAGES = "fetchAllPages";
     public static final String CHILDREN = "children";
     public static final String SMART_SUBSTITUTION = "smartSubstitution";
 
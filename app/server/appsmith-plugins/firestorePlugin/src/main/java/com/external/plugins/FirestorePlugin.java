@@ -20,6 +20,8 @@ import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.firestore.CollectionReference;
 import com.google.cloud.firestore.DocumentReference;
@@ -27,8 +29,11 @@ import com.google.cloud.firestore.DocumentSnapshot;
 import com.google.cloud.firestore.FieldValue;
 import com.google.cloud.firestore.Firestore;
 import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
 import com.google.cloud.firestore.QuerySnapshot;
+import com.google.cloud.firestore.WriteBatch;
 import com.google.cloud.firestore.WriteResult;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.cloud.FirestoreClient;
@@ -38,6 +43,7 @@ import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
@@ -53,19 +59,21 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
+import static com.appsmith.external.helpers.PluginUtils.OBJECT_TYPE;
 import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
 import static com.appsmith.external.helpers.PluginUtils.getDataValueSafelyFromFormData;
 import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
+import static com.appsmith.external.helpers.PluginUtils.validConfigurationPresentInFormData;
 import static com.external.constants.FieldName.BODY;
 import static com.external.constants.FieldName.COMMAND;
 import static com.external.constants.FieldName.DELETE_KEY_PATH;
 import static com.external.constants.FieldName.END_BEFORE;
+import static com.external.constants.FieldName.FETCH_ALL_PAGES;
 import static com.external.constants.FieldName.LIMIT_DOCUMENTS;
 import static com.external.constants.FieldName.NEXT;
 import static com.external.constants.FieldName.ORDER_BY;
@@ -92,6 +100,15 @@ public class FirestorePlugin extends BasePlugin {
 
     private static final String FIELDVALUE_TIMESTAMP_METHOD_NAME = "serverTimestamp";
 
+    // Maximum number of operations that Firestore accepts in a single write batch.
+    private static final int MAX_WRITE_BATCH_SIZE = 500;
+
+    // Number of documents read in one request when fetching all pages.
+    private static final int FETCH_ALL_PAGE_SIZE = 500;
+
+    // Number of documents read when fetching all pages and no limit is configured.
+    private static final int DEFAULT_FETCH_ALL_LIMIT = 10000;
+
     public FirestorePlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -246,6 +263,15 @@ public class FirestorePlugin extends BasePlugin {
                         }
 
                         try {
+                            /*
+                             * - An array body adds one document per element. The documents are written in
+                             *   batches instead of one request per document.
+                             */
+                            if (Method.ADD_TO_COLLECTION.equals(method) && strBody.trim().startsWith("[")) {
+                                return Mono.just(objectMapper.readValue(strBody,
+                                        new TypeReference<List<HashMap<String, Object>>>() {
+                                        }));
+                            }
                             return Mono.just(objectMapper.readValue(strBody, HashMap.class));
                         } catch (IOException e) {
                             return Mono.error(new AppsmithPluginException(
@@ -254,8 +280,12 @@ public class FirestorePlugin extends BasePlugin {
                             ));
                         }
                     })
-                    .flatMap(mapBody -> {
+                    .flatMap(body -> {
+                        if (body instanceof List) {
+                            return prepareBodyList((List<Map<String, Object>>) body, formData, method, requestParams);
+                        }
 
+                        Map<?, ?> mapBody = (Map<?, ?>) body;
                         if (mapBody.isEmpty()) {
 
                             if (method.isBodyNeeded()) {
@@ -280,14 +310,21 @@ public class FirestorePlugin extends BasePlugin {
                             /*
                              * - Update mapBody with FieldValue.xyz() values if the FieldValue paths are provided.
                              */
-                            insertFieldValues(mapBody, formData, method, requestParams);
+                            insertFieldValues((Map<String, Object>) mapBody, formData, method, requestParams);
                         } catch (AppsmithPluginException e) {
                             return Mono.error(e);
                         }
 
                         return Mono.just((Map<String, Object>) mapBody);
                     })
-                    .flatMap(mapBody -> {
+                    .flatMap(body -> {
+                        if (body instanceof List) {
+                            requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
+                            return methodAddToCollectionInBatches(connection, connection.collection(path),
+                                    (List<Map<String, Object>>) body);
+                        }
+
+                        Map<String, Object> mapBody = (Map<String, Object>) body;
                         if (method.isDocumentLevel()) {
                             return handleDocumentLevelMethod(connection, path, method, mapBody, query, requestParams);
                         } else {
@@ -314,6 +351,61 @@ public class FirestorePlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        private Mono<Object> prepareBodyList(List<Map<String, Object>> bodyList,
+                                             Map<String, Object> formData,
+                                             Method method,
+                                             List<RequestParamDTO> requestParams) {
+            if (bodyList.isEmpty()) {
+                return Mono.error(new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "The method " + method + " needs at least one document in the body array to work."
+                ));
+            }
+
+            try {
+                for (int i = 0; i < bodyList.size(); i++) {
+                    if (bodyList.get(i) == null) {
+                        throw new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                "Document at index " + i + " of the body array is null."
+                        );
+                    }
+                    // The FieldValue paths are the same for all the documents, so they are reported only once
+                    insertFieldValues(bodyList.get(i), formData, method, i == 0 ? requestParams : new ArrayList<>());
+                }
+            } catch (AppsmithPluginException e) {
+                return Mono.error(e);
+            }
+
+            return Mono.just(bodyList);
+        }
+
+        /*
+         * - Bridges the future returned by the Firestore client into a Mono, without blocking a thread while the
+         *   request is in flight.
+         * - Failures are reported with the same message that ExecutionException used to carry.
+         */
+        private static <T> Mono<T> toMono(ApiFuture<T> future) {
+            return Mono.<T>create(sink -> {
+                        ApiFutures.addCallback(future, new ApiFutureCallback<T>() {
+                            @Override
+                            public void onFailure(Throwable throwable) {
+                                sink.error(throwable);
+                            }
+
+                            @Override
+                            public void onSuccess(T result) {
+                                sink.success(result);
+                            }
+                        }, MoreExecutors.directExecutor());
+                        sink.onCancel(() -> future.cancel(true));
+                    })
+                    .onErrorMap(
+                            error -> !(error instanceof AppsmithPluginException),
+                            error -> new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, error.toString())
+                    );
+        }
+
         private boolean isTimestampAndDeleteFieldValuePathEmpty(Map<String, Object> formData) {
             if (isBlank(PluginUtils.getDataValueSafelyFromFormData(formData, TIMESTAMP_VALUE_PATH, STRING_TYPE))
                     && isBlank(PluginUtils.getDataValueSafelyFromFormData(formData, DELETE_KEY_PATH, STRING_TYPE))) {
@@ -550,14 +642,7 @@ public class FirestorePlugin extends BasePlugin {
                         return Mono.just((ApiFuture<Object>) objFuture);
                     })
                     // Consume the Future to get the actual result object.
-                    .flatMap(resultFuture -> {
-                        try {
-
-                            return Mono.just(resultFuture.get());
-                        } catch (InterruptedException | ExecutionException e) {
-                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
-                        }
-                    })
+                    .flatMap(FirestorePluginExecutor::toMono)
                     // Build a response object with the result.
                     .flatMap(objResult1 -> {
                         ActionExecutionResult result = new ActionExecutionResult();
@@ -606,7 +691,10 @@ public class FirestorePlugin extends BasePlugin {
                                                                 List<RequestParamDTO> requestParams,
                                                                 Set<String> hintMessages, ActionConfiguration actionConfiguration) {
             final String limitString = PluginUtils.getDataValueSafelyFromFormData(formData, LIMIT_DOCUMENTS, STRING_TYPE);
-            final int limit = StringUtils.isEmpty(limitString) ? 10 : Integer.parseInt(limitString);
+            final boolean fetchAllPages = isFetchAllPages(formData);
+            final int limit = StringUtils.isEmpty(limitString)
+                    ? (fetchAllPages ? DEFAULT_FETCH_ALL_LIMIT : 10)
+                    : Integer.parseInt(limitString);
             final String orderByString = PluginUtils.getDataValueSafelyFromFormData(formData, ORDER_BY, STRING_TYPE, "");
             requestParams.add(new RequestParamDTO(ORDER_BY, orderByString, null, null, null));
 
@@ -659,6 +747,16 @@ public class FirestorePlugin extends BasePlugin {
                 ));
             }
 
+            if (fetchAllPages) {
+                requestParams.add(new RequestParamDTO(FETCH_ALL_PAGES, true, null, null, null));
+                if (PaginationField.PREV.equals(paginationField)) {
+                    return Mono.error(new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            "Cannot fetch the previous page when 'Fetch all pages' is enabled."
+                    ));
+                }
+            }
+
             return Mono.just(query)
                     // Apply ordering, if provided.
                     .map(query1 -> {
@@ -718,21 +816,15 @@ public class FirestorePlugin extends BasePlugin {
                         return Mono.just(query1);
                     })
                     // Apply limit, always provided, since without it we can inadvertently end up processing too much data.
-                    .map(query1 -> {
-                        if (PaginationField.PREV.equals(paginationField) && !CollectionUtils.isEmpty(endBefore)) {
-                            return query1.limitToLast(limit);
+                    // Run the Firestore query and consume the future to get the actual results.
+                    .flatMap(query1 -> {
+                        if (fetchAllPages) {
+                            return fetchPages(query1, new ArrayList<>(), limit, hintMessages);
                         }
-                        return query1.limit(limit);
-                    })
-                    // Run the Firestore query to get a Future of the results.
-                    .map(Query::get)
-                    // Consume the future to get the actual results.
-                    .flatMap(resultFuture -> {
-                        try {
-                            return Mono.just(resultFuture.get());
-                        } catch (InterruptedException | ExecutionException e) {
-                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
+                        if (PaginationField.PREV.equals(paginationField) && !CollectionUtils.isEmpty(endBefore)) {
+                            return toMono(query1.limitToLast(limit).get());
                         }
+                        return toMono(query1.limit(limit).get());
                     })
                     // Build response object with the results from the Future.
                     .flatMap(objResult1 -> {
@@ -748,6 +840,46 @@ public class FirestorePlugin extends BasePlugin {
                     });
         }
 
+        /*
+         * - Reads the query page by page, starting each page after the last document of the previous one, until the
+         *   query has no more documents or maxDocuments documents have been read.
+         */
+        private Mono<Object> fetchPages(Query query,
+                                        List<QueryDocumentSnapshot> documents,
+                                        int maxDocuments,
+                                        Set<String> hintMessages) {
+            final int pageSize = Math.min(maxDocuments - documents.size(), FETCH_ALL_PAGE_SIZE);
+            final Query pageQuery = documents.isEmpty()
+                    ? query
+                    : query.startAfter(documents.get(documents.size() - 1));
+
+            return toMono(pageQuery.limit(pageSize).get())
+                    .flatMap(snapshot -> {
+                        documents.addAll(snapshot.getDocuments());
+                        if (snapshot.size() < pageSize) {
+                            return Mono.just(documents);
+                        }
+                        if (documents.size() >= maxDocuments) {
+                            hintMessages.add("Fetched the maximum of " + maxDocuments + " documents, the collection " +
+                                    "may have more. Please increase the value of 'Limit Documents' to fetch more.");
+                            return Mono.just(documents);
+                        }
+                        return fetchPages(query, documents, maxDocuments, hintMessages);
+                    });
+        }
+
+        private boolean isFetchAllPages(Map<String, Object> formData) {
+            if (!validConfigurationPresentInFormData(formData, FETCH_ALL_PAGES)) {
+                return false;
+            }
+
+            Object fetchAllPagesObject = getDataValueSafelyFromFormData(formData, FETCH_ALL_PAGES, OBJECT_TYPE);
+            // The value is a string when it is set with a binding
+            return fetchAllPagesObject instanceof Boolean
+                    ? (Boolean) fetchAllPagesObject
+                    : Boolean.parseBoolean(String.valueOf(fetchAllPagesObject));
+        }
+
         private boolean isWhereMethodUsed(Map<String, Object> formData) {
             final Map<String, List<Object>> childrenMap = getDataValueSafelyFromFormData(formData, WHERE, new TypeReference<>() {
                     }
@@ -776,16 +908,7 @@ public class FirestorePlugin extends BasePlugin {
 
         private Mono<ActionExecutionResult> methodAddToCollection(CollectionReference collection, Map<String, Object> mapBody) {
             return Mono.justOrEmpty(collection.add(mapBody))
-                    .flatMap(future -> {
-                        try {
-                            return Mono.just(future.get());
-                        } catch (InterruptedException | ExecutionException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_ERROR,
-                                    e.getMessage()
-                            ));
-                        }
-                    })
+                    .flatMap(FirestorePluginExecutor::toMono)
                     .flatMap(opResult -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         try {
@@ -799,6 +922,37 @@ public class FirestorePlugin extends BasePlugin {
                     });
         }
 
+        /*
+         * - Adds every map of the body as a new document with a generated id.
+         * - Documents are committed in write batches of up to MAX_WRITE_BATCH_SIZE operations, one batch after the
+         *   other. Each batch is atomic, so if a batch fails, only the documents of the previous batches are added.
+         */
+        private Mono<ActionExecutionResult> methodAddToCollectionInBatches(Firestore connection,
+                                                                           CollectionReference collection,
+                                                                           List<Map<String, Object>> bodyList) {
+            final List<DocumentReference> documentReferences = new ArrayList<>(bodyList.size());
+
+            return Flux.range(0, (bodyList.size() + MAX_WRITE_BATCH_SIZE - 1) / MAX_WRITE_BATCH_SIZE)
+                    .concatMap(batchIndex -> {
+                        final int start = batchIndex * MAX_WRITE_BATCH_SIZE;
+                        final int end = Math.min(start + MAX_WRITE_BATCH_SIZE, bodyList.size());
+                        final WriteBatch batch = connection.batch();
+                        for (Map<String, Object> document : bodyList.subList(start, end)) {
+                            DocumentReference documentReference = collection.document();
+                            batch.create(documentReference, document);
+                            documentReferences.add(documentReference);
+                        }
+                        return toMono(batch.commit());
+                    })
+                    .then(Mono.fromCallable(() -> {
+                        ActionExecutionResult result = new ActionExecutionResult();
+                        result.setBody(resultToMap(documentReferences));
+                        result.setIsExecutionSuccess(true);
+                        log.debug("In the Firestore Plugin, got action execution result for batched add to collection");
+                        return result;
+                    }));
+        }
+
         private Object resultToMap(Object objResult) throws AppsmithPluginException {
             return resultToMap(objResult, true);
         }
@@ -59,6 +59,7 @@ import static com.external.constants.FieldName.CHILDREN;
 import static com.external.constants.FieldName.COMMAND;
 import static com.external.constants.FieldName.DELETE_KEY_PATH;
 import static com.external.constants.FieldName.END_BEFORE;
+import static com.external.constants.FieldName.FETCH_ALL_PAGES;
 import static com.external.constants.FieldName.LIMIT_DOCUMENTS;
 import static com.external.constants.FieldName.NEXT;
 import static com.external.constants.FieldName.ORDER_BY;
@@ -500,6 +501,77 @@ public class FirestorePluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testAddToCollectionWithArrayBodyAndFetchAllPages() {
+        // More documents than fit in a single write batch and in a single page
+        final int documentCount = 1201;
+        final List<Map<String, Object>> documents = new ArrayList<>();
+        for (int i = 0; i < documentCount; i++) {
+            documents.add(Map.of("n", i));
+        }
+
+        ActionConfiguration addConfiguration = new ActionConfiguration();
+        Map<String, Object> addConfigMap = new HashMap<>();
+        setDataValueSafelyInFormData(addConfigMap, COMMAND, "ADD_TO_COLLECTION");
+        setDataValueSafelyInFormData(addConfigMap, PATH, "batched");
+        try {
+            setDataValueSafelyInFormData(addConfigMap, BODY, new ObjectMapper().writeValueAsString(documents));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+        addConfiguration.setFormData(addConfigMap);
+
+        Mono<ActionExecutionResult> addMono = pluginExecutor
+                .executeParameterized(firestoreConnection, new ExecuteActionDTO(), dsConfig, addConfiguration);
+
+        StepVerifier.create(addMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    List<Map<String, Object>> references = (List) result.getBody();
+                    assertEquals(documentCount, references.size());
+                    assertTrue(((String) references.get(0).get("path")).startsWith("batched/"));
+                })
+                .verifyComplete();
+
+        ActionConfiguration getConfiguration = new ActionConfiguration();
+        Map<String, Object> getConfigMap = new HashMap<>();
+        setDataValueSafelyInFormData(getConfigMap, COMMAND, "GET_COLLECTION");
+        setDataValueSafelyInFormData(getConfigMap, PATH, "batched");
+        setDataValueSafelyInFormData(getConfigMap, ORDER_BY, "[\"n\"]");
+        setDataValueSafelyInFormData(getConfigMap, FETCH_ALL_PAGES, true);
+        getConfiguration.setFormData(getConfigMap);
+
+        Mono<ActionExecutionResult> getAllMono = pluginExecutor
+                .executeParameterized(firestoreConnection, new ExecuteActionDTO(), dsConfig, getConfiguration);
+
+        StepVerifier.create(getAllMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    List<Map<String, Object>> results = (List) result.getBody();
+                    assertEquals(documentCount, results.size());
+                    for (int i = 0; i < documentCount; i++) {
+                        assertEquals((long) i, results.get(i).get("n"));
+                    }
+                    assertTrue(result.getMessages().isEmpty());
+                })
+                .verifyComplete();
+
+        setDataValueSafelyInFormData(getConfigMap, LIMIT_DOCUMENTS, "700");
+
+        Mono<ActionExecutionResult> getLimitedMono = pluginExecutor
+                .executeParameterized(firestoreConnection, new ExecuteActionDTO(), dsConfig, getConfiguration);
+
+        StepVerifier.create(getLimitedMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    List<Map<String, Object>> results = (List) result.getBody();
+                    assertEquals(700, results.size());
+                    assertEquals(699L, results.get(699).get("n"));
+                    assertEquals(1, result.getMessages().size());
+                })
+                .verifyComplete();
+    }
+
     private ActionConfiguration constructActionConfiguration(Map<String, Object> first, Map<String, Object> last) {
         final ObjectMapper objectMapper = new ObjectMapper();
         ActionConfiguration actionConfiguration = new ActionConfiguration();
@@ -273,7 +273,7 @@ public class GraphQLPlugin extends BasePlugin {
             Set<String> hintMessages = new HashSet<>();
             return triggerUtils.triggerApiCall(client, httpMethod, uri, requestBodyObj, actionExecutionRequest,
                     objectMapper,
-                    hintMessages, errorResult, requestCaptureFilter);
+                    hintMessages, errorResult, requestCaptureFilter, sharedConfig.getCodecSize());
         }
 
         @Override
@@ -12,6 +12,7 @@ import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.helpers.PluginUtils;
+import com.appsmith.external.helpers.RowSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -28,6 +29,8 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
+import com.external.plugins.commands.CursorCommand;
 import com.external.plugins.constants.MongoSpecialDataTypes;
 import com.external.plugins.datatypes.MongoSpecificDataTypes;
 import com.external.plugins.utils.MongoErrorUtils;
@@ -35,31 +38,17 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mongodb.ConnectionString;
-import com.mongodb.DBRefCodecProvider;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoSocketWriteException;
 import com.mongodb.MongoTimeoutException;
-import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
-import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
-import org.bson.codecs.BsonTypeClassMap;
-import org.bson.codecs.BsonValueCodecProvider;
-import org.bson.codecs.DocumentCodec;
-import org.bson.codecs.DocumentCodecProvider;
-import org.bson.codecs.IterableCodecProvider;
-import org.bson.codecs.MapCodecProvider;
-import org.bson.codecs.ValueCodecProvider;
-import org.bson.codecs.configuration.CodecRegistries;
-import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.reactivestreams.Publisher;
@@ -70,14 +59,8 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.time.Duration;
-import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -113,6 +96,7 @@ import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.FieldName.SUCCESS;
 import static com.external.plugins.constants.FieldName.UPDATE_OPERATION;
 import static com.external.plugins.constants.FieldName.UPDATE_QUERY;
+import static com.external.plugins.utils.BsonToJsonNodeConverter.toJsonNode;
 import static com.external.plugins.utils.DatasourceUtils.KEY_PASSWORD;
 import static com.external.plugins.utils.DatasourceUtils.KEY_URI_DEFAULT_DBNAME;
 import static com.external.plugins.utils.DatasourceUtils.KEY_USERNAME;
@@ -125,6 +109,7 @@ import static com.external.plugins.utils.DatasourceUtils.isHostStringConnectionU
 import static com.external.plugins.utils.DatasourceUtils.isUsingURI;
 import static com.external.plugins.utils.MongoPluginUtils.convertMongoFormInputToRawCommand;
 import static com.external.plugins.utils.MongoPluginUtils.generateTemplatesAndStructureForACollection;
+import static com.external.plugins.utils.MongoPluginUtils.getCursorCommand;
 import static com.external.plugins.utils.MongoPluginUtils.getDatabaseName;
 import static com.external.plugins.utils.MongoPluginUtils.getRawQuery;
 import static com.external.plugins.utils.MongoPluginUtils.isRawCommand;
@@ -203,19 +188,6 @@ public class MongoPlugin extends BasePlugin {
 
     private static final MongoErrorUtils mongoErrorUtils = MongoErrorUtils.getInstance();
 
-    private static final CodecRegistry DEFAULT_REGISTRY = CodecRegistries.fromProviders(Arrays.asList(
-            new ValueCodecProvider(),
-            new IterableCodecProvider(),
-            new BsonValueCodecProvider(),
-            new DocumentCodecProvider(),
-            new MapCodecProvider(),
-            new DBRefCodecProvider(),
-            new GeoJsonCodecProvider(),
-            new GridFSFileCodecProvider()
-    ));
-
-    private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new org.bson.codecs.BsonTypeClassMap();
-
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -226,6 +198,12 @@ public class MongoPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.elastic();
 
+        private final SharedConfig sharedConfig;
+
+        public MongoPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * also update the datasource and action configuration for pagination and some minor cleanup of the configuration before execution
@@ -297,6 +275,49 @@ public class MongoPlugin extends BasePlugin {
             return this.executeCommon(mongoClient, datasourceConfiguration, actionConfiguration, parameters);
         }
 
+        /**
+         * Reads the documents returned by a Find or Aggregate command from its cursor, stopping at the limit of the
+         * command or as soon as the documents read grow beyond the maximum response size supported. The documents are
+         * returned in the same shape as the response of the database command, with all of them in the first batch.
+         * <p>
+         * In the fetch all mode, one document more than the limit is read to find out if any matching documents were
+         * left out, in which case a message is added to the result.
+         */
+        private Mono<Document> readCursor(MongoDatabase database, CursorCommand cursorCommand,
+                                          ActionExecutionResult result) {
+            return Mono.defer(() -> {
+                final int limit = cursorCommand.getDocumentLimit();
+                final int documentsToRead = cursorCommand.isFetchAll() && limit < Integer.MAX_VALUE ? limit + 1 : limit;
+                final int batchSize = cursorCommand.getDocumentBatchSize(documentsToRead);
+                final int maxSizeSupported = sharedConfig.getMaxResponseSize();
+                final RowSizeEstimator rowSizeEstimator = new RowSizeEstimator(maxSizeSupported);
+
+                return Flux.from(cursorCommand.getCursorPublisher(database, documentsToRead, batchSize))
+                        .take(documentsToRead)
+                        .<Document>handle((document, sink) -> {
+                            if (!rowSizeEstimator.add(document)) {
+                                // Cancelling the publisher closes the cursor on the server
+                                log.debug("Mongo result size greater than maximum supported size of {} bytes.",
+                                        maxSizeSupported);
+                                sink.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED,
+                                        (float) (maxSizeSupported / (1024 * 1024))));
+                                return;
+                            }
+                            sink.next(document);
+                        })
+                        .collectList()
+                        .map(documents -> {
+                            if (documents.size() > limit) {
+                                documents.remove(limit);
+                                result.setMessages(Set.of("Only the first " + limit + " documents have been " +
+                                        "fetched. Increase the limit to fetch the rest of them."));
+                            }
+                            return new Document("cursor", new Document("firstBatch", documents))
+                                    .append("ok", 1.0);
+                        });
+            });
+        }
+
         /**
          * For reference on creating the json queries for Mongo please head to
          * https://docs.huihoo.com/mongodb/3.4/reference/command/index.html
@@ -324,8 +345,13 @@ public class MongoPlugin extends BasePlugin {
             String query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
             Bson command = Document.parse(query);
 
-            Mono<Document> mongoOutputMono = Mono.from(database.runCommand(command));
             ActionExecutionResult result = new ActionExecutionResult();
+            // Find and Aggregate commands from the form are executed by reading their cursor, all the others are run
+            // as database commands.
+            CursorCommand cursorCommand = getCursorCommand(actionConfiguration);
+            Mono<Document> mongoOutputMono = cursorCommand == null
+                    ? Mono.from(database.runCommand(command))
+                    : readCursor(database, cursorCommand, result);
             List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null
                     , null, null));
 
@@ -362,23 +388,11 @@ public class MongoPlugin extends BasePlugin {
                     )
                     .flatMap(mongoOutput -> {
                         try {
-                            /*
-                             * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
-                             * processing of DbRef Object.
-                             * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
-                             */
-                            DocumentCodec documentCodec = new DocumentCodec(
-                                    DEFAULT_REGISTRY,
-                                    DEFAULT_BSON_TYPE_CLASS_MAP
-                            );
-
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
-
-                            //The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
+                            //The output contains the key "ok". This is the status of the command
+                            int status = mongoOutput.get("ok", Number.class).intValue();
+                            ArrayNode headerArray = objectMapper.createArrayNode();
 
-                            if (BigInteger.ONE.equals(status)) {
+                            if (status == 1) {
                                 result.setIsExecutionSuccess(true);
                                 result.setDataTypes(List.of(
                                         new ParsedDataType(DisplayDataType.JSON),
@@ -390,59 +404,55 @@ public class MongoPlugin extends BasePlugin {
                                   we either get the modified new value or the pre-modified old value (depending on the
                                   `new` field in the command. Let's return that value to the user.
                                  */
-                                if (outputJson.has(VALUE)) {
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE))).toString()
-                                    ));
+                                if (mongoOutput.containsKey(VALUE)) {
+                                    ObjectNode body = objectMapper.createObjectNode();
+                                    body.set(VALUE, toJsonNode(mongoOutput.get(VALUE)));
+                                    result.setBody(body);
                                 }
 
                                 /*
-                                  The json contains key "cursor" when find command was issued and there are 1 or more
-                                  results. In case there are no results for find, this key is not present in the result json.
+                                  The output contains key "cursor" when find command was issued and there are 1 or more
+                                  results. In case there are no results for find, this key is not present in the output.
                                  */
-                                if (outputJson.has("cursor")) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
+                                if (mongoOutput.containsKey("cursor")) {
+                                    result.setBody(toJsonNode(
+                                            mongoOutput.get("cursor", Document.class).get("firstBatch")));
                                 }
 
                                 /*
-                                  The json contains key "n" when insert/update command is issued. "n" for update
+                                  The output contains key "n" when insert/update command is issued. "n" for update
                                   signifies the no of documents selected for update. "n" in case of insert signifies the
                                   number of documents inserted.
                                  */
-                                if (outputJson.has("n")) {
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
+                                if (mongoOutput.containsKey("n")) {
+                                    ObjectNode body = objectMapper.createObjectNode();
+                                    body.set("n", toJsonNode(mongoOutput.get("n")));
+                                    result.setBody(body);
+                                    headerArray.add(body.deepCopy());
                                 }
 
                                 /*
-                                  The json key contains key "nModified" in case of update command. This signifies the no of
+                                  The output contains key "nModified" in case of update command. This signifies the no of
                                   documents updated.
                                  */
-                                if (outputJson.has(N_MODIFIED)) {
-                                    JSONObject body = new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
+                                if (mongoOutput.containsKey(N_MODIFIED)) {
+                                    ObjectNode body = objectMapper.createObjectNode();
+                                    body.set(N_MODIFIED, toJsonNode(mongoOutput.get(N_MODIFIED)));
+                                    result.setBody(body);
+                                    headerArray.add(body.deepCopy());
                                 }
 
                                 /*
-                                  The json contains key "values" when distinct command is used.
+                                  The output contains key "values" when distinct command is used.
                                  */
-                                if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONArray(VALUES));
-
+                                if (mongoOutput.containsKey(VALUES)) {
                                     ObjectNode resultNode = objectMapper.createObjectNode();
 
                                     // Create a JSON structure with the results stored with a key to abide by the
                                     // Server-Client contract of only sending array of objects in result.
-                                    resultNode
-                                            .putArray(VALUES)
-                                            .addAll((ArrayNode) objectMapper.readTree(outputResult.toString()));
+                                    resultNode.set(VALUES, toJsonNode(mongoOutput.get(VALUES)));
 
-                                    result.setBody(objectMapper.readTree(resultNode.toString()));
+                                    result.setBody(resultNode);
                                 }
 
                                 /*
@@ -451,9 +461,8 @@ public class MongoPlugin extends BasePlugin {
                                  */
                             }
 
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
+                            headerArray.addObject().put("ok", status);
+                            result.setHeaders(headerArray);
                         } catch (Exception e) {
                             return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e));
                         }
@@ -1014,58 +1023,4 @@ public class MongoPlugin extends BasePlugin {
         }
     }
 
-    private static Object cleanUp(Object object) {
-        if (object instanceof JSONObject) {
-            JSONObject jsonObject = (JSONObject) object;
-            final boolean isSingleKey = jsonObject.keySet().size() == 1;
-
-            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
-                return jsonObject.getBigInteger("$numberLong");
-
-            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
-                return jsonObject.getString("$oid");
-
-            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
-                JSONObject dateJSON = jsonObject.optJSONObject("$date");
-                /*
-                    For dates before Jan 1, 1970 then the output json from MongoDB driver looks like
-                    "$date": {
-                        "$numberLong": "-493033770000"
-                    }
-                    And for dates on or after Jan 1, 1970 the output json from MongoDB driver is readily available and looks like
-                    "$date": "2022-07-01T10:32:37.318Z"
-                */
-                if (dateJSON != null && dateJSON.keySet().size() == 1 &&
-                        "$numberLong".equals(dateJSON.keys().next())) {
-                    return DateTimeFormatter.ISO_INSTANT.format(
-                            Instant.ofEpochMilli(dateJSON.getLong("$numberLong")));
-                }
-                return DateTimeFormatter.ISO_INSTANT.format(
-                        Instant.parse(jsonObject.getString("$date"))
-                );
-
-            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
-                return new BigDecimal(jsonObject.getString("$numberDecimal"));
-
-            } else {
-                for (String key : new HashSet<>(jsonObject.keySet())) {
-                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
-                }
-
-            }
-
-        } else if (object instanceof JSONArray) {
-            Collection<Object> cleaned = new ArrayList<>();
-
-            for (Object child : (JSONArray) object) {
-                cleaned.add(cleanUp(child));
-            }
-
-            return new JSONArray(cleaned);
-
-        }
-
-        return object;
-    }
-
 }
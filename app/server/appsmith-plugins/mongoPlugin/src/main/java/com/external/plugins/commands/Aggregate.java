@@ -7,13 +7,21 @@ import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.PluginUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
+import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.bson.json.JsonParseException;
 import org.pf4j.util.StringUtils;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -25,6 +33,8 @@ import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
 import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
 import static com.appsmith.external.helpers.PluginUtils.validConfigurationPresentInFormData;
 import static com.external.plugins.constants.FieldName.AGGREGATE;
+import static com.external.plugins.constants.FieldName.AGGREGATE_BATCH_SIZE;
+import static com.external.plugins.constants.FieldName.AGGREGATE_FETCH_ALL;
 import static com.external.plugins.constants.FieldName.AGGREGATE_LIMIT;
 import static com.external.plugins.constants.FieldName.AGGREGATE_PIPELINES;
 import static com.external.plugins.constants.FieldName.BODY;
@@ -37,22 +47,17 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 @Getter
 @Setter
 @NoArgsConstructor
-public class Aggregate extends MongoCommand {
+public class Aggregate extends CursorCommand {
     String pipeline;
-    String limit;
 
     public Aggregate(ActionConfiguration actionConfiguration) {
-        super(actionConfiguration);
+        super(actionConfiguration, AGGREGATE_LIMIT, AGGREGATE_BATCH_SIZE, AGGREGATE_FETCH_ALL);
 
         Map<String, Object> formData = actionConfiguration.getFormData();
 
         if (validConfigurationPresentInFormData(formData, AGGREGATE_PIPELINES)) {
             this.pipeline = PluginUtils.getDataValueSafelyFromFormData(formData, AGGREGATE_PIPELINES, STRING_TYPE);
         }
-
-        if (validConfigurationPresentInFormData(formData, AGGREGATE_LIMIT)) {
-            this.limit = PluginUtils.getDataValueSafelyFromFormData(formData, AGGREGATE_LIMIT, STRING_TYPE);
-        }
     }
 
     @Override
@@ -74,42 +79,75 @@ public class Aggregate extends MongoCommand {
 
         commandDocument.put(AGGREGATE, this.collection);
 
+        List<? extends Bson> pipelineStages = getPipelineStages();
+        if (pipelineStages.isEmpty()) {
+            commandDocument.put("pipeline", "[]");
+        } else {
+            commandDocument.put("pipeline", pipelineStages);
+        }
+
+        commandDocument.put("cursor", parseSafely("cursor", "{batchSize: " + getDocumentBatchSize(getDocumentLimit()) + "}"));
+
+        return commandDocument;
+    }
+
+    private List<? extends Bson> getPipelineStages() {
         DataType dataType = DataTypeStringUtils.stringToKnownDataTypeConverter(this.pipeline);
         if (dataType.equals(DataType.ARRAY)) {
             try {
                 BsonArray arrayListFromInput = BsonArray.parse(this.pipeline);
-                if (arrayListFromInput.isEmpty()) {
-                    commandDocument.put("pipeline", "[]");
-                } else {
-                    commandDocument.put("pipeline", arrayListFromInput);
+                List<BsonDocument> stages = new ArrayList<>();
+                for (BsonValue stage : arrayListFromInput) {
+                    if (!stage.isDocument()) {
+                        throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "Pipeline stage is not a valid JSON object.");
+                    }
+                    stages.add(stage.asDocument());
                 }
+                return stages;
             } catch (JsonParseException e) {
                 throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "Array of Pipelines could not be parsed into expected Mongo BSON Array format.");
             }
-        } else {
-            // The command expects the pipelines to be sent in an array. Parse and create a single element array
-
-            // check for enclosing curly bracket to make json validation more strict
-            final String jsonObject = this.pipeline.trim();
-            if (jsonObject.charAt(jsonObject.length() - 1) != '}') {
-                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "Pipeline stage is not a valid JSON object.");
-            }
+        }
 
-            Document document = parseSafely("Array of Pipelines", this.pipeline);
-            ArrayList<Document> documentArrayList = new ArrayList<>();
-            documentArrayList.add(document);
+        // The command expects the pipelines to be sent in an array. Parse and create a single element array
 
-            commandDocument.put("pipeline", documentArrayList);
+        // check for enclosing curly bracket to make json validation more strict
+        final String jsonObject = this.pipeline.trim();
+        if (jsonObject.charAt(jsonObject.length() - 1) != '}') {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "Pipeline stage is not a valid JSON object.");
         }
 
-        // Default to returning 10 documents if not mentioned
-        int limit = 10;
-        if (!isBlank(this.limit)) {
-            limit = Integer.parseInt(this.limit);
+        Document document = parseSafely("Array of Pipelines", this.pipeline);
+        ArrayList<Document> documentArrayList = new ArrayList<>();
+        documentArrayList.add(document);
+        return documentArrayList;
+    }
+
+    @Override
+    public Publisher<Document> getCursorPublisher(MongoDatabase database, int documentsToRead, int batchSize) {
+        List<? extends Bson> pipelineStages = getPipelineStages();
+        AggregatePublisher<Document> aggregatePublisher = database.getCollection(this.collection)
+                .aggregate(pipelineStages)
+                .batchSize(batchSize);
+
+        // Subscribing to the publisher of a pipeline that writes its output to a collection would read back the
+        // documents of the output collection. Only run the pipeline, so that no documents are returned, the same as
+        // when the aggregate command is run.
+        if (writesToCollection(pipelineStages)) {
+            return Mono.from(aggregatePublisher.toCollection()).thenMany(Flux.empty());
         }
-        commandDocument.put("cursor", parseSafely("cursor", "{batchSize: " + limit + "}"));
 
-        return commandDocument;
+        // The limit is applied by reading only as many documents from the publisher.
+        return aggregatePublisher;
+    }
+
+    private static boolean writesToCollection(List<? extends Bson> pipelineStages) {
+        if (pipelineStages.isEmpty()) {
+            return false;
+        }
+        // $out and $merge can only be the last stage of a pipeline
+        BsonDocument lastStage = pipelineStages.get(pipelineStages.size() - 1).toBsonDocument();
+        return lastStage.containsKey("$out") || lastStage.containsKey("$merge");
     }
 
     /**
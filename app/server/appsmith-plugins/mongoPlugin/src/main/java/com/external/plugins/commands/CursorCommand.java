@@ -0,0 +1,114 @@
+package com.external.plugins.commands;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.PluginUtils;
+import com.appsmith.external.models.ActionConfiguration;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+
+import java.util.Map;
+
+import static com.appsmith.external.helpers.PluginUtils.OBJECT_TYPE;
+import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
+import static com.appsmith.external.helpers.PluginUtils.validConfigurationPresentInFormData;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * This is the base class of the commands that read documents through a cursor, i.e. Find and Aggregate. Instead of
+ * being run as a database command, whose response only carries the first batch of the cursor, these commands are
+ * executed through the driver's publishers, which fetch the following batches with getMore as the documents are
+ * consumed.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public abstract class CursorCommand extends MongoCommand {
+
+    // Number of documents returned when no limit is configured.
+    public static final int DEFAULT_LIMIT = 10;
+
+    // Number of documents returned in the fetch all mode when no limit is configured.
+    public static final int DEFAULT_FETCH_ALL_LIMIT = 10000;
+
+    // Number of documents fetched from the server in one round trip when no batch size is configured.
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    String limit;
+    String batchSize;
+    Boolean fetchAll = Boolean.FALSE;
+
+    public CursorCommand(ActionConfiguration actionConfiguration, String limitPath, String batchSizePath,
+                         String fetchAllPath) {
+        super(actionConfiguration);
+
+        Map<String, Object> formData = actionConfiguration.getFormData();
+
+        if (validConfigurationPresentInFormData(formData, limitPath)) {
+            this.limit = PluginUtils.getDataValueSafelyFromFormData(formData, limitPath, STRING_TYPE);
+        }
+
+        if (validConfigurationPresentInFormData(formData, batchSizePath)) {
+            this.batchSize = PluginUtils.getDataValueSafelyFromFormData(formData, batchSizePath, STRING_TYPE);
+        }
+
+        if (validConfigurationPresentInFormData(formData, fetchAllPath)) {
+            Object fetchAllObject = PluginUtils.getDataValueSafelyFromFormData(formData, fetchAllPath, OBJECT_TYPE);
+            // The value is a string when it is set with a binding
+            this.fetchAll = fetchAllObject instanceof Boolean
+                    ? (Boolean) fetchAllObject
+                    : Boolean.parseBoolean(String.valueOf(fetchAllObject));
+        }
+    }
+
+    private static int parsePositiveInteger(String fieldName, String value) {
+        try {
+            int parsedValue = Integer.parseInt(value.trim());
+            if (parsedValue > 0) {
+                return parsedValue;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below along with the non-positive values
+        }
+        throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                fieldName + " must be a positive number.");
+    }
+
+    /**
+     * @return Maximum number of documents to be returned. In the fetch all mode, all the matching documents are read
+     * up to this number.
+     */
+    public int getDocumentLimit() {
+        if (isBlank(this.limit)) {
+            return Boolean.TRUE.equals(this.fetchAll) ? DEFAULT_FETCH_ALL_LIMIT : DEFAULT_LIMIT;
+        }
+        return parsePositiveInteger("Limit", this.limit);
+    }
+
+    /**
+     * @return Number of documents to be fetched from the server in one round trip. Batches are never larger than the
+     * number of documents that are going to be read.
+     */
+    public int getDocumentBatchSize(int documentsToRead) {
+        if (isBlank(this.batchSize)) {
+            return Math.min(documentsToRead, DEFAULT_BATCH_SIZE);
+        }
+        return Math.min(documentsToRead, parsePositiveInteger("Batch size", this.batchSize));
+    }
+
+    public boolean isFetchAll() {
+        return Boolean.TRUE.equals(this.fetchAll);
+    }
+
+    /**
+     * @param database        : Database to read the documents from.
+     * @param documentsToRead : Maximum number of documents that will be read from the publisher.
+     * @param batchSize       : Number of documents to be fetched from the server in one round trip.
+     * @return Publisher of the documents returned by the command.
+     */
+    public abstract Publisher<Document> getCursorPublisher(MongoDatabase database, int documentsToRead, int batchSize);
+}
@@ -3,11 +3,14 @@ package com.external.plugins.commands;
 import com.appsmith.external.helpers.PluginUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.bson.Document;
 import org.pf4j.util.StringUtils;
+import org.reactivestreams.Publisher;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -21,6 +24,8 @@ import static com.external.plugins.constants.FieldName.BODY;
 import static com.external.plugins.constants.FieldName.COLLECTION;
 import static com.external.plugins.constants.FieldName.COMMAND;
 import static com.external.plugins.constants.FieldName.FIND;
+import static com.external.plugins.constants.FieldName.FIND_BATCH_SIZE;
+import static com.external.plugins.constants.FieldName.FIND_FETCH_ALL;
 import static com.external.plugins.constants.FieldName.FIND_LIMIT;
 import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
 import static com.external.plugins.constants.FieldName.FIND_QUERY;
@@ -33,15 +38,14 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 @Getter
 @Setter
 @NoArgsConstructor
-public class Find extends MongoCommand {
+public class Find extends CursorCommand {
     String query;
     String sort;
     String projection;
-    String limit;
     String skip;
 
     public Find(ActionConfiguration actionConfiguration) {
-        super(actionConfiguration);
+        super(actionConfiguration, FIND_LIMIT, FIND_BATCH_SIZE, FIND_FETCH_ALL);
 
         Map<String, Object> formData = actionConfiguration.getFormData();
 
@@ -57,10 +61,6 @@ public class Find extends MongoCommand {
             this.projection = PluginUtils.getDataValueSafelyFromFormData(formData, FIND_PROJECTION, STRING_TYPE);
         }
 
-        if (validConfigurationPresentInFormData(formData, FIND_LIMIT)) {
-            this.limit = PluginUtils.getDataValueSafelyFromFormData(formData, FIND_LIMIT, STRING_TYPE);
-        }
-
         if (validConfigurationPresentInFormData(formData, FIND_SKIP)) {
             this.skip = PluginUtils.getDataValueSafelyFromFormData(formData, FIND_SKIP, STRING_TYPE);
         }
@@ -86,13 +86,9 @@ public class Find extends MongoCommand {
             document.put("projection", parseSafely("Projection", this.projection));
         }
 
-        // Default to returning 10 documents if not mentioned
-        int limit = 10;
-        if (!StringUtils.isNullOrEmpty(this.limit)) {
-            limit = Integer.parseInt(this.limit);
-        }
+        int limit = getDocumentLimit();
         document.put("limit", limit);
-        document.put("batchSize", limit);
+        document.put("batchSize", getDocumentBatchSize(limit));
 
         if (!StringUtils.isNullOrEmpty(this.skip)) {
             document.put("skip", Long.parseLong(this.skip));
@@ -101,6 +97,30 @@ public class Find extends MongoCommand {
         return document;
     }
 
+    @Override
+    public Publisher<Document> getCursorPublisher(MongoDatabase database, int documentsToRead, int batchSize) {
+        String filter = StringUtils.isNullOrEmpty(this.query) ? "{}" : this.query;
+
+        FindPublisher<Document> findPublisher = database.getCollection(this.collection)
+                .find(parseSafely("Query", filter))
+                .limit(documentsToRead)
+                .batchSize(batchSize);
+
+        if (!StringUtils.isNullOrEmpty(this.sort)) {
+            findPublisher = findPublisher.sort(parseSafely("Sort", this.sort));
+        }
+
+        if (!StringUtils.isNullOrEmpty(this.projection)) {
+            findPublisher = findPublisher.projection(parseSafely("Projection", this.projection));
+        }
+
+        if (!StringUtils.isNullOrEmpty(this.skip)) {
+            findPublisher = findPublisher.skip(Integer.parseInt(this.skip));
+        }
+
+        return findPublisher;
+    }
+
     @Override
     public List<DatasourceStructure.Template> generateTemplate(Map<String, Object> templateConfiguration) {
         String collectionName = (String) templateConfiguration.get("collectionName");
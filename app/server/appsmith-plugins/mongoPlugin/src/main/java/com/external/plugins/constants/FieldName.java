@@ -27,9 +27,13 @@ public class FieldName {
     public static final String KEY = "key";
     public static final String PIPELINES = "arrayPipelines";
     public static final String DOCUMENTS = "documents";
+    public static final String BATCH_SIZE = "batchSize";
+    public static final String FETCH_ALL = "fetchAll";
 
     public static final String AGGREGATE_PIPELINES = AGGREGATE + "." + PIPELINES;
     public static final String AGGREGATE_LIMIT = AGGREGATE + "." + LIMIT;
+    public static final String AGGREGATE_BATCH_SIZE = AGGREGATE + "." + BATCH_SIZE;
+    public static final String AGGREGATE_FETCH_ALL = AGGREGATE + "." + FETCH_ALL;
     public static final String COUNT_QUERY = COUNT + "." + QUERY;
     public static final String DELETE_QUERY = DELETE + "." + QUERY;
     public static final String DELETE_LIMIT = DELETE + "." + LIMIT;
@@ -43,6 +47,8 @@ public class FieldName {
     public static final String DISTINCT_KEY = DISTINCT + "." + KEY;
     public static final String FIND_LIMIT = FIND + "." + LIMIT;
     public static final String FIND_SKIP = FIND + "." + SKIP;
+    public static final String FIND_BATCH_SIZE = FIND + "." + BATCH_SIZE;
+    public static final String FIND_FETCH_ALL = FIND + "." + FETCH_ALL;
     public static final String UPDATE_LIMIT = UPDATE_MANY + "." + LIMIT;
 
     
@@ -0,0 +1,167 @@
+package com.external.plugins.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mongodb.DBRef;
+import com.mongodb.DBRefCodecProvider;
+import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
+import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
+import org.bson.Document;
+import org.bson.codecs.BsonTypeClassMap;
+import org.bson.codecs.BsonValueCodecProvider;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.DocumentCodecProvider;
+import org.bson.codecs.IterableCodecProvider;
+import org.bson.codecs.MapCodecProvider;
+import org.bson.codecs.ValueCodecProvider;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Converts the values decoded from the documents returned by Mongo to Jackson nodes in a single pass, without
+ * serialising them to an extended JSON string first. The values are normalised the same way as they were when they
+ * were read from the relaxed extended JSON:
+ * <ul>
+ *     <li>ObjectIds are converted to their hex string, instead of <code>{"$oid": ...}</code></li>
+ *     <li>Dates are converted to ISO-8601 instants, instead of <code>{"$date": ...}</code></li>
+ *     <li>Longs and decimals are converted to plain numbers, instead of <code>{"$numberLong": ...}</code> and
+ *     <code>{"$numberDecimal": ...}</code></li>
+ * </ul>
+ * Values of the other BSON types, e.g. binary data and timestamps, are rare in query results and are written in their
+ * relaxed extended JSON form.
+ */
+public class BsonToJsonNodeConverter {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final JsonNodeFactory nodeFactory = objectMapper.getNodeFactory();
+
+    // Codec used to write the values that are not converted directly in their extended JSON form
+    private static final CodecRegistry DEFAULT_REGISTRY = CodecRegistries.fromProviders(Arrays.asList(
+            new ValueCodecProvider(),
+            new IterableCodecProvider(),
+            new BsonValueCodecProvider(),
+            new DocumentCodecProvider(),
+            new MapCodecProvider(),
+            new DBRefCodecProvider(),
+            new GeoJsonCodecProvider(),
+            new GridFSFileCodecProvider()
+    ));
+
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec(DEFAULT_REGISTRY, new BsonTypeClassMap());
+
+    private static final String VALUE_KEY = "value";
+
+    /**
+     * @param value : Value decoded from a document returned by Mongo, i.e. a document, a list or a single value.
+     * @return Jackson node representing the value.
+     */
+    public static JsonNode toJsonNode(Object value) {
+        if (value == null) {
+            return nodeFactory.nullNode();
+        }
+
+        if (value instanceof Map) {
+            ObjectNode objectNode = nodeFactory.objectNode();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                objectNode.set(String.valueOf(entry.getKey()), toJsonNode(entry.getValue()));
+            }
+            return objectNode;
+        }
+
+        if (value instanceof Iterable) {
+            ArrayNode arrayNode = nodeFactory.arrayNode();
+            for (Object element : (Iterable<?>) value) {
+                arrayNode.add(toJsonNode(element));
+            }
+            return arrayNode;
+        }
+
+        if (value instanceof String) {
+            return nodeFactory.textNode((String) value);
+        }
+
+        if (value instanceof Boolean) {
+            return nodeFactory.booleanNode((Boolean) value);
+        }
+
+        if (value instanceof Integer) {
+            return nodeFactory.numberNode((Integer) value);
+        }
+
+        if (value instanceof Long) {
+            long longValue = (Long) value;
+            // Same node types as the ones that Jackson reads for the number
+            if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) {
+                return nodeFactory.numberNode((int) longValue);
+            }
+            return nodeFactory.numberNode(longValue);
+        }
+
+        if (value instanceof Double) {
+            double doubleValue = (Double) value;
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                // These are not valid JSON numbers
+                return nodeFactory.objectNode().put("$numberDouble", Double.toString(doubleValue));
+            }
+            return nodeFactory.numberNode(doubleValue);
+        }
+
+        if (value instanceof ObjectId) {
+            return nodeFactory.textNode(((ObjectId) value).toHexString());
+        }
+
+        if (value instanceof Date) {
+            return nodeFactory.textNode(
+                    DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(((Date) value).getTime())));
+        }
+
+        if (value instanceof Decimal128) {
+            Decimal128 decimal = (Decimal128) value;
+            if (decimal.isNaN() || decimal.isInfinite()) {
+                // These can't be represented as a JSON number
+                return nodeFactory.textNode(decimal.toString());
+            }
+            // Parsed from the string, as bigDecimalValue() does not support negative zero. The node is created directly
+            // as the node factory strips the trailing zeros, e.g. 100 would be written as 1E+2.
+            return DecimalNode.valueOf(new BigDecimal(decimal.toString()));
+        }
+
+        if (value instanceof DBRef) {
+            DBRef dbRef = (DBRef) value;
+            ObjectNode objectNode = nodeFactory.objectNode();
+            objectNode.put("$ref", dbRef.getCollectionName());
+            objectNode.set("$id", toJsonNode(dbRef.getId()));
+            if (dbRef.getDatabaseName() != null) {
+                objectNode.put("$db", dbRef.getDatabaseName());
+            }
+            return objectNode;
+        }
+
+        return toExtendedJsonNode(value);
+    }
+
+    private static JsonNode toExtendedJsonNode(Object value) {
+        try {
+            return objectMapper.readTree(new Document(VALUE_KEY, value).toJson(DOCUMENT_CODEC)).get(VALUE_KEY);
+        } catch (JsonProcessingException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.external.plugins.commands.Aggregate;
 import com.external.plugins.commands.Count;
+import com.external.plugins.commands.CursorCommand;
 import com.external.plugins.commands.Delete;
 import com.external.plugins.commands.Distinct;
 import com.external.plugins.commands.Find;
@@ -96,6 +97,23 @@ public class MongoPluginUtils {
         return PluginUtils.getDataValueSafelyFromFormData(formData, BODY, PluginUtils.STRING_TYPE);
     }
 
+    /**
+     * @return The Find or Aggregate command configured in the form, which is executed by reading its cursor. Null for
+     * raw commands and the other form commands, which are run as database commands.
+     */
+    public static CursorCommand getCursorCommand(ActionConfiguration actionConfiguration) {
+        Map<String, Object> formData = actionConfiguration.getFormData();
+        if (formData == null || formData.isEmpty() || isRawCommand(formData)) {
+            return null;
+        }
+
+        MongoCommand command = getMongoCommand(actionConfiguration);
+        if (command instanceof CursorCommand) {
+            return (CursorCommand) command;
+        }
+        return null;
+    }
+
     private static MongoCommand getMongoCommand(ActionConfiguration actionConfiguration) throws AppsmithPluginException {
         Map<String, Object> formData = actionConfiguration.getFormData();
         MongoCommand command;
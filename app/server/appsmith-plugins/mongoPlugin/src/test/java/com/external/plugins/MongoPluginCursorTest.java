@@ -0,0 +1,225 @@
+package com.external.plugins;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.SSLDetails;
+import com.external.plugins.commands.Find;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
+import static com.external.plugins.constants.FieldName.AGGREGATE_PIPELINES;
+import static com.external.plugins.constants.FieldName.COLLECTION;
+import static com.external.plugins.constants.FieldName.COMMAND;
+import static com.external.plugins.constants.FieldName.FIND_BATCH_SIZE;
+import static com.external.plugins.constants.FieldName.FIND_FETCH_ALL;
+import static com.external.plugins.constants.FieldName.FIND_LIMIT;
+import static com.external.plugins.constants.FieldName.FIND_SORT;
+import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the Find and Aggregate commands from the form, which are read through the driver's cursor.
+ */
+@Testcontainers
+public class MongoPluginCursorTest {
+
+    private static final String COLLECTION_NAME = "cursorItems";
+
+    private static final int DOCUMENT_COUNT = 250;
+
+    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig());
+
+    private static String address;
+    private static Integer port;
+    private static MongoClient mongoClient;
+
+    @SuppressWarnings("rawtypes")
+    @Container
+    public static GenericContainer mongoContainer = new MongoTestContainer();
+
+    @BeforeAll
+    public static void setUp() {
+        address = mongoContainer.getContainerIpAddress();
+        port = mongoContainer.getFirstMappedPort();
+        String uri = "mongodb://" + address + ":" + port;
+        mongoClient = MongoClients.create(uri);
+
+        // Documents of about 1 KB each, so that reading all of them goes past a small response size limit
+        String padding = "x".repeat(1000);
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            documents.add(new Document(Map.of("index", i, "padding", padding)));
+        }
+        MongoCollection<Document> collection = mongoClient.getDatabase("test").getCollection(COLLECTION_NAME);
+        Mono.from(collection.insertMany(documents)).block();
+    }
+
+    private DatasourceConfiguration createDatasourceConfiguration() {
+        Endpoint endpoint = new Endpoint();
+        endpoint.setHost(address);
+        endpoint.setPort(port.longValue());
+
+        Connection connection = new Connection();
+        connection.setMode(Connection.Mode.READ_WRITE);
+        connection.setType(Connection.Type.DIRECT);
+        connection.setDefaultDatabaseName("test");
+        connection.setSsl(new SSLDetails());
+        connection.getSsl().setAuthType(SSLDetails.AuthType.DEFAULT);
+
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setConnection(connection);
+        dsConfig.setEndpoints(List.of(endpoint));
+
+        return dsConfig;
+    }
+
+    private ActionConfiguration createFindActionConfiguration(String limit, String batchSize, Boolean fetchAll) {
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "FIND");
+        setDataValueSafelyInFormData(configMap, COLLECTION, COLLECTION_NAME);
+        setDataValueSafelyInFormData(configMap, FIND_SORT, "{ index: 1 }");
+        if (limit != null) {
+            setDataValueSafelyInFormData(configMap, FIND_LIMIT, limit);
+        }
+        if (batchSize != null) {
+            setDataValueSafelyInFormData(configMap, FIND_BATCH_SIZE, batchSize);
+        }
+        if (fetchAll != null) {
+            setDataValueSafelyInFormData(configMap, FIND_FETCH_ALL, fetchAll);
+        }
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+        return actionConfiguration;
+    }
+
+    private Mono<ActionExecutionResult> execute(MongoPlugin.MongoPluginExecutor executor,
+                                                ActionConfiguration actionConfiguration) {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        return executor.datasourceCreate(dsConfig)
+                .flatMap(conn -> executor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig,
+                        actionConfiguration));
+    }
+
+    @Test
+    public void testFindReadsPastFirstBatch() {
+        ActionConfiguration actionConfiguration = createFindActionConfiguration(String.valueOf(DOCUMENT_COUNT), "20", null);
+
+        StepVerifier.create(execute(pluginExecutor, actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    ArrayNode body = (ArrayNode) result.getBody();
+                    assertEquals(DOCUMENT_COUNT, body.size());
+                    for (int i = 0; i < DOCUMENT_COUNT; i++) {
+                        assertEquals(i, body.get(i).get("index").asInt());
+                    }
+                    assertTrue(result.getMessages() == null || result.getMessages().isEmpty());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindFetchAllTruncatedAtLimit() {
+        ActionConfiguration actionConfiguration = createFindActionConfiguration("100", "30", Boolean.TRUE);
+
+        StepVerifier.create(execute(pluginExecutor, actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    ArrayNode body = (ArrayNode) result.getBody();
+                    assertEquals(100, body.size());
+                    assertEquals(99, body.get(99).get("index").asInt());
+                    assertEquals(1, result.getMessages().size());
+                    assertTrue(result.getMessages().iterator().next().startsWith("Only the first 100 documents"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindFetchAllWithinLimit() {
+        ActionConfiguration actionConfiguration = createFindActionConfiguration(null, "50", Boolean.TRUE);
+
+        StepVerifier.create(execute(pluginExecutor, actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(DOCUMENT_COUNT, ((ArrayNode) result.getBody()).size());
+                    assertTrue(result.getMessages() == null || result.getMessages().isEmpty());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindResponseSizeCapped() {
+        MongoPlugin.MongoPluginExecutor smallResponseExecutor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig() {
+            @Override
+            public int getMaxResponseSize() {
+                return 64 * 1024;
+            }
+        });
+        ActionConfiguration actionConfiguration = createFindActionConfiguration(null, "50", Boolean.TRUE);
+
+        StepVerifier.create(execute(smallResponseExecutor, actionConfiguration))
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testAggregateWithOutStageReturnsNoDocuments() {
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "AGGREGATE");
+        setDataValueSafelyInFormData(configMap, COLLECTION, COLLECTION_NAME);
+        setDataValueSafelyInFormData(configMap, AGGREGATE_PIPELINES,
+                "[ { $match: { index: { $lt: 5 } } }, { $out: \"cursorItemsOut\" } ]");
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        StepVerifier.create(execute(pluginExecutor, actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(0, ((ArrayNode) result.getBody()).size());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(Mono.from(mongoClient.getDatabase("test").getCollection("cursorItemsOut").countDocuments()))
+                .assertNext(count -> assertEquals(5L, count))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindCursorPublisherKeepsQueryUnchanged() {
+        ActionConfiguration actionConfiguration = createFindActionConfiguration("10", null, null);
+        Find find = new Find(actionConfiguration);
+
+        find.getCursorPublisher(mongoClient.getDatabase("test"), 10, 10);
+
+        assertNull(find.getQuery());
+    }
+}
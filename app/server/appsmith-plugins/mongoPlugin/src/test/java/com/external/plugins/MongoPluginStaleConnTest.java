@@ -43,7 +43,7 @@ import reactor.test.StepVerifier;
 
 @Testcontainers
 public class MongoPluginStaleConnTest {
-    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor();
+    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig());
 
     private static String address;
     private static Integer port;
@@ -0,0 +1,123 @@
+package com.external.plugins.benchmarks;
+
+import com.external.plugins.utils.BsonToJsonNodeConverter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the conversion of a find command output to Jackson nodes through the extended JSON string, as it was done
+ * before, with the direct conversion of BsonToJsonNodeConverter.
+ * <p>
+ * Run with the test classpath, e.g. from the IDE, using the main method. Add <code>-prof gc</code> to the options to
+ * compare the allocation rates as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentConversionBenchmark {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Param({"10000"})
+    int documentCount;
+
+    Document commandOutput;
+
+    @Setup
+    public void setUp() {
+        List<Document> documents = new ArrayList<>(documentCount);
+        for (int i = 0; i < documentCount; i++) {
+            documents.add(new Document("_id", new ObjectId())
+                    .append("name", "User " + i)
+                    .append("age", i % 100)
+                    .append("luckyNumber", 987654321L + i)
+                    .append("dob", new Date(1546214400000L + i * 1000L))
+                    .append("netWorth", Decimal128.parse("123456.789012"))
+                    .append("address", new Document("street", "Street " + i).append("city", "City")
+                            .append("tags", List.of("a", "b", "c"))));
+        }
+        commandOutput = new Document("cursor", new Document("firstBatch", documents)).append("ok", 1.0);
+    }
+
+    @Benchmark
+    public JsonNode extendedJsonRoundTrip() throws Exception {
+        JSONObject outputJson = new JSONObject(commandOutput.toJson(new DocumentCodec()));
+        JSONArray outputResult = (JSONArray) cleanUp(outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
+        return objectMapper.readTree(outputResult.toString());
+    }
+
+    @Benchmark
+    public JsonNode directConversion() {
+        return BsonToJsonNodeConverter.toJsonNode(commandOutput.get("cursor", Document.class).get("firstBatch"));
+    }
+
+    // Normalisation that used to be applied to the extended JSON, kept here as the baseline.
+    private static Object cleanUp(Object object) {
+        if (object instanceof JSONObject) {
+            JSONObject jsonObject = (JSONObject) object;
+            final boolean isSingleKey = jsonObject.keySet().size() == 1;
+
+            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
+                return jsonObject.getBigInteger("$numberLong");
+            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
+                return jsonObject.getString("$oid");
+            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
+                return DateTimeFormatter.ISO_INSTANT.format(Instant.parse(jsonObject.getString("$date")));
+            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
+                return new BigDecimal(jsonObject.getString("$numberDecimal"));
+            } else {
+                for (String key : new HashSet<>(jsonObject.keySet())) {
+                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
+                }
+            }
+        } else if (object instanceof JSONArray) {
+            Collection<Object> cleaned = new ArrayList<>();
+            for (Object child : (JSONArray) object) {
+                cleaned.add(cleanUp(child));
+            }
+            return new JSONArray(cleaned);
+        }
+
+        return object;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DocumentConversionBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,81 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.DBRef;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BsonToJsonNodeConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testToJsonNode_withSpecialTypes_normalisesValues() throws Exception {
+        Document document = new Document("_id", new ObjectId("62b2e1b1d7c4b87e5a1a4a71"))
+                .append("name", "Cierra Vega")
+                .append("age", 20)
+                .append("luckyNumber", 987654321L)
+                .append("aLong", 9_000_000_000_000_000_000L)
+                .append("score", 4.5)
+                .append("dob", new Date(1546214400000L))
+                .append("oldDob", new Date(-493033770000L))
+                .append("netWorth", Decimal128.parse("123456.789012"))
+                .append("updatedByCommand", false)
+                .append("missing", null)
+                .append("tags", List.of("a", new Document("nested", new ObjectId("62b2e1b1d7c4b87e5a1a4a72"))));
+
+        JsonNode expectedNode = objectMapper.readTree("{" +
+                "\"_id\": \"62b2e1b1d7c4b87e5a1a4a71\"," +
+                "\"name\": \"Cierra Vega\"," +
+                "\"age\": 20," +
+                "\"luckyNumber\": 987654321," +
+                "\"aLong\": 9000000000000000000," +
+                "\"score\": 4.5," +
+                "\"dob\": \"2018-12-31T00:00:00Z\"," +
+                "\"oldDob\": \"1954-05-18T14:10:30Z\"," +
+                "\"netWorth\": 123456.789012," +
+                "\"updatedByCommand\": false," +
+                "\"missing\": null," +
+                "\"tags\": [\"a\", {\"nested\": \"62b2e1b1d7c4b87e5a1a4a72\"}]" +
+                "}");
+
+        JsonNode node = BsonToJsonNodeConverter.toJsonNode(document);
+
+        assertEquals(expectedNode.toString(), node.toString());
+        assertEquals("123456.789012", node.get("netWorth").toString());
+        assertTrue(node.get("age").isInt());
+        assertTrue(node.get("luckyNumber").isInt());
+        assertTrue(node.get("aLong").isLong());
+    }
+
+    @Test
+    void testToJsonNode_withDBRef_returnsReferenceObject() throws Exception {
+        JsonNode node = BsonToJsonNodeConverter.toJsonNode(new DBRef("test", "users", "1"));
+
+        assertEquals(objectMapper.readTree("{\"$db\":\"test\",\"$ref\":\"users\",\"$id\":\"1\"}"), node);
+    }
+
+    @Test
+    void testToJsonNode_withNonFiniteNumbers_returnsNonNumericNodes() {
+        assertEquals("{\"$numberDouble\":\"NaN\"}", BsonToJsonNodeConverter.toJsonNode(Double.NaN).toString());
+        assertEquals("\"Infinity\"", BsonToJsonNodeConverter.toJsonNode(Decimal128.POSITIVE_INFINITY).toString());
+        assertEquals("0", BsonToJsonNodeConverter.toJsonNode(Decimal128.NEGATIVE_ZERO).toString());
+    }
+
+    @Test
+    void testToJsonNode_withOtherTypes_returnsExtendedJson() throws Exception {
+        JsonNode node = BsonToJsonNodeConverter.toJsonNode(new BsonTimestamp(1421006159, 4));
+
+        assertEquals(objectMapper.readTree("{\"$timestamp\": {\"t\": 1421006159, \"i\": 4}}"), node);
+    }
+}
@@ -8,6 +8,8 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResultSetStreamer;
+import com.appsmith.external.helpers.RowSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -21,6 +23,7 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
@@ -33,6 +36,7 @@ import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
@@ -102,6 +106,12 @@ public class MssqlPlugin extends BasePlugin {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
+        private final SharedConfig sharedConfig;
+
+        public MssqlPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * to use PreparedStatement (if configured) which requires the variable substitution, etc. to happen in a particular format
@@ -129,24 +139,7 @@ public class MssqlPlugin extends BasePlugin {
                         "parameter: Query."));
             }
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                // In case the prepared statement configuration is missing, default to true
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null) {
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement = isPreparedStatement(actionConfiguration);
 
             // In case of non prepared statement, simply do binding replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
@@ -163,6 +156,127 @@ public class MssqlPlugin extends BasePlugin {
             return executeCommon(hikariDSConnection, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO);
         }
 
+        private Boolean isPreparedStatement(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
+                // In case the prepared statement configuration is missing, default to true
+                return true;
+            }
+
+            Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
+            if (psValue instanceof Boolean) {
+                return (Boolean) psValue;
+            } else if (psValue instanceof String) {
+                return Boolean.parseBoolean((String) psValue);
+            }
+
+            return true;
+        }
+
+        @Override
+        public boolean isStreamingSupported() {
+            return true;
+        }
+
+        /**
+         * Streams the rows of the query result from a database cursor instead of collecting them into the body of a
+         * single ActionExecutionResult. Variable substitution, prepared statements, the request and the hint messages
+         * work the same way as in
+         * {@link #executeParameterized(HikariDataSource, ExecuteActionDTO, DatasourceConfiguration, ActionConfiguration)}.
+         */
+        @Override
+        public Flux<ActionExecutionResult> executeParameterizedStreaming(HikariDataSource hikariDSConnection,
+                                                                         ExecuteActionDTO executeActionDTO,
+                                                                         DatasourceConfiguration datasourceConfiguration,
+                                                                         ActionConfiguration actionConfiguration) {
+
+            String query = actionConfiguration.getBody();
+            if (query == null) {
+                return Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "Missing required " +
+                        "parameter: Query."));
+            }
+
+            final Boolean preparedStatement = isPreparedStatement(actionConfiguration);
+            final Map<String, Object> requestData = new HashMap<>();
+            requestData.put("preparedStatement", TRUE.equals(preparedStatement));
+            final Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
+
+            final ResultSetStreamer.QueryExecutor queryExecutor;
+            if (FALSE.equals(preparedStatement)) {
+                prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+                query = actionConfiguration.getBody();
+                final String substitutedQuery = query;
+                queryExecutor = (sqlConnectionFromPool, fetchSize) -> {
+                    Statement statement = sqlConnectionFromPool.createStatement();
+                    statement.setFetchSize(fetchSize);
+                    statement.execute(substitutedQuery);
+                    return statement;
+                };
+            } else {
+                List<String> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+                query = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+                final String updatedQuery = query;
+                queryExecutor = (sqlConnectionFromPool, fetchSize) -> {
+                    PreparedStatement preparedQuery = sqlConnectionFromPool.prepareStatement(updatedQuery);
+                    List<Map.Entry<String, String>> parameters = new ArrayList<>();
+                    preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(preparedQuery,
+                            mustacheKeysInOrder,
+                            executeActionDTO.getParams(),
+                            parameters);
+
+                    requestData.put("ps-parameters", parameters);
+
+                    IntStream.range(0, parameters.size())
+                            .forEachOrdered(i ->
+                                    psParams.put(
+                                            getPSParamLabel(i + 1),
+                                            new PsParameterDTO(parameters.get(i).getKey(), parameters.get(i).getValue())));
+
+                    preparedQuery.setFetchSize(fetchSize);
+                    preparedQuery.execute();
+                    return preparedQuery;
+                };
+            }
+
+            // Same request as the one executeCommon returns. The prepared statement parameters are filled in once the
+            // query has been executed, which is before the first batch, and so the request, is emitted.
+            ActionExecutionRequest request = new ActionExecutionRequest();
+            request.setQuery(query);
+            request.setProperties(requestData);
+            request.setRequestParams(List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY,
+                    preparedStatement ? replaceQuestionMarkWithDollarIndex(query) : query, null, null, psParams)));
+
+            final List<String> columnsList = new ArrayList<>();
+            Flux<List<Map<String, Object>>> batches = ResultSetStreamer.stream(
+                    () -> {
+                        final Connection sqlConnectionFromPool;
+                        try {
+                            sqlConnectionFromPool = getConnectionFromConnectionPool(hikariDSConnection);
+                        } catch (SQLException e) {
+                            // Same as in executeCommon, a pool that can't hand out connections needs to be recreated.
+                            throw new StaleConnectionException();
+                        }
+
+                        if (sqlConnectionFromPool == null || sqlConnectionFromPool.isClosed() || !sqlConnectionFromPool.isValid(VALIDITY_CHECK_TIMEOUT)) {
+                            log.info("Encountered stale connection in MsSQL plugin. Reporting back.");
+                            if (sqlConnectionFromPool != null) {
+                                sqlConnectionFromPool.close();
+                            }
+                            throw new StaleConnectionException();
+                        }
+
+                        return sqlConnectionFromPool;
+                    },
+                    queryExecutor,
+                    this::getRow,
+                    columnsList::addAll,
+                    sharedConfig.getMaxResponseSize(),
+                    scheduler);
+
+            return ResultSetStreamer.toActionExecutionResults(batches, objectMapper, request,
+                    () -> populateHintMessages(columnsList));
+        }
+
         public Mono<ActionExecutionResult> executeCommon(HikariDataSource hikariDSConnection,
                                                          ActionConfiguration actionConfiguration,
                                                          Boolean preparedStatement,
@@ -258,51 +372,20 @@ public class MssqlPlugin extends BasePlugin {
                                 rowsList.add(Map.of("affectedRows", updateCount));
                             } else {
                                 ResultSetMetaData metaData = resultSet.getMetaData();
-                                int colCount = metaData.getColumnCount();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
+                                final int maxSizeSupported = sharedConfig.getMaxResponseSize();
+                                RowSizeEstimator rowSizeEstimator = new RowSizeEstimator(maxSizeSupported);
                                 while (resultSet.next()) {
-                                    // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                                    Map<String, Object> row = new LinkedHashMap<>(colCount);
+                                    Map<String, Object> row = getRow(resultSet);
 
-                                    for (int i = 1; i <= colCount; i++) {
-                                        Object value;
-                                        final String typeName = metaData.getColumnTypeName(i);
-
-                                        if (resultSet.getObject(i) == null) {
-                                            value = null;
-
-                                        } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
-
-                                        } else if ("timestamp".equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    LocalDateTime.of(
-                                                            resultSet.getDate(i).toLocalDate(),
-                                                            resultSet.getTime(i).toLocalTime()
-                                                    )
-                                            ) + "Z";
-
-                                        } else if ("timestamptz".equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    resultSet.getObject(i, OffsetDateTime.class)
-                                            );
-
-                                        } else if ("time".equalsIgnoreCase(typeName) || "timetz".equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getString(i);
-
-                                        } else if ("interval".equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getObject(i).toString();
-
-                                        } else {
-                                            value = resultSet.getObject(i);
-
-                                        }
+                                    rowsList.add(row);
 
-                                        row.put(metaData.getColumnName(i), value);
+                                    if (!rowSizeEstimator.add(row)) {
+                                        log.debug("[MssqlPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                                maxSizeSupported, rowSizeEstimator.getSize());
+                                        return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED, (float) (maxSizeSupported / (1024 * 1024))));
                                     }
-
-                                    rowsList.add(row);
                                 }
 
                             }
@@ -370,6 +453,53 @@ public class MssqlPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        private Map<String, Object> getRow(ResultSet resultSet) throws SQLException {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int colCount = metaData.getColumnCount();
+
+            // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
+            Map<String, Object> row = new LinkedHashMap<>(colCount);
+
+            for (int i = 1; i <= colCount; i++) {
+                Object value;
+                final String typeName = metaData.getColumnTypeName(i);
+
+                if (resultSet.getObject(i) == null) {
+                    value = null;
+
+                } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
+
+                } else if ("timestamp".equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(
+                            LocalDateTime.of(
+                                    resultSet.getDate(i).toLocalDate(),
+                                    resultSet.getTime(i).toLocalTime()
+                            )
+                    ) + "Z";
+
+                } else if ("timestamptz".equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(
+                            resultSet.getObject(i, OffsetDateTime.class)
+                    );
+
+                } else if ("time".equalsIgnoreCase(typeName) || "timetz".equalsIgnoreCase(typeName)) {
+                    value = resultSet.getString(i);
+
+                } else if ("interval".equalsIgnoreCase(typeName)) {
+                    value = resultSet.getObject(i).toString();
+
+                } else {
+                    value = resultSet.getObject(i);
+
+                }
+
+                row.put(metaData.getColumnName(i), value);
+            }
+
+            return row;
+        }
+
         private  Set<String> populateHintMessages(List<String> columnNames) {
 
             Set<String> messages = new HashSet<>();
@@ -25,11 +25,14 @@ import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.external.plugins.datatypes.MySQLSpecificDataTypes;
 import com.external.utils.QueryUtils;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.spi.ColumnMetadata;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactories;
 import io.r2dbc.spi.ConnectionFactoryOptions;
 import io.r2dbc.spi.Option;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
 import io.r2dbc.spi.Result;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
@@ -45,7 +48,9 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
+import java.nio.channels.ClosedChannelException;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -62,7 +67,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -81,7 +85,13 @@ public class MySqlPlugin extends BasePlugin {
     private static final String DATE_COLUMN_TYPE_NAME = "date";
     private static final String DATETIME_COLUMN_TYPE_NAME = "datetime";
     private static final String TIMESTAMP_COLUMN_TYPE_NAME = "timestamp";
-    private static final int VALIDATION_CHECK_TIMEOUT = 4; // seconds
+    private static final int MINIMUM_POOL_SIZE = 1;
+    private static final int MAXIMUM_POOL_SIZE = 5;
+    static final String MINIMUM_POOL_SIZE_PROPERTY = "minimumPoolSize";
+    static final String MAXIMUM_POOL_SIZE_PROPERTY = "maximumPoolSize";
+    private static final Duration MAX_IDLE_TIME = Duration.ofMinutes(10);
+    private static final Duration MAX_LIFE_TIME = Duration.ofMinutes(30);
+    private static final Duration BACKGROUND_EVICTION_INTERVAL = Duration.ofMinutes(2);
     private static final String IS_KEY = "is";
 
     /**
@@ -136,12 +146,47 @@ public class MySqlPlugin extends BasePlugin {
             "  and i.constraint_type in ('FOREIGN KEY', 'PRIMARY KEY')\n" +
             "order by i.table_name, i.constraint_name, k.position_in_unique_constraint;";
 
+    /**
+     * Errors that mean the connection to the server is broken, as opposed to errors in the query itself. The execution
+     * is retried once on another connection from the same pool. The pool validates its connections on acquisition and
+     * drops the broken ones, so the healthy connections of the pool are kept.
+     */
+    static boolean isConnectionError(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof R2dbcNonTransientResourceException || cause instanceof ClosedChannelException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Pool sizes can be set in the MySQL specific parameters of the datasource, the defaults are used otherwise.
+     *
+     * @return the value of the property, or the default value if it's not set
+     * @throws NumberFormatException if the property is set to something other than a number
+     */
+    static int getPoolSize(List<Property> properties, String key, int defaultValue) {
+        if (properties == null) {
+            return defaultValue;
+        }
+
+        for (Property property : properties) {
+            if (property != null && key.equals(property.getKey()) && !StringUtils.isEmpty(property.getValue())) {
+                return Integer.parseInt(property.getValue().toString().trim());
+            }
+        }
+
+        return defaultValue;
+    }
+
     public MySqlPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
 
     @Extension
-    public static class MySqlPluginExecutor implements PluginExecutor<Connection>, SmartSubstitutionInterface {
+    public static class MySqlPluginExecutor implements PluginExecutor<ConnectionPool>, SmartSubstitutionInterface {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
         private final Scheduler scheduler = Schedulers.elastic();
@@ -152,8 +197,8 @@ public class MySqlPlugin extends BasePlugin {
          * supported by PreparedStatement. In case of PreparedStatement turned off, the action and datasource configurations are
          * prepared (binding replacement) using PluginExecutor.variableSubstitution
          *
-         * @param connection              : This is the connection that is established to the data source. This connection is according
-         *                                to the parameters in Datasource Configuration
+         * @param connectionPool          : This is the connection pool that is established to the data source. The connections are
+         *                                according to the parameters in Datasource Configuration
          * @param executeActionDTO        : This is the data structure sent by the client during execute. This contains the params
          *                                which would be used for substitution
          * @param datasourceConfiguration : These are the configurations which have been used to create a Datasource from a Plugin
@@ -161,7 +206,7 @@ public class MySqlPlugin extends BasePlugin {
          * @return
          */
         @Override
-        public Mono<ActionExecutionResult> executeParameterized(Connection connection,
+        public Mono<ActionExecutionResult> executeParameterized(ConnectionPool connectionPool,
                                                                 ExecuteActionDTO executeActionDTO,
                                                                 DatasourceConfiguration datasourceConfiguration,
                                                                 ActionConfiguration actionConfiguration) {
@@ -209,7 +254,7 @@ public class MySqlPlugin extends BasePlugin {
             // In case of non prepared statement, simply do binding replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
                 prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
-                return executeCommon(connection, actionConfiguration, FALSE, null, null, requestData);
+                return executeCommon(connectionPool, actionConfiguration, FALSE, null, null, requestData);
             }
 
             //This has to be executed as Prepared Statement
@@ -219,10 +264,10 @@ public class MySqlPlugin extends BasePlugin {
             String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
             // Set the query with bindings extracted and replaced with '?' back in config
             actionConfiguration.setBody(updatedQuery);
-            return executeCommon(connection, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO, requestData);
+            return executeCommon(connectionPool, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO, requestData);
         }
 
-        public Mono<ActionExecutionResult> executeCommon(Connection connection,
+        public Mono<ActionExecutionResult> executeCommon(ConnectionPool connectionPool,
                                                          ActionConfiguration actionConfiguration,
                                                          Boolean preparedStatement,
                                                          List<String> mustacheValuesInOrder,
@@ -259,58 +304,73 @@ public class MySqlPlugin extends BasePlugin {
             List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY,
                     transformedQuery, null, null, psParams));
 
-            // TODO: need to write a JUnit TC for VALIDATION_CHECK_TIMEOUT
-            Flux<Result> resultFlux = Mono.from(connection.validate(ValidationDepth.REMOTE))
-                    .timeout(Duration.ofSeconds(VALIDATION_CHECK_TIMEOUT))
-                    .onErrorMap(TimeoutException.class, error -> new StaleConnectionException())
-                    .flatMapMany(isValid -> {
-                        if (isValid) {
-                            return createAndExecuteQueryFromConnection(finalQuery,
-                                    connection,
-                                    preparedStatement,
-                                    mustacheValuesInOrder,
-                                    executeActionDTO,
-                                    requestData,
-                                    psParams);
-                        }
-                        return Flux.error(new StaleConnectionException());
-                    });
-
-            Mono<List<Map<String, Object>>> resultMono;
-
-            if (isSelectOrShowOrDescQuery) {
-                resultMono = resultFlux
-                        .flatMap(result ->
-                                result.map((row, meta) -> {
-                                            rowsList.add(getRow(row, meta));
+            if (connectionPool.isDisposed()) {
+                log.debug("Encountered stale connection pool in MySQL plugin. Reporting back.");
+                return Mono.error(new StaleConnectionException());
+            }
 
-                                            if (columnsList.isEmpty()) {
-                                                columnsList.addAll(meta.getColumnNames());
-                                            }
+            printPoolStats(connectionPool, finalQuery);
 
-                                            return result;
-                                        }
-                                )
-                        )
-                        .collectList()
-                        .thenReturn(rowsList);
-            } else {
-                resultMono = resultFlux
-                        .flatMap(Result::getRowsUpdated)
-                        .collectList()
-                        .flatMap(list -> Mono.just(list.get(list.size() - 1)))
-                        .map(rowsUpdated -> {
-                            rowsList.add(
-                                    Map.of(
-                                            "affectedRows",
-                                            ObjectUtils.defaultIfNull(rowsUpdated, 0)
+            /**
+             * Connections are validated locally by the pool on acquisition and connections that turn out to be broken
+             * are evicted individually, hence there is no round trip to the server for validation before each query.
+             * The connection is returned to the pool once the results have been consumed.
+             */
+            Mono<List<Map<String, Object>>> resultMono = Mono.usingWhen(
+                    connectionPool.create(),
+                    connection -> {
+                        // Rows read on a broken connection before the retry are dropped
+                        rowsList.clear();
+                        columnsList.clear();
+
+                        Flux<Result> resultFlux = createAndExecuteQueryFromConnection(finalQuery,
+                                connection,
+                                preparedStatement,
+                                mustacheValuesInOrder,
+                                executeActionDTO,
+                                requestData,
+                                psParams);
+
+                        if (isSelectOrShowOrDescQuery) {
+                            return resultFlux
+                                    .flatMap(result ->
+                                            result.map((row, meta) -> {
+                                                        rowsList.add(getRow(row, meta));
+
+                                                        if (columnsList.isEmpty()) {
+                                                            columnsList.addAll(meta.getColumnNames());
+                                                        }
+
+                                                        return result;
+                                                    }
+                                            )
                                     )
-                            );
-                            return rowsList;
-                        });
-            }
+                                    .collectList()
+                                    .thenReturn(rowsList);
+                        }
+
+                        return resultFlux
+                                .flatMap(Result::getRowsUpdated)
+                                .collectList()
+                                .flatMap(list -> Mono.just(list.get(list.size() - 1)))
+                                .map(rowsUpdated -> {
+                                    rowsList.add(
+                                            Map.of(
+                                                    "affectedRows",
+                                                    ObjectUtils.defaultIfNull(rowsUpdated, 0)
+                                            )
+                                    );
+                                    return rowsList;
+                                });
+                    },
+                    Connection::close);
 
             return resultMono
+                    .retryWhen(retryOnBrokenConnection())
+                    .onErrorMap(error -> connectionPool.isDisposed(), error -> {
+                        log.debug("MySQL connection pool was disposed during the execution. Reporting back as stale.", error);
+                        return new StaleConnectionException(error.getMessage(), error);
+                    })
                     .map(res -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         result.setBody(objectMapper.valueToTree(rowsList));
@@ -342,6 +402,25 @@ public class MySqlPlugin extends BasePlugin {
 
         }
 
+        /**
+         * Retries once when the connection turned out to be broken. The failed connection is closed, which returns it to
+         * the pool, and the pool evicts it on the next acquisition as it fails the validation.
+         */
+        private Retry retryOnBrokenConnection() {
+            return Retry.max(1)
+                    .filter(MySqlPlugin::isConnectionError)
+                    .doBeforeRetry(signal -> log.debug("Encountered a broken connection in MySQL plugin. Retrying on " +
+                            "another connection from the pool.", signal.failure()))
+                    .onRetryExhaustedThrow((retrySpec, signal) -> signal.failure());
+        }
+
+        private void printPoolStats(ConnectionPool connectionPool, String query) {
+            connectionPool.getMetrics().ifPresent(metrics ->
+                    log.debug("Before executing MySQL query [{}] r2dbc pool stats : active - {} , idle - {} , awaiting - {} , total - {}",
+                            query, metrics.acquiredSize(), metrics.idleSize(), metrics.pendingAcquireSize(),
+                            metrics.allocatedSize()));
+        }
+
         boolean isIsOperatorUsed(String query) {
             String queryKeyWordsOnly = query.replaceAll(MATCH_QUOTED_WORDS_REGEX, "");
             return Arrays.stream(queryKeyWordsOnly.split("\\s"))
@@ -499,13 +578,13 @@ public class MySqlPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<ActionExecutionResult> execute(Connection connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
+        public Mono<ActionExecutionResult> execute(ConnectionPool connectionPool, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
             // Unused function
             return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Unsupported Operation"));
         }
 
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<ConnectionPool> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
 
             StringBuilder urlBuilder = new StringBuilder();
@@ -590,19 +669,35 @@ public class MySqlPlugin extends BasePlugin {
                     );
             }
 
-            return (Mono<Connection>) Mono.from(ConnectionFactories.get(ob.build()).create())
-                    .onErrorResume(exception -> Mono.error(new AppsmithPluginException(
-                            AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
-                            exception
-                    )))
+            ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration
+                    .builder(ConnectionFactories.get(ob.build()))
+                    .initialSize(getPoolSize(dsProperties, MINIMUM_POOL_SIZE_PROPERTY, MINIMUM_POOL_SIZE))
+                    .maxSize(getPoolSize(dsProperties, MAXIMUM_POOL_SIZE_PROPERTY, MAXIMUM_POOL_SIZE))
+                    .maxIdleTime(MAX_IDLE_TIME)
+                    .maxLifeTime(MAX_LIFE_TIME)
+                    .backgroundEvictionInterval(BACKGROUND_EVICTION_INTERVAL)
+                    .validationDepth(ValidationDepth.LOCAL)
+                    .build();
+            ConnectionPool connectionPool = new ConnectionPool(poolConfiguration);
+
+            // Warm the pool up so that invalid datasource configurations are reported right away.
+            return connectionPool.warmup()
+                    .thenReturn(connectionPool)
+                    .onErrorResume(exception -> {
+                        connectionPool.dispose();
+                        return Mono.error(new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                                exception
+                        ));
+                    })
                     .subscribeOn(scheduler);
         }
 
         @Override
-        public void datasourceDestroy(Connection connection) {
+        public void datasourceDestroy(ConnectionPool connectionPool) {
 
-            if (connection != null) {
-                Mono.from(connection.close())
+            if (connectionPool != null) {
+                connectionPool.disposeLater()
                         .onErrorResume(exception -> {
                             log.debug("In datasourceDestroy function error mode.", exception);
                             return Mono.empty();
@@ -665,6 +760,19 @@ public class MySqlPlugin extends BasePlugin {
                         "Please reach out to Appsmith customer support to resolve this.");
             }
 
+            try {
+                int minimumPoolSize = getPoolSize(datasourceConfiguration.getProperties(), MINIMUM_POOL_SIZE_PROPERTY,
+                        MINIMUM_POOL_SIZE);
+                int maximumPoolSize = getPoolSize(datasourceConfiguration.getProperties(), MAXIMUM_POOL_SIZE_PROPERTY,
+                        MAXIMUM_POOL_SIZE);
+                if (minimumPoolSize < 0 || maximumPoolSize < 1 || minimumPoolSize > maximumPoolSize) {
+                    invalids.add("Connection pool sizes must satisfy 0 <= minimum pool size <= maximum pool size, " +
+                            "with a maximum pool size of at least 1.");
+                }
+            } catch (NumberFormatException e) {
+                invalids.add("Connection pool sizes must be whole numbers.");
+            }
+
             return invalids;
         }
 
@@ -814,38 +922,42 @@ public class MySqlPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+        public Mono<DatasourceStructure> getStructure(ConnectionPool connectionPool, DatasourceConfiguration datasourceConfiguration) {
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
 
-            return Mono.from(connection.validate(ValidationDepth.REMOTE))
-                    .timeout(Duration.ofSeconds(VALIDATION_CHECK_TIMEOUT))
-                    .onErrorMap(TimeoutException.class, error -> new StaleConnectionException())
-                    .flatMapMany(isValid -> {
-                        if (isValid) {
-                            return connection.createStatement(COLUMNS_QUERY).execute();
-                        } else {
-                            return Flux.error(new StaleConnectionException());
-                        }
-                    })
-                    .flatMap(result -> {
-                        return result.map((row, meta) -> {
-                            getTableInfo(row, meta, tablesByName);
+            if (connectionPool.isDisposed()) {
+                log.debug("Encountered stale connection pool in MySQL plugin. Reporting back.");
+                return Mono.error(new StaleConnectionException());
+            }
 
-                            return result;
-                        });
-                    })
-                    .collectList()
-                    .thenMany(Flux.from(connection.createStatement(KEYS_QUERY).execute()))
-                    .flatMap(result -> {
-                        return result.map((row, meta) -> {
-                            getKeyInfo(row, meta, tablesByName, keyRegistry);
-
-                            return result;
-                        });
-                    })
-                    .collectList()
+            return Mono.usingWhen(
+                            connectionPool.create(),
+                            connection -> Mono.fromRunnable(() -> {
+                                        // Tables read on a broken connection before the retry are dropped
+                                        tablesByName.clear();
+                                        keyRegistry.clear();
+                                    })
+                                    .thenMany(connection.createStatement(COLUMNS_QUERY).execute())
+                                    .flatMap(result -> {
+                                        return result.map((row, meta) -> {
+                                            getTableInfo(row, meta, tablesByName);
+
+                                            return result;
+                                        });
+                                    })
+                                    .collectList()
+                                    .thenMany(Flux.from(connection.createStatement(KEYS_QUERY).execute()))
+                                    .flatMap(result -> {
+                                        return result.map((row, meta) -> {
+                                            getKeyInfo(row, meta, tablesByName, keyRegistry);
+
+                                            return result;
+                                        });
+                                    })
+                                    .collectList(),
+                            Connection::close)
                     .map(list -> {
                         /* Get templates for each table and put those in. */
                         getTemplates(tablesByName);
@@ -856,6 +968,9 @@ public class MySqlPlugin extends BasePlugin {
 
                         return structure;
                     })
+                    .retryWhen(retryOnBrokenConnection())
+                    .onErrorMap(error -> connectionPool.isDisposed(),
+                            error -> new StaleConnectionException(error.getMessage(), error))
                     .onErrorMap(e -> {
                         if (!(e instanceof AppsmithPluginException) && !(e instanceof StaleConnectionException)) {
                             return new AppsmithPluginException(
@@ -19,10 +19,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
-import io.r2dbc.spi.Connection;
+import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.spi.ConnectionFactories;
 import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.R2dbcBadGrammarException;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -35,6 +38,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.channels.ClosedChannelException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -49,6 +53,7 @@ import java.util.stream.Stream;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -89,6 +94,9 @@ public class MySqlPluginTest {
         private static String database;
         private static DatasourceConfiguration dsConfig;
 
+        // Pools created by a test, disposed after it so that the tests don't leave connections open on the container
+        private final List<ConnectionPool> createdConnectionPools = new ArrayList<>();
+
         @BeforeAll
         public static void setUp() {
                 address = mySQLContainer.getContainerIpAddress();
@@ -153,6 +161,17 @@ public class MySqlPluginTest {
                 return;
         }
 
+        @AfterEach
+        public void disposeConnectionPools() {
+                createdConnectionPools.forEach(ConnectionPool::dispose);
+                createdConnectionPools.clear();
+        }
+
+        private Mono<ConnectionPool> createConnectionPool(DatasourceConfiguration datasourceConfiguration) {
+                return pluginExecutor.datasourceCreate(datasourceConfiguration)
+                                .doOnNext(createdConnectionPools::add);
+        }
+
         private static DatasourceConfiguration createDatasourceConfiguration() {
                 DBAuth authDTO = new DBAuth();
                 authDTO.setAuthType(DBAuth.Type.USERNAME_PASSWORD);
@@ -181,7 +200,7 @@ public class MySqlPluginTest {
         @Test
         public void testConnectMySQLContainer() {
 
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 StepVerifier.create(dsConnectionMono)
                                 .assertNext(Assertions::assertNotNull)
@@ -195,7 +214,7 @@ public class MySqlPluginTest {
                 dsConfig.setProperties(List.of(
                                 new Property("serverTimezone", "UTC")));
 
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 StepVerifier.create(dsConnectionMono)
                                 .assertNext(Assertions::assertNotNull)
@@ -284,7 +303,7 @@ public class MySqlPluginTest {
                 Set<String> output = pluginExecutor.validateDatasource(dsConfig);
                 assertTrue(output.isEmpty());
                 // test connect
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 StepVerifier.create(dsConnectionMono)
                                 .assertNext(Assertions::assertNotNull)
@@ -310,7 +329,7 @@ public class MySqlPluginTest {
                 Set<String> output = pluginExecutor.validateDatasource(dsConfig);
                 assertTrue(output.isEmpty());
                 // test connect
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 StepVerifier.create(dsConnectionMono)
                                 .assertNext(Assertions::assertNotNull)
@@ -326,7 +345,7 @@ public class MySqlPluginTest {
 
         @Test
         public void testExecute() {
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("show databases");
@@ -346,7 +365,7 @@ public class MySqlPluginTest {
         @Test
         public void testExecuteWithFormattingWithShowCmd() {
                 dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("show\n\tdatabases");
@@ -368,7 +387,7 @@ public class MySqlPluginTest {
         @Test
         public void testExecuteWithFormattingWithSelectCmd() {
                 dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("select\n\t*\nfrom\nusers where id=1");
@@ -410,10 +429,10 @@ public class MySqlPluginTest {
         public void testStaleConnectionCheck() {
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("show databases");
-                Connection connection = pluginExecutor.datasourceCreate(dsConfig).block();
+                ConnectionPool connectionPool = createConnectionPool(dsConfig).block();
 
-                Flux<ActionExecutionResult> resultFlux = Mono.from(connection.close())
-                                .thenMany(pluginExecutor.executeParameterized(connection, new ExecuteActionDTO(),
+                Flux<ActionExecutionResult> resultFlux = connectionPool.disposeLater()
+                                .thenMany(pluginExecutor.executeParameterized(connectionPool, new ExecuteActionDTO(),
                                                 dsConfig, actionConfiguration));
 
                 StepVerifier.create(resultFlux)
@@ -421,6 +440,158 @@ public class MySqlPluginTest {
                                 .verify();
         }
 
+        @Test
+        public void testStaleConnectionPool_recoversWithNewPool() {
+                ActionConfiguration actionConfiguration = new ActionConfiguration();
+                actionConfiguration.setBody("SELECT 1 AS one");
+                ConnectionPool stalePool = createConnectionPool(dsConfig).block();
+                stalePool.dispose();
+
+                // The server destroys the stale context and retries once with a freshly created pool
+                Mono<ActionExecutionResult> retriedMono = pluginExecutor
+                                .executeParameterized(stalePool, new ExecuteActionDTO(), dsConfig, actionConfiguration)
+                                .onErrorResume(StaleConnectionException.class, error -> {
+                                        pluginExecutor.datasourceDestroy(stalePool);
+                                        return createConnectionPool(dsConfig)
+                                                        .flatMap(freshPool -> pluginExecutor.executeParameterized(freshPool,
+                                                                        new ExecuteActionDTO(), dsConfig, actionConfiguration));
+                                });
+
+                StepVerifier.create(retriedMono)
+                                .assertNext(result -> {
+                                        assertTrue(result.getIsExecutionSuccess());
+                                        assertEquals("1", ((ArrayNode) result.getBody()).get(0).get("one").asText());
+                                })
+                                .verifyComplete();
+        }
+
+        @Test
+        public void testExecute_sequentialExecutions_reuseOnePooledConnection() {
+                ActionConfiguration actionConfiguration = new ActionConfiguration();
+                actionConfiguration.setBody("SELECT CONNECTION_ID() AS connection_id");
+                ConnectionPool connectionPool = createConnectionPool(dsConfig).block();
+
+                Set<String> connectionIds = new HashSet<>();
+                for (int i = 0; i < 10; i++) {
+                        ActionExecutionResult result = pluginExecutor.executeParameterized(connectionPool,
+                                        new ExecuteActionDTO(), dsConfig, actionConfiguration).block();
+                        assertTrue(result.getIsExecutionSuccess());
+                        connectionIds.add(((ArrayNode) result.getBody()).get(0).get("connection_id").asText());
+                }
+
+                assertEquals(1, connectionIds.size());
+                assertEquals(1, connectionPool.getMetrics().get().allocatedSize());
+        }
+
+        @Test
+        public void testExecute_moreConcurrentExecutionsThanPoolSize_allSucceed() {
+                ActionConfiguration actionConfiguration = new ActionConfiguration();
+                actionConfiguration.setBody("SELECT SLEEP(0.2) AS slept, CONNECTION_ID() AS connection_id");
+                ConnectionPool connectionPool = createConnectionPool(dsConfig).block();
+                int maxPoolSize = connectionPool.getMetrics().get().getMaxAllocatedSize();
+
+                List<ActionExecutionResult> results = Flux.range(0, 4 * maxPoolSize)
+                                .flatMap(i -> pluginExecutor.executeParameterized(connectionPool,
+                                                new ExecuteActionDTO(), dsConfig, actionConfiguration), 4 * maxPoolSize)
+                                .collectList()
+                                .block();
+
+                assertEquals(4 * maxPoolSize, results.size());
+                Set<String> connectionIds = new HashSet<>();
+                for (ActionExecutionResult result : results) {
+                        assertTrue(result.getIsExecutionSuccess());
+                        connectionIds.add(((ArrayNode) result.getBody()).get(0).get("connection_id").asText());
+                }
+                // Executions waited for a pooled connection instead of opening new ones
+                assertTrue(connectionIds.size() > 1);
+                assertTrue(connectionIds.size() <= maxPoolSize);
+        }
+
+        @Test
+        public void testIsConnectionError() {
+                assertTrue(MySqlPlugin.isConnectionError(new R2dbcNonTransientResourceException("Connection closed")));
+                assertTrue(MySqlPlugin.isConnectionError(
+                                new RuntimeException(new ClosedChannelException())));
+                assertFalse(MySqlPlugin.isConnectionError(
+                                new R2dbcBadGrammarException("You have an error in your SQL syntax")));
+        }
+
+        @Test
+        public void testExecute_brokenConnection_recoversOnSamePool() {
+                ActionConfiguration actionConfiguration = new ActionConfiguration();
+                actionConfiguration.setBody("SELECT CONNECTION_ID() AS connection_id");
+                ConnectionPool connectionPool = createConnectionPool(dsConfig).block();
+
+                ActionExecutionResult firstResult = pluginExecutor.executeParameterized(connectionPool,
+                                new ExecuteActionDTO(), dsConfig, actionConfiguration).block();
+                String brokenConnectionId = ((ArrayNode) firstResult.getBody()).get(0).get("connection_id").asText();
+
+                // Break the pooled connection from the server side
+                ActionConfiguration killConfiguration = new ActionConfiguration();
+                killConfiguration.setBody("KILL " + brokenConnectionId);
+                ConnectionPool otherPool = createConnectionPool(dsConfig).block();
+                assertTrue(pluginExecutor.executeParameterized(otherPool, new ExecuteActionDTO(), dsConfig,
+                                killConfiguration).block().getIsExecutionSuccess());
+
+                StepVerifier.create(pluginExecutor.executeParameterized(connectionPool, new ExecuteActionDTO(), dsConfig,
+                                                actionConfiguration))
+                                .assertNext(result -> {
+                                        assertTrue(result.getIsExecutionSuccess());
+                                        assertNotEquals(brokenConnectionId,
+                                                        ((ArrayNode) result.getBody()).get(0).get("connection_id").asText());
+                                })
+                                .verifyComplete();
+                assertFalse(connectionPool.isDisposed());
+        }
+
+        @Test
+        public void testDatasourceCreate_poolSizesFromProperties() {
+                DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+                datasourceConfiguration.setProperties(List.of(
+                                new Property("serverTimezone", ""),
+                                new Property(MySqlPlugin.MINIMUM_POOL_SIZE_PROPERTY, "2"),
+                                new Property(MySqlPlugin.MAXIMUM_POOL_SIZE_PROPERTY, "3")));
+
+                StepVerifier.create(createConnectionPool(datasourceConfiguration))
+                                .assertNext(connectionPool -> {
+                                        assertEquals(3, connectionPool.getMetrics().get().getMaxAllocatedSize());
+                                        assertEquals(2, connectionPool.getMetrics().get().allocatedSize());
+                                })
+                                .verifyComplete();
+        }
+
+        @Test
+        public void testGetPoolSize() {
+                assertEquals(5, MySqlPlugin.getPoolSize(null, MySqlPlugin.MAXIMUM_POOL_SIZE_PROPERTY, 5));
+                assertEquals(5, MySqlPlugin.getPoolSize(List.of(new Property("serverTimezone", "UTC")),
+                                MySqlPlugin.MAXIMUM_POOL_SIZE_PROPERTY, 5));
+                assertEquals(5, MySqlPlugin.getPoolSize(List.of(new Property(MySqlPlugin.MAXIMUM_POOL_SIZE_PROPERTY, "")),
+                                MySqlPlugin.MAXIMUM_POOL_SIZE_PROPERTY, 5));
+                assertEquals(8, MySqlPlugin.getPoolSize(List.of(new Property(MySqlPlugin.MAXIMUM_POOL_SIZE_PROPERTY, " 8 ")),
+                                MySqlPlugin.MAXIMUM_POOL_SIZE_PROPERTY, 5));
+        }
+
+        @Test
+        public void testValidateDatasource_invalidPoolSizes() {
+                DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+
+                datasourceConfiguration.setProperties(List.of(
+                                new Property(MySqlPlugin.MINIMUM_POOL_SIZE_PROPERTY, "6"),
+                                new Property(MySqlPlugin.MAXIMUM_POOL_SIZE_PROPERTY, "5")));
+                assertTrue(pluginExecutor.validateDatasource(datasourceConfiguration).stream()
+                                .anyMatch(invalid -> invalid.startsWith("Connection pool sizes must satisfy")));
+
+                datasourceConfiguration.setProperties(List.of(
+                                new Property(MySqlPlugin.MAXIMUM_POOL_SIZE_PROPERTY, "five")));
+                assertTrue(pluginExecutor.validateDatasource(datasourceConfiguration)
+                                .contains("Connection pool sizes must be whole numbers."));
+
+                datasourceConfiguration.setProperties(List.of(
+                                new Property(MySqlPlugin.MINIMUM_POOL_SIZE_PROPERTY, "0"),
+                                new Property(MySqlPlugin.MAXIMUM_POOL_SIZE_PROPERTY, "10")));
+                assertTrue(pluginExecutor.validateDatasource(datasourceConfiguration).isEmpty());
+        }
+
         @Test
         public void testValidateDatasourceNullCredentials() {
                 dsConfig.setConnection(new com.appsmith.external.models.Connection());
@@ -477,7 +648,7 @@ public class MySqlPluginTest {
         @Test
         public void testAliasColumnNames() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("SELECT id as user_id FROM users WHERE id = 1");
@@ -506,7 +677,7 @@ public class MySqlPluginTest {
         @Test
         public void testPreparedStatementErrorWithIsKeyword() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 /**
@@ -563,7 +734,7 @@ public class MySqlPluginTest {
                                 .blockLast(); // wait until completion of all the queries
 
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 /**
@@ -639,7 +810,7 @@ public class MySqlPluginTest {
                                 .blockLast(); // wait until completion of all the queries
 
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("SELECT id FROM test_boolean_type WHERE c_boolean={{binding1}};");
@@ -681,7 +852,7 @@ public class MySqlPluginTest {
         @Test
         public void testExecuteWithPreparedStatement() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration
@@ -764,7 +935,7 @@ public class MySqlPluginTest {
         @Test
         public void testExecuteDataTypes() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("SELECT * FROM users WHERE id = 1");
@@ -902,7 +1073,7 @@ public class MySqlPluginTest {
         }
 
         private void testExecute(String query) {
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody(query);
                 Mono<Object> executeMono = dsConnectionMono.flatMap(conn -> pluginExecutor.executeParameterized(conn,
@@ -920,7 +1091,7 @@ public class MySqlPluginTest {
         @Test
         public void testStructure() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<DatasourceStructure> structureMono = pluginExecutor.datasourceCreate(dsConfig)
+                Mono<DatasourceStructure> structureMono = createConnectionPool(dsConfig)
                                 .flatMap(connection -> pluginExecutor.getStructure(connection, dsConfig));
 
                 StepVerifier.create(structureMono)
@@ -1096,7 +1267,7 @@ public class MySqlPluginTest {
 
                 DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
                 datasourceConfiguration.getConnection().getSsl().setAuthType(SSLDetails.AuthType.DISABLED);
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(datasourceConfiguration);
                 Mono<Object> executeMono = dsConnectionMono
                                 .flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(),
                                                 dsConfig,
@@ -1121,7 +1292,7 @@ public class MySqlPluginTest {
 
                 DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
                 datasourceConfiguration.getConnection().getSsl().setAuthType(SSLDetails.AuthType.REQUIRED);
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(datasourceConfiguration);
                 Mono<Object> executeMono = dsConnectionMono
                                 .flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(),
                                                 dsConfig,
@@ -1146,7 +1317,7 @@ public class MySqlPluginTest {
 
                 DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
                 datasourceConfiguration.getConnection().getSsl().setAuthType(SSLDetails.AuthType.PREFERRED);
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(datasourceConfiguration);
                 Mono<Object> executeMono = dsConnectionMono
                                 .flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(),
                                                 dsConfig,
@@ -1171,7 +1342,7 @@ public class MySqlPluginTest {
 
                 DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
                 datasourceConfiguration.getConnection().getSsl().setAuthType(SSLDetails.AuthType.DEFAULT);
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(datasourceConfiguration);
                 Mono<Object> executeMono = dsConnectionMono
                                 .flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(),
                                                 dsConfig,
@@ -1192,7 +1363,7 @@ public class MySqlPluginTest {
         @Test
         public void testDuplicateColumnNames() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody(
@@ -1236,7 +1407,7 @@ public class MySqlPluginTest {
         @Test
         public void testExecuteDescribeTableCmd() {
                 dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("describe users");
@@ -1258,7 +1429,7 @@ public class MySqlPluginTest {
         @Test
         public void testExecuteDescTableCmd() {
                 dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("desc users");
@@ -1282,7 +1453,7 @@ public class MySqlPluginTest {
                 pluginExecutor = spy(new MySqlPlugin.MySqlPluginExecutor());
                 doReturn(false).when(pluginExecutor).isIsOperatorUsed(any());
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("SELECT * from (\n" +
@@ -1335,7 +1506,7 @@ public class MySqlPluginTest {
         @Test
         public void testNullAsStringWithPreparedStatement() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("SELECT * from (\n" +
@@ -1389,7 +1560,7 @@ public class MySqlPluginTest {
         @Test
         public void testNumericValuesHavingLeadingZeroWithPreparedStatement() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("SELECT {{binding1}} as numeric_string;");
@@ -1435,7 +1606,7 @@ public class MySqlPluginTest {
         @Test
         public void testLongValueWithPreparedStatement() {
                 DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-                Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+                Mono<ConnectionPool> dsConnectionMono = createConnectionPool(dsConfig);
 
                 ActionConfiguration actionConfiguration = new ActionConfiguration();
                 actionConfiguration.setBody("select id from users LIMIT {{binding1}}");
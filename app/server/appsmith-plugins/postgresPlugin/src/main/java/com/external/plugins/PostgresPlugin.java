@@ -8,6 +8,8 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResultSetStreamer;
+import com.appsmith.external.helpers.RowSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -38,6 +40,7 @@ import org.pf4j.PluginWrapper;
 import org.postgresql.util.PGobject;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
@@ -76,7 +79,6 @@ import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATI
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
@@ -117,8 +119,6 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
-
     private static int MAX_SIZE_SUPPORTED;
 
     public PostgresPlugin(PluginWrapper wrapper) {
@@ -208,24 +208,7 @@ public class PostgresPlugin extends BasePlugin {
                         "parameter: Query."));
             }
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                //In case the prepared statement configuration is missing, default to true.
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null) {
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement = isPreparedStatement(actionConfiguration);
 
             // In case of non prepared statement, simply do binding replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
@@ -245,6 +228,118 @@ public class PostgresPlugin extends BasePlugin {
                     mustacheKeysInOrder, executeActionDTO, explicitCastDataTypes);
         }
 
+        private Boolean isPreparedStatement(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
+                //In case the prepared statement configuration is missing, default to true.
+                return true;
+            }
+
+            Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
+            if (psValue instanceof Boolean) {
+                return (Boolean) psValue;
+            } else if (psValue instanceof String) {
+                return Boolean.parseBoolean((String) psValue);
+            }
+
+            return true;
+        }
+
+        @Override
+        public boolean isStreamingSupported() {
+            return true;
+        }
+
+        /**
+         * Streams the rows of the query result from a database cursor instead of collecting them into the body of a
+         * single ActionExecutionResult. Variable substitution, prepared statements, the request and the hint messages
+         * work the same way as in
+         * {@link #executeParameterized(HikariDataSource, ExecuteActionDTO, DatasourceConfiguration, ActionConfiguration)}.
+         */
+        @Override
+        public Flux<ActionExecutionResult> executeParameterizedStreaming(HikariDataSource connection,
+                                                                         ExecuteActionDTO executeActionDTO,
+                                                                         DatasourceConfiguration datasourceConfiguration,
+                                                                         ActionConfiguration actionConfiguration) {
+
+            String query = actionConfiguration.getBody();
+            if (query == null) {
+                return Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "Missing required " +
+                        "parameter: Query."));
+            }
+
+            final Boolean preparedStatement = isPreparedStatement(actionConfiguration);
+            final Map<String, Object> requestData = new HashMap<>();
+            requestData.put("preparedStatement", TRUE.equals(preparedStatement));
+            final Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
+
+            final ResultSetStreamer.QueryExecutor queryExecutor;
+            if (FALSE.equals(preparedStatement)) {
+                prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+                query = actionConfiguration.getBody();
+                final String substitutedQuery = query;
+                queryExecutor = (connectionFromPool, fetchSize) -> {
+                    Statement statement = connectionFromPool.createStatement();
+                    statement.setFetchSize(fetchSize);
+                    statement.execute(substitutedQuery);
+                    return statement;
+                };
+            } else {
+                List<String> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+                query = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+                final String updatedQuery = query;
+                List<DataType> explicitCastDataTypes = extractExplicitCasting(updatedQuery);
+                queryExecutor = (connectionFromPool, fetchSize) -> {
+                    PreparedStatement preparedQuery = connectionFromPool.prepareStatement(updatedQuery);
+                    List<Map.Entry<String, String>> parameters = new ArrayList<>();
+                    preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(preparedQuery,
+                            mustacheKeysInOrder,
+                            executeActionDTO.getParams(),
+                            parameters,
+                            connectionFromPool,
+                            explicitCastDataTypes);
+
+                    IntStream.range(0, parameters.size())
+                            .forEachOrdered(i ->
+                                    psParams.put(
+                                            getPSParamLabel(i + 1),
+                                            new PsParameterDTO(parameters.get(i).getKey(), parameters.get(i).getValue())));
+
+                    requestData.put("ps-parameters", parameters);
+                    preparedQuery.setFetchSize(fetchSize);
+                    preparedQuery.execute();
+                    return preparedQuery;
+                };
+            }
+
+            // Same request as the one executeCommon returns. The prepared statement parameters are filled in once the
+            // query has been executed, which is before the first batch, and so the request, is emitted.
+            ActionExecutionRequest request = new ActionExecutionRequest();
+            request.setQuery(query);
+            request.setProperties(requestData);
+            request.setRequestParams(List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY,
+                    preparedStatement ? replaceQuestionMarkWithDollarIndex(query) : query, null, null, psParams)));
+
+            final List<String> columnsList = new ArrayList<>();
+            Flux<List<Map<String, Object>>> batches = ResultSetStreamer.stream(
+                    () -> {
+                        try {
+                            return getConnectionFromConnectionPool(connection, datasourceConfiguration);
+                        } catch (SQLException e) {
+                            // Same as in executeCommon, a pool that can't hand out connections needs to be recreated.
+                            throw new StaleConnectionException();
+                        }
+                    },
+                    queryExecutor,
+                    this::getRow,
+                    columnsList::addAll,
+                    MAX_SIZE_SUPPORTED,
+                    scheduler);
+
+            return ResultSetStreamer.toActionExecutionResults(batches, objectMapper, request,
+                    () -> populateHintMessages(columnsList));
+        }
+
         private Mono<ActionExecutionResult> executeCommon(HikariDataSource connection,
                                                           DatasourceConfiguration datasourceConfiguration,
                                                           ActionConfiguration actionConfiguration,
@@ -330,83 +425,20 @@ public class PostgresPlugin extends BasePlugin {
                             } else {
 
                                 ResultSetMetaData metaData = resultSet.getMetaData();
-                                int colCount = metaData.getColumnCount();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
-                                int iterator = 0;
+                                RowSizeEstimator rowSizeEstimator = new RowSizeEstimator(MAX_SIZE_SUPPORTED);
                                 while (resultSet.next()) {
 
-                                    // Only check the data size at low frequency to ensure the performance is not impacted heavily
-                                    if (iterator % HEAVY_OP_FREQUENCY == 0) {
-                                        int objectSize = sizeof(rowsList);
-
-                                        if (objectSize > MAX_SIZE_SUPPORTED) {
-                                            log.debug("[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
-                                                    MAX_SIZE_SUPPORTED, objectSize);
-                                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED, (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                        }
-                                    }
-
-                                    // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                                    Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                                    for (int i = 1; i <= colCount; i++) {
-                                        Object value;
-                                        final String typeName = metaData.getColumnTypeName(i);
-
-                                        if (resultSet.getObject(i) == null) {
-                                            value = null;
-
-                                        } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
-
-                                        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    LocalDateTime.of(
-                                                            resultSet.getDate(i).toLocalDate(),
-                                                            resultSet.getTime(i).toLocalTime()
-                                                    )
-                                            ) + "Z";
-
-                                        } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    resultSet.getObject(i, OffsetDateTime.class)
-                                            );
-
-                                        } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getString(i);
-
-                                        } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getObject(i).toString();
-
-                                        } else if (typeName.startsWith("_")) {
-                                            value = resultSet.getArray(i).getArray();
-
-                                        } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = objectMapper.readTree(resultSet.getString(i));
-                                        } else {
-                                            value = resultSet.getObject(i);
-
-                                            /**
-                                             * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
-                                             * two attributes: type and value. Hence, when PGobject gets serialized, it gets
-                                             * converted into a JSON like {"type":"citext", "value":"someText"}. Since we are
-                                             * only interested in the value and not the type, it makes sense to extract out
-                                             * the value as a string.
-                                             * Reference: https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
-                                             */
-                                            if (value instanceof PGobject) {
-                                                value = ((PGobject) value).getValue();
-                                            }
-                                        }
-
-                                        row.put(metaData.getColumnName(i), value);
-                                    }
+                                    Map<String, Object> row = getRow(resultSet);
 
                                     rowsList.add(row);
 
-                                    iterator++;
+                                    if (!rowSizeEstimator.add(row)) {
+                                        log.debug("[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                                MAX_SIZE_SUPPORTED, rowSizeEstimator.getSize());
+                                        return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED, (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
+                                    }
                                 }
                             }
 
@@ -493,6 +525,70 @@ public class PostgresPlugin extends BasePlugin {
 
         }
 
+        private Map<String, Object> getRow(ResultSet resultSet) throws SQLException, IOException {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int colCount = metaData.getColumnCount();
+
+            // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
+            Map<String, Object> row = new LinkedHashMap<>(colCount);
+
+            for (int i = 1; i <= colCount; i++) {
+                Object value;
+                final String typeName = metaData.getColumnTypeName(i);
+
+                if (resultSet.getObject(i) == null) {
+                    value = null;
+
+                } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
+
+                } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(
+                            LocalDateTime.of(
+                                    resultSet.getDate(i).toLocalDate(),
+                                    resultSet.getTime(i).toLocalTime()
+                            )
+                    ) + "Z";
+
+                } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(
+                            resultSet.getObject(i, OffsetDateTime.class)
+                    );
+
+                } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getString(i);
+
+                } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getObject(i).toString();
+
+                } else if (typeName.startsWith("_")) {
+                    value = resultSet.getArray(i).getArray();
+
+                } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
+                        || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = objectMapper.readTree(resultSet.getString(i));
+                } else {
+                    value = resultSet.getObject(i);
+
+                    /**
+                     * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
+                     * two attributes: type and value. Hence, when PGobject gets serialized, it gets
+                     * converted into a JSON like {"type":"citext", "value":"someText"}. Since we are
+                     * only interested in the value and not the type, it makes sense to extract out
+                     * the value as a string.
+                     * Reference: https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
+                     */
+                    if (value instanceof PGobject) {
+                        value = ((PGobject) value).getValue();
+                    }
+                }
+
+                row.put(metaData.getColumnName(i), value);
+            }
+
+            return row;
+        }
+
         private Set<String> populateHintMessages(List<String> columnNames) {
 
             Set<String> messages = new HashSet<>();
@@ -12,23 +12,35 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.external.utils.RedisCommandOutput;
+import com.external.utils.RedisConnectionPool;
 import com.external.utils.RedisURIUtils;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.lettuce.core.support.AsyncConnectionPoolSupport;
+import io.lettuce.core.support.BoundedAsyncPool;
+import io.lettuce.core.support.BoundedPoolConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.pf4j.util.StringUtils;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
-import redis.clients.jedis.Jedis;
-import redis.clients.jedis.JedisPool;
-import redis.clients.jedis.JedisPoolConfig;
-import redis.clients.jedis.Protocol;
-import redis.clients.jedis.exceptions.JedisException;
-import redis.clients.jedis.util.SafeEncoder;
-
-import java.net.URI;
+
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -36,6 +48,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -48,18 +61,35 @@ public class RedisPlugin extends BasePlugin {
     private static final int CONNECTION_TIMEOUT = 60;
     private static final String CMD_KEY = "cmd";
     private static final String ARGS_KEY = "args";
+    private static final Pattern REDIS_CMD_PATTERN = Pattern.compile("\\\"[^\\\"]+\\\"|'[^']+'|[\\S]+");
+
+    /**
+     * Event loops and timers shared by the clients of all the Redis datasources, instead of a set of threads for
+     * each datasource. They are shut down along with the plugin.
+     */
+    private static final ClientResources clientResources = DefaultClientResources.create();
 
     public RedisPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
 
+    @Override
+    public void stop() {
+        clientResources.shutdown()
+                .addListener(future -> {
+                    if (!future.isSuccess()) {
+                        log.debug("Error shutting down Redis client resources.", future.cause());
+                    }
+                });
+    }
+
     @Extension
-    public static class RedisPluginExecutor implements PluginExecutor<JedisPool> {
+    public static class RedisPluginExecutor implements PluginExecutor<RedisConnectionPool> {
 
         private final Scheduler scheduler = Schedulers.elastic();
 
         @Override
-        public Mono<ActionExecutionResult> execute(JedisPool jedisPool,
+        public Mono<ActionExecutionResult> execute(RedisConnectionPool connectionPool,
                                                    DatasourceConfiguration datasourceConfiguration,
                                                    ActionConfiguration actionConfiguration) {
 
@@ -67,49 +97,43 @@ public class RedisPlugin extends BasePlugin {
             List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null
                     , null, null));
 
-            Jedis jedis = jedisPool.getResource();
             return Mono.fromCallable(() -> {
                         if (StringUtils.isNullOrEmpty(query)) {
-                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                    String.format("Body is null or empty [%s]", query)));
-                        }
-
-                        Map cmdAndArgs = getCommandAndArgs(query.trim());
-                        if (!cmdAndArgs.containsKey(CMD_KEY)) {
-                            return Mono.error(
-                                    new AppsmithPluginException(
-                                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                            "Appsmith server has failed to parse your Redis query. Are you sure it's" +
-                                                    " been formatted correctly."
-                                    )
-                            );
+                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                    String.format("Body is null or empty [%s]", query));
                         }
 
-                        Protocol.Command command;
-                        try {
-                            // Commands are in upper case
-                            command = Protocol.Command.valueOf((String) cmdAndArgs.get(CMD_KEY));
-                        } catch (IllegalArgumentException exc) {
-                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                    String.format("Not a valid Redis command: %s", cmdAndArgs.get(CMD_KEY))));
+                        List<AsyncCommand<String, String, Object>> commands = new ArrayList<>();
+                        for (Map cmdAndArgs : getCommandsAndArgs(query.trim())) {
+                            commands.add(getCommand(cmdAndArgs));
                         }
 
-                        Object commandOutput;
-                        if (cmdAndArgs.containsKey(ARGS_KEY)) {
-                            commandOutput = jedis.sendCommand(command, (String[]) cmdAndArgs.get(ARGS_KEY));
+                        return commands;
+                    })
+                    .flatMap(commands -> Mono.usingWhen(
+                            connectionPool.acquire(),
+                            connection -> {
+                                connectionPool.printPoolStatus();
+                                return dispatchCommands(connection, commands);
+                            },
+                            connectionPool::release
+                    ))
+                    .map(commandOutputs -> {
+                        ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
+                        if (commandOutputs.size() == 1) {
+                            actionExecutionResult.setBody(objectMapper.valueToTree(
+                                    removeQuotes(processCommandOutput(commandOutputs.get(0)))));
                         } else {
-                            commandOutput = jedis.sendCommand(command);
+                            // Output of each command of the batch, in the same order as the commands
+                            actionExecutionResult.setBody(objectMapper.valueToTree(commandOutputs.stream()
+                                    .map(commandOutput -> removeQuotes(processCommandOutput(commandOutput)))
+                                    .collect(Collectors.toList())));
                         }
-
-                        ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
-                        actionExecutionResult.setBody(objectMapper.valueToTree(removeQuotes(processCommandOutput(commandOutput))));
                         actionExecutionResult.setIsExecutionSuccess(true);
 
                         log.debug("In the RedisPlugin, got action execution result");
-                        return Mono.just(actionExecutionResult);
+                        return actionExecutionResult;
                     })
-                    .flatMap(obj -> obj)
-                    .map(obj -> (ActionExecutionResult) obj)
                     .onErrorResume(error -> {
                         error.printStackTrace();
                         ActionExecutionResult result = new ActionExecutionResult();
@@ -125,18 +149,43 @@ public class RedisPlugin extends BasePlugin {
                         ActionExecutionResult result = actionExecutionResult;
                         result.setRequest(request);
                         return result;
-                    })
-                    .doFinally(signalType -> {
-                        /**
-                         * - Return resource back to the pool.
-                         * - https://stackoverflow.com/questions/54902337/is-it-necessary-to-use-jedis-close
-                         * - https://www.baeldung.com/jedis-java-redis-client-library:
-                         */
-                        if (jedis != null) {
-                            jedis.close();
-                        }
-                    })
-                    .subscribeOn(scheduler);
+                    });
+        }
+
+        private AsyncCommand<String, String, Object> getCommand(Map cmdAndArgs) {
+            CommandType commandType;
+            try {
+                // Commands are in upper case
+                commandType = CommandType.valueOf((String) cmdAndArgs.get(CMD_KEY));
+            } catch (IllegalArgumentException exc) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        String.format("Not a valid Redis command: %s", cmdAndArgs.get(CMD_KEY)));
+            }
+
+            CommandArgs<String, String> commandArgs = new CommandArgs<>(StringCodec.UTF8);
+            if (cmdAndArgs.containsKey(ARGS_KEY)) {
+                for (String arg : (List<String>) cmdAndArgs.get(ARGS_KEY)) {
+                    commandArgs.add(arg);
+                }
+            }
+
+            return new AsyncCommand<>(new Command<>(commandType, new RedisCommandOutput<>(StringCodec.UTF8),
+                    commandArgs));
+        }
+
+        /**
+         * All the commands are written to the connection at once and their replies are read as they arrive, i.e. a
+         * batch of commands costs a single round trip to the server. The replies are handled on the event loop of the
+         * connection, no thread waits for them.
+         *
+         * @return Output of each command, in the same order as the commands. Null replies are empty Optionals.
+         */
+        private Mono<List<Optional<Object>>> dispatchCommands(StatefulRedisConnection<String, String> connection,
+                                                              List<AsyncCommand<String, String, Object>> commands) {
+            connection.dispatch(commands);
+            return Flux.fromIterable(commands)
+                    .concatMap(command -> Mono.fromCompletionStage(command.thenApply(Optional::ofNullable)))
+                    .collectList();
         }
 
         /**
@@ -163,7 +212,7 @@ public class RedisPlugin extends BasePlugin {
             return result;
         }
 
-        private Map getCommandAndArgs(String query) {
+        private List<Map> getCommandsAndArgs(String query) {
             /**
              * - This regex matches either a whole word, or anything inside double quotes. If something is inside
              * single quotes then it gets matched like a whole word
@@ -174,91 +223,95 @@ public class RedisPlugin extends BasePlugin {
              * (4) "my val"
              * (5) '{"a":"b"}'
              * Please note that the above example string is not a valid redis cmd and is only mentioned here for info.
+             * - Each line of the query is a separate command, the commands are sent together as a batch. Line breaks
+             * within quotes are part of the value and don't start a new command.
              */
-            String redisCmdRegex = "\\\"[^\\\"]+\\\"|'[^']+'|[\\S]+";
-            Pattern pattern = Pattern.compile(redisCmdRegex);
-            Matcher matcher = pattern.matcher(query);
-            Map<String, Object> cmdAndArgs = new HashMap<>();
-            List<String> args = new ArrayList<>();
+            Matcher matcher = REDIS_CMD_PATTERN.matcher(query);
+            List<Map> commandsAndArgs = new ArrayList<>();
+            Map<String, Object> cmdAndArgs = null;
+            int previousMatchEnd = 0;
             while (matcher.find()) {
-                if (!cmdAndArgs.containsKey(CMD_KEY)) {
+                boolean isNewLine = query.substring(previousMatchEnd, matcher.start()).contains("\n");
+                if (cmdAndArgs == null || isNewLine) {
+                    cmdAndArgs = new HashMap<>();
                     cmdAndArgs.put(CMD_KEY, matcher.group().toUpperCase());
+                    commandsAndArgs.add(cmdAndArgs);
                 } else {
-                    args.add(matcher.group());
+                    ((List<String>) cmdAndArgs.computeIfAbsent(ARGS_KEY, key -> new ArrayList<>()))
+                            .add(matcher.group());
                 }
+                previousMatchEnd = matcher.end();
             }
 
-            if (args.size() > 0) {
-                cmdAndArgs.put(ARGS_KEY, args.toArray(new String[0]));
+            if (commandsAndArgs.isEmpty()) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Appsmith server has failed to parse your Redis query. Are you sure it's" +
+                                " been formatted correctly."
+                );
             }
 
-            return cmdAndArgs;
+            return commandsAndArgs;
         }
 
         // This will be updated as we encounter different outputs.
-        private List<Map<String, String>> processCommandOutput(Object commandOutput) {
-            if (commandOutput == null) {
+        private List<Map<String, String>> processCommandOutput(Optional<Object> commandOutput) {
+            if (commandOutput.isEmpty()) {
                 return List.of(Map.of("result", "null"));
-            } else if (commandOutput instanceof byte[]) {
-                return List.of(Map.of("result", SafeEncoder.encode((byte[]) commandOutput)));
-            } else if (commandOutput instanceof List) {
-                List<byte[]> commandList = (List<byte[]>) commandOutput;
+            } else if (commandOutput.get() instanceof List) {
+                List<Object> commandList = (List<Object>) commandOutput.get();
                 return commandList.stream()
-                        .map(obj -> Map.of("result", SafeEncoder.encode(obj)))
+                        .map(obj -> Map.of("result", String.valueOf(obj)))
                         .collect(Collectors.toList());
             } else {
-                return List.of(Map.of("result", String.valueOf(commandOutput)));
+                return List.of(Map.of("result", String.valueOf(commandOutput.get())));
             }
         }
 
-        /**
-         * - Config taken from https://www.baeldung.com/jedis-java-redis-client-library
-         * - To understand what these config mean:
-         * https://www.infoworld.com/article/2071834/pool-resources-using-apache-s-commons-pool-framework.html
-         */
-        private JedisPoolConfig buildPoolConfig() {
-            final JedisPoolConfig poolConfig = new JedisPoolConfig();
-            poolConfig.setMaxTotal(5);
-            poolConfig.setMaxIdle(5);
-            poolConfig.setMinIdle(0);
-            poolConfig.setTestOnBorrow(true);
-            poolConfig.setTestOnReturn(true);
-            poolConfig.setTestWhileIdle(true);
-            poolConfig.setMinEvictableIdleTimeMillis(Duration.ofSeconds(60).toMillis());
-            poolConfig.setTimeBetweenEvictionRunsMillis(Duration.ofSeconds(30).toMillis());
-            poolConfig.setNumTestsPerEvictionRun(3);
-            poolConfig.setBlockWhenExhausted(true);
-            return poolConfig;
+        private BoundedPoolConfig buildPoolConfig() {
+            return BoundedPoolConfig.builder()
+                    .maxTotal(5)
+                    .maxIdle(5)
+                    .minIdle(0)
+                    .testOnAcquire()
+                    .testOnRelease()
+                    .build();
         }
 
         @Override
-        public Mono<JedisPool> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<RedisConnectionPool> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             return Mono.fromCallable(() -> {
-                        final JedisPoolConfig poolConfig = buildPoolConfig();
-                        int timeout = (int) Duration.ofSeconds(CONNECTION_TIMEOUT).toMillis();
-                        URI uri = RedisURIUtils.getURI(datasourceConfiguration);
-                        JedisPool jedisPool = new JedisPool(poolConfig, uri, timeout);
-                        return jedisPool;
+                        RedisURI redisURI = RedisURI.create(RedisURIUtils.getURI(datasourceConfiguration));
+                        redisURI.setTimeout(Duration.ofSeconds(CONNECTION_TIMEOUT));
+
+                        RedisClient client = RedisClient.create(clientResources, redisURI);
+                        client.setOptions(ClientOptions.builder()
+                                // Replies are read the same way irrespective of the version of the server
+                                .protocolVersion(ProtocolVersion.RESP2)
+                                .socketOptions(SocketOptions.builder()
+                                        .connectTimeout(Duration.ofSeconds(CONNECTION_TIMEOUT))
+                                        .build())
+                                .build());
+
+                        BoundedAsyncPool<StatefulRedisConnection<String, String>> pool =
+                                AsyncConnectionPoolSupport.createBoundedObjectPool(
+                                        () -> client.connectAsync(StringCodec.UTF8, redisURI),
+                                        buildPoolConfig());
+
+                        // Executions wait for a busy connection up to the same timeout as for a new connection
+                        return new RedisConnectionPool(client, pool, Duration.ofSeconds(CONNECTION_TIMEOUT));
                     })
                     .subscribeOn(scheduler);
         }
 
         @Override
-        public void datasourceDestroy(JedisPool jedisPool) {
-            // Schedule on elastic thread pool and subscribe immediately.
-            Mono.fromSupplier(() -> {
-                        try {
-                            if (jedisPool != null) {
-                                jedisPool.destroy();
-                            }
-                        } catch (JedisException e) {
-                            log.debug("Error destroying Jedis pool.");
-                        }
-
-                        return Mono.empty();
-                    })
-                    .subscribeOn(scheduler)
-                    .subscribe();
+        public void datasourceDestroy(RedisConnectionPool connectionPool) {
+            if (connectionPool != null) {
+                connectionPool.close()
+                        .doOnError(error -> log.debug("Error destroying Redis connection pool.", error))
+                        .onErrorResume(error -> Mono.empty())
+                        .subscribe();
+            }
         }
 
         @Override
@@ -313,28 +366,21 @@ public class RedisPlugin extends BasePlugin {
             return false;
         }
 
-        private Mono<Void> verifyPing(Jedis jedis) {
-            String pingResponse;
-            try {
-                pingResponse = jedis.ping();
-            } catch (Exception exc) {
-                return Mono.error(exc);
-            }
-
-            if (!"PONG".equals(pingResponse)) {
-                return Mono.error(new RuntimeException(
-                        String.format("Expected PONG in response of PING but got %s", pingResponse)));
-            }
+        private Mono<Void> verifyPing(StatefulRedisConnection<String, String> connection) {
+            return Mono.fromCompletionStage(connection.async().ping())
+                    .flatMap(pingResponse -> {
+                        if (!"PONG".equals(pingResponse)) {
+                            return Mono.error(new RuntimeException(
+                                    String.format("Expected PONG in response of PING but got %s", pingResponse)));
+                        }
 
-            return Mono.empty();
+                        return Mono.empty();
+                    });
         }
 
         @Override
-        public Mono<DatasourceTestResult> testDatasource(JedisPool connection) {
-            return Mono.fromCallable(() -> {
-                        Jedis jedis = connection.getResource();
-                        return verifyPing(jedis);
-                    })
+        public Mono<DatasourceTestResult> testDatasource(RedisConnectionPool connectionPool) {
+            return Mono.usingWhen(connectionPool.acquire(), this::verifyPing, connectionPool::release)
                     .thenReturn(new DatasourceTestResult());
         }
 
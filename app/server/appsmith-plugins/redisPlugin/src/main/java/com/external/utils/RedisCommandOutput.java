@@ -0,0 +1,92 @@
+package com.external.utils;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.CommandOutput;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Output of an arbitrary Redis command, whose reply type is not known in advance. Bulk and status replies are decoded
+ * to strings, integer replies to longs and array replies to lists, nested as deep as the reply is.
+ */
+public class RedisCommandOutput<K, V> extends CommandOutput<K, V, Object> {
+
+    // Arrays being read, along with the number of their elements that are yet to be read
+    private final Deque<ArrayFrame> arrays = new ArrayDeque<>();
+
+    public RedisCommandOutput(RedisCodec<K, V> codec) {
+        super(codec, null);
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+        add(bytes == null ? null : codec.decodeValue(bytes));
+    }
+
+    @Override
+    public void set(long integer) {
+        add(integer);
+    }
+
+    @Override
+    public void set(double number) {
+        add(number);
+    }
+
+    @Override
+    public void set(boolean value) {
+        add(value);
+    }
+
+    @Override
+    public void multi(int count) {
+        if (count < 0) {
+            // Null array
+            add(null);
+            return;
+        }
+
+        List<Object> array = new ArrayList<>(count);
+        addToParent(array);
+        arrays.push(new ArrayFrame(array, count));
+        popCompletedArrays();
+    }
+
+    private void add(Object value) {
+        addToParent(value);
+        popCompletedArrays();
+    }
+
+    private void addToParent(Object value) {
+        if (arrays.isEmpty()) {
+            output = value;
+            return;
+        }
+
+        ArrayFrame parent = arrays.peek();
+        parent.array.add(value);
+        parent.remaining--;
+    }
+
+    private void popCompletedArrays() {
+        while (!arrays.isEmpty() && arrays.peek().remaining <= 0) {
+            arrays.pop();
+        }
+    }
+
+    private static class ArrayFrame {
+
+        private final List<Object> array;
+
+        private int remaining;
+
+        private ArrayFrame(List<Object> array, int remaining) {
+            this.array = array;
+            this.remaining = remaining;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.support.BoundedAsyncPool;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Non-blocking pool of connections to a Redis server. Connections are acquired and released asynchronously, so
+ * executions waiting for a connection don't hold any thread.
+ * <p>
+ * The underlying pool fails an acquisition at once when all of its connections are in use. Acquisitions are hence
+ * queued here instead, the same as a blocking pool would do, and are served in order as connections are released.
+ * An acquisition fails only if no connection becomes available within the acquire timeout.
+ */
+@Slf4j
+public class RedisConnectionPool {
+
+    @Getter
+    private final RedisClient client;
+
+    @Getter
+    private final BoundedAsyncPool<StatefulRedisConnection<String, String>> pool;
+
+    private final Duration acquireTimeout;
+
+    // Number of connections that can still be handed out, guarded by this
+    private int availablePermits;
+
+    // Acquisitions waiting for a connection to be released, guarded by this
+    private final Deque<MonoSink<Void>> waiters = new ArrayDeque<>();
+
+    public RedisConnectionPool(RedisClient client,
+                               BoundedAsyncPool<StatefulRedisConnection<String, String>> pool,
+                               Duration acquireTimeout) {
+        this.client = client;
+        this.pool = pool;
+        this.acquireTimeout = acquireTimeout;
+        this.availablePermits = pool.getMaxTotal();
+    }
+
+    public Mono<StatefulRedisConnection<String, String>> acquire() {
+        return acquirePermit()
+                .timeout(acquireTimeout, Mono.error(() -> new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR,
+                        "Timed out after " + acquireTimeout.toSeconds() + " seconds waiting for a connection to " +
+                                "the Redis server. All the connections of the datasource are busy.")))
+                .then(acquireConnection());
+    }
+
+    /**
+     * Acquires a connection from the underlying pool for a permit that is already held. The permit is released if the
+     * acquisition fails or is cancelled, e.g. by the action timeout while a connection to an unreachable server is
+     * still being opened. A connection that arrives after the cancellation is returned to the pool before its permit
+     * is released, so that the next acquisition doesn't find the pool exhausted.
+     */
+    private Mono<StatefulRedisConnection<String, String>> acquireConnection() {
+        return Mono.<StatefulRedisConnection<String, String>>create(sink -> {
+            // Set by whichever comes first, the acquisition completing or the subscriber cancelling
+            AtomicBoolean settled = new AtomicBoolean();
+
+            sink.onCancel(() -> settled.set(true));
+
+            pool.acquire().whenComplete((connection, error) -> {
+                if (settled.compareAndSet(false, true)) {
+                    if (error != null) {
+                        releasePermit();
+                        sink.error(error);
+                    } else {
+                        sink.success(connection);
+                    }
+                    return;
+                }
+
+                // Cancelled while the connection was being acquired
+                if (connection == null) {
+                    releasePermit();
+                    return;
+                }
+                returnConnection(connection);
+            });
+        })
+                // Cancelled just as the connection was handed over, the sink drops it
+                .doOnDiscard(StatefulRedisConnection.class, this::returnConnection);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void returnConnection(StatefulRedisConnection connection) {
+        pool.release(connection).whenComplete((ignored, error) -> releasePermit());
+    }
+
+    public Mono<Void> release(StatefulRedisConnection<String, String> connection) {
+        return Mono.fromCompletionStage(() -> pool.release(connection))
+                .doFinally(signalType -> releasePermit());
+    }
+
+    private Mono<Void> acquirePermit() {
+        return Mono.create(sink -> {
+            synchronized (this) {
+                if (availablePermits > 0) {
+                    availablePermits--;
+                    sink.success();
+                    return;
+                }
+                waiters.addLast(sink);
+            }
+
+            sink.onCancel(() -> {
+                synchronized (this) {
+                    if (waiters.remove(sink)) {
+                        return;
+                    }
+                }
+                // The permit was handed to this acquisition as it got cancelled, pass it on
+                releasePermit();
+            });
+        });
+    }
+
+    private void releasePermit() {
+        MonoSink<Void> waiter;
+        synchronized (this) {
+            waiter = waiters.pollFirst();
+            if (waiter == null) {
+                availablePermits++;
+                return;
+            }
+        }
+        // Completed outside the lock, as the waiting execution continues on this thread
+        waiter.success();
+    }
+
+    public void printPoolStatus() {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+
+        int idleConnections = pool.getIdle();
+        int totalConnections = pool.getObjectCount();
+        int waitingAcquisitions;
+        synchronized (this) {
+            waitingAcquisitions = waiters.size();
+        }
+        log.debug("{}: Before executing Redis query. Connection pool stats :  active - {}, idle - {}, creating - {}, " +
+                        "total - {}, max - {}, waiting - {}", Thread.currentThread().getName(),
+                totalConnections - idleConnections, idleConnections, pool.getCreationInProgress(), totalConnections,
+                pool.getMaxTotal(), waitingAcquisitions);
+    }
+
+    public Mono<Void> close() {
+        return Mono.fromCompletionStage(pool::closeAsync)
+                .then(Mono.fromCompletionStage(client::shutdownAsync));
+    }
+}
@@ -41,7 +41,7 @@ public class RedisURIUtils {
 
     // Skipping validation checks, since they are taken care of via 'validateDatasource(...)' method.
     private static String getUriHostAndPort(DatasourceConfiguration datasourceConfiguration) {
-        // Jedis does not have support for backup hosts.
+        // Redis does not have support for backup hosts.
         Endpoint endpoint = datasourceConfiguration.getEndpoints().get(0);
         String host = endpoint.getHost();
         Integer port = (int) (long) ObjectUtils.defaultIfNull(endpoint.getPort(), DEFAULT_PORT);
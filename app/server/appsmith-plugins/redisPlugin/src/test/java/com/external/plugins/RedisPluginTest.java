@@ -8,6 +8,7 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
+import com.external.utils.RedisConnectionPool;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
@@ -18,9 +19,9 @@ import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
-import redis.clients.jedis.JedisPool;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -64,13 +65,13 @@ public class RedisPluginTest {
     @Test
     public void itShouldCreateDatasource() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnectionPool> connectionPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
-        StepVerifier.create(jedisPoolMono)
+        StepVerifier.create(connectionPoolMono)
                 .assertNext(Assertions::assertNotNull)
                 .verifyComplete();
 
-        pluginExecutor.datasourceDestroy(jedisPoolMono.block());
+        pluginExecutor.datasourceDestroy(connectionPoolMono.block());
     }
 
     @Test
@@ -158,12 +159,12 @@ public class RedisPluginTest {
     @Test
     public void itShouldThrowErrorIfEmptyBody() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnectionPool> connectionPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono
-                .flatMap(jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = connectionPoolMono
+                .flatMap(connectionPool -> pluginExecutor.execute(connectionPool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(result -> {
@@ -177,13 +178,13 @@ public class RedisPluginTest {
     @Test
     public void itShouldThrowErrorIfInvalidRedisCommand() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnectionPool> connectionPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("LOL");
 
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono
-                .flatMap(jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = connectionPoolMono
+                .flatMap(connectionPool -> pluginExecutor.execute(connectionPool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(result -> {
@@ -197,13 +198,13 @@ public class RedisPluginTest {
     @Test
     public void itShouldExecuteCommandWithoutArgs() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnectionPool> connectionPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("PING");
 
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono
-                .flatMap(jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = connectionPoolMono
+                .flatMap(connectionPool -> pluginExecutor.execute(connectionPool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
@@ -217,13 +218,13 @@ public class RedisPluginTest {
     @Test
     public void itShouldExecuteCommandWithArgs() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnectionPool> connectionPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         // Getting a non-existent key
         ActionConfiguration getActionConfiguration = new ActionConfiguration();
         getActionConfiguration.setBody("GET key");
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono
-                .flatMap(jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration,
+        Mono<ActionExecutionResult> actionExecutionResultMono = connectionPoolMono
+                .flatMap(connectionPool -> pluginExecutor.execute(connectionPool, datasourceConfiguration,
                         getActionConfiguration));
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
@@ -249,8 +250,8 @@ public class RedisPluginTest {
         ActionConfiguration setActionConfigurationManyKeys = new ActionConfiguration();
         setActionConfigurationManyKeys.setBody("mset key1 value key2 \"value\" key3 \"my value\" key4 'value' key5 'my " +
                 "value' key6 '{\"a\":\"b\"}'");
-        actionExecutionResultMono = jedisPoolMono
-                .flatMap(jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration,
+        actionExecutionResultMono = connectionPoolMono
+                .flatMap(connectionPool -> pluginExecutor.execute(connectionPool, datasourceConfiguration,
                         setActionConfigurationManyKeys));
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
@@ -263,8 +264,8 @@ public class RedisPluginTest {
         // Verify the keys
         ActionConfiguration getActionConfigurationManyKeys = new ActionConfiguration();
         getActionConfigurationManyKeys.setBody("mget key1 key2 key3 key4 key5 key6");
-        actionExecutionResultMono = jedisPoolMono
-                .flatMap(jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration,
+        actionExecutionResultMono = connectionPoolMono
+                .flatMap(connectionPool -> pluginExecutor.execute(connectionPool, datasourceConfiguration,
                         getActionConfigurationManyKeys));
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
@@ -286,13 +287,13 @@ public class RedisPluginTest {
         DBAuth auth = new DBAuth();
         auth.setDatabaseName("7"); // set database to select
         datasourceConfiguration.setAuthentication(auth);
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnectionPool> connectionPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("CLIENT INFO");
 
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono
-                .flatMap(jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = connectionPoolMono
+                .flatMap(connectionPool -> pluginExecutor.execute(connectionPool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
@@ -308,13 +309,13 @@ public class RedisPluginTest {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         DBAuth auth = new DBAuth();
         datasourceConfiguration.setAuthentication(auth);
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnectionPool> connectionPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("CLIENT INFO");
 
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono
-                .flatMap(jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = connectionPoolMono
+                .flatMap(connectionPool -> pluginExecutor.execute(connectionPool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
@@ -324,4 +325,64 @@ public class RedisPluginTest {
                     assertTrue(node.get("result").asText().contains("db=0"));
                 }).verifyComplete();
     }
+
+    @Test
+    public void itShouldExecuteMultipleCommandsAsBatch() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<RedisConnectionPool> connectionPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SET batchKey1 value1\n" +
+                "SET batchKey2 'multi\nline value'\n" +
+                "\n" +
+                "MGET batchKey1 batchKey2 missingKey\n" +
+                "EXISTS batchKey1 batchKey2");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = connectionPoolMono
+                .flatMap(connectionPool -> pluginExecutor.execute(connectionPool, datasourceConfiguration,
+                        actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode node = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(4, node.size());
+                    assertEquals("OK", node.get(0).get(0).get("result").asText());
+                    assertEquals("OK", node.get(1).get(0).get("result").asText());
+                    assertEquals("value1", node.get(2).get(0).get("result").asText());
+                    assertEquals("multi\nline value", node.get(2).get(1).get("result").asText());
+                    assertEquals("null", node.get(2).get(2).get("result").asText());
+                    assertEquals("2", node.get(3).get(0).get("result").asText());
+                }).verifyComplete();
+
+        pluginExecutor.datasourceDestroy(connectionPoolMono.block());
+    }
+
+    @Test
+    public void itShouldQueueExecutionsBeyondPoolSize() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        RedisConnectionPool connectionPool = pluginExecutor.datasourceCreate(datasourceConfiguration).block();
+
+        // Each execution holds its connection for half a second, so most of them have to wait for a connection
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("BLPOP missingList 0.5");
+        int executionCount = connectionPool.getPool().getMaxTotal() * 3;
+
+        Mono<List<ActionExecutionResult>> actionExecutionResultsMono = Flux.range(0, executionCount)
+                .flatMap(i -> pluginExecutor.execute(connectionPool, datasourceConfiguration, actionConfiguration))
+                .collectList();
+
+        StepVerifier.create(actionExecutionResultsMono)
+                .assertNext(actionExecutionResults -> {
+                    assertEquals(executionCount, actionExecutionResults.size());
+                    for (ActionExecutionResult actionExecutionResult : actionExecutionResults) {
+                        assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                        final JsonNode node = ((ArrayNode) actionExecutionResult.getBody()).get(0);
+                        assertEquals("null", node.get("result").asText());
+                    }
+                    assertTrue(connectionPool.getPool().getObjectCount() <= connectionPool.getPool().getMaxTotal());
+                }).verifyComplete();
+
+        pluginExecutor.datasourceDestroy(connectionPool);
+    }
 }
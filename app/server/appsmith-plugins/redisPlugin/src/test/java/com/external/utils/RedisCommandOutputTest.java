@@ -0,0 +1,49 @@
+package com.external.utils;
+
+import io.lettuce.core.codec.StringCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RedisCommandOutputTest {
+
+    private static ByteBuffer bytes(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSingleReplies() {
+        RedisCommandOutput<String, String> statusOutput = new RedisCommandOutput<>(StringCodec.UTF8);
+        statusOutput.set(bytes("OK"));
+        assertEquals("OK", statusOutput.get());
+
+        RedisCommandOutput<String, String> integerOutput = new RedisCommandOutput<>(StringCodec.UTF8);
+        integerOutput.set(2L);
+        assertEquals(2L, integerOutput.get());
+
+        RedisCommandOutput<String, String> nullOutput = new RedisCommandOutput<>(StringCodec.UTF8);
+        nullOutput.set(null);
+        assertNull(nullOutput.get());
+    }
+
+    @Test
+    public void testNestedArrayReply() {
+        // Reply of SCAN: [cursor, [keys...]] followed by an empty array and a null element
+        RedisCommandOutput<String, String> output = new RedisCommandOutput<>(StringCodec.UTF8);
+        output.multi(4);
+        output.set(bytes("0"));
+        output.multi(2);
+        output.set(bytes("key1"));
+        output.set(bytes("key2"));
+        output.multi(0);
+        output.set(null);
+
+        assertEquals(Arrays.asList("0", List.of("key1", "key2"), List.of(), null), output.get());
+    }
+}
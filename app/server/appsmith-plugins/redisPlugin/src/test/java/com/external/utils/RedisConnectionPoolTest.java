@@ -0,0 +1,119 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.support.AsyncConnectionPoolSupport;
+import io.lettuce.core.support.BoundedAsyncPool;
+import io.lettuce.core.support.BoundedPoolConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RedisConnectionPoolTest {
+
+    private static final int MAX_TOTAL = 2;
+
+    private BoundedAsyncPool<StatefulRedisConnection<String, String>> pool;
+
+    @BeforeEach
+    public void setUp() {
+        pool = AsyncConnectionPoolSupport.createBoundedObjectPool(
+                () -> {
+                    StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+                    when(connection.isOpen()).thenReturn(true);
+                    return CompletableFuture.completedFuture(connection);
+                },
+                BoundedPoolConfig.builder().maxTotal(MAX_TOTAL).maxIdle(MAX_TOTAL).minIdle(0).build());
+    }
+
+    @Test
+    public void testAcquireWaitsForRelease() {
+        RedisConnectionPool connectionPool = new RedisConnectionPool(mock(RedisClient.class), pool,
+                Duration.ofSeconds(10));
+
+        StatefulRedisConnection<String, String> firstConnection = connectionPool.acquire().block();
+        connectionPool.acquire().block();
+
+        CompletableFuture<StatefulRedisConnection<String, String>> waitingAcquisition = connectionPool.acquire()
+                .toFuture();
+        assertFalse(waitingAcquisition.isDone());
+
+        connectionPool.release(firstConnection).block();
+
+        assertTrue(waitingAcquisition.isDone());
+        assertNotNull(waitingAcquisition.join());
+    }
+
+    @Test
+    public void testAcquireTimesOutWithoutLosingConnections() {
+        RedisConnectionPool connectionPool = new RedisConnectionPool(mock(RedisClient.class), pool,
+                Duration.ofMillis(100));
+
+        StatefulRedisConnection<String, String> firstConnection = connectionPool.acquire().block();
+        StatefulRedisConnection<String, String> secondConnection = connectionPool.acquire().block();
+
+        StepVerifier.create(connectionPool.acquire())
+                .expectError(AppsmithPluginException.class)
+                .verify(Duration.ofSeconds(5));
+
+        // The acquisition that timed out doesn't hold on to any of the released connections
+        connectionPool.release(firstConnection).block();
+        connectionPool.release(secondConnection).block();
+
+        StepVerifier.create(connectionPool.acquire().then(connectionPool.acquire()))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testAcquireCancelledWhileConnecting_permitAndConnectionReturned() {
+        Queue<CompletableFuture<StatefulRedisConnection<String, String>>> pendingConnections = new ConcurrentLinkedQueue<>();
+        BoundedAsyncPool<StatefulRedisConnection<String, String>> slowPool = AsyncConnectionPoolSupport.createBoundedObjectPool(
+                () -> {
+                    CompletableFuture<StatefulRedisConnection<String, String>> pendingConnection = new CompletableFuture<>();
+                    pendingConnections.add(pendingConnection);
+                    return pendingConnection;
+                },
+                BoundedPoolConfig.builder().maxTotal(MAX_TOTAL).maxIdle(MAX_TOTAL).minIdle(0).build());
+        RedisConnectionPool connectionPool = new RedisConnectionPool(mock(RedisClient.class), slowPool,
+                Duration.ofMillis(100));
+
+        // Both acquisitions are cancelled, as by the action timeout, while their connections are being opened
+        for (int i = 0; i < MAX_TOTAL; i++) {
+            connectionPool.acquire().subscribe().dispose();
+        }
+        assertEquals(MAX_TOTAL, pendingConnections.size());
+
+        // The connections are opened only after the cancellations
+        CompletableFuture<StatefulRedisConnection<String, String>> pendingConnection;
+        while ((pendingConnection = pendingConnections.poll()) != null) {
+            StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+            when(connection.isOpen()).thenReturn(true);
+            pendingConnection.complete(connection);
+        }
+
+        // Every permit can be taken again, and the pool serves the connections that were returned to it
+        List<StatefulRedisConnection<String, String>> connections = new ArrayList<>();
+        for (int i = 0; i < MAX_TOTAL; i++) {
+            connections.add(connectionPool.acquire().block(Duration.ofSeconds(5)));
+        }
+        assertEquals(MAX_TOTAL, connections.size());
+        assertTrue(pendingConnections.isEmpty());
+        assertEquals(MAX_TOTAL, slowPool.getObjectCount());
+    }
+}
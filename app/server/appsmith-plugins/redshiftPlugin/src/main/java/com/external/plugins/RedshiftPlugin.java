@@ -1,8 +1,11 @@
 package com.external.plugins;
 
+import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.ResultSetStreamer;
+import com.appsmith.external.helpers.RowSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -13,6 +16,7 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
 import lombok.NonNull;
@@ -22,6 +26,7 @@ import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
@@ -64,6 +69,8 @@ public class RedshiftPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.elastic();
 
+        private final SharedConfig sharedConfig;
+
         private static final String TABLES_QUERY =
                 "select a.attname                                                      as name,\n" +
                         "       t1.typname                                                     as column_type,\n" +
@@ -122,6 +129,10 @@ public class RedshiftPlugin extends BasePlugin {
                 "         kcu.table_name,\n" +
                 "         kcu.ordinal_position;\n";
 
+        public RedshiftPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         private void checkResultSetValidity(ResultSet resultSet) throws AppsmithPluginException {
             if (resultSet == null) {
                 log.debug("Redshift plugin: getRow: driver failed to fetch result: resultSet is null.");
@@ -254,9 +265,17 @@ public class RedshiftPlugin extends BasePlugin {
                                 ResultSetMetaData metaData = resultSet.getMetaData();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
+                                final int maxSizeSupported = sharedConfig.getMaxResponseSize();
+                                RowSizeEstimator rowSizeEstimator = new RowSizeEstimator(maxSizeSupported);
                                 while (resultSet.next()) {
                                     Map<String, Object> row = getRow(resultSet);
                                     rowsList.add(row);
+
+                                    if (!rowSizeEstimator.add(row)) {
+                                        log.debug("[RedshiftPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                                maxSizeSupported, rowSizeEstimator.getSize());
+                                        return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED, (float) (maxSizeSupported / (1024 * 1024))));
+                                    }
                                 }
                             } else {
                                 rowsList.add(Map.of(
@@ -331,6 +350,69 @@ public class RedshiftPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        @Override
+        public boolean isStreamingSupported() {
+            return true;
+        }
+
+        /**
+         * Streams the rows of the query result from a database cursor instead of collecting them into the body of a
+         * single ActionExecutionResult. The request and the hint messages are the same as in
+         * {@link #execute(HikariDataSource, DatasourceConfiguration, ActionConfiguration)}.
+         */
+        @Override
+        public Flux<ActionExecutionResult> executeParameterizedStreaming(HikariDataSource connectionPool,
+                                                                         ExecuteActionDTO executeActionDTO,
+                                                                         DatasourceConfiguration datasourceConfiguration,
+                                                                         ActionConfiguration actionConfiguration) {
+            prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+
+            String query = actionConfiguration.getBody();
+            if (query == null) {
+                return Flux.error(
+                        new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                "Missing required parameter: Query."
+                        )
+                );
+            }
+
+            // Same request as the one execute returns
+            ActionExecutionRequest request = new ActionExecutionRequest();
+            request.setQuery(query);
+            request.setRequestParams(List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null)));
+
+            final List<String> columnsList = new ArrayList<>();
+            Flux<List<Map<String, Object>>> batches = ResultSetStreamer.stream(
+                    () -> {
+                        final Connection connection;
+                        try {
+                            connection = getConnectionFromConnectionPool(connectionPool);
+                        } catch (SQLException e) {
+                            // Same as in execute, an interrupted wait for a connection does not make the pool stale.
+                            if (e.getCause() != null && e.getCause().getClass().equals(InterruptedException.class)) {
+                                throw e;
+                            }
+                            throw new StaleConnectionException();
+                        }
+                        printConnectionPoolStatus(connectionPool, false);
+                        return connection;
+                    },
+                    (connection, fetchSize) -> {
+                        Statement statement = connection.createStatement();
+                        statement.setFetchSize(fetchSize);
+                        statement.execute(query);
+                        return statement;
+                    },
+                    this::getRow,
+                    columnsList::addAll,
+                    sharedConfig.getMaxResponseSize(),
+                    scheduler);
+
+            return ResultSetStreamer.toActionExecutionResults(batches, objectMapper, request,
+                    () -> populateHintMessages(columnsList));
+        }
+
         public void printConnectionPoolStatus(HikariDataSource connectionPool, boolean isFetchingStructure) {
             HikariPoolMXBean poolProxy = connectionPool.getHikariPoolMXBean();
             int idleConnections = poolProxy.getIdleConnections();
@@ -177,7 +177,7 @@ public class RestApiPlugin extends BasePlugin {
 
             /* Triggering the actual REST API call */
             return triggerUtils.triggerApiCall(client, httpMethod, uri, requestBodyObj, actionExecutionRequest,
-                    objectMapper, hintMessages, errorResult, requestCaptureFilter);
+                    objectMapper, hintMessages, errorResult, requestCaptureFilter, sharedConfig.getCodecSize());
         }
 
         private ActionConfiguration updateActionConfigurationForPagination(ActionConfiguration actionConfiguration,
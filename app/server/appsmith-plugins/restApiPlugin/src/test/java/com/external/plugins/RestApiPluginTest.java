@@ -42,6 +42,7 @@ import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -1146,5 +1147,69 @@ public class RestApiPluginTest {
                 })
                 .verifyComplete();
     }
-}
 
+    @Test
+    public void testResponseLargerThanCodecSizeIsRejected() throws IOException {
+        MockWebServer mockWebServer = new MockWebServer();
+        // Chunked, so that the limit is only detected while the body is being read
+        MockResponse mockResponse = new MockResponse()
+                .setChunkedBody("a".repeat(11 * 1024 * 1024), 64 * 1024)
+                .addHeader("Content-Type", "text/plain");
+        mockWebServer.enqueue(mockResponse);
+        mockWebServer.start();
+
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl(mockWebServer.url("/mock/large").toString());
+
+        ActionConfiguration actionConfig = new ActionConfiguration();
+        actionConfig.setHttpMethod(HttpMethod.GET);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(null, new ExecuteActionDTO(), dsConfig, actionConfig);
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertTrue(String.valueOf(result.getBody()).contains("Exceeded limit on max bytes to buffer"));
+                })
+                .verifyComplete();
+
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    public void testJsonAndBinaryResponseBodies() throws IOException {
+        MockWebServer mockWebServer = new MockWebServer();
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"key\": [1, 2, 3]}")
+                .addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("binary-content")
+                .addHeader("Content-Type", "application/octet-stream"));
+        mockWebServer.start();
+
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl(mockWebServer.url("/mock/body").toString());
+
+        ActionConfiguration actionConfig = new ActionConfiguration();
+        actionConfig.setHttpMethod(HttpMethod.GET);
+
+        StepVerifier.create(pluginExecutor.executeParameterized(null, new ExecuteActionDTO(), dsConfig, actionConfig))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals("[1,2,3]", ((ObjectNode) result.getBody()).get("key").toString());
+                    assertEquals("application/json", result.getHeaders().get("Content-Type").get(0).asText());
+                    assertEquals("JSON", result.getHeaders().get("X-APPSMITH-DATATYPE").get(0).asText());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(pluginExecutor.executeParameterized(null, new ExecuteActionDTO(), dsConfig, actionConfig))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(Base64.getEncoder().encodeToString("binary-content".getBytes(StandardCharsets.UTF_8)),
+                            result.getBody());
+                    assertEquals("BINARY", result.getHeaders().get("X-APPSMITH-DATATYPE").get(0).asText());
+                })
+                .verifyComplete();
+
+        mockWebServer.shutdown();
+    }
+}
@@ -12,7 +12,10 @@ import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.external.utils.SqlUtils;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
@@ -22,20 +25,27 @@ import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
-import static com.external.utils.ExecutionUtils.getRowsFromQueryResult;
+import static com.external.utils.ExecutionUtils.getQueryId;
+import static com.external.utils.ExecutionUtils.getRowsFromAsyncQueryResult;
+import static com.external.utils.ExecutionUtils.isAsyncQueryDone;
+import static com.external.utils.ExecutionUtils.submitAsyncQuery;
+import static com.external.utils.SnowflakeDatasourceUtils.JDBC_DRIVER;
+import static com.external.utils.SnowflakeDatasourceUtils.createConnectionPool;
+import static com.external.utils.SnowflakeDatasourceUtils.getConnectionFromConnectionPool;
 import static com.external.utils.ValidationUtils.validateWarehouseDatabaseSchema;
 
 @Slf4j
@@ -46,12 +56,26 @@ public class SnowflakePlugin extends BasePlugin {
     }
 
     @Extension
-    public static class SnowflakePluginExecutor implements PluginExecutor<Connection> {
+    public static class SnowflakePluginExecutor implements PluginExecutor<HikariDataSource> {
+
+        private static final long INITIAL_POLL_INTERVAL_MS = 100;
+
+        private static final long MAX_POLL_INTERVAL_MS = 2000;
+
+        private static final String CANCEL_QUERY = "select system$cancel_query(?)";
 
         private final Scheduler scheduler = Schedulers.elastic();
 
+        private final SharedConfig sharedConfig;
+
+        public SnowflakePluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         @Override
-        public Mono<ActionExecutionResult> execute(Connection connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
+        public Mono<ActionExecutionResult> execute(HikariDataSource connectionPool,
+                                                   DatasourceConfiguration datasourceConfiguration,
+                                                   ActionConfiguration actionConfiguration) {
 
             String query = actionConfiguration.getBody();
 
@@ -61,15 +85,33 @@ public class SnowflakePlugin extends BasePlugin {
                         "Missing required parameter: Query."));
             }
 
+            // Query ID of the submitted query, used to cancel the query if the execution is cancelled, e.g. on timeout.
+            final AtomicReference<String> queryIdReference = new AtomicReference<>();
+
             return Mono
-                    .fromCallable(() -> {
-                        try {
-                            // Connection staleness is checked as part of this method call.
-                            return getRowsFromQueryResult(connection, query);
-                        } catch (AppsmithPluginException | StaleConnectionException e) {
-                            throw e;
-                        }
-                    })
+                    .usingWhen(
+                            Mono.fromCallable(() -> getConnection(connectionPool, false)).subscribeOn(scheduler),
+                            connection -> Mono
+                                    .fromCallable(() -> {
+                                        ResultSet resultSet = submitAsyncQuery(connection, query);
+                                        queryIdReference.set(getQueryId(resultSet));
+                                        return resultSet;
+                                    })
+                                    .subscribeOn(scheduler)
+                                    .flatMap(resultSet -> waitForAsyncQuery(resultSet)
+                                            .then(Mono.fromCallable(() -> getRowsFromAsyncQueryResult(resultSet,
+                                                            sharedConfig.getMaxResponseSize()))
+                                                    .subscribeOn(scheduler))),
+                            connection -> Mono.fromRunnable(() -> closeConnection(connection)).subscribeOn(scheduler),
+                            (connection, error) -> Mono.fromRunnable(() -> closeConnection(connection))
+                                    .subscribeOn(scheduler),
+                            connection -> Mono
+                                    .fromRunnable(() -> {
+                                        cancelQuery(connection, queryIdReference.get());
+                                        closeConnection(connection);
+                                    })
+                                    .subscribeOn(scheduler)
+                    )
                     .map(rowsList -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         result.setBody(objectMapper.valueToTree(rowsList));
@@ -78,52 +120,114 @@ public class SnowflakePlugin extends BasePlugin {
                         request.setQuery(query);
                         result.setRequest(request);
                         return result;
-                    })
-                    .subscribeOn(scheduler);
+                    });
+        }
+
+        /**
+         * Poll the status of an asynchronous query until it is done. The status is checked often at first, so that
+         * short queries return quickly, and less and less often for long running ones. No thread is held while
+         * waiting between two checks.
+         */
+        private Mono<Boolean> waitForAsyncQuery(ResultSet resultSet) {
+            return Mono
+                    .fromCallable(() -> isAsyncQueryDone(resultSet))
+                    .subscribeOn(scheduler)
+                    .filter(isDone -> isDone)
+                    .repeatWhenEmpty(attempts -> attempts.concatMap(attempt -> Mono.delay(Duration.ofMillis(
+                            Math.min(INITIAL_POLL_INTERVAL_MS << Math.min(attempt, 5), MAX_POLL_INTERVAL_MS)))));
+        }
+
+        private Connection getConnection(HikariDataSource connectionPool, boolean isFetchingStructure) {
+            Connection connection;
+            try {
+                connection = getConnectionFromConnectionPool(connectionPool);
+            } catch (SQLException | StaleConnectionException e) {
+                /**
+                 * When the user configured time limit for the query execution is over, and the query is still
+                 * queued in the connectionPool then InterruptedException is thrown as the execution thread is
+                 * prepared for termination. This exception is wrapped inside SQLException and hence needs to be
+                 * checked via getCause method. This exception does not indicate a Stale connection.
+                 */
+                if (e.getCause() != null && e.getCause().getClass().equals(InterruptedException.class)) {
+                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage());
+                }
+
+                // The underlying hikari library throws SQLException in case the pool is closed or there is an issue
+                // initializing the connection pool which can also be translated in our world to
+                // StaleConnectionException and should then trigger the destruction and recreation of the pool.
+                throw new StaleConnectionException();
+            }
+
+            /**
+             * Keeping this print statement post call to getConnectionFromConnectionPool because it checks for
+             * stale connection pool.
+             */
+            printConnectionPoolStatus(connectionPool, isFetchingStructure);
+
+            return connection;
+        }
+
+        private void closeConnection(Connection connection) {
+            try {
+                // Returns the connection to the pool, along with closing the statements opened on it.
+                connection.close();
+            } catch (SQLException e) {
+                log.error("Exception caught when returning Snowflake connection to the pool. Cause: ", e);
+            }
+        }
+
+        /**
+         * Asynchronous queries keep running on the warehouse after their session is gone, so a query whose execution
+         * has been cancelled is cancelled on Snowflake as well.
+         */
+        private void cancelQuery(Connection connection, String queryId) {
+            if (queryId == null) {
+                return;
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(CANCEL_QUERY)) {
+                statement.setString(1, queryId);
+                statement.execute();
+            } catch (SQLException e) {
+                log.error("Exception caught when cancelling Snowflake query " + queryId + ". Cause: ", e);
+            }
+        }
+
+        public void printConnectionPoolStatus(HikariDataSource connectionPool, boolean isFetchingStructure) {
+            HikariPoolMXBean poolProxy = connectionPool.getHikariPoolMXBean();
+            int idleConnections = poolProxy.getIdleConnections();
+            int activeConnections = poolProxy.getActiveConnections();
+            int totalConnections = poolProxy.getTotalConnections();
+            int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
+            log.debug(Thread.currentThread().getName() + (isFetchingStructure ? "Before fetching Snowflake db" +
+                    " structure." : "Before executing Snowflake query.") + " Hikari Pool stats : " +
+                    " active - " + activeConnections +
+                    ", idle - " + idleConnections +
+                    ", awaiting - " + threadsAwaitingConnection +
+                    ", total - " + totalConnections);
         }
 
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             try {
-                Class.forName("net.snowflake.client.jdbc.SnowflakeDriver");
+                Class.forName(JDBC_DRIVER);
             } catch (ClassNotFoundException ex) {
                 log.debug("Driver not found");
                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, ex.getMessage()));
             }
-            DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
-            Properties properties = new Properties();
-            properties.setProperty("user", authentication.getUsername());
-            properties.setProperty("password", authentication.getPassword());
-            properties.setProperty("warehouse", String.valueOf(datasourceConfiguration.getProperties().get(0).getValue()));
-            properties.setProperty("db", String.valueOf(datasourceConfiguration.getProperties().get(1).getValue()));
-            properties.setProperty("schema", String.valueOf(datasourceConfiguration.getProperties().get(2).getValue()));
-            properties.setProperty("role", String.valueOf(datasourceConfiguration.getProperties().get(3).getValue()));
 
             return Mono
                     .fromCallable(() -> {
-                        Connection conn;
-                        try {
-                            conn = DriverManager.getConnection("jdbc:snowflake://" + datasourceConfiguration.getUrl() + ".snowflakecomputing.com", properties);
-                        } catch (SQLException e) {
-                            log.error("Exception caught when connecting to Snowflake endpoint: " + datasourceConfiguration.getUrl() + ". Cause: ", e);
-                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR, e.getMessage());
-                        }
-                        if (conn == null) {
-                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Unable to create connection to Snowflake URL");
-                        }
-                        return conn;
+                        log.debug(Thread.currentThread().getName() + ": Connecting to Snowflake db");
+                        return createConnectionPool(datasourceConfiguration);
                     })
                     .subscribeOn(scheduler);
         }
 
         @Override
-        public void datasourceDestroy(Connection connection) {
-            if (connection != null) {
-                try {
-                    connection.close();
-                } catch (SQLException throwable) {
-                    log.error("Exception caught when closing Snowflake connection. Cause: ", throwable);
-                }
+        public void datasourceDestroy(HikariDataSource connectionPool) {
+            if (connectionPool != null) {
+                connectionPool.close();
             }
         }
 
@@ -176,21 +280,29 @@ public class SnowflakePlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceTestResult> testDatasource(Connection connection) {
+        public Mono<DatasourceTestResult> testDatasource(HikariDataSource connectionPool) {
             return Mono.fromCallable(() -> {
-                        return validateWarehouseDatabaseSchema(connection);
+                        Connection connection = getConnection(connectionPool, false);
+                        try {
+                            return validateWarehouseDatabaseSchema(connection);
+                        } finally {
+                            closeConnection(connection);
+                        }
                     })
-                    .map(DatasourceTestResult::new);
+                    .map(DatasourceTestResult::new)
+                    .subscribeOn(scheduler);
         }
 
         @Override
-        public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+        public Mono<DatasourceStructure> getStructure(HikariDataSource connectionPool,
+                                                      DatasourceConfiguration datasourceConfiguration) {
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
 
             return Mono
                     .fromSupplier(() -> {
+                        Connection connection = getConnection(connectionPool, true);
                         try {
                             // Connection staleness is checked as part of this method call.
                             Set<String> invalids = validateWarehouseDatabaseSchema(connection);
@@ -228,6 +340,8 @@ public class SnowflakePlugin extends BasePlugin {
                         } catch (SQLException throwable) {
                             log.error("Exception caught while fetching structure of Snowflake datasource. Cause: ", throwable);
                             throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, throwable.getMessage());
+                        } finally {
+                            closeConnection(connection);
                         }
                         return structure;
                     })
@@ -3,8 +3,12 @@ package com.external.utils;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.RowSizeEstimator;
 import lombok.extern.slf4j.Slf4j;
+import net.snowflake.client.core.QueryStatus;
 import net.snowflake.client.jdbc.SnowflakeReauthenticationRequest;
+import net.snowflake.client.jdbc.SnowflakeResultSet;
+import net.snowflake.client.jdbc.SnowflakeStatement;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -19,7 +23,7 @@ import java.util.Map;
 @Slf4j
 public class ExecutionUtils {
     /**
-     * Execute query and return the resulting table as a list of rows.
+     * Execute query and return the resulting table as a list of rows, without any limit on the size of the result.
      *
      * @param connection - Connection object to execute query.
      * @param query      - Query string
@@ -29,7 +33,22 @@ public class ExecutionUtils {
      */
     public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query) throws
             AppsmithPluginException, StaleConnectionException {
-        List<Map<String, Object>> rowsList = new ArrayList<>();
+        return getRowsFromQueryResult(connection, query, Long.MAX_VALUE);
+    }
+
+    /**
+     * Execute query and return the resulting table as a list of rows.
+     *
+     * @param connection       - Connection object to execute query.
+     * @param query            - Query string
+     * @param maxSizeSupported - Maximum size of the result in bytes. Reading stops as soon as the result exceeds it.
+     * @return List of rows from the response table.
+     * @throws AppsmithPluginException
+     * @throws StaleConnectionException
+     */
+    public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query,
+                                                                   long maxSizeSupported) throws
+            AppsmithPluginException, StaleConnectionException {
         ResultSet resultSet = null;
         Statement statement = null;
         try {
@@ -42,43 +61,147 @@ public class ExecutionUtils {
 
             statement = connection.createStatement();
             resultSet = statement.executeQuery(query);
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
-
-            while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                for (int i = 1; i <= colCount; i++) {
-                    Object value = resultSet.getObject(i);
-                    row.put(metaData.getColumnName(i), value);
-                }
-                rowsList.add(row);
-            }
+            return getRowsFromResultSet(resultSet, maxSizeSupported);
         } catch (SQLException e) {
-            if (e instanceof SnowflakeReauthenticationRequest) {
-                throw new StaleConnectionException();
-            }
-            log.error("Exception caught when executing Snowflake query. Cause: ", e);
-            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, e.getMessage());
+            throw getExecutionError(e);
+        } finally {
+            closeResultSetAndStatement(resultSet, statement);
+        }
+    }
+
+    /**
+     * Submit the query to be run asynchronously by Snowflake. The call returns as soon as the query is accepted, the
+     * status of the query can then be polled with isAsyncQueryDone and the rows read with getRowsFromAsyncQueryResult
+     * once it is done.
+     *
+     * @param connection - Connection object to submit the query with. It must be kept open until the rows are read.
+     * @param query      - Query string
+     * @return Result set of the query. Reading it before the query is done blocks until it is.
+     * @throws AppsmithPluginException
+     * @throws StaleConnectionException
+     */
+    public static ResultSet submitAsyncQuery(Connection connection, String query) throws AppsmithPluginException,
+            StaleConnectionException {
+        Statement statement = null;
+        try {
+            statement = connection.createStatement();
+            return statement.unwrap(SnowflakeStatement.class).executeAsyncQuery(query);
+        } catch (SQLException e) {
+            closeResultSetAndStatement(null, statement);
+            throw getExecutionError(e);
+        }
+    }
+
+    /**
+     * @param resultSet - Result set returned by submitAsyncQuery.
+     * @return Query ID assigned by Snowflake to the query.
+     */
+    public static String getQueryId(ResultSet resultSet) throws AppsmithPluginException, StaleConnectionException {
+        try {
+            return resultSet.unwrap(SnowflakeResultSet.class).getQueryID();
+        } catch (SQLException e) {
+            throw getExecutionError(e);
+        }
+    }
 
+    /**
+     * Fetch the current status of an asynchronous query from Snowflake.
+     *
+     * @param resultSet - Result set returned by submitAsyncQuery.
+     * @return true if the query is done, false if it is still queued or running.
+     * @throws AppsmithPluginException if the query has failed or has been aborted.
+     * @throws StaleConnectionException
+     */
+    public static boolean isAsyncQueryDone(ResultSet resultSet) throws AppsmithPluginException,
+            StaleConnectionException {
+        QueryStatus status;
+        try {
+            status = resultSet.unwrap(SnowflakeResultSet.class).getStatus();
+        } catch (SQLException e) {
+            throw getExecutionError(e);
+        }
+
+        if (QueryStatus.isAnError(status)) {
+            log.error("Snowflake query failed with status " + status + ". Cause: " + status.getErrorMessage());
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    status.getErrorMessage());
+        }
+
+        return !QueryStatus.isStillRunning(status);
+    }
+
+    /**
+     * Read the rows of an asynchronous query and close its result set and statement.
+     *
+     * @param resultSet        - Result set returned by submitAsyncQuery.
+     * @param maxSizeSupported - Maximum size of the result in bytes. Reading stops as soon as the result exceeds it.
+     * @return List of rows from the response table.
+     * @throws AppsmithPluginException
+     * @throws StaleConnectionException
+     */
+    public static List<Map<String, Object>> getRowsFromAsyncQueryResult(ResultSet resultSet, long maxSizeSupported)
+            throws AppsmithPluginException, StaleConnectionException {
+        Statement statement = null;
+        try {
+            statement = resultSet.getStatement();
+            return getRowsFromResultSet(resultSet, maxSizeSupported);
+        } catch (SQLException e) {
+            throw getExecutionError(e);
         } finally {
-            if (resultSet != null) {
-                try {
-                    resultSet.close();
-                } catch (SQLException e) {
-                    log.error("Unable to close Snowflake resultset. Cause: ", e);
-                }
+            closeResultSetAndStatement(resultSet, statement);
+        }
+    }
+
+    private static List<Map<String, Object>> getRowsFromResultSet(ResultSet resultSet, long maxSizeSupported)
+            throws SQLException {
+        List<Map<String, Object>> rowsList = new ArrayList<>();
+        RowSizeEstimator rowSizeEstimator = new RowSizeEstimator(maxSizeSupported);
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int colCount = metaData.getColumnCount();
+
+        while (resultSet.next()) {
+            // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
+            Map<String, Object> row = new LinkedHashMap<>(colCount);
+
+            for (int i = 1; i <= colCount; i++) {
+                Object value = resultSet.getObject(i);
+                row.put(metaData.getColumnName(i), value);
             }
-            if (statement != null) {
-                try {
-                    statement.close();
-                } catch (SQLException e) {
-                    log.error("Unable to close Snowflake statement. Cause: ", e);
-                }
+            rowsList.add(row);
+
+            if (!rowSizeEstimator.add(row)) {
+                log.debug("[SnowflakePlugin] Result size greater than maximum supported size of "
+                        + maxSizeSupported + " bytes. Current size : " + rowSizeEstimator.getSize());
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED,
+                        (float) (maxSizeSupported / (1024 * 1024)));
             }
         }
 
         return rowsList;
     }
+
+    private static RuntimeException getExecutionError(SQLException e) {
+        if (e instanceof SnowflakeReauthenticationRequest) {
+            return new StaleConnectionException();
+        }
+        log.error("Exception caught when executing Snowflake query. Cause: ", e);
+        return new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, e.getMessage());
+    }
+
+    private static void closeResultSetAndStatement(ResultSet resultSet, Statement statement) {
+        if (resultSet != null) {
+            try {
+                resultSet.close();
+            } catch (SQLException e) {
+                log.error("Unable to close Snowflake resultset. Cause: ", e);
+            }
+        }
+        if (statement != null) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                log.error("Unable to close Snowflake statement. Cause: ", e);
+            }
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.models.DBAuth;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+@Slf4j
+public class SnowflakeDatasourceUtils {
+
+    public static final String JDBC_DRIVER = "net.snowflake.client.jdbc.SnowflakeDriver";
+
+    private static final int MINIMUM_POOL_SIZE = 1;
+    private static final int MAXIMUM_POOL_SIZE = 5;
+    private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+    private static final String JDBC_PROTOCOL = "jdbc:snowflake://";
+    private static final String SNOWFLAKE_DOMAIN = ".snowflakecomputing.com";
+
+    public static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration) throws AppsmithPluginException {
+        HikariConfig config = new HikariConfig();
+
+        config.setDriverClassName(JDBC_DRIVER);
+        config.setMinimumIdle(MINIMUM_POOL_SIZE);
+        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+
+        // Set authentication properties
+        DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
+        if (authentication.getUsername() != null) {
+            config.setUsername(authentication.getUsername());
+        }
+        if (authentication.getPassword() != null) {
+            config.setPassword(authentication.getPassword());
+        }
+
+        // Set up the connection URL
+        config.setJdbcUrl(JDBC_PROTOCOL + datasourceConfiguration.getUrl() + SNOWFLAKE_DOMAIN);
+
+        // Set the session properties, these are passed to the driver along with the credentials
+        config.addDataSourceProperty("warehouse", String.valueOf(datasourceConfiguration.getProperties().get(0).getValue()));
+        config.addDataSourceProperty("db", String.valueOf(datasourceConfiguration.getProperties().get(1).getValue()));
+        config.addDataSourceProperty("schema", String.valueOf(datasourceConfiguration.getProperties().get(2).getValue()));
+        config.addDataSourceProperty("role", String.valueOf(datasourceConfiguration.getProperties().get(3).getValue()));
+
+        // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
+        // should get tracked (may be falsely for long running queries) as leaked connection
+        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+        config.setConnectionTimeout(60 * 1000);
+
+        // Now create the connection pool from the configuration
+        HikariDataSource datasource = null;
+        try {
+            datasource = new HikariDataSource(config);
+        } catch (HikariPool.PoolInitializationException e) {
+            log.error("Exception caught when connecting to Snowflake endpoint: " + datasourceConfiguration.getUrl() + ". Cause: ", e);
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                    e.getMessage()
+            );
+        }
+
+        return datasource;
+    }
+
+    public static Connection getConnectionFromConnectionPool(HikariDataSource connectionPool) throws SQLException {
+
+        if (connectionPool == null || connectionPool.isClosed() || !connectionPool.isRunning()) {
+            log.debug(Thread.currentThread().getName() +
+                    ": Encountered stale connection pool in Snowflake plugin. Reporting back.");
+            throw new StaleConnectionException();
+        }
+
+        return connectionPool.getConnection();
+    }
+}
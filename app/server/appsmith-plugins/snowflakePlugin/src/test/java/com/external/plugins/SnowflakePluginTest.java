@@ -1,15 +1,22 @@
 package com.external.plugins;
 
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Property;
+import com.appsmith.external.services.SharedConfig;
 import com.external.utils.ExecutionUtils;
 import com.external.utils.ValidationUtils;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import lombok.extern.slf4j.Slf4j;
+import net.snowflake.client.core.QueryStatus;
 import net.snowflake.client.jdbc.SnowflakeReauthenticationRequest;
+import net.snowflake.client.jdbc.SnowflakeResultSet;
+import net.snowflake.client.jdbc.SnowflakeStatement;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.stubbing.Answer;
@@ -17,6 +24,8 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
@@ -33,12 +42,32 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Slf4j
 public class SnowflakePluginTest {
 
-    SnowflakePlugin.SnowflakePluginExecutor pluginExecutor = new SnowflakePlugin.SnowflakePluginExecutor();
+    public class MockSharedConfig implements SharedConfig {
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 10000;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
+    SnowflakePlugin.SnowflakePluginExecutor pluginExecutor = new SnowflakePlugin.SnowflakePluginExecutor(new MockSharedConfig());
 
     @Test
     public void testValidateDatasource_withInvalidCredentials_returnsInvalids() {
@@ -57,16 +86,26 @@ public class SnowflakePluginTest {
         assertTrue(output.contains("Missing schema name."));
     }
 
+    private HikariDataSource mockConnectionPool(Connection connection) throws SQLException {
+        final HikariDataSource connectionPool = mock(HikariDataSource.class);
+        when(connectionPool.isClosed()).thenReturn(false);
+        when(connectionPool.isRunning()).thenReturn(true);
+        when(connectionPool.getHikariPoolMXBean()).thenReturn(mock(HikariPoolMXBean.class));
+        when(connectionPool.getConnection()).thenReturn(connection);
+        return connectionPool;
+    }
+
     @Test
     public void testExecute_authenticationTimeout_returnsStaleConnectionException() throws SQLException {
         final String testQuery = "testQuery";
         final Connection connection = mock(Connection.class);
-        when(connection.isValid(30))
-                .thenReturn(true);
         final Statement statement = mock(Statement.class);
         when(connection.createStatement())
                 .thenReturn(statement);
-        when(statement.executeQuery(testQuery))
+        final SnowflakeStatement snowflakeStatement = mock(SnowflakeStatement.class);
+        when(statement.unwrap(SnowflakeStatement.class))
+                .thenReturn(snowflakeStatement);
+        when(snowflakeStatement.executeAsyncQuery(testQuery))
                 .thenThrow(new SnowflakeReauthenticationRequest(
                         "1",
                         "Authentication token expired",
@@ -75,11 +114,80 @@ public class SnowflakePluginTest {
         final ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody(testQuery);
         final Mono<ActionExecutionResult> actionExecutionResultMono =
-                pluginExecutor.execute(connection, new DatasourceConfiguration(), actionConfiguration);
+                pluginExecutor.execute(mockConnectionPool(connection), new DatasourceConfiguration(),
+                        actionConfiguration);
 
         StepVerifier.create(actionExecutionResultMono)
                 .expectErrorMatches(e -> e instanceof StaleConnectionException)
                 .verify();
+        verify(connection).close();
+    }
+
+    @Test
+    public void testExecute_asyncQuery_pollsStatusUntilDone() throws SQLException {
+        final String testQuery = "select id from users";
+        final Connection connection = mock(Connection.class);
+        final Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        final SnowflakeStatement snowflakeStatement = mock(SnowflakeStatement.class);
+        when(statement.unwrap(SnowflakeStatement.class)).thenReturn(snowflakeStatement);
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(snowflakeStatement.executeAsyncQuery(testQuery)).thenReturn(resultSet);
+        final SnowflakeResultSet snowflakeResultSet = mock(SnowflakeResultSet.class);
+        when(resultSet.unwrap(SnowflakeResultSet.class)).thenReturn(snowflakeResultSet);
+        when(snowflakeResultSet.getQueryID()).thenReturn("queryId");
+        when(snowflakeResultSet.getStatus())
+                .thenReturn(QueryStatus.QUEUED, QueryStatus.RUNNING, QueryStatus.SUCCESS);
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnName(1)).thenReturn("ID");
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getObject(1)).thenReturn(1, 2);
+
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(testQuery);
+        final Mono<ActionExecutionResult> actionExecutionResultMono =
+                pluginExecutor.execute(mockConnectionPool(connection), new DatasourceConfiguration(),
+                        actionConfiguration);
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals("[{\"ID\":1},{\"ID\":2}]", result.getBody().toString());
+                })
+                .verifyComplete();
+        verify(snowflakeResultSet, times(3)).getStatus();
+        verify(connection).close();
+    }
+
+    @Test
+    public void testExecute_failedAsyncQuery_returnsErrorMessage() throws SQLException {
+        final String testQuery = "select id from missing_table";
+        final Connection connection = mock(Connection.class);
+        final Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        final SnowflakeStatement snowflakeStatement = mock(SnowflakeStatement.class);
+        when(statement.unwrap(SnowflakeStatement.class)).thenReturn(snowflakeStatement);
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(snowflakeStatement.executeAsyncQuery(testQuery)).thenReturn(resultSet);
+        final SnowflakeResultSet snowflakeResultSet = mock(SnowflakeResultSet.class);
+        when(resultSet.unwrap(SnowflakeResultSet.class)).thenReturn(snowflakeResultSet);
+        final QueryStatus failedStatus = QueryStatus.FAILED_WITH_ERROR;
+        failedStatus.setErrorMessage("Object 'MISSING_TABLE' does not exist or not authorized.");
+        when(snowflakeResultSet.getStatus()).thenReturn(failedStatus);
+
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(testQuery);
+        final Mono<ActionExecutionResult> actionExecutionResultMono =
+                pluginExecutor.execute(mockConnectionPool(connection), new DatasourceConfiguration(),
+                        actionConfiguration);
+
+        StepVerifier.create(actionExecutionResultMono)
+                .expectErrorMatches(e -> e instanceof AppsmithPluginException
+                        && e.getMessage().equals("Object 'MISSING_TABLE' does not exist or not authorized."))
+                .verify();
+        verify(connection).close();
     }
 
     /**
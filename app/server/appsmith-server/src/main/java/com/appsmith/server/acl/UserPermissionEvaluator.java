@@ -0,0 +1,134 @@
+package com.appsmith.server.acl;
+
+import com.appsmith.external.models.Policy;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes the permissions that a user has on documents, given the permission groups of the user and the policies of
+ * the documents.
+ * <p>
+ * The permissions are accumulated as the bits of a long, one per distinct value of {@link AclPermission}, so a
+ * permission that has already been granted by one policy is skipped without checking the groups of the other policies.
+ * Documents returned by the same query mostly carry the same permissions, so the permission values of each distinct
+ * combination of permissions are collected once, and every document gets its own copy of them. An evaluator is meant to
+ * be created once per query and used for all the documents it returns.
+ */
+public class UserPermissionEvaluator {
+
+    private static final Map<String, Integer> PERMISSION_INDEX_MAP = new HashMap<>();
+
+    private static final List<String> PERMISSION_VALUES = new ArrayList<>();
+
+    static {
+        for (AclPermission permission : AclPermission.values()) {
+            // Some permissions share the same value for different entities, they share a bit as well
+            if (!PERMISSION_INDEX_MAP.containsKey(permission.getValue())) {
+                PERMISSION_INDEX_MAP.put(permission.getValue(), PERMISSION_VALUES.size());
+                PERMISSION_VALUES.add(permission.getValue());
+            }
+        }
+
+        if (PERMISSION_VALUES.size() > Long.SIZE) {
+            throw new IllegalStateException("Number of distinct permissions " + PERMISSION_VALUES.size()
+                    + " is more than the number of bits in the permission mask");
+        }
+    }
+
+    private final Set<String> permissionGroups;
+
+    private final Map<Long, List<String>> permissionValuesMap = new ConcurrentHashMap<>();
+
+    public UserPermissionEvaluator(Set<String> permissionGroups) {
+        this.permissionGroups = permissionGroups == null ? Collections.emptySet() : permissionGroups;
+    }
+
+    /**
+     * @param policyPermissionGroups Permission groups of a policy.
+     * @return true if the user belongs to any of the permission groups of the policy.
+     */
+    private boolean isGrantedBy(Set<String> policyPermissionGroups) {
+        // Iterate over the smaller of the two sets, and look up its elements in the other one
+        if (policyPermissionGroups.size() < permissionGroups.size()) {
+            for (String permissionGroup : policyPermissionGroups) {
+                if (permissionGroups.contains(permissionGroup)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        for (String permissionGroup : permissionGroups) {
+            if (policyPermissionGroups.contains(permissionGroup)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> toPermissionValues(long permissionMask) {
+        List<String> permissions = new ArrayList<>(Long.bitCount(permissionMask));
+        long remainingMask = permissionMask;
+        while (remainingMask != 0) {
+            int index = Long.numberOfTrailingZeros(remainingMask);
+            permissions.add(PERMISSION_VALUES.get(index));
+            remainingMask &= remainingMask - 1;
+        }
+        return permissions;
+    }
+
+    /**
+     * @param policies Policies of a document.
+     * @return Values of all the permissions that the user has on the document. The returned set belongs to the document
+     * and may be modified, e.g. when the document is sanitised for export.
+     */
+    public Set<String> getPermissions(Set<Policy> policies) {
+        if (CollectionUtils.isEmpty(policies) || permissionGroups.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        long permissionMask = 0;
+        Set<String> otherPermissions = null;
+
+        for (Policy policy : policies) {
+            String permission = policy.getPermission();
+            Set<String> policyPermissionGroups = policy.getPermissionGroups();
+            if (permission == null || CollectionUtils.isEmpty(policyPermissionGroups)) {
+                continue;
+            }
+
+            Integer index = PERMISSION_INDEX_MAP.get(permission);
+            if (index == null) {
+                // Permissions that are not part of AclPermission, e.g. of older documents, are checked the slow way
+                if (isGrantedBy(policyPermissionGroups)) {
+                    if (otherPermissions == null) {
+                        otherPermissions = new HashSet<>();
+                    }
+                    otherPermissions.add(permission);
+                }
+                continue;
+            }
+
+            long permissionBit = 1L << index;
+            if ((permissionMask & permissionBit) == 0 && isGrantedBy(policyPermissionGroups)) {
+                permissionMask |= permissionBit;
+            }
+        }
+
+        List<String> permissionValues = permissionValuesMap.computeIfAbsent(permissionMask,
+                UserPermissionEvaluator::toPermissionValues);
+        if (otherPermissions != null) {
+            otherPermissions.addAll(permissionValues);
+            return otherPermissions;
+        }
+        return new HashSet<>(permissionValues);
+    }
+}
@@ -63,6 +63,10 @@ public class CommonConfig {
     @Value("${disable.telemetry:true}")
     private boolean isTelemetryDisabled;
 
+    // Number of resources inserted with a single insertMany while importing an application
+    @Value("${appsmith.import.batch-size:500}")
+    private int importBatchSize;
+
     private String rtsBaseDomain = "http://127.0.0.1:8091";
 
     private List<String> allowedDomains;
@@ -7,7 +7,8 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class PluginConfiguration {
 
-    @Bean
+    // Stopping the plugins on shutdown lets them release the resources they share between datasources
+    @Bean(destroyMethod = "stopPlugins")
     public SpringPluginManager pluginManager() {
         return new SpringPluginManager();
     }
@@ -79,6 +79,19 @@ public class ActionControllerCE {
                 .map(updatedResource -> new ResponseDTO<>(HttpStatus.OK.value(), updatedResource, null));
     }
 
+    /**
+     * Executes the action like `/execute` does, but writes the result as newline delimited JSON. For plugins that
+     * support streaming, every line carries a batch of rows that is written as soon as it has been read from the data
+     * source, so that the client gets the first rows without waiting for the whole result.
+     */
+    @PostMapping(value = "/execute/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ResponseDTO<ActionExecutionResult>> executeActionStreaming(@RequestBody Flux<Part> partFlux,
+                                                                          @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
+        return newActionService.executeActionStreaming(partFlux, branchName)
+                .map(result -> new ResponseDTO<>(HttpStatus.OK.value(), result, null));
+    }
+
     @PutMapping("/move")
     public Mono<ResponseDTO<ActionDTO>> moveAction(@RequestBody @Valid ActionMoveDTO actionMoveDTO,
                                                    @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
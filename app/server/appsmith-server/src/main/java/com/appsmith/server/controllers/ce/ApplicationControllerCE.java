@@ -22,6 +22,7 @@ import com.appsmith.server.solutions.ApplicationForkingService;
 import com.appsmith.server.solutions.ImportExportApplicationService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -41,6 +42,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
@@ -158,14 +160,14 @@ public class ApplicationControllerCE extends BaseController<ApplicationService,
     }
 
     @GetMapping("/export/{id}")
-    public Mono<ResponseEntity<Object>> getApplicationFile(@PathVariable String id,
-                                                           @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getApplicationFile(@PathVariable String id,
+                                                                     @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
         log.debug("Going to export application with id: {}, branch: {}", id, branchName);
 
         return importExportApplicationService.getApplicationFile(id, branchName)
                 .map(fetchedResource -> {
                     HttpHeaders responseHeaders = fetchedResource.getHttpHeaders();
-                    Object applicationResource = fetchedResource.getApplicationResource();
+                    Flux<DataBuffer> applicationResource = fetchedResource.getApplicationResource();
                     return new ResponseEntity<>(applicationResource, responseHeaders, HttpStatus.OK);
                 });
     }
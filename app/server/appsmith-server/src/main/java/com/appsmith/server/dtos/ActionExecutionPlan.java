@@ -0,0 +1,26 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.Plugin;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Everything that has to be resolved before an action can be run: the action, its validated datasource, the plugin of
+ * the datasource and the executor of the plugin.
+ */
+@Data
+@AllArgsConstructor
+public class ActionExecutionPlan {
+
+    NewAction action;
+
+    Datasource datasource;
+
+    Plugin plugin;
+
+    PluginExecutor pluginExecutor;
+
+}
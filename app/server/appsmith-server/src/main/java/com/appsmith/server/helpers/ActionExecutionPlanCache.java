@@ -0,0 +1,246 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.dtos.ActionExecutionPlan;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.appsmith.caching.components.TieredCacheManagerImpl.EVICT_ALL_PREFIX;
+import static com.appsmith.caching.components.TieredCacheManagerImpl.EVICT_PREFIX;
+import static com.appsmith.caching.components.TieredCacheManagerImpl.INVALIDATION_CHANNEL;
+
+/**
+ * Per node cache of the execution plans of the actions run in view mode. Actions of deployed applications, the page
+ * load actions in particular, are run far more often than they change, so the action, its datasource and its plugin
+ * don't have to be read from the DB and decrypted for every run.
+ * <p>
+ * The action and the datasource are kept as documents and read into new objects for every run, because the plugins
+ * modify the configurations that they run with. Plans are evicted when the action, its application or its datasource
+ * is saved, and all of them when the policies of actions or datasources change. Evictions are published on the cache
+ * invalidation channel of Redis, in the same format as the tiered cache manager, so that every node drops the plans.
+ * Plans also expire after a minute, in case an eviction could not be published.
+ */
+@Slf4j
+@Component
+public class ActionExecutionPlanCache {
+
+    static final String CACHE_NAME = "actionExecutionPlans";
+
+    private static final String ACTION_KEY_PREFIX = "action/";
+
+    private static final String APPLICATION_KEY_PREFIX = "application/";
+
+    private static final String DATASOURCE_KEY_PREFIX = "datasource/";
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private static final long MAXIMUM_SIZE = 10_000;
+
+    private final MongoConverter mongoConverter;
+
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private Disposable invalidationSubscription;
+
+    // actionId => plan of the action
+    private final Cache<String, CachedPlan> cache = CacheBuilder.newBuilder()
+            .expireAfterWrite(TIME_TO_LIVE)
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+
+    // Incremented by every eviction, so that a plan which was resolved before an eviction is not cached after it
+    private final AtomicLong generation = new AtomicLong();
+
+    public ActionExecutionPlanCache(MongoConverter mongoConverter,
+                                    ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+        this.mongoConverter = mongoConverter;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+    }
+
+    @AllArgsConstructor
+    private static class CachedPlan {
+        final String applicationId;
+        final String datasourceId;
+        final Document actionDocument;
+        final Document datasourceDocument;
+        final Plugin plugin;
+        final PluginExecutor pluginExecutor;
+    }
+
+    /**
+     * Subscribes to the evictions published by all the nodes.
+     */
+    @PostConstruct
+    public void subscribeToInvalidations() {
+        invalidationSubscription = reactiveRedisOperations.listenToChannel(INVALIDATION_CHANNEL)
+                // Evictions published while this node was not subscribed are lost, drop everything on (re)subscription
+                .doOnSubscribe(subscription -> evictAllLocally())
+                .map(ReactiveSubscription.Message::getMessage)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofMinutes(1))
+                        .doBeforeRetry(signal -> log.warn("Subscription to execution plan invalidations failed, retrying", signal.failure())))
+                .subscribe(this::handleInvalidation);
+    }
+
+    @PreDestroy
+    public void unsubscribeFromInvalidations() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    /**
+     * Drops the plans named in a message published on the invalidation channel. Messages of the other caches are
+     * ignored.
+     *
+     * @param message Either "evict:actionExecutionPlans:{action|application|datasource}/id" or
+     *                "evictAll:actionExecutionPlans".
+     */
+    void handleInvalidation(String message) {
+        if (message.equals(EVICT_ALL_PREFIX + CACHE_NAME)) {
+            evictAllLocally();
+            return;
+        }
+
+        String cachePrefix = EVICT_PREFIX + CACHE_NAME + ":";
+        if (!message.startsWith(cachePrefix)) {
+            return;
+        }
+
+        String key = message.substring(cachePrefix.length());
+        if (key.startsWith(ACTION_KEY_PREFIX)) {
+            evictActionLocally(key.substring(ACTION_KEY_PREFIX.length()));
+        } else if (key.startsWith(APPLICATION_KEY_PREFIX)) {
+            evictApplicationLocally(key.substring(APPLICATION_KEY_PREFIX.length()));
+        } else if (key.startsWith(DATASOURCE_KEY_PREFIX)) {
+            evictDatasourceLocally(key.substring(DATASOURCE_KEY_PREFIX.length()));
+        } else {
+            log.debug("Ignoring unknown execution plan invalidation message {}", message);
+        }
+    }
+
+    /**
+     * @return generation to pass to {@link #put(ActionExecutionPlan, long)}, to be read before the plan is resolved
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * @param actionId id of the action to be run
+     * @return the cached plan with a new copy of the action and the datasource, empty if no plan is cached
+     */
+    public Optional<ActionExecutionPlan> get(String actionId) {
+        CachedPlan cachedPlan = cache.getIfPresent(actionId);
+        if (cachedPlan == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new ActionExecutionPlan(
+                mongoConverter.read(NewAction.class, cachedPlan.actionDocument),
+                mongoConverter.read(Datasource.class, cachedPlan.datasourceDocument),
+                cachedPlan.plugin,
+                cachedPlan.pluginExecutor
+        ));
+    }
+
+    /**
+     * Caches the plan unless any plan has been evicted since the given generation, as the plan may have been resolved
+     * from the documents that were replaced.
+     *
+     * @param plan       plan resolved from the DB
+     * @param generation generation read before the plan was resolved
+     */
+    public synchronized void put(ActionExecutionPlan plan, long generation) {
+        if (this.generation.get() != generation) {
+            return;
+        }
+
+        Document actionDocument = new Document();
+        mongoConverter.write(plan.getAction(), actionDocument);
+        Document datasourceDocument = new Document();
+        mongoConverter.write(plan.getDatasource(), datasourceDocument);
+
+        cache.put(plan.getAction().getId(), new CachedPlan(
+                plan.getAction().getApplicationId(),
+                plan.getDatasource().getId(),
+                actionDocument,
+                datasourceDocument,
+                plan.getPlugin(),
+                plan.getPluginExecutor()
+        ));
+    }
+
+    // The plans are dropped on this node before the eviction is published, so that the next run on this node reads the
+    // saved documents even if the eviction can't be published.
+
+    public Mono<Void> evictAction(String actionId) {
+        return Mono.fromRunnable(() -> evictActionLocally(actionId))
+                .then(Mono.defer(() -> publishInvalidation(EVICT_PREFIX + CACHE_NAME + ":" + ACTION_KEY_PREFIX + actionId)));
+    }
+
+    public Mono<Void> evictApplication(String applicationId) {
+        return Mono.fromRunnable(() -> evictApplicationLocally(applicationId))
+                .then(Mono.defer(() -> publishInvalidation(EVICT_PREFIX + CACHE_NAME + ":" + APPLICATION_KEY_PREFIX + applicationId)));
+    }
+
+    public Mono<Void> evictDatasource(String datasourceId) {
+        return Mono.fromRunnable(() -> evictDatasourceLocally(datasourceId))
+                .then(Mono.defer(() -> publishInvalidation(EVICT_PREFIX + CACHE_NAME + ":" + DATASOURCE_KEY_PREFIX + datasourceId)));
+    }
+
+    public Mono<Void> evictAll() {
+        return Mono.fromRunnable(this::evictAllLocally)
+                .then(Mono.defer(() -> publishInvalidation(EVICT_ALL_PREFIX + CACHE_NAME)));
+    }
+
+    private Mono<Void> publishInvalidation(String message) {
+        return reactiveRedisOperations.convertAndSend(INVALIDATION_CHANNEL, message)
+                .onErrorResume(error -> {
+                    // Other nodes will run the cached plan until it expires there
+                    log.warn("Unable to publish execution plan invalidation {}", message, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private synchronized void evictActionLocally(String actionId) {
+        generation.incrementAndGet();
+        if (actionId != null) {
+            cache.invalidate(actionId);
+        }
+    }
+
+    private synchronized void evictApplicationLocally(String applicationId) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(cachedPlan -> applicationId != null && applicationId.equals(cachedPlan.applicationId));
+    }
+
+    private synchronized void evictDatasourceLocally(String datasourceId) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(cachedPlan -> datasourceId != null && datasourceId.equals(cachedPlan.datasourceId));
+    }
+
+    private synchronized void evictAllLocally() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,174 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Datasource;
+import com.appsmith.server.domains.ActionCollection;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.dtos.ApplicationJson;
+import com.google.gson.Gson;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helpers to write the application file in chunks and to read it from chunks, so that the JSON of a large application
+ * is never held in memory as a whole, next to the application resources it holds.
+ */
+public class ApplicationJsonStreamUtils {
+
+    // Size of the pipe between the chunks of an uploaded file and its parser
+    private static final int PIPE_SIZE = 64 * 1024;
+
+    /**
+     * Serialises the application json one resource at a time. The application fields are written first, then every
+     * datasource, page, action and action collection is written to its own buffer when the buffer is requested, so the
+     * memory used by the output is bounded by the demand of the subscriber, e.g. the HTTP response.
+     *
+     * @param applicationJson   application resources to be written, the resource lists are read once subscribed
+     * @param gson              serialiser for the application file
+     * @param dataBufferFactory factory for the buffers holding the chunks of the file
+     * @return chunks of the application file, in order
+     */
+    public static Flux<DataBuffer> write(ApplicationJson applicationJson, Gson gson, DataBufferFactory dataBufferFactory) {
+        return Flux.defer(() -> {
+            final List<Datasource> datasourceList = applicationJson.getDatasourceList();
+            final List<NewPage> pageList = applicationJson.getPageList();
+            final List<NewAction> actionList = applicationJson.getActionList();
+            final List<ActionCollection> actionCollectionList = applicationJson.getActionCollectionList();
+
+            // Serialise the application fields without the resource lists, which are appended to the same object
+            String applicationFields;
+            applicationJson.setDatasourceList(null);
+            applicationJson.setPageList(null);
+            applicationJson.setActionList(null);
+            applicationJson.setActionCollectionList(null);
+            try {
+                applicationFields = gson.toJson(applicationJson);
+            } finally {
+                applicationJson.setDatasourceList(datasourceList);
+                applicationJson.setPageList(pageList);
+                applicationJson.setActionList(actionList);
+                applicationJson.setActionCollectionList(actionCollectionList);
+            }
+            // Drop the closing brace of the object, the resource lists are appended after the other fields
+            final String fields = applicationFields.substring(0, applicationFields.lastIndexOf('}'));
+
+            // Field name => resources, in the order in which they are written
+            Map<String, List<?>> resourceLists = new LinkedHashMap<>();
+            resourceLists.put("datasourceList", datasourceList);
+            resourceLists.put("pageList", pageList);
+            resourceLists.put("actionList", actionList);
+            resourceLists.put("actionCollectionList", actionCollectionList);
+
+            List<Flux<DataBuffer>> chunks = new ArrayList<>();
+            chunks.add(Mono.fromCallable(() -> writeString(fields, dataBufferFactory)).flux());
+            boolean isFirstField = fields.trim().length() <= 1;
+            for (Map.Entry<String, List<?>> resourceList : resourceLists.entrySet()) {
+                final List<?> resources = resourceList.getValue();
+                if (resources == null) {
+                    continue;
+                }
+                final String listPrefix = (isFirstField ? "" : ",") + gson.toJson(resourceList.getKey()) + ":[";
+                isFirstField = false;
+                chunks.add(Mono.fromCallable(() -> writeString(listPrefix, dataBufferFactory)).flux());
+                chunks.add(Flux.range(0, resources.size())
+                        .map(index -> writeResource(index == 0 ? "" : ",", resources.get(index), gson, dataBufferFactory)));
+                chunks.add(Mono.fromCallable(() -> writeString("]", dataBufferFactory)).flux());
+            }
+            chunks.add(Mono.fromCallable(() -> writeString("}", dataBufferFactory)).flux());
+
+            return Flux.concat(chunks);
+        });
+    }
+
+    /**
+     * Deserialises the application file while its chunks arrive. The chunks are copied into a pipe which the parser
+     * reads from, and each chunk is released as soon as it is copied. So, besides the application resources being
+     * built, only the pipe and the chunk being copied are held in memory, never the whole file.
+     *
+     * @param content chunks of the application file, in order
+     * @param gson    deserialiser for the application file
+     * @return application resources read from the file, empty if the file has no content
+     */
+    public static Mono<ApplicationJson> read(Flux<DataBuffer> content, Gson gson) {
+        return Mono.defer(() -> {
+            PipedOutputStream outputStream = new PipedOutputStream();
+            PipedInputStream inputStream;
+            try {
+                inputStream = new PipedInputStream(outputStream, PIPE_SIZE);
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+
+            // Writing to the pipe blocks while it is full, so the chunks are copied on a thread of their own instead
+            // of the one receiving the upload. Only one chunk is requested ahead of the copy.
+            Mono<Boolean> writeMono = DataBufferUtils.write(
+                            content.publishOn(Schedulers.boundedElastic(), 1), outputStream)
+                    .doOnNext(DataBufferUtils::release)
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    // The parser closes the pipe once the JSON is complete or found to be invalid, the outcome of the
+                    // parsing is the outcome of the read then
+                    .onErrorResume(IOException.class, error -> Flux.empty())
+                    .doFinally(signalType -> closeQuietly(outputStream))
+                    .then(Mono.just(Boolean.TRUE));
+
+            Mono<ApplicationJson> parseMono = Mono.fromCallable(() -> {
+                        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+                            return gson.fromJson(reader, ApplicationJson.class);
+                        }
+                    })
+                    .subscribeOn(Schedulers.boundedElastic());
+
+            return Mono.zip(parseMono, writeMono)
+                    .map(Tuple2::getT1);
+        });
+    }
+
+    private static void closeQuietly(OutputStream outputStream) {
+        try {
+            outputStream.close();
+        } catch (IOException e) {
+            // Nothing left to do with the pipe
+        }
+    }
+
+    private static DataBuffer writeString(String content, DataBufferFactory dataBufferFactory) {
+        return dataBufferFactory.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static DataBuffer writeResource(String prefix, Object resource, Gson gson, DataBufferFactory dataBufferFactory) {
+        DataBuffer dataBuffer = dataBufferFactory.allocateBuffer();
+        boolean isWritten = false;
+        try (Writer writer = new OutputStreamWriter(dataBuffer.asOutputStream(), StandardCharsets.UTF_8)) {
+            writer.write(prefix);
+            gson.toJson(resource, writer);
+            isWritten = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (!isWritten) {
+                DataBufferUtils.release(dataBuffer);
+            }
+        }
+        return dataBuffer;
+    }
+}
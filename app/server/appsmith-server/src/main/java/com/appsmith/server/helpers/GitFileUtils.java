@@ -109,6 +109,22 @@ public class GitFileUtils {
         }
     }
 
+    /**
+     * This method will compute the files which would differ from the last commit of the branch once the application is
+     * saved to the local repo, without writing to the file system
+     * @param baseRepoSuffix path suffix used to create a local repo path
+     * @param applicationJson application reference object from which entire application can be rehydrated
+     * @param branchName name of the branch for the current application
+     * @return paths of the modified files, empty if the application has to be saved to the local repo to get them
+     */
+    public Mono<Set<String>> getModifiedFiles(Path baseRepoSuffix, ApplicationJson applicationJson, String branchName) {
+        // Keep the updated resources in applicationJson as it will be saved to the local repo if this returns empty
+        Map<String, Set<String>> updatedResources = applicationJson.getUpdatedResources();
+        ApplicationGitReference applicationReference = createApplicationReference(applicationJson);
+        applicationJson.setUpdatedResources(updatedResources);
+        return fileUtils.getModifiedFiles(baseRepoSuffix, applicationReference, branchName);
+    }
+
     /**
      * Method to convert application resources to the structure which can be serialised by appsmith-git module for
      * serialisation
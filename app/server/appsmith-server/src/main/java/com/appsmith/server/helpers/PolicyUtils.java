@@ -1,17 +1,19 @@
 package com.appsmith.server.helpers;
 
+import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.BaseDomain;
-import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.Policy;
+import com.appsmith.external.models.QDatasource;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.PolicyGenerator;
-import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
-import com.appsmith.server.domains.CommentThread;
-import com.appsmith.server.domains.NewAction;
-import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.PermissionGroup;
-import com.appsmith.server.domains.Theme;
+import com.appsmith.server.domains.QActionCollection;
+import com.appsmith.server.domains.QApplication;
+import com.appsmith.server.domains.QCommentThread;
+import com.appsmith.server.domains.QNewAction;
+import com.appsmith.server.domains.QNewPage;
+import com.appsmith.server.domains.QTheme;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.Permission;
 import com.appsmith.server.repositories.ActionCollectionRepository;
@@ -24,11 +26,14 @@ import com.appsmith.server.repositories.ThemeRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -42,6 +47,8 @@ import java.util.stream.Collectors;
 
 import static com.appsmith.server.acl.AclPermission.MANAGE_DATASOURCES;
 import static com.appsmith.server.acl.AclPermission.READ_THEMES;
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Component
 @AllArgsConstructor
@@ -56,6 +63,7 @@ public class PolicyUtils {
     private final CommentThreadRepository commentThreadRepository;
     private final ActionCollectionRepository actionCollectionRepository;
     private final ThemeRepository themeRepository;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
 
     public <T extends BaseDomain> T addPoliciesToExistingObject(Map<String, Policy> policyMap, T obj) {
         // Making a deep copy here so we don't modify the `policyMap` object.
@@ -192,138 +200,139 @@ public class PolicyUtils {
                 .collect(Collectors.toMap(Policy::getPermission, Function.identity()));
     }
 
-    public Flux<Datasource> updateWithNewPoliciesToDatasourcesByWorkspaceId(String workspaceId, Map<String, Policy> newPoliciesMap, boolean addPolicyToObject) {
-
-        return datasourceRepository
-                // fetch datasources with execute permissions so that app viewers can invite other app viewers
-                .findAllByWorkspaceId(workspaceId, AclPermission.EXECUTE_DATASOURCES)
-                // In case we have come across a datasource for this workspace that the current user is not allowed to manage, move on.
-                .switchIfEmpty(Mono.empty())
-                .map(datasource -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newPoliciesMap, datasource);
-                    } else {
-                        return removePoliciesFromExistingObject(newPoliciesMap, datasource);
-                    }
-                })
-                .collectList()
-                .flatMapMany(updatedDatasources -> datasourceRepository.saveAll(updatedDatasources));
+    // The update methods below modify the policies of all the matching documents in Mongo itself, instead of reading,
+    // modifying and saving them back, so the time they take doesn't grow with the size of the documents. They return
+    // the number of documents that were modified.
+
+    public Mono<Long> updateWithNewPoliciesToDatasourcesByWorkspaceId(String workspaceId, Map<String, Policy> newPoliciesMap, boolean addPolicyToObject) {
+        Criteria workspaceIdCriteria = where(fieldName(QDatasource.datasource.workspaceId)).is(workspaceId);
+
+        // update datasources with execute permissions so that app viewers can invite other app viewers
+        return datasourceRepository.updatePolicies(List.of(workspaceIdCriteria), newPoliciesMap, addPolicyToObject,
+                        AclPermission.EXECUTE_DATASOURCES)
+                .flatMap(modifiedCount -> actionExecutionPlanCache.evictAll().thenReturn(modifiedCount));
     }
 
-    public Flux<Datasource> updateWithNewPoliciesToDatasourcesByDatasourceIds(Set<String> ids, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject) {
-
-        return datasourceRepository
-                .findAllByIds(ids, MANAGE_DATASOURCES)
-                // In case we have come across a datasource the current user is not allowed to manage, move on.
-                .switchIfEmpty(Mono.empty())
-                .flatMap(datasource -> {
-                    Datasource updatedDatasource;
-                    if (addPolicyToObject) {
-                        updatedDatasource = addPoliciesToExistingObject(datasourcePolicyMap, datasource);
-                    } else {
-                        updatedDatasource = removePoliciesFromExistingObject(datasourcePolicyMap, datasource);
+    public Mono<Long> updateWithNewPoliciesToDatasourcesByDatasourceIds(Set<String> ids, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return Mono.just(0L);
+        }
+        Criteria idCriteria = where(fieldName(QDatasource.datasource.id)).in(ids);
+
+        // Datasources the current user is not allowed to manage are left as they are
+        return datasourceRepository.updatePolicies(List.of(idCriteria), datasourcePolicyMap, addPolicyToObject,
+                        MANAGE_DATASOURCES)
+                .flatMap(modifiedCount -> Flux.fromIterable(ids)
+                        .flatMap(actionExecutionPlanCache::evictDatasource)
+                        .then(Mono.just(modifiedCount)));
+    }
+
+    /**
+     * Updates the policies of the datasources used by any of the actions of the application, in edit or view mode.
+     * Only the datasources of the actions are read, not the whole actions.
+     */
+    public Mono<Long> updateWithNewPoliciesToDatasourcesUsedByApplication(String applicationId, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject) {
+        final String unpublishedDatasource = fieldName(QNewAction.newAction.unpublishedAction) + "."
+                + fieldName(QNewAction.newAction.unpublishedAction.datasource);
+        final String publishedDatasource = fieldName(QNewAction.newAction.publishedAction) + "."
+                + fieldName(QNewAction.newAction.publishedAction.datasource);
+        Criteria applicationIdCriteria = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+
+        return newActionRepository
+                .queryAll(List.of(applicationIdCriteria), List.of(unpublishedDatasource, publishedDatasource), null, null)
+                .flatMapIterable(action -> {
+                    List<String> datasourceIds = new ArrayList<>();
+                    ActionDTO unpublishedAction = action.getUnpublishedAction();
+                    ActionDTO publishedAction = action.getPublishedAction();
+
+                    if (unpublishedAction != null &&
+                            unpublishedAction.getDatasource() != null &&
+                            unpublishedAction.getDatasource().getId() != null) {
+                        datasourceIds.add(unpublishedAction.getDatasource().getId());
                     }
 
-                    return Mono.just(updatedDatasource);
+                    if (publishedAction != null &&
+                            publishedAction.getDatasource() != null &&
+                            publishedAction.getDatasource().getId() != null) {
+                        datasourceIds.add(publishedAction.getDatasource().getId());
+                    }
+                    return datasourceIds;
                 })
-                .collectList()
-                .flatMapMany(datasources -> datasourceRepository.saveAll(datasources));
+                .collect(Collectors.toSet())
+                .flatMap(datasourceIds -> updateWithNewPoliciesToDatasourcesByDatasourceIds(datasourceIds,
+                        datasourcePolicyMap, addPolicyToObject));
     }
 
-    public Flux<Application> updateWithNewPoliciesToApplicationsByWorkspaceId(String workspaceId, Map<String, Policy> newAppPoliciesMap, boolean addPolicyToObject) {
-
-        return applicationRepository
-                // fetch applications with read permissions so that app viewers can invite other app viewers
-                .findByWorkspaceId(workspaceId, AclPermission.READ_APPLICATIONS)
-                // In case we have come across an application for this workspace that the current user is not allowed to manage, move on.
-                .switchIfEmpty(Mono.empty())
-                .map(application -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newAppPoliciesMap, application);
-                    } else {
-                        return removePoliciesFromExistingObject(newAppPoliciesMap, application);
-                    }
-                })
-                .collectList()
-                .flatMapMany(updatedApplications -> applicationRepository.saveAll(updatedApplications));
+    public Mono<Long> updateWithNewPoliciesToApplicationsByWorkspaceId(String workspaceId, Map<String, Policy> newAppPoliciesMap, boolean addPolicyToObject) {
+        Criteria workspaceIdCriteria = where(fieldName(QApplication.application.workspaceId)).is(workspaceId);
+
+        // update applications with read permissions so that app viewers can invite other app viewers
+        return applicationRepository.updatePolicies(List.of(workspaceIdCriteria), newAppPoliciesMap, addPolicyToObject,
+                AclPermission.READ_APPLICATIONS);
     }
 
-    public Flux<NewPage> updateWithApplicationPermissionsToAllItsPages(String applicationId, Map<String, Policy> newPagePoliciesMap, boolean addPolicyToObject) {
+    public Mono<Long> updateWithApplicationPermissionsToAllItsPages(String applicationId, Map<String, Policy> newPagePoliciesMap, boolean addPolicyToObject) {
 
         // Instead of fetching pages from the application object, we fetch pages from the page repository. This ensures that all the published
         // AND the unpublished pages are updated with the new policy change [This covers the edge cases where a page may exist
         // in published app but has been deleted in the edit mode]. This means that we don't have to do any special treatment
         // during deployment of the application to handle edge cases.
-        return newPageRepository
-                // fetch pages with read permissions so that app viewers can invite other app viewers
-                .findByApplicationId(applicationId, AclPermission.READ_PAGES)
-                .switchIfEmpty(Mono.empty())
-                .map(page -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newPagePoliciesMap, page);
-                    } else {
-                        return removePoliciesFromExistingObject(newPagePoliciesMap, page);
-                    }
-                })
-                .collectList()
-                .flatMapMany(updatedPages -> newPageRepository
-                        .saveAll(updatedPages));
+        Criteria applicationIdCriteria = where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
+
+        // update pages with read permissions so that app viewers can invite other app viewers
+        return newPageRepository.updatePolicies(List.of(applicationIdCriteria), newPagePoliciesMap, addPolicyToObject,
+                AclPermission.READ_PAGES);
     }
 
-    public Flux<Theme> updateThemePolicies(Application application, Map<String, Policy> themePolicyMap, boolean addPolicyToObject) {
-        Flux<Theme> applicationThemes = themeRepository.getApplicationThemes(application.getId(), READ_THEMES);
-        if(StringUtils.hasLength(application.getEditModeThemeId())) {
-            applicationThemes = applicationThemes.concatWith(
-                    themeRepository.findById(application.getEditModeThemeId(), READ_THEMES)
-            );
+    public Mono<Long> updateThemePolicies(Application application, Map<String, Policy> themePolicyMap, boolean addPolicyToObject) {
+        List<Criteria> themeCriteria = new ArrayList<>();
+        themeCriteria.add(where(fieldName(QTheme.theme.applicationId)).is(application.getId()));
+
+        Set<String> themeIds = new HashSet<>();
+        if (StringUtils.hasLength(application.getEditModeThemeId())) {
+            themeIds.add(application.getEditModeThemeId());
         }
-        if(StringUtils.hasLength(application.getPublishedModeThemeId())) {
-            applicationThemes = applicationThemes.concatWith(
-                    themeRepository.findById(application.getPublishedModeThemeId(), READ_THEMES)
-            );
+        if (StringUtils.hasLength(application.getPublishedModeThemeId())) {
+            themeIds.add(application.getPublishedModeThemeId());
         }
-        return applicationThemes
-                .filter(theme -> !theme.isSystemTheme()) // skip the system themes
-                .map(theme -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(themePolicyMap, theme);
-                    } else {
-                        return removePoliciesFromExistingObject(themePolicyMap, theme);
-                    }
-                })
-                .collectList()
-                .flatMapMany(themeRepository::saveAll);
+        if (!themeIds.isEmpty()) {
+            themeCriteria.add(where(fieldName(QTheme.theme.id)).in(themeIds));
+        }
+
+        Criteria applicationThemesCriteria = new Criteria().orOperator(themeCriteria);
+        // skip the system themes
+        Criteria customThemeCriteria = where(fieldName(QTheme.theme.isSystemTheme)).ne(true);
+
+        return themeRepository.updatePolicies(List.of(applicationThemesCriteria, customThemeCriteria), themePolicyMap,
+                addPolicyToObject, READ_THEMES);
     }
 
-    public Flux<CommentThread> updateCommentThreadPermissions(
+    public Mono<Long> updateCommentThreadPermissions(
             String applicationId, Map<String, Policy> commentThreadPolicyMap, String username, boolean addPolicyToObject) {
 
-        return
-                // fetch comment threads with read permissions
-                commentThreadRepository.findByApplicationId(applicationId, AclPermission.READ_THREADS)
-                .switchIfEmpty(Mono.empty())
-                .map(thread -> {
-                    if(!Boolean.TRUE.equals(thread.getIsPrivate())) {
-                        if (addPolicyToObject) {
-                            return addPoliciesToExistingObject(commentThreadPolicyMap, thread);
-                        } else {
-                            if(CollectionUtils.isNotEmpty(thread.getSubscribers())) {
-                                thread.getSubscribers().remove(username);
-                            }
-                            return removePoliciesFromExistingObject(commentThreadPolicyMap, thread);
-                        }
-                    }
-                    return thread;
-                })
-                .collectList()
-                .flatMapMany(commentThreadRepository::saveAll);
+        Criteria applicationIdCriteria = where(fieldName(QCommentThread.commentThread.applicationId)).is(applicationId);
+        // private threads are left as they are
+        Criteria publicThreadCriteria = where(fieldName(QCommentThread.commentThread.isPrivate)).ne(true);
+        List<Criteria> criteria = List.of(applicationIdCriteria, publicThreadCriteria);
+
+        // update comment threads with read permissions
+        Mono<Long> updatePoliciesMono = commentThreadRepository.updatePolicies(criteria, commentThreadPolicyMap,
+                addPolicyToObject, AclPermission.READ_THREADS);
+        if (addPolicyToObject) {
+            return updatePoliciesMono;
+        }
+
+        Update removeSubscriberUpdate = new Update().pull(fieldName(QCommentThread.commentThread.subscribers), username);
+        // The subscriber is removed first, as the user may no longer be able to read the threads after the policy update
+        return commentThreadRepository.updateByCriteria(criteria, removeSubscriberUpdate, AclPermission.READ_THREADS)
+                .then(updatePoliciesMono);
     }
 
     /**
-     * Instead of fetching actions by pageId, fetch actions by applicationId and then update the action policies
-     * using the new ActionPoliciesMap. This ensures the following :
+     * Instead of fetching actions by pageId, update the policies of the actions by applicationId using the new
+     * ActionPoliciesMap. This ensures the following :
      * 1. Instead of bulk updating actions page wise, we do bulk update of actions in one go for the entire application.
-     * 2. If the action is associated with different pages (in published/unpublished page due to movement of action), fetching
+     * 2. If the action is associated with different pages (in published/unpublished page due to movement of action), updating
      * actions by applicationId ensures that we update ALL the actions and don't have to do special handling for the same.
      *
      * @param applicationId
@@ -331,36 +340,19 @@ public class PolicyUtils {
      * @param addPolicyToObject
      * @return
      */
-    public Flux<NewAction> updateWithPagePermissionsToAllItsActions(String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
+    public Mono<Long> updateWithPagePermissionsToAllItsActions(String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
+        Criteria applicationIdCriteria = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
 
-        return newActionRepository
-                .findByApplicationId(applicationId)
-                .switchIfEmpty(Mono.empty())
-                .map(action -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newActionPoliciesMap, action);
-                    } else {
-                        return removePoliciesFromExistingObject(newActionPoliciesMap, action);
-                    }
-                })
-                .collectList()
-                .flatMapMany(newActionRepository::saveAll);
+        return newActionRepository.updatePolicies(List.of(applicationIdCriteria), newActionPoliciesMap,
+                        addPolicyToObject, null)
+                .flatMap(modifiedCount -> actionExecutionPlanCache.evictApplication(applicationId).thenReturn(modifiedCount));
     }
 
-    public Flux<ActionCollection> updateWithPagePermissionsToAllItsActionCollections(String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
+    public Mono<Long> updateWithPagePermissionsToAllItsActionCollections(String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
+        Criteria applicationIdCriteria = where(fieldName(QActionCollection.actionCollection.applicationId)).is(applicationId);
 
-        return actionCollectionRepository
-                .findByApplicationId(applicationId)
-                .switchIfEmpty(Mono.empty())
-                .map(action -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newActionPoliciesMap, action);
-                    } else {
-                        return removePoliciesFromExistingObject(newActionPoliciesMap, action);
-                    }
-                })
-                .collectList()
-                .flatMapMany(actionCollectionRepository::saveAll);
+        return actionCollectionRepository.updatePolicies(List.of(applicationIdCriteria), newActionPoliciesMap,
+                addPolicyToObject, null);
     }
 
     public Map<String, Policy> generateInheritedPoliciesFromSourcePolicies(Map<String, Policy> sourcePolicyMap,
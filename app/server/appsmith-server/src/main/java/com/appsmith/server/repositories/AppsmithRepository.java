@@ -2,12 +2,15 @@ package com.appsmith.server.repositories;
 
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
+import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public interface AppsmithRepository<T> {
@@ -22,6 +25,11 @@ public interface AppsmithRepository<T> {
 
     Flux<T> queryAll(List<Criteria> criterias, List<String> includeFields, AclPermission permission, Sort sort);
 
+    Mono<UpdateResult> updateByCriteria(List<Criteria> criteriaList, Update updateObj, AclPermission permission);
+
+    Mono<Long> updatePolicies(List<Criteria> criteriaList, Map<String, Policy> policyMap, boolean addPolicies,
+                              AclPermission permission);
+
     Mono<T> setUserPermissionsInObject(T obj, Set<String> permissionGroups);
 
     Mono<T> setUserPermissionsInObject(T obj);
@@ -29,4 +37,8 @@ public interface AppsmithRepository<T> {
     Mono<T> findByGitSyncIdAndDefaultApplicationId(String defaultApplicationId, String gitSyncId, AclPermission permission);
 
     Mono<Boolean> isPermissionPresentForUser(Set<Policy> policies, String permission, String username);
+
+    Mono<Boolean> isPermissionPresentForCurrentUser(Set<Policy> policies, AclPermission permission);
+
+    Flux<T> bulkInsert(List<T> domainList);
 }
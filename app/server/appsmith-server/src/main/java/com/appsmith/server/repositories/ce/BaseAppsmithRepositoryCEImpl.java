@@ -4,6 +4,7 @@ import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Policy;
 import com.appsmith.external.models.QBaseDomain;
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.acl.UserPermissionEvaluator;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.QUser;
 import com.appsmith.server.domains.User;
@@ -90,6 +91,20 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                 });
     }
 
+    /**
+     * Checks the permission of the current user in the given policies, the same way as the ACL criteria of the queries
+     * do, without reading the document from the DB again.
+     */
+    public Mono<Boolean> isPermissionPresentForCurrentUser(Set<Policy> policies, AclPermission permission) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .map(auth -> auth.getPrincipal())
+                .flatMap(principal -> getAllPermissionGroupsForUser((User) principal))
+                .map(permissionGroups -> new UserPermissionEvaluator(permissionGroups)
+                        .getPermissions(policies)
+                        .contains(permission.getValue()));
+    }
+
     public static final String fieldName(Path path) {
         return path != null ? path.getMetadata().getName() : null;
     }
@@ -212,6 +227,117 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         return mongoOperations.updateMulti(query, updateObj, this.genericDomain);
     }
 
+    public Mono<UpdateResult> updateByCriteria(List<Criteria> criteriaList, Update updateObj, AclPermission permission) {
+        if (criteriaList == null) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "criteriaList"));
+        }
+        return getCriteriaWithPermission(criteriaList, permission)
+                .flatMap(criteria -> mongoOperations.updateMulti(new Query(criteria), updateObj, this.genericDomain));
+    }
+
+    /**
+     * @return Criteria matching the non deleted documents that match all the given criteria and, if the permission is
+     * not null, that the current user has the permission on.
+     */
+    private Mono<Criteria> getCriteriaWithPermission(List<Criteria> criteriaList, AclPermission permission) {
+        List<Criteria> allCriterias = new ArrayList<>(criteriaList);
+        allCriterias.add(notDeleted());
+        if (permission == null) {
+            return Mono.just(new Criteria().andOperator(allCriterias));
+        }
+
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .map(auth -> auth.getPrincipal())
+                .flatMap(principal -> getAllPermissionGroupsForUser((User) principal))
+                .map(permissionGroups -> {
+                    allCriterias.add(userAcl(permissionGroups, permission));
+                    return new Criteria().andOperator(allCriterias);
+                });
+    }
+
+    /**
+     * Adds the permission groups of the given policies to, or removes them from, the policies of all the documents
+     * matching the criteria. The documents are updated by Mongo in place, with a couple of `updateMulti` commands per
+     * policy, instead of being read, modified and saved back one by one.
+     *
+     * @param criteriaList Criteria to select the documents to be updated.
+     * @param policyMap    Policies to be added or removed, keyed by permission.
+     * @param addPolicies  If true, the permission groups are added to the policies, else they are removed from them.
+     * @param permission   If not null, only the documents that the current user has this permission on are updated.
+     * @return Number of documents modified, summed over all the policies.
+     */
+    public Mono<Long> updatePolicies(List<Criteria> criteriaList, Map<String, Policy> policyMap, boolean addPolicies,
+                                     AclPermission permission) {
+        if (criteriaList == null) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "criteriaList"));
+        }
+
+        return getCriteriaWithPermission(criteriaList, permission)
+                .flatMapMany(criteria -> Flux.fromIterable(policyMap.values())
+                        .filter(policy -> !CollectionUtils.isEmpty(policy.getPermissionGroups()))
+                        .concatMap(policy -> addPolicies
+                                ? addPermissionGroupsToPolicy(criteria, policy)
+                                : removePermissionGroupsFromPolicy(criteria, policy)))
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> addPermissionGroupsToPolicy(Criteria criteria, Policy policy) {
+        final String policies = fieldName(QBaseDomain.baseDomain.policies);
+        final String permission = policy.getPermission();
+        final Object[] permissionGroups = policy.getPermissionGroups().toArray();
+
+        // Documents that already have a policy for the permission get the permission groups added to it
+        Query policyPresentQuery = new Query(new Criteria().andOperator(
+                criteria,
+                where(policies + ".permission").is(permission)
+        ));
+        Update addToPolicyUpdate = new Update()
+                .addToSet(policies + ".$[policy].permissionGroups").each(permissionGroups)
+                .filterArray(where("policy.permission").is(permission));
+
+        // The rest get a new policy with just these permission groups
+        Query policyAbsentQuery = new Query(new Criteria().andOperator(
+                criteria,
+                where(policies + ".permission").ne(permission)
+        ));
+        Update pushPolicyUpdate = new Update().push(policies, Policy.builder()
+                .permission(permission)
+                .permissionGroups(new HashSet<>(policy.getPermissionGroups()))
+                .build());
+
+        return mongoOperations.updateMulti(policyPresentQuery, addToPolicyUpdate, this.genericDomain)
+                .zipWhen(result -> mongoOperations.updateMulti(policyAbsentQuery, pushPolicyUpdate, this.genericDomain))
+                .map(tuple -> {
+                    log.debug("Added permission groups to {} policy of {} {} documents, and the policy to {} more",
+                            permission, tuple.getT1().getModifiedCount(), this.genericDomain.getSimpleName(),
+                            tuple.getT2().getModifiedCount());
+                    return tuple.getT1().getModifiedCount() + tuple.getT2().getModifiedCount();
+                });
+    }
+
+    private Mono<Long> removePermissionGroupsFromPolicy(Criteria criteria, Policy policy) {
+        final String policies = fieldName(QBaseDomain.baseDomain.policies);
+        final String permission = policy.getPermission();
+        final Object[] permissionGroups = policy.getPermissionGroups().toArray();
+
+        // Only the documents that have any of the permission groups in the policy need to be written to
+        Query query = new Query(new Criteria().andOperator(
+                criteria,
+                where(policies).elemMatch(where("permission").is(permission).and("permissionGroups").in(permissionGroups))
+        ));
+        Update update = new Update()
+                .pullAll(policies + ".$[policy].permissionGroups", permissionGroups)
+                .filterArray(where("policy.permission").is(permission));
+
+        return mongoOperations.updateMulti(query, update, this.genericDomain)
+                .map(result -> {
+                    log.debug("Removed permission groups from {} policy of {} {} documents",
+                            permission, result.getModifiedCount(), this.genericDomain.getSimpleName());
+                    return result.getModifiedCount();
+                });
+    }
+
     protected Mono<T> queryOne(List<Criteria> criterias, AclPermission aclPermission) {
         return ReactiveSecurityContextHolder.getContext()
                 .map(ctx -> ctx.getAuthentication())
@@ -320,10 +446,13 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
             query.with(sort);
         }
 
+        // Shared by all the documents returned by the query
+        final UserPermissionEvaluator userPermissionEvaluator = new UserPermissionEvaluator(permissionGroups);
+
         return mongoOperations.query(this.genericDomain)
                 .matching(query)
                 .all()
-                .flatMap(obj -> setUserPermissionsInObject(obj, permissionGroups));
+                .map(obj -> setUserPermissionsInObject(obj, userPermissionEvaluator));
     }
 
     public Mono<T> setUserPermissionsInObject(T obj) {
@@ -335,27 +464,16 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     }
 
     public Mono<T> setUserPermissionsInObject(T obj, Set<String> permissionGroups) {
-        Set<String> permissions = new HashSet<>();
+        return Mono.just(setUserPermissionsInObject(obj, new UserPermissionEvaluator(permissionGroups)));
+    }
 
+    protected T setUserPermissionsInObject(T obj, UserPermissionEvaluator userPermissionEvaluator) {
         if (CollectionUtils.isEmpty(obj.getPolicies())) {
-            return Mono.just(obj);
+            return obj;
         }
 
-        for (Policy policy : obj.getPolicies()) {
-            Set<String> policyPermissionGroups = policy.getPermissionGroups();
-            if (CollectionUtils.isEmpty(policyPermissionGroups)) {
-                continue;
-            }
-            for (String permissionGroup : permissionGroups) {
-                if (policyPermissionGroups.contains(permissionGroup)) {
-                    permissions.add(policy.getPermission());
-                    break;
-                }
-            }
-        }
-
-        obj.setUserPermissions(permissions);
-        return Mono.just(obj);
+        obj.setUserPermissions(userPermissionEvaluator.getPermissions(obj.getPolicies()));
+        return obj;
     }
 
     public Mono<T> findByGitSyncIdAndDefaultApplicationId(String defaultApplicationId, String gitSyncId, AclPermission permission) {
@@ -365,6 +483,29 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         return queryFirst(List.of(defaultAppIdCriteria, gitSyncIdCriteria), permission);
     }
 
+    /**
+     * Inserts all the documents with a single insertMany. Unlike saveAll, the documents are inserted together even
+     * when their ids are assigned beforehand.
+     * <p>
+     * The auditing callback takes documents with an id for existing ones and sets only their last modified fields, so
+     * the creation date is set here, the same as it would be for a new document.
+     *
+     * @param domainList documents which are not present in the collection yet
+     * @return inserted documents
+     */
+    public Flux<T> bulkInsert(List<T> domainList) {
+        if (CollectionUtils.isEmpty(domainList)) {
+            return Flux.empty();
+        }
+
+        Instant now = Instant.now();
+        domainList.forEach(domain -> {
+            domain.setCreatedAt(now);
+            domain.setUpdatedAt(now);
+        });
+        return mongoOperations.insert(domainList, genericDomain);
+    }
+
     /**
      * 1. Get all the user groups associated with the user
      * 2. Get all the permission groups associated with anonymous user
@@ -2,6 +2,7 @@ package com.appsmith.server.repositories.ce;
 
 import com.appsmith.caching.annotations.Cache;
 import com.appsmith.caching.annotations.CacheEvict;
+import com.appsmith.caching.serializers.SmileCacheSerializer;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Config;
 import com.appsmith.server.domains.PermissionGroup;
@@ -42,7 +43,10 @@ public class CacheableRepositoryHelperCEImpl implements CacheableRepositoryHelpe
         anonymousUserPermissionGroupIds = null;
     }
 
-    @Cache(cacheName = "permissionGroupsForUser", key = "{#user.email + #user.tenantId}")
+    // Entries are evicted whenever the permission groups of a user change. The TTL only bounds the life of entries whose
+    // eviction was missed. This is called for every ACL checked query, so the entries are also kept in memory.
+    @Cache(cacheName = "permissionGroupsForUser", key = "{#user.email + #user.tenantId}", ttlInSeconds = 24 * 60 * 60,
+            ttlJitter = 0.1, serializer = SmileCacheSerializer.class, localCacheSize = 10000)
     @Override
     public Mono<Set<String>> getPermissionGroupsOfUser(User user) {
         Criteria assignedToUserIdsCriteria = Criteria.where(fieldName(QPermissionGroup.permissionGroup.assignedToUserIds)).is(user.getId());
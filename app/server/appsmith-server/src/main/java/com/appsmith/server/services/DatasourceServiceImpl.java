@@ -1,6 +1,7 @@
 package com.appsmith.server.services;
 
 import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.DatasourceRepository;
 import com.appsmith.server.repositories.NewActionRepository;
@@ -30,11 +31,12 @@ public class DatasourceServiceImpl extends DatasourceServiceCEImpl implements Da
                                  PolicyGenerator policyGenerator,
                                  SequenceService sequenceService,
                                  NewActionRepository newActionRepository,
-                                 DatasourceContextService datasourceContextService) {
+                                 DatasourceContextService datasourceContextService,
+                                 ActionExecutionPlanCache actionExecutionPlanCache) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, workspaceService,
                 analyticsService, sessionUserService, pluginService, pluginExecutorHelper, policyGenerator,
-                sequenceService, newActionRepository, datasourceContextService);
+                sequenceService, newActionRepository, datasourceContextService, actionExecutionPlanCache);
 
     }
 }
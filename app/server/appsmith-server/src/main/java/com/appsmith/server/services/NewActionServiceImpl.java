@@ -1,6 +1,7 @@
 package com.appsmith.server.services;
 
 import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.helpers.ResponseUtils;
@@ -37,12 +38,13 @@ public class NewActionServiceImpl extends NewActionServiceCEImpl implements NewA
                                 AuthenticationValidator authenticationValidator,
                                 ConfigService configService,
                                 ResponseUtils responseUtils,
-                                PermissionGroupService permissionGroupService) {
+                                PermissionGroupService permissionGroupService,
+                                ActionExecutionPlanCache actionExecutionPlanCache) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService,
                 datasourceService, pluginService, datasourceContextService, pluginExecutorHelper, marketplaceService,
                 policyGenerator, newPageService, applicationService, sessionUserService, policyUtils,
-                authenticationValidator, configService, responseUtils, permissionGroupService);
+                authenticationValidator, configService, responseUtils, permissionGroupService, actionExecutionPlanCache);
 
     }
 }
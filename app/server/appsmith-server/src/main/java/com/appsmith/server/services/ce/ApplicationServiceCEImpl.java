@@ -1,25 +1,20 @@
 package com.appsmith.server.services.ce;
 
 import com.appsmith.external.constants.AnalyticsEvents;
-import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.constants.ApplicationConstants;
 import com.appsmith.server.constants.Assets;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Action;
-import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationMode;
 import com.appsmith.server.domains.GitApplicationMetadata;
 import com.appsmith.server.domains.GitAuth;
-import com.appsmith.server.domains.NewAction;
-import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Page;
 import com.appsmith.server.domains.QApplication;
 import com.appsmith.server.domains.Theme;
 import com.appsmith.server.domains.User;
-import com.appsmith.external.models.ActionDTO;
 import com.appsmith.server.dtos.ApplicationAccessDTO;
 import com.appsmith.server.dtos.GitAuthDTO;
 import com.appsmith.server.dtos.GitDeployKeyDTO;
@@ -53,7 +48,6 @@ import reactor.core.scheduler.Scheduler;
 
 import javax.validation.Validator;
 import java.time.Instant;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -381,47 +375,13 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
                 applicationPolicyMap, Application.class, Theme.class
         );
 
-        final Flux<NewPage> updatedPagesFlux = policyUtils
-                .updateWithApplicationPermissionsToAllItsPages(application.getId(), pagePolicyMap, addViewAccess);
-        // Use the same policy map as actions for action collections since action collections have the same kind of permissions
-        final Flux<ActionCollection> updatedActionCollectionsFlux = policyUtils
-                .updateWithPagePermissionsToAllItsActionCollections(application.getId(), actionPolicyMap, addViewAccess);
-        Flux<Theme> updatedThemesFlux = policyUtils.updateThemePolicies(application, themePolicyMap, addViewAccess);
-        final Flux<NewAction> updatedActionsFlux = updatedPagesFlux
-                .collectList()
-                .thenMany(updatedActionCollectionsFlux)
-                .collectList()
-                .then(Mono.justOrEmpty(application.getId()))
-                .thenMany(updatedThemesFlux)
-                .collectList()
-                .flatMapMany(applicationId -> policyUtils.updateWithPagePermissionsToAllItsActions(application.getId(), actionPolicyMap, addViewAccess));
-
-        return updatedActionsFlux
-                .collectList()
-                .flatMap(actions -> {
-                    Set<String> datasourceIds = new HashSet<>();
-                    for (NewAction action : actions) {
-                        ActionDTO unpublishedAction = action.getUnpublishedAction();
-                        ActionDTO publishedAction = action.getPublishedAction();
-
-                        if (unpublishedAction.getDatasource() != null &&
-                                unpublishedAction.getDatasource().getId() != null) {
-                            datasourceIds.add(unpublishedAction.getDatasource().getId());
-                        }
-
-                        if (publishedAction != null &&
-                                publishedAction.getDatasource() != null &&
-                                publishedAction.getDatasource().getId() != null) {
-                            datasourceIds.add(publishedAction.getDatasource().getId());
-                        }
-                    }
-                    Mono<List<Datasource>> updatedDatasourcesMono =
-                            policyUtils.updateWithNewPoliciesToDatasourcesByDatasourceIds(datasourceIds,
-                                            datasourcePolicyMap, addViewAccess)
-                                    .collectList();
-
-                    return updatedDatasourcesMono;
-                })
+        return policyUtils
+                .updateWithApplicationPermissionsToAllItsPages(application.getId(), pagePolicyMap, addViewAccess)
+                // Use the same policy map as actions for action collections since action collections have the same kind of permissions
+                .then(policyUtils.updateWithPagePermissionsToAllItsActionCollections(application.getId(), actionPolicyMap, addViewAccess))
+                .then(policyUtils.updateThemePolicies(application, themePolicyMap, addViewAccess))
+                .then(policyUtils.updateWithPagePermissionsToAllItsActions(application.getId(), actionPolicyMap, addViewAccess))
+                .then(policyUtils.updateWithNewPoliciesToDatasourcesUsedByApplication(application.getId(), datasourcePolicyMap, addViewAccess))
                 .thenReturn(application)
                 .flatMap(app -> {
                     Application updatedApplication;
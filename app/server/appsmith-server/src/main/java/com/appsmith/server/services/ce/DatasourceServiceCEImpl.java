@@ -2,6 +2,7 @@ package com.appsmith.server.services.ce;
 
 import com.appsmith.external.helpers.AppsmithBeanUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.restApiUtils.helpers.ConnectionProviderRegistry;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.DatasourceConfiguration;
@@ -18,6 +19,7 @@ import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.DatasourceRepository;
 import com.appsmith.server.repositories.NewActionRepository;
@@ -71,6 +73,7 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
     private final NewActionRepository newActionRepository;
 
     private final DatasourceContextService datasourceContextService;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
 
     @Autowired
     public DatasourceServiceCEImpl(Scheduler scheduler,
@@ -86,7 +89,8 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
                                    PolicyGenerator policyGenerator,
                                    SequenceService sequenceService,
                                    NewActionRepository newActionRepository,
-                                   DatasourceContextService datasourceContextService) {
+                                   DatasourceContextService datasourceContextService,
+                                   ActionExecutionPlanCache actionExecutionPlanCache) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.workspaceService = workspaceService;
@@ -97,6 +101,7 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
         this.sequenceService = sequenceService;
         this.newActionRepository = newActionRepository;
         this.datasourceContextService = datasourceContextService;
+        this.actionExecutionPlanCache = actionExecutionPlanCache;
     }
 
     @Override
@@ -221,6 +226,8 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.DATASOURCE, id)));
 
         return datasourceMono
+                // The pooled HTTP client is keyed by the configuration as it was before this update
+                .doOnNext(dbDatasource -> ConnectionProviderRegistry.evictHttpClient(dbDatasource.getDatasourceConfiguration()))
                 .map(dbDatasource -> {
                     copyNestedNonNullProperties(datasource, dbDatasource);
                     if (datasource.getDatasourceConfiguration() != null && datasource.getDatasourceConfiguration().getAuthentication() == null) {
@@ -231,6 +238,7 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
                     return dbDatasource;
                 })
                 .flatMap(this::validateAndSaveDatasourceToRepository)
+                .flatMap(savedDatasource -> actionExecutionPlanCache.evictDatasource(savedDatasource.getId()).thenReturn(savedDatasource))
                 .flatMap(savedDatasource -> {
                     Map<String, Object> analyticsProperties = getAnalyticsProperties(savedDatasource);
                     if (isUserRefreshedUpdate.equals(Boolean.TRUE)) {
@@ -299,7 +307,8 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
         if (datasource.getGitSyncId() == null) {
             datasource.setGitSyncId(datasource.getWorkspaceId() + "_" + Instant.now().toString());
         }
-        return repository.save(datasource);
+        return repository.save(datasource)
+                .flatMap(savedDatasource -> actionExecutionPlanCache.evictDatasource(savedDatasource.getId()).thenReturn(savedDatasource));
     }
 
     private Datasource sanitizeDatasource(Datasource datasource) {
@@ -434,7 +443,8 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
                 .stream()
                 .filter(datasource -> datasource.getGitSyncId() == null)
                 .forEach(datasource -> datasource.setGitSyncId(datasource.getWorkspaceId() + "_" + Instant.now().toString()));
-        return repository.saveAll(datasourceList);
+        return repository.saveAll(datasourceList)
+                .flatMap(savedDatasource -> actionExecutionPlanCache.evictDatasource(savedDatasource.getId()).thenReturn(savedDatasource));
     }
 
     @Override
@@ -453,6 +463,8 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
                 .flatMap(toDelete -> {
                     return datasourceContextService.deleteDatasourceContext(toDelete.getId())
                             .then(repository.archive(toDelete))
+                            .then(actionExecutionPlanCache.evictDatasource(toDelete.getId()))
+                            .doOnSuccess(ignored -> ConnectionProviderRegistry.evictHttpClient(toDelete.getDatasourceConfiguration()))
                             .thenReturn(toDelete);
                 })
                 .flatMap(datasource -> {
@@ -1488,8 +1488,8 @@ public class GitServiceCEImpl implements GitServiceCE {
         }
         final String finalBranchName = branchName.replaceFirst("origin/", "");
         /*
-            1. Copy resources from DB to local repo
-            2. Fetch the current status from local repo
+            1. Compare the resources from DB with the last commit of the branch through the index of committed files
+            2. If the index can't be used, copy resources from DB to local repo and fetch the current status from local repo
          */
 
 
@@ -1509,34 +1509,57 @@ public class GitServiceCEImpl implements GitServiceCE {
                     gitData.setGitAuth(defaultApplicationMetadata.getGitAuth());
                     Path repoSuffix =
                             Paths.get(application.getWorkspaceId(), gitData.getDefaultApplicationId(), gitData.getRepoName());
+                    GitAuth gitAuth = gitData.getGitAuth();
 
+                    Mono<GitStatusDTO> indexedStatusMono = fileUtils.getModifiedFiles(repoSuffix, applicationJson, finalBranchName)
+                            .flatMap(modifiedFiles -> gitExecutor.fetchRemote(repoSuffix, gitAuth.getPublicKey(), gitAuth.getPrivateKey(), false, branchName, false)
+                                    .then(gitExecutor.getStatusFromModifiedFiles(repoSuffix, finalBranchName, modifiedFiles))
+                                    .onErrorResume(error -> Mono.error(new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", error.getMessage())))
+                            );
+
+                    return indexedStatusMono
+                            .switchIfEmpty(Mono.defer(() -> getStatusFromLocalRepo(repoSuffix, applicationJson, gitAuth, branchName, finalBranchName)));
+                });
+
+        return Mono.create(sink -> statusMono
+                .subscribe(sink::success, sink::error, null, sink.currentContext())
+        );
+    }
+
+    /**
+     * Get the status of the branch by saving the complete application to the local repo and scanning the working tree
+     *
+     * @param repoSuffix      suffixedPath used to generate the base repo path this includes orgId, defaultAppId, repoName
+     * @param applicationJson application exported from DB
+     * @param gitAuth         SSH keys of the repo
+     * @return status of the branch
+     */
+    private Mono<GitStatusDTO> getStatusFromLocalRepo(Path repoSuffix,
+                                                      ApplicationJson applicationJson,
+                                                      GitAuth gitAuth,
+                                                      String branchName,
+                                                      String finalBranchName) {
+        Mono<Path> repoPathMono;
+        try {
+            repoPathMono = fileUtils.saveApplicationToLocalRepo(repoSuffix, applicationJson, finalBranchName);
+        } catch (IOException | GitAPIException e) {
+            return Mono.error(new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", e.getMessage()));
+        }
+
+        return repoPathMono
+                .flatMap(repoPath -> {
+                    Mono<GitStatusDTO> branchedStatusMono = gitExecutor.getStatus(repoPath, finalBranchName).cache();
                     try {
-                        return Mono.zip(
-                                fileUtils.saveApplicationToLocalRepo(repoSuffix, applicationJson, finalBranchName),
-                                Mono.just(gitData.getGitAuth()),
-                                Mono.just(repoSuffix)
-                        );
-                    } catch (IOException | GitAPIException e) {
-                        return Mono.error(new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", e.getMessage()));
-                    }
-                })
-                .flatMap(tuple -> {
-                    Mono<GitStatusDTO> branchedStatusMono = gitExecutor.getStatus(tuple.getT1(), finalBranchName).cache();
-                    try {
-                        return gitExecutor.fetchRemote(tuple.getT1(), tuple.getT2().getPublicKey(), tuple.getT2().getPrivateKey(), true, branchName, false)
+                        return gitExecutor.fetchRemote(repoPath, gitAuth.getPublicKey(), gitAuth.getPrivateKey(), true, branchName, false)
                                 .then(branchedStatusMono)
                                 // Remove any files which are copied by hard resetting the repo
-                                .then(gitExecutor.resetToLastCommit(tuple.getT3(), branchName))
+                                .then(gitExecutor.resetToLastCommit(repoSuffix, branchName))
                                 .then(branchedStatusMono)
                                 .onErrorResume(error -> Mono.error(new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", error.getMessage())));
                     } catch (GitAPIException | IOException e) {
                         return Mono.error(new AppsmithException(AppsmithError.GIT_GENERIC_ERROR, e.getMessage()));
                     }
                 });
-
-        return Mono.create(sink -> statusMono
-                .subscribe(sink::success, sink::error, null, sink.currentContext())
-        );
     }
 
     @Override
@@ -38,6 +38,10 @@ public interface NewActionServiceCE extends CrudService<NewAction, String> {
     Mono<ActionExecutionResult> executeAction(ExecuteActionDTO executeActionDTO);
 
     Mono<ActionExecutionResult> executeAction(Flux<Part> partsFlux, String branchName);
+
+    Flux<ActionExecutionResult> executeActionStreaming(ExecuteActionDTO executeActionDTO);
+
+    Flux<ActionExecutionResult> executeActionStreaming(Flux<Part> partsFlux, String branchName);
     
     Mono<ActionDTO> getValidActionForExecution(ExecuteActionDTO executeActionDTO, String actionId, NewAction newAction);
 
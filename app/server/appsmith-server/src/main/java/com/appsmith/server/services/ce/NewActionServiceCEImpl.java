@@ -36,10 +36,12 @@ import com.appsmith.server.domains.Plugin;
 import com.appsmith.external.models.PluginType;
 import com.appsmith.server.domains.User;
 import com.appsmith.external.models.ActionDTO;
+import com.appsmith.server.dtos.ActionExecutionPlan;
 import com.appsmith.server.dtos.ActionViewDTO;
 import com.appsmith.server.dtos.LayoutActionUpdateDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.DateUtils;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.helpers.PolicyUtils;
@@ -143,6 +145,7 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
     private final ResponseUtils responseUtils;
 
     private final PermissionGroupService permissionGroupService;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
 
     public NewActionServiceCEImpl(Scheduler scheduler,
                                   Validator validator,
@@ -163,7 +166,8 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                                   AuthenticationValidator authenticationValidator,
                                   ConfigService configService,
                                   ResponseUtils responseUtils,
-                                  PermissionGroupService permissionGroupService) {
+                                  PermissionGroupService permissionGroupService,
+                                  ActionExecutionPlanCache actionExecutionPlanCache) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.repository = repository;
@@ -182,6 +186,7 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
         this.objectMapper = new ObjectMapper();
         this.responseUtils = responseUtils;
         this.configService = configService;
+        this.actionExecutionPlanCache = actionExecutionPlanCache;
     }
 
     @Override
@@ -619,80 +624,33 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
 
     @Override
     public Mono<ActionExecutionResult> executeAction(ExecuteActionDTO executeActionDTO) {
+        return getActionExecutionPlan(executeActionDTO)
+                .flatMap(plan -> executeAction(executeActionDTO, plan));
+    }
+
+    /**
+     * Validates the input parameters which are required for mustache replacements, and then fetches the action, its
+     * datasource and the plugin needed to execute it. Both the regular and the streaming execution start from here, so
+     * that the DB is only read once, even when the streaming execution falls back to the regular one.
+     */
+    private Mono<ActionExecutionPlan> getActionExecutionPlan(ExecuteActionDTO executeActionDTO) {
         // 1. Validate input parameters which are required for mustache replacements
-        List<Param> params = executeActionDTO.getParams();
-        if (!CollectionUtils.isEmpty(params)) {
-            for (Param param : params) {
-                // In case the parameter values turn out to be null, set it to empty string instead to allow
-                // the execution to go through no matter what.
-                if (!StringUtils.isEmpty(param.getKey()) && param.getValue() == null) {
-                    param.setValue("");
-                }
-            }
-        }
+        sanitizeExecuteParams(executeActionDTO);
 
-        String actionId = executeActionDTO.getActionId();
-        AtomicReference<String> actionName = new AtomicReference<>();
-        // Initialize the name to be empty value
-        actionName.set("");
         // 2. Fetch the action from the DB and check if it can be executed
-        Mono<NewAction> actionMono = repository.findById(actionId, EXECUTE_ACTIONS)
-                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, actionId)))
-                .cache();
-
-        Mono<ActionDTO> actionDTOMono = actionMono
-                .flatMap(action -> getValidActionForExecution(executeActionDTO, actionId, action))
-                .cache();
-
-        // 3. Instantiate the implementation class based on the query type
-
-        Mono<Datasource> datasourceMono = actionDTOMono
-                .flatMap(actionDTO -> datasourceService.getValidDatasourceFromActionMono(actionDTO, EXECUTE_DATASOURCES))
-                .cache();
-
-        Mono<Plugin> pluginMono = datasourceMono
-                .flatMap(datasource -> {
-                    // For embedded datasources, validate the datasource for each execution
-                    if (datasource.getId() == null) {
-                        return datasourceService.validateDatasource(datasource);
-                    }
-
-                    // The external datasources have already been validated. No need to validate again.
-                    return Mono.just(datasource);
-                })
-                .flatMap(datasource -> {
-                    Set<String> invalids = datasource.getInvalids();
-                    if (!CollectionUtils.isEmpty(invalids)) {
-                        log.error("Unable to execute actionId: {} because it's datasource is not valid. Cause: {}",
-                                actionId, ArrayUtils.toString(invalids));
-                        return Mono.error(new AppsmithException(AppsmithError.INVALID_DATASOURCE,
-                                datasource.getName(),
-                                ArrayUtils.toString(invalids)));
-                    }
-                    return pluginService.findById(datasource.getPluginId());
-                })
-                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN)))
-                .cache();
-
-        Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
-
-        // 4. Execute the query
-        Mono<ActionExecutionResult> actionExecutionResultMono = Mono
-                .zip(
-                        actionDTOMono,
-                        datasourceMono,
-                        pluginExecutorMono,
-                        pluginMono
-                )
-                .flatMap(tuple -> {
-                    final ActionDTO action = tuple.getT1();
-                    final Datasource datasource = tuple.getT2();
-                    final PluginExecutor pluginExecutor = tuple.getT3();
-                    final Plugin plugin = tuple.getT4();
+        return getActionExecutionPlan(executeActionDTO, executeActionDTO.getActionId());
+    }
 
-                    // Set the action name
-                    actionName.set(action.getName());
+    private Mono<ActionExecutionResult> executeAction(ExecuteActionDTO executeActionDTO, ActionExecutionPlan plan) {
+        final String actionId = executeActionDTO.getActionId();
+        final NewAction actionFromDb = plan.getAction();
+        final Datasource datasource = plan.getDatasource();
+        final Plugin plugin = plan.getPlugin();
+        final PluginExecutor pluginExecutor = plan.getPluginExecutor();
 
+        // 3. Execute the query
+        Mono<ActionExecutionResult> actionExecutionResultMono = getValidActionForExecution(executeActionDTO, actionId, actionFromDb)
+                .flatMap(action -> {
                     ActionConfiguration actionConfiguration = action.getActionConfiguration();
 
                     Integer timeoutDuration = actionConfiguration.getTimeoutInMillisecond();
@@ -720,18 +678,8 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                                                 executeActionDTO,
                                                 datasource1.getDatasourceConfiguration(),
                                                 actionConfiguration
-                                        )).map(actionExecutionResult -> {
-                                            ActionExecutionRequest actionExecutionRequest = actionExecutionResult.getRequest();
-                                            if (actionExecutionRequest == null) {
-                                                actionExecutionRequest = new ActionExecutionRequest();
-                                            }
-                                            actionExecutionRequest.setActionId(actionId);
-                                            actionExecutionRequest.setRequestedAt(requestedAt);
-
-                                            actionExecutionResult.setRequest(actionExecutionRequest);
-
-                                            return actionExecutionResult;
-                                        });
+                                        )).map(actionExecutionResult ->
+                                                setRequestDetails(actionExecutionResult, actionId, requestedAt));
                                     })
                             );
 
@@ -743,43 +691,11 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                                         .then(executionMono);
                             })
                             .timeout(Duration.ofMillis(timeoutDuration))
-                            .onErrorMap(TimeoutException.class,
-                                    error -> new AppsmithPluginException(
-                                            AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR,
-                                            action.getName(), timeoutDuration
-                                    )
-                            )
-                            .onErrorMap(
-                                    StaleConnectionException.class,
-                                    error -> new AppsmithPluginException(
-                                            AppsmithPluginError.PLUGIN_ERROR,
-                                            "Secondary stale connection error."
-                                    )
-                            )
+                            .onErrorMap(error -> mapExecutionError(error, action, timeoutDuration))
                             .onErrorResume(e -> {
                                 log.debug("{}: In the action execution error mode.",
                                         Thread.currentThread().getName(), e);
-                                ActionExecutionResult result = new ActionExecutionResult();
-                                result.setBody(e.getMessage());
-                                result.setIsExecutionSuccess(false);
-                                final ActionExecutionRequest actionExecutionRequest = new ActionExecutionRequest();
-                                actionExecutionRequest.setActionId(actionId);
-                                actionExecutionRequest.setRequestedAt(Instant.now());
-                                result.setRequest(actionExecutionRequest);
-                                // Set the status code for Appsmith plugin errors
-                                if (e instanceof AppsmithPluginException) {
-                                    result.setStatusCode(((AppsmithPluginException) e).getAppErrorCode().toString());
-                                    result.setTitle(((AppsmithPluginException) e).getTitle());
-                                    result.setErrorType(((AppsmithPluginException) e).getErrorType());
-                                } else {
-                                    result.setStatusCode(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode().toString());
-
-                                    if (e instanceof AppsmithException) {
-                                        result.setTitle(((AppsmithException) e).getTitle());
-                                        result.setErrorType(((AppsmithException) e).getErrorType());
-                                    }
-                                }
-                                return Mono.just(result);
+                                return Mono.just(getFailedExecutionResult(e, actionId));
                             })
                             .elapsed()
                             // Now send the analytics event for this execution
@@ -789,66 +705,88 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
 
                                         log.debug("{}: Action {} with id {} execution time : {} ms",
                                                 Thread.currentThread().getName(),
-                                                actionName.get(),
+                                                action.getName(),
                                                 actionId,
                                                 timeElapsed
                                         );
 
-                                        return Mono.zip(actionMono, actionDTOMono, datasourceMono)
-                                                .flatMap(tuple2 -> {
-                                                    ActionExecutionResult actionExecutionResult = result;
-                                                    NewAction actionFromDb = tuple2.getT1();
-                                                    ActionDTO actionDTO = tuple2.getT2();
-                                                    Datasource datasourceFromDb = tuple2.getT3();
-
-                                                    return Mono.when(sendExecuteAnalyticsEvent(actionFromDb, actionDTO, datasourceFromDb, executeActionDTO, actionExecutionResult, timeElapsed))
-                                                            .thenReturn(result);
-                                                });
+                                        return Mono.when(sendExecuteAnalyticsEvent(actionFromDb, action, datasource, executeActionDTO, result, timeElapsed))
+                                                .thenReturn(result);
                                     }
                             );
                 })
-                .onErrorResume(AppsmithException.class, error -> {
-                    ActionExecutionResult result = new ActionExecutionResult();
-                    result.setIsExecutionSuccess(false);
-                    result.setStatusCode(error.getAppErrorCode().toString());
-                    result.setBody(error.getMessage());
-                    result.setTitle(error.getTitle());
-                    result.setErrorType(error.getErrorType());
-                    return Mono.just(result);
-                });
+                .onErrorResume(AppsmithException.class, error -> Mono.just(getAppsmithErrorResult(error)));
 
-        Mono<Map> editorConfigLabelMapMono = datasourceMono
-                .flatMap(datasource -> {
-                    if (datasource.getId() != null) {
-                        return pluginService.getEditorConfigLabelMap(datasource.getPluginId());
-                    }
+        return Mono.zip(actionExecutionResultMono, getEditorConfigLabelMap(executeActionDTO, datasource))
+                .map(tuple -> prepareResultForClient(tuple.getT1(), executeActionDTO, tuple.getT2()));
+    }
 
-                    return Mono.just(new HashMap());
-                });
+    private ActionExecutionResult setRequestDetails(ActionExecutionResult actionExecutionResult, String actionId, Instant requestedAt) {
+        ActionExecutionRequest actionExecutionRequest = actionExecutionResult.getRequest();
+        if (actionExecutionRequest == null) {
+            actionExecutionRequest = new ActionExecutionRequest();
+        }
+        actionExecutionRequest.setActionId(actionId);
+        actionExecutionRequest.setRequestedAt(requestedAt);
 
-        return Mono.zip(actionExecutionResultMono, editorConfigLabelMapMono)
-                .flatMap(tuple -> {
-                    ActionExecutionResult result = tuple.getT1();
-                    // In case the action was executed in view mode, do not return the request object
-                    if (TRUE.equals(executeActionDTO.getViewMode())) {
-                        result.setRequest(null);
-                        return Mono.just(result);
-                    }
+        actionExecutionResult.setRequest(actionExecutionRequest);
 
-                    if (result.getRequest() == null || result.getRequest().getRequestParams() == null) {
-                        return Mono.just(result);
-                    }
+        return actionExecutionResult;
+    }
 
-                    Map labelMap = tuple.getT2();
-                    transformRequestParams(result, labelMap);
+    private Throwable mapExecutionError(Throwable error, ActionDTO action, Integer timeoutDuration) {
+        if (error instanceof TimeoutException) {
+            return new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR,
+                    action.getName(), timeoutDuration
+            );
+        }
 
-                    return Mono.just(result);
-                })
-                .map(result -> addDataTypesAndSetSuggestedWidget(result, executeActionDTO.getViewMode()));
+        if (error instanceof StaleConnectionException) {
+            return new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_ERROR,
+                    "Secondary stale connection error."
+            );
+        }
+
+        return error;
+    }
+
+    private Mono<Map> getEditorConfigLabelMap(ExecuteActionDTO executeActionDTO, Datasource datasource) {
+        // The request is not returned in view mode, so the labels of its params are not needed
+        if (datasource.getId() != null && !TRUE.equals(executeActionDTO.getViewMode())) {
+            return pluginService.getEditorConfigLabelMap(datasource.getPluginId());
+        }
+
+        return Mono.just(new HashMap());
+    }
+
+    private ActionExecutionResult prepareResultForClient(ActionExecutionResult result,
+                                                         ExecuteActionDTO executeActionDTO,
+                                                         Map labelMap) {
+        // In case the action was executed in view mode, do not return the request object
+        if (TRUE.equals(executeActionDTO.getViewMode())) {
+            result.setRequest(null);
+        } else if (result.getRequest() != null && result.getRequest().getRequestParams() != null) {
+            transformRequestParams(result, labelMap);
+        }
+
+        return addDataTypesAndSetSuggestedWidget(result, executeActionDTO.getViewMode());
     }
 
     @Override
     public Mono<ActionExecutionResult> executeAction(Flux<Part> partFlux, String branchName) {
+        return createExecuteActionDTO(partFlux, branchName)
+                .flatMap(this::executeAction);
+    }
+
+    @Override
+    public Flux<ActionExecutionResult> executeActionStreaming(Flux<Part> partFlux, String branchName) {
+        return createExecuteActionDTO(partFlux, branchName)
+                .flatMapMany(this::executeActionStreaming);
+    }
+
+    private Mono<ExecuteActionDTO> createExecuteActionDTO(Flux<Part> partFlux, String branchName) {
 
         final ExecuteActionDTO dto = new ExecuteActionDTO();
         return partFlux
@@ -953,8 +891,258 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                             executeActionDTO.setActionId(branchedAction.getId());
                             return executeActionDTO;
                         })
-                )
-                .flatMap(this::executeAction);
+                );
+    }
+
+    /**
+     * Streaming counterpart of {@link #executeAction(ExecuteActionDTO)}. For plugins that support it, the rows of the
+     * result are written to the client in batches as they are read from the data source, instead of being collected
+     * into a single ActionExecutionResult first. Each emitted ActionExecutionResult carries one batch of rows as its
+     * body. The request details and the data types are only set on the first one. If the execution fails midway, the
+     * stream ends with a failed ActionExecutionResult, just like the one the regular execution returns.
+     * <p>
+     * Plugins that can't stream, and remote plugins, are executed the regular way and their result is emitted as the
+     * only element of the stream.
+     */
+    @Override
+    public Flux<ActionExecutionResult> executeActionStreaming(ExecuteActionDTO executeActionDTO) {
+        return getActionExecutionPlan(executeActionDTO)
+                .flatMapMany(plan -> {
+                    if (plan.getPlugin().isRemotePlugin() || !plan.getPluginExecutor().isStreamingSupported()) {
+                        return executeAction(executeActionDTO, plan).flux();
+                    }
+
+                    return executeActionStreaming(executeActionDTO, plan);
+                });
+    }
+
+    private Flux<ActionExecutionResult> executeActionStreaming(ExecuteActionDTO executeActionDTO, ActionExecutionPlan plan) {
+        final String actionId = executeActionDTO.getActionId();
+        final NewAction actionFromDb = plan.getAction();
+        final Datasource datasource = plan.getDatasource();
+        final PluginExecutor pluginExecutor = plan.getPluginExecutor();
+
+        return Mono.zip(getValidActionForExecution(executeActionDTO, actionId, actionFromDb),
+                        getEditorConfigLabelMap(executeActionDTO, datasource))
+                .flatMapMany(tuple -> {
+                    final ActionDTO action = tuple.getT1();
+                    final Map labelMap = tuple.getT2();
+
+                    ActionConfiguration actionConfiguration = action.getActionConfiguration();
+                    Integer timeoutDuration = actionConfiguration.getTimeoutInMillisecond();
+
+                    log.debug("[{}]Execute Action with streaming called in Page {}, for action id : {}  action name : {}",
+                            Thread.currentThread().getName(),
+                            action.getPageId(), actionId, action.getName());
+
+                    final Instant requestedAt = Instant.now();
+                    // Only the first result carries the request, so it is kept for the analytics event
+                    final AtomicReference<ActionExecutionRequest> request = new AtomicReference<>();
+                    final AtomicReference<ActionExecutionResult> failedResult = new AtomicReference<>();
+
+                    Mono<Datasource> validatedDatasourceMono = authenticationValidator.validateAuthentication(datasource).cache();
+
+                    Flux<ActionExecutionResult> executionFlux = validatedDatasourceMono
+                            .flatMap(datasourceContextService::getDatasourceContext)
+                            .flatMapMany(resourceContext -> validatedDatasourceMono
+                                    .flatMapMany(datasource1 -> (Flux<ActionExecutionResult>) pluginExecutor
+                                            .executeParameterizedStreaming(
+                                                    resourceContext.getConnection(),
+                                                    executeActionDTO,
+                                                    datasource1.getDatasourceConfiguration(),
+                                                    actionConfiguration
+                                            )
+                                    )
+                            );
+
+                    return executionFlux
+                            // Plugins only signal a stale connection before the first batch, so retrying can't
+                            // duplicate any rows.
+                            .onErrorResume(StaleConnectionException.class, error -> {
+                                log.info("Looks like the connection is stale. Retrying with a fresh context.");
+                                return datasourceContextService
+                                        .deleteDatasourceContext(datasource.getId())
+                                        .thenMany(executionFlux);
+                            })
+                            // The timeout applies to the wait for each batch, rather than to the whole stream.
+                            .timeout(Duration.ofMillis(timeoutDuration))
+                            .onErrorMap(error -> mapExecutionError(error, action, timeoutDuration))
+                            .index()
+                            .map(indexedResult -> {
+                                ActionExecutionResult result = indexedResult.getT2();
+                                if (indexedResult.getT1() != 0) {
+                                    return result;
+                                }
+
+                                setRequestDetails(result, actionId, requestedAt);
+                                request.set(result.getRequest());
+                                return prepareResultForClient(result, executeActionDTO, labelMap);
+                            })
+                            .onErrorResume(e -> {
+                                log.debug("{}: In the streaming action execution error mode.",
+                                        Thread.currentThread().getName(), e);
+                                ActionExecutionResult result = getFailedExecutionResult(e, actionId);
+                                failedResult.set(result);
+                                if (TRUE.equals(executeActionDTO.getViewMode())) {
+                                    result.setRequest(null);
+                                }
+                                return Mono.just(result);
+                            })
+                            // Now send the analytics event for this execution, once the stream has ended.
+                            .concatWith(Mono.defer(() -> {
+                                ActionExecutionResult summary = new ActionExecutionResult();
+                                summary.setIsExecutionSuccess(true);
+                                if (failedResult.get() != null) {
+                                    summary.setIsExecutionSuccess(failedResult.get().getIsExecutionSuccess());
+                                    summary.setStatusCode(failedResult.get().getStatusCode());
+                                }
+                                summary.setRequest(request.get());
+                                setRequestDetails(summary, actionId, requestedAt);
+
+                                final long timeElapsed = Duration.between(requestedAt, Instant.now()).toMillis();
+                                return sendExecuteAnalyticsEvent(actionFromDb, action, datasource, executeActionDTO,
+                                        summary, timeElapsed);
+                            }).then(Mono.<ActionExecutionResult>empty()));
+                })
+                .onErrorResume(AppsmithException.class, error -> Mono.just(getAppsmithErrorResult(error)));
+    }
+
+    private void sanitizeExecuteParams(ExecuteActionDTO executeActionDTO) {
+        List<Param> params = executeActionDTO.getParams();
+        if (!CollectionUtils.isEmpty(params)) {
+            for (Param param : params) {
+                // In case the parameter values turn out to be null, set it to empty string instead to allow
+                // the execution to go through no matter what.
+                if (!StringUtils.isEmpty(param.getKey()) && param.getValue() == null) {
+                    param.setValue("");
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolves the action, its datasource, the plugin and the plugin executor needed to run the action. Actions run in
+     * view mode are read from {@link ActionExecutionPlanCache} when they are cached there, in which case the
+     * permissions of the current user are checked against the policies of the cached action and datasource instead of
+     * in the queries to the DB.
+     *
+     * @param executeActionDTO execution request
+     * @param actionId         id of the action to be run
+     * @return plan with the action and the datasource which can be modified for this execution
+     */
+    protected Mono<ActionExecutionPlan> getActionExecutionPlan(ExecuteActionDTO executeActionDTO, String actionId) {
+        if (!TRUE.equals(executeActionDTO.getViewMode())) {
+            return resolveActionExecutionPlan(executeActionDTO, actionId);
+        }
+
+        return Mono.defer(() -> {
+            final long cacheGeneration = actionExecutionPlanCache.getGeneration();
+            return Mono.justOrEmpty(actionExecutionPlanCache.get(actionId))
+                    .flatMap(cachedPlan -> checkExecutionPermissions(cachedPlan, actionId))
+                    .switchIfEmpty(Mono.defer(() -> resolveActionExecutionPlan(executeActionDTO, actionId)
+                            .doOnNext(resolvedPlan -> actionExecutionPlanCache.put(resolvedPlan, cacheGeneration))));
+        });
+    }
+
+    private Mono<ActionExecutionPlan> resolveActionExecutionPlan(ExecuteActionDTO executeActionDTO, String actionId) {
+        Mono<NewAction> actionMono = repository.findById(actionId, EXECUTE_ACTIONS)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, actionId)))
+                .cache();
+
+        Mono<Datasource> datasourceMono = actionMono
+                .flatMap(action -> getValidActionForExecution(executeActionDTO, actionId, action))
+                .flatMap(actionDTO -> datasourceService.getValidDatasourceFromActionMono(actionDTO, EXECUTE_DATASOURCES))
+                .cache();
+
+        Mono<Plugin> pluginMono = getPluginForExecution(datasourceMono, actionId);
+
+        Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
+
+        return Mono.zip(actionMono, datasourceMono, pluginMono, pluginExecutorMono)
+                .map(tuple -> new ActionExecutionPlan(tuple.getT1(), tuple.getT2(), tuple.getT3(), tuple.getT4()));
+    }
+
+    private Mono<ActionExecutionPlan> checkExecutionPermissions(ActionExecutionPlan plan, String actionId) {
+        final Datasource datasource = plan.getDatasource();
+        // Embedded datasources are a part of the action, so only the global datasources have their own permissions
+        Mono<Boolean> isDatasourceExecutableMono = datasource.getId() == null
+                ? Mono.just(TRUE)
+                : repository.isPermissionPresentForCurrentUser(datasource.getPolicies(), EXECUTE_DATASOURCES);
+
+        return repository.isPermissionPresentForCurrentUser(plan.getAction().getPolicies(), EXECUTE_ACTIONS)
+                .defaultIfEmpty(FALSE)
+                .flatMap(isActionExecutable -> {
+                    if (!TRUE.equals(isActionExecutable)) {
+                        return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, actionId));
+                    }
+                    return isDatasourceExecutableMono.defaultIfEmpty(FALSE);
+                })
+                .flatMap(isDatasourceExecutable -> {
+                    if (!TRUE.equals(isDatasourceExecutable)) {
+                        return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.DATASOURCE, datasource.getId()));
+                    }
+                    return Mono.just(plan);
+                });
+    }
+
+    private Mono<Plugin> getPluginForExecution(Mono<Datasource> datasourceMono, String actionId) {
+        return datasourceMono
+                .flatMap(datasource -> {
+                    // For embedded datasources, validate the datasource for each execution
+                    if (datasource.getId() == null) {
+                        return datasourceService.validateDatasource(datasource);
+                    }
+
+                    // The external datasources have already been validated. No need to validate again.
+                    return Mono.just(datasource);
+                })
+                .flatMap(datasource -> {
+                    Set<String> invalids = datasource.getInvalids();
+                    if (!CollectionUtils.isEmpty(invalids)) {
+                        log.error("Unable to execute actionId: {} because it's datasource is not valid. Cause: {}",
+                                actionId, ArrayUtils.toString(invalids));
+                        return Mono.error(new AppsmithException(AppsmithError.INVALID_DATASOURCE,
+                                datasource.getName(),
+                                ArrayUtils.toString(invalids)));
+                    }
+                    return pluginService.findById(datasource.getPluginId());
+                })
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN)))
+                .cache();
+    }
+
+    private ActionExecutionResult getFailedExecutionResult(Throwable e, String actionId) {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setBody(e.getMessage());
+        result.setIsExecutionSuccess(false);
+        final ActionExecutionRequest actionExecutionRequest = new ActionExecutionRequest();
+        actionExecutionRequest.setActionId(actionId);
+        actionExecutionRequest.setRequestedAt(Instant.now());
+        result.setRequest(actionExecutionRequest);
+        // Set the status code for Appsmith plugin errors
+        if (e instanceof AppsmithPluginException) {
+            result.setStatusCode(((AppsmithPluginException) e).getAppErrorCode().toString());
+            result.setTitle(((AppsmithPluginException) e).getTitle());
+            result.setErrorType(((AppsmithPluginException) e).getErrorType());
+        } else {
+            result.setStatusCode(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode().toString());
+
+            if (e instanceof AppsmithException) {
+                result.setTitle(((AppsmithException) e).getTitle());
+                result.setErrorType(((AppsmithException) e).getErrorType());
+            }
+        }
+        return result;
+    }
+
+    private ActionExecutionResult getAppsmithErrorResult(AppsmithException error) {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(false);
+        result.setStatusCode(error.getAppErrorCode().toString());
+        result.setBody(error.getMessage());
+        result.setTitle(error.getTitle());
+        result.setErrorType(error.getErrorType());
+        return result;
     }
 
     @Override
@@ -1661,6 +1849,12 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                 });
     }
 
+    @Override
+    public Mono<NewAction> update(String id, NewAction resource, String key) {
+        return super.update(id, resource, key)
+                .flatMap(updatedAction -> actionExecutionPlanCache.evictAction(updatedAction.getId()).thenReturn(updatedAction));
+    }
+
     @Override
     public Mono<NewAction> save(NewAction action) {
         // gitSyncId will be used to sync resource across instances
@@ -1669,7 +1863,8 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
         }
 
         return sanitizeAction(action)
-                .flatMap(sanitizedAction -> repository.save(sanitizedAction));
+                .flatMap(sanitizedAction -> repository.save(sanitizedAction))
+                .flatMap(savedAction -> actionExecutionPlanCache.evictAction(savedAction.getId()).thenReturn(savedAction));
     }
 
     @Override
@@ -1681,7 +1876,8 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
         return Flux.fromIterable(actions)
                 .flatMap(this::sanitizeAction)
                 .collectList()
-                .flatMapMany(actionList -> repository.saveAll(actionList));
+                .flatMapMany(actionList -> repository.saveAll(actionList))
+                .flatMap(savedAction -> actionExecutionPlanCache.evictAction(savedAction.getId()).thenReturn(savedAction));
     }
 
     @Override
@@ -1843,6 +2039,7 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
         return actionMono
                 .flatMap(toDelete -> repository
                         .archive(toDelete)
+                        .flatMap(archivedAction -> actionExecutionPlanCache.evictAction(archivedAction.getId()).thenReturn(archivedAction))
                         .zipWith(Mono.defer(() -> {
                             final ActionDTO action = toDelete.getUnpublishedAction();
                             if (action.getDatasource() != null &&
@@ -1881,13 +2078,15 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
 
     @Override
     public Mono<NewAction> archive(NewAction newAction) {
-        return repository.archive(newAction);
+        return repository.archive(newAction)
+                .flatMap(archivedAction -> actionExecutionPlanCache.evictAction(archivedAction.getId()).thenReturn(archivedAction));
     }
 
     @Override
     public Mono<List<NewAction>> archiveActionsByApplicationId(String applicationId, AclPermission permission) {
         return repository.findByApplicationId(applicationId, permission)
                 .flatMap(repository::archive)
+                .flatMap(archivedAction -> actionExecutionPlanCache.evictAction(archivedAction.getId()).thenReturn(archivedAction))
                 .onErrorResume(throwable -> {
                     log.error(throwable.getMessage());
                     return Mono.empty();
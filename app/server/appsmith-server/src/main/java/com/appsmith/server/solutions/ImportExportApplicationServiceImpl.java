@@ -1,5 +1,6 @@
 package com.appsmith.server.solutions;
 
+import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.repositories.ActionCollectionRepository;
 import com.appsmith.server.repositories.DatasourceRepository;
@@ -42,11 +43,12 @@ public class ImportExportApplicationServiceImpl extends ImportExportApplicationS
                                               ActionCollectionService actionCollectionService,
                                               ThemeService themeService,
                                               PolicyUtils policyUtils,
-                                              AnalyticsService analyticsService) {
+                                              AnalyticsService analyticsService,
+                                              CommonConfig commonConfig) {
 
         super(datasourceService, sessionUserService, newActionRepository, datasourceRepository, pluginRepository,
                 workspaceService, applicationService, newPageService, applicationPageService, newPageRepository,
                 newActionService, sequenceService, examplesWorkspaceCloner, actionCollectionRepository,
-                actionCollectionService, themeService, policyUtils, analyticsService);
+                actionCollectionService, themeService, policyUtils, analyticsService, commonConfig);
     }
 }
@@ -14,6 +14,7 @@ import com.appsmith.external.models.DecryptedSensitiveFields;
 import com.appsmith.external.models.DefaultResources;
 import com.appsmith.external.models.OAuth2;
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.constants.ResourceModes;
 import com.appsmith.server.constants.SerialiseApplicationObjective;
@@ -35,6 +36,7 @@ import com.appsmith.server.dtos.ExportFileDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ApplicationJsonStreamUtils;
 import com.appsmith.server.helpers.DefaultResourcesUtils;
 import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.helpers.TextUtils;
@@ -42,6 +44,7 @@ import com.appsmith.server.migrations.ApplicationVersion;
 import com.appsmith.server.migrations.JsonSchemaMigration;
 import com.appsmith.server.migrations.JsonSchemaVersions;
 import com.appsmith.server.repositories.ActionCollectionRepository;
+import com.appsmith.server.repositories.AppsmithRepository;
 import com.appsmith.server.repositories.DatasourceRepository;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.repositories.NewPageRepository;
@@ -61,14 +64,16 @@ import com.appsmith.server.solutions.ExamplesWorkspaceCloner;
 import com.github.zafarkhaja.semver.util.Stream;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.bson.types.ObjectId;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -76,8 +81,8 @@ import org.springframework.http.codec.multipart.Part;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
-import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -125,10 +130,18 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
     private final ThemeService themeService;
     private final PolicyUtils policyUtils;
     private final AnalyticsService analyticsService;
+    private final CommonConfig commonConfig;
 
     private static final Set<MediaType> ALLOWED_CONTENT_TYPES = Set.of(MediaType.APPLICATION_JSON);
     private static final String INVALID_JSON_FILE = "invalid json file";
 
+    // Gson instances are thread-safe, so the same one reads and writes all the application files
+    private final Gson applicationFileGson = new GsonBuilder()
+            .registerTypeAdapter(Instant.class, new GsonISOStringToInstantConverter())
+            .create();
+
+    private final DataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
+
     /**
      * This function will give the application resource to rebuild the application in import application flow
      *
@@ -499,13 +512,7 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
     public Mono<ExportFileDTO> getApplicationFile(String applicationId, String branchName) {
         return this.exportApplicationById(applicationId, branchName)
                 .map(applicationJson -> {
-                    Gson gson = new GsonBuilder()
-                            .registerTypeAdapter(Instant.class, new GsonISOStringToInstantConverter())
-                            .create();
-
-                    String stringifiedFile = gson.toJson(applicationJson);
                     String applicationName = applicationJson.getExportedApplication().getName();
-                    Object jsonObject = gson.fromJson(stringifiedFile, Object.class);
                     HttpHeaders responseHeaders = new HttpHeaders();
                     ContentDisposition contentDisposition = ContentDisposition
                             .builder("attachment")
@@ -514,8 +521,11 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                     responseHeaders.setContentDisposition(contentDisposition);
                     responseHeaders.setContentType(MediaType.APPLICATION_JSON);
 
+                    // Write the file one resource at a time as the response is sent, instead of holding the entire
+                    // file in memory next to the exported resources
                     ExportFileDTO exportFileDTO = new ExportFileDTO();
-                    exportFileDTO.setApplicationResource(jsonObject);
+                    exportFileDTO.setApplicationResource(
+                            ApplicationJsonStreamUtils.write(applicationJson, applicationFileGson, dataBufferFactory));
                     exportFileDTO.setHttpHeaders(responseHeaders);
                     return exportFileDTO;
                 });
@@ -545,19 +555,10 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
             return Mono.error(new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE));
         }
 
-        Mono<String> stringifiedFile = DataBufferUtils.join(filePart.content())
-                .map(dataBuffer -> {
-                    byte[] data = new byte[dataBuffer.readableByteCount()];
-                    dataBuffer.read(data);
-                    DataBufferUtils.release(dataBuffer);
-                    return new String(data);
-                });
-
-        Mono<ApplicationImportDTO> importedApplicationMono = stringifiedFile
-                .flatMap(data -> {
-                    Gson gson = new GsonBuilder()
-                            .registerTypeAdapter(Instant.class, new GsonISOStringToInstantConverter())
-                            .create();
+        // Parse the file while the uploaded chunks arrive, instead of collecting them and joining them into a string
+        Mono<ApplicationImportDTO> importedApplicationMono = ApplicationJsonStreamUtils.read(filePart.content(), applicationFileGson)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE)))
+                .flatMap(jsonFile -> {
                     /*
                     // Use JsonObject to migrate when we remove some field from the collection which is being exported
                     JsonObject json = gson.fromJson(data, JsonObject.class);
@@ -569,9 +570,6 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                     ((JsonArray) json.get("pageList"))
                     */
 
-                    Type fileType = new TypeToken<ApplicationJson>() {
-                    }.getType();
-                    ApplicationJson jsonFile = gson.fromJson(data, fileType);
                     return importApplicationInWorkspace(workspaceId, jsonFile)
                             .onErrorResume(error -> {
                                 if (error instanceof AppsmithException) {
@@ -868,12 +866,12 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                             .collectList()
                             .cache();
 
-                    Flux<NewPage> importNewPageFlux = importAndSavePages(
+                    Flux<NewPage> importNewPageFlux = logImportPhaseTime("pages", importAndSavePages(
                             importedNewPageList,
                             savedApp,
                             branchName,
                             existingPagesMono
-                    );
+                    ));
                     Flux<NewPage> importedNewPagesMono;
 
                     if (appendToApp) {
@@ -1021,7 +1019,7 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                             .collectList();
                 })
                 .flatMap(existingActions ->
-                        importAndSaveAction(
+                        logImportPhaseTime("actions", importAndSaveAction(
                                 importedNewActionList,
                                 existingActions,
                                 importedApplication,
@@ -1032,7 +1030,7 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                                 datasourceMap,
                                 unpublishedCollectionIdToActionIdsMap,
                                 publishedCollectionIdToActionIdsMap
-                        )
+                        ))
                                 .map(NewAction::getId)
                                 .collectList()
                                 .flatMap(savedActionIds -> {
@@ -1071,7 +1069,7 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                         return Mono.just(true);
                     }
                     Set<String> savedCollectionIds = new HashSet<>();
-                    return importAndSaveActionCollection(
+                    return logImportPhaseTime("action collections", importAndSaveActionCollection(
                             importedActionCollectionList,
                             existingActionCollections,
                             importedApplication,
@@ -1081,12 +1079,12 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                             unpublishedCollectionIdToActionIdsMap,
                             publishedCollectionIdToActionIdsMap,
                             appendToApp
-                    )
-                            .flatMap(tuple -> {
+                    ))
+                            .map(tuple -> {
                                 final String importedActionCollectionId = tuple.getT1();
                                 ActionCollection savedActionCollection = tuple.getT2();
                                 savedCollectionIds.add(savedActionCollection.getId());
-                                return updateActionsWithImportedCollectionIds(
+                                mapActionIdsToSavedCollectionIds(
                                         importedActionCollectionId,
                                         savedActionCollection,
                                         unpublishedCollectionIdToActionIdsMap,
@@ -1094,9 +1092,17 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                                         unpublishedActionIdToCollectionIdMap,
                                         publishedActionIdToCollectionIdMap
                                 );
+                                return savedActionCollection;
                             })
                             .collectList()
-                            .flatMap(ignore -> {
+                            // Link the actions to their collections once all the collections are saved
+                            .flatMap(savedActionCollections -> logImportPhaseTime("action collection ids in actions",
+                                    updateActionsWithImportedCollectionIds(
+                                            unpublishedActionIdToCollectionIdMap,
+                                            publishedActionIdToCollectionIdMap
+                                    )
+                            ).then())
+                            .then(Mono.defer(() -> {
                                 // Updating the existing application for git-sync
                                 // During partial import/appending to the existing application keep the resources
                                 // attached to the application:
@@ -1123,14 +1129,15 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                                             .thenReturn(savedCollectionIds);
                                 }
                                 return Mono.just(savedCollectionIds);
-                            })
+                            }))
                             .thenReturn(true);
                 })
                 .flatMap(ignored -> {
                     // Don't update gitAuth as we are using @Encrypted for private key
                     importedApplication.setGitApplicationMetadata(null);
                     // Map layoutOnLoadActions ids with relevant actions
-                    return newPageService.findNewPagesByApplicationId(importedApplication.getId(), MANAGE_PAGES)
+                    Flux<NewPage> updatedPagesFlux = newPageService
+                            .findNewPagesByApplicationId(importedApplication.getId(), MANAGE_PAGES)
                             .flatMap(newPage -> {
                                 if (newPage.getDefaultResources() != null) {
                                     newPage.getDefaultResources().setBranchName(branchName);
@@ -1140,7 +1147,8 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                                 );
                             })
                             .collectList()
-                            .flatMapMany(newPageService::saveAll)
+                            .flatMapMany(newPageService::saveAll);
+                    return logImportPhaseTime("page layouts", updatedPagesFlux)
                             .then(applicationService.update(importedApplication.getId(), importedApplication))
                             .then(sendImportExportApplicationAnalyticsEvent(importedApplication.getId(), AnalyticsEvents.IMPORT))
                             .zipWith(currUserMono)
@@ -1174,6 +1182,20 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
         );
     }
 
+    /**
+     * Logs the time taken by a phase of the import, along with the time of the whole import logged at the end
+     *
+     * @param phase     resources which are imported in the phase
+     * @param phaseFlux flux of the phase, the time is measured from the subscription till the flux terminates
+     * @return flux of the phase
+     */
+    private <T> Flux<T> logImportPhaseTime(String phase, Flux<T> phaseFlux) {
+        return Flux.defer(() -> {
+            Stopwatch stopwatch = new Stopwatch(AnalyticsEvents.IMPORT.getEventName() + " " + phase);
+            return phaseFlux.doFinally(signalType -> stopwatch.stopAndLogTimeInMillis());
+        });
+    }
+
     private void renamePageInActions(List<NewAction> newActionList, String oldPageName, String newPageName) {
         for (NewAction newAction : newActionList) {
             if (newAction.getUnpublishedAction().getPageId().equals(oldPageName)) {
@@ -1257,6 +1279,8 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                     .filter(newPage -> !StringUtils.isEmpty(newPage.getGitSyncId()))
                     .forEach(newPage -> savedPagesGitIdToPageMap.put(newPage.getGitSyncId(), newPage));
 
+            // New pages are inserted together once all the pages are prepared
+            List<NewPage> newPages = new ArrayList<>();
             return Flux.fromIterable(pages)
                     .flatMap(newPage -> {
 
@@ -1294,8 +1318,10 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                                         return newPageService.save(newPage);
                                     });
                         }
-                        return saveNewPageAndUpdateDefaultResources(newPage, branchName);
-                    });
+                        newPages.add(prepareNewPageForInsert(newPage, branchName));
+                        return Mono.<NewPage>empty();
+                    })
+                    .concatWith(Flux.defer(() -> bulkInsertInBatches(newPages, newPageRepository)));
         });
     }
 
@@ -1343,6 +1369,8 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                 .forEach(newAction -> savedActionsGitIdToActionsMap.put(newAction.getGitSyncId(), newAction));
 
 
+        // New actions are inserted together once all the actions are prepared
+        List<NewAction> newActions = new ArrayList<>();
         return Flux.fromIterable(importedNewActionList)
                 .filter(action -> action.getUnpublishedAction() != null
                         && !StringUtils.isEmpty(action.getUnpublishedAction().getPageId()))
@@ -1426,8 +1454,13 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                                 });
                     }
 
-                    return saveNewActionAndUpdateDefaultResources(newAction, branchName);
+                    newActions.add(prepareNewActionForInsert(newAction, branchName));
+                    return Mono.<NewAction>empty();
                 })
+                .concatWith(Flux.defer(() -> Flux.fromIterable(newActions)
+                        .concatMap(newActionService::sanitizeAction)
+                        .collectList()
+                        .flatMapMany(sanitizedActions -> bulkInsertInBatches(sanitizedActions, newActionRepository))))
                 .map(newAction -> {
                     // Populate actionIdsMap to associate the appropriate actions to run on page load
                     if (newAction.getUnpublishedAction() != null) {
@@ -1489,6 +1522,10 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
             boolean appendToApp) {
 
         final String workspaceId = importedApplication.getWorkspaceId();
+        // New action collections are inserted together once all the collections are prepared, the imported id of each
+        // new collection is kept to link the actions of the collection
+        Map<String, String> newCollectionIdToImportedId = new HashMap<>();
+        List<ActionCollection> newActionCollections = new ArrayList<>();
         return Flux.fromIterable(importedActionCollectionList)
                 .filter(actionCollection -> actionCollection.getUnpublishedCollection() != null
                         && !StringUtils.isEmpty(actionCollection.getUnpublishedCollection().getPageId()))
@@ -1583,14 +1620,18 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                                 });
                     }
 
-                    return Mono.zip(
-                            Mono.just(importedActionCollectionId),
-                            saveNewCollectionAndUpdateDefaultResources(actionCollection, branchName)
-                    );
-                });
+                    newActionCollections.add(prepareActionCollectionForInsert(actionCollection, branchName));
+                    newCollectionIdToImportedId.put(actionCollection.getId(), importedActionCollectionId);
+                    return Mono.<Tuple2<String, ActionCollection>>empty();
+                })
+                .concatWith(Flux.defer(() -> bulkInsertInBatches(newActionCollections, actionCollectionRepository)
+                        .map(savedActionCollection -> Tuples.of(
+                                newCollectionIdToImportedId.get(savedActionCollection.getId()),
+                                savedActionCollection
+                        ))));
     }
 
-    private Flux<NewAction> updateActionsWithImportedCollectionIds(
+    private void mapActionIdsToSavedCollectionIds(
             String importedActionCollectionId,
             ActionCollection savedActionCollection,
             Map<String, Map<String, String>> unpublishedCollectionIdToActionIdsMap,
@@ -1611,11 +1652,28 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                 .forEach((defaultActionId, actionId) -> {
                     publishedActionIdToCollectionIdMap.putIfAbsent(actionId, collectionIds);
                 });
+    }
+
+    /**
+     * Updates the collectionId of the actions which are part of the imported collections. All the actions are fetched
+     * with a single query once the collection ids of all the actions are known.
+     *
+     * @param unpublishedActionIdToCollectionIdMap actionId to [collectionId, defaultCollectionId] in unpublished mode
+     * @param publishedActionIdToCollectionIdMap   actionId to [collectionId, defaultCollectionId] in published mode
+     * @return saved actions in DB
+     */
+    private Flux<NewAction> updateActionsWithImportedCollectionIds(
+            Map<String, List<String>> unpublishedActionIdToCollectionIdMap,
+            Map<String, List<String>> publishedActionIdToCollectionIdMap) {
+
         final HashSet<String> actionIds = new HashSet<>();
         actionIds.addAll(unpublishedActionIdToCollectionIdMap.keySet());
         actionIds.addAll(publishedActionIdToCollectionIdMap.keySet());
-        return Flux.fromIterable(actionIds)
-                .flatMap(actionId -> newActionRepository.findById(actionId, MANAGE_ACTIONS))
+        if (actionIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return newActionRepository
+                .queryAll(List.of(Criteria.where(FieldName.ID).in(actionIds)), MANAGE_ACTIONS)
                 .map(newAction -> {
                     // Update collectionId and defaultCollectionIds in actionDTOs
                     ActionDTO unpublishedAction = newAction.getUnpublishedAction();
@@ -1689,6 +1747,76 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                 });
     }
 
+    /**
+     * Inserts the new resources with one insertMany per batch instead of saving and then updating each resource. The
+     * size of the batch is configured with appsmith.import.batch-size.
+     *
+     * @param resources  new resources with the ids and default resources already assigned
+     * @param repository repository for the collection of the resources
+     * @return inserted resources
+     */
+    private <T extends BaseDomain> Flux<T> bulkInsertInBatches(List<T> resources, AppsmithRepository<T> repository) {
+        return Flux.fromIterable(resources)
+                .buffer(Math.max(commonConfig.getImportBatchSize(), 1))
+                .concatMap(repository::bulkInsert);
+    }
+
+    /**
+     * Assigns the id, gitSyncId and the application level default resources of a new resource before the resource is
+     * inserted, so that the resource does not have to be updated with its own id after the insert.
+     *
+     * @param resource      new resource which is not present in DB
+     * @param applicationId application to which the resource is imported
+     * @param branchName    branch to which the resource is imported if the application is connected to git
+     * @return default resources of the resource
+     */
+    private DefaultResources assignIdsForInsert(BaseDomain resource, String applicationId, String branchName) {
+        if (resource.getId() == null) {
+            resource.setId(new ObjectId().toString());
+        }
+        // gitSyncId will be used to sync resource across instances
+        if (resource.getGitSyncId() == null) {
+            resource.setGitSyncId(applicationId + "_" + new ObjectId());
+        }
+        resource.setDeleted(false);
+
+        DefaultResources defaultResources = resource.getDefaultResources() == null
+                ? new DefaultResources()
+                : resource.getDefaultResources();
+        if (StringUtils.isEmpty(defaultResources.getApplicationId())) {
+            defaultResources.setApplicationId(applicationId);
+        }
+        defaultResources.setBranchName(branchName);
+        resource.setDefaultResources(defaultResources);
+        return defaultResources;
+    }
+
+    private NewPage prepareNewPageForInsert(NewPage newPage, String branchName) {
+        DefaultResources defaultResources = assignIdsForInsert(newPage, newPage.getApplicationId(), branchName);
+        if (StringUtils.isEmpty(defaultResources.getPageId())) {
+            defaultResources.setPageId(newPage.getId());
+        }
+        return newPage;
+    }
+
+    private NewAction prepareNewActionForInsert(NewAction newAction, String branchName) {
+        DefaultResources defaultResources = assignIdsForInsert(newAction, newAction.getApplicationId(), branchName);
+        if (StringUtils.isEmpty(defaultResources.getActionId())) {
+            defaultResources.setActionId(newAction.getId());
+        }
+        return newAction;
+    }
+
+    private ActionCollection prepareActionCollectionForInsert(ActionCollection actionCollection, String branchName) {
+        DefaultResources defaultResources =
+                assignIdsForInsert(actionCollection, actionCollection.getApplicationId(), branchName);
+        if (StringUtils.isEmpty(defaultResources.getCollectionId())) {
+            defaultResources.setCollectionId(actionCollection.getId());
+        }
+        defaultResources.setPageId(null);
+        return actionCollection;
+    }
+
     private NewPage updatePageInAction(ActionDTO action,
                                        Map<String, NewPage> pageNameMap,
                                        Map<String, String> actionIdMap) {
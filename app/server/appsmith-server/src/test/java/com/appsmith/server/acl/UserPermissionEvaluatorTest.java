@@ -0,0 +1,149 @@
+package com.appsmith.server.acl;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.domains.Action;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Page;
+import com.appsmith.server.domains.Workspace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UserPermissionEvaluatorTest {
+
+    private static final int ACTION_COUNT = 10000;
+
+    private static final Set<AclPermission> VIEWER_PERMISSIONS = Set.of(
+            AclPermission.READ_WORKSPACES, AclPermission.WORKSPACE_READ_APPLICATIONS,
+            AclPermission.WORKSPACE_EXECUTE_DATASOURCES);
+
+    private static final Set<AclPermission> DEVELOPER_PERMISSIONS = Set.of(
+            AclPermission.READ_WORKSPACES, AclPermission.WORKSPACE_READ_APPLICATIONS,
+            AclPermission.WORKSPACE_MANAGE_APPLICATIONS, AclPermission.WORKSPACE_PUBLISH_APPLICATIONS,
+            AclPermission.WORKSPACE_EXPORT_APPLICATIONS, AclPermission.WORKSPACE_EXECUTE_DATASOURCES);
+
+    private List<Set<Policy>> actionPolicies;
+
+    /**
+     * Derives the policies of actions the same way as they are derived when a workspace, its applications, pages and
+     * actions are created. Every action has its own copy of the policies, like the documents read from the database.
+     */
+    @BeforeEach
+    public void setup() {
+        PolicyGenerator policyGenerator = new PolicyGenerator();
+        policyGenerator.createPolicyGraph();
+
+        Set<Policy> workspacePolicies = new HashSet<>();
+        for (AclPermission permission : AclPermission.values()) {
+            if (!Workspace.class.equals(permission.getEntity())) {
+                continue;
+            }
+            Set<String> permissionGroups = new HashSet<>();
+            permissionGroups.add("administrator");
+            if (DEVELOPER_PERMISSIONS.contains(permission)) {
+                permissionGroups.add("developer");
+            }
+            if (VIEWER_PERMISSIONS.contains(permission)) {
+                permissionGroups.add("viewer");
+            }
+            workspacePolicies.add(Policy.builder().permission(permission.getValue()).permissionGroups(permissionGroups).build());
+        }
+
+        Set<Policy> applicationPolicies = policyGenerator.getAllChildPolicies(workspacePolicies, Workspace.class, Application.class);
+        Set<Policy> pagePolicies = policyGenerator.getAllChildPolicies(applicationPolicies, Application.class, Page.class);
+        Set<Policy> policies = policyGenerator.getAllChildPolicies(pagePolicies, Page.class, Action.class);
+
+        actionPolicies = new ArrayList<>();
+        for (int i = 0; i < ACTION_COUNT; i++) {
+            actionPolicies.add(policies.stream()
+                    .map(policy -> Policy.builder()
+                            .permission(policy.getPermission())
+                            .permissionGroups(new HashSet<>(policy.getPermissionGroups()))
+                            .build())
+                    .collect(Collectors.toSet()));
+        }
+    }
+
+    /**
+     * The evaluation done before UserPermissionEvaluator, used as the reference.
+     */
+    private static Set<String> getPermissionsByContains(Set<Policy> policies, Set<String> permissionGroups) {
+        Set<String> permissions = new HashSet<>();
+        for (Policy policy : policies) {
+            Set<String> policyPermissionGroups = policy.getPermissionGroups();
+            if (policyPermissionGroups == null || policyPermissionGroups.isEmpty()) {
+                continue;
+            }
+            for (String permissionGroup : permissionGroups) {
+                if (policyPermissionGroups.contains(permissionGroup)) {
+                    permissions.add(policy.getPermission());
+                    break;
+                }
+            }
+        }
+        return permissions;
+    }
+
+    @Test
+    public void testPermissionsMatchContainsEvaluation() {
+        List<Set<String>> userPermissionGroups = List.of(
+                Set.of("administrator"),
+                Set.of("developer"),
+                Set.of("viewer"),
+                Set.of("viewer", "anonymous"),
+                Set.of("anonymous"),
+                Set.of());
+
+        for (Set<String> permissionGroups : userPermissionGroups) {
+            UserPermissionEvaluator evaluator = new UserPermissionEvaluator(permissionGroups);
+            for (Set<Policy> policies : actionPolicies) {
+                assertEquals(getPermissionsByContains(policies, permissionGroups), evaluator.getPermissions(policies));
+            }
+        }
+
+        Set<String> developerPermissions = new UserPermissionEvaluator(Set.of("developer")).getPermissions(actionPolicies.get(0));
+        assertThat(developerPermissions).contains(AclPermission.MANAGE_ACTIONS.getValue(), AclPermission.EXECUTE_ACTIONS.getValue());
+        Set<String> viewerPermissions = new UserPermissionEvaluator(Set.of("viewer")).getPermissions(actionPolicies.get(0));
+        assertThat(viewerPermissions).contains(AclPermission.EXECUTE_ACTIONS.getValue())
+                .doesNotContain(AclPermission.MANAGE_ACTIONS.getValue());
+    }
+
+    @Test
+    public void testPermissionSetsAreIndependentBetweenDocuments() {
+        UserPermissionEvaluator evaluator = new UserPermissionEvaluator(Set.of("developer"));
+        Set<String> firstPermissions = evaluator.getPermissions(actionPolicies.get(0));
+        Set<String> secondPermissions = evaluator.getPermissions(actionPolicies.get(1));
+        assertNotSame(firstPermissions, secondPermissions);
+
+        // Sanitising a document for export clears its permissions, which must not affect the other documents
+        firstPermissions.clear();
+        assertTrue(firstPermissions.isEmpty());
+        assertEquals(getPermissionsByContains(actionPolicies.get(1), Set.of("developer")), secondPermissions);
+        assertEquals(secondPermissions, evaluator.getPermissions(actionPolicies.get(2)));
+
+        Set<String> noPermissions = new UserPermissionEvaluator(Set.of()).getPermissions(actionPolicies.get(0));
+        noPermissions.add(AclPermission.READ_ACTIONS.getValue());
+        assertTrue(new UserPermissionEvaluator(Set.of()).getPermissions(actionPolicies.get(0)).isEmpty());
+    }
+
+    @Test
+    public void testPermissionsNotInAclPermission() {
+        Set<Policy> policies = Set.of(
+                Policy.builder().permission(AclPermission.READ_ACTIONS.getValue()).permissionGroups(Set.of("viewer")).build(),
+                Policy.builder().permission("custom:permission").permissionGroups(Set.of("viewer")).build(),
+                Policy.builder().permission("other:permission").permissionGroups(Set.of("developer")).build());
+
+        assertEquals(Set.of(AclPermission.READ_ACTIONS.getValue(), "custom:permission"),
+                new UserPermissionEvaluator(Set.of("viewer")).getPermissions(policies));
+    }
+}
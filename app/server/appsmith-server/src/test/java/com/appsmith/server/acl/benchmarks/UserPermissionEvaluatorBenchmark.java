@@ -0,0 +1,146 @@
+package com.appsmith.server.acl.benchmarks;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.acl.UserPermissionEvaluator;
+import com.appsmith.server.domains.Action;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Page;
+import com.appsmith.server.domains.Workspace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares setting the user permissions on the actions of a large workspace, as it was done before, i.e. checking
+ * every permission group of the user against every policy of every action, with UserPermissionEvaluator. The policies
+ * are derived from the workspace policies through PolicyGenerator, and every action has its own copy of them, like the
+ * documents read from the database.
+ * <p>
+ * Run with the test classpath, e.g. from the IDE, using the main method. Add <code>-prof gc</code> to the options to
+ * compare the allocation rates as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserPermissionEvaluatorBenchmark {
+
+    private static final Set<AclPermission> DEVELOPER_PERMISSIONS = Set.of(
+            AclPermission.READ_WORKSPACES, AclPermission.WORKSPACE_READ_APPLICATIONS,
+            AclPermission.WORKSPACE_MANAGE_APPLICATIONS, AclPermission.WORKSPACE_PUBLISH_APPLICATIONS,
+            AclPermission.WORKSPACE_EXPORT_APPLICATIONS, AclPermission.WORKSPACE_EXECUTE_DATASOURCES);
+
+    @Param({"1000", "10000"})
+    int actionCount;
+
+    // Number of permission groups the user belongs to, besides the developer group of the workspace
+    @Param({"1", "10"})
+    int otherGroupCount;
+
+    List<Set<Policy>> actionPolicies;
+
+    Set<String> permissionGroups;
+
+    @Setup
+    public void setUp() {
+        PolicyGenerator policyGenerator = new PolicyGenerator();
+        policyGenerator.createPolicyGraph();
+
+        Set<Policy> workspacePolicies = new HashSet<>();
+        for (AclPermission permission : AclPermission.values()) {
+            if (!Workspace.class.equals(permission.getEntity())) {
+                continue;
+            }
+            Set<String> policyPermissionGroups = new HashSet<>();
+            policyPermissionGroups.add("administrator");
+            if (DEVELOPER_PERMISSIONS.contains(permission)) {
+                policyPermissionGroups.add("developer");
+            }
+            workspacePolicies.add(Policy.builder()
+                    .permission(permission.getValue())
+                    .permissionGroups(policyPermissionGroups)
+                    .build());
+        }
+
+        Set<Policy> applicationPolicies = policyGenerator.getAllChildPolicies(workspacePolicies, Workspace.class, Application.class);
+        Set<Policy> pagePolicies = policyGenerator.getAllChildPolicies(applicationPolicies, Application.class, Page.class);
+        Set<Policy> policies = policyGenerator.getAllChildPolicies(pagePolicies, Page.class, Action.class);
+
+        actionPolicies = new ArrayList<>(actionCount);
+        for (int i = 0; i < actionCount; i++) {
+            actionPolicies.add(policies.stream()
+                    .map(policy -> Policy.builder()
+                            .permission(policy.getPermission())
+                            .permissionGroups(new HashSet<>(policy.getPermissionGroups()))
+                            .build())
+                    .collect(Collectors.toSet()));
+        }
+
+        permissionGroups = new HashSet<>();
+        permissionGroups.add("developer");
+        for (int i = 0; i < otherGroupCount; i++) {
+            permissionGroups.add("group" + i);
+        }
+    }
+
+    @Benchmark
+    public List<Set<String>> containsEvaluation() {
+        List<Set<String>> userPermissions = new ArrayList<>(actionPolicies.size());
+        for (Set<Policy> policies : actionPolicies) {
+            Set<String> permissions = new HashSet<>();
+            for (Policy policy : policies) {
+                Set<String> policyPermissionGroups = policy.getPermissionGroups();
+                if (policyPermissionGroups == null || policyPermissionGroups.isEmpty()) {
+                    continue;
+                }
+                for (String permissionGroup : permissionGroups) {
+                    if (policyPermissionGroups.contains(permissionGroup)) {
+                        permissions.add(policy.getPermission());
+                        break;
+                    }
+                }
+            }
+            userPermissions.add(permissions);
+        }
+        return userPermissions;
+    }
+
+    @Benchmark
+    public List<Set<String>> userPermissionEvaluator() {
+        List<Set<String>> userPermissions = new ArrayList<>(actionPolicies.size());
+        UserPermissionEvaluator evaluator = new UserPermissionEvaluator(permissionGroups);
+        for (Set<Policy> policies : actionPolicies) {
+            userPermissions.add(evaluator.getPermissions(policies));
+        }
+        return userPermissions;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserPermissionEvaluatorBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
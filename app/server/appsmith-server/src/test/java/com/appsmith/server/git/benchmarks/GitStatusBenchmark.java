@@ -0,0 +1,183 @@
+package com.appsmith.server.git.benchmarks;
+
+import com.appsmith.external.dtos.GitStatusDTO;
+import com.appsmith.external.models.ApplicationGitReference;
+import com.appsmith.git.configurations.GitServiceConfig;
+import com.appsmith.git.helpers.FileUtilsImpl;
+import com.appsmith.git.service.GitExecutorImpl;
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jgit.api.Git;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.constants.GitConstants.ACTION_COLLECTION_LIST;
+import static com.appsmith.external.constants.GitConstants.ACTION_LIST;
+import static com.appsmith.external.constants.GitConstants.NAME_SEPARATOR;
+import static com.appsmith.external.constants.GitConstants.PAGE_LIST;
+
+/**
+ * Compares the git status of a large generated application computed by saving the application to the working tree and
+ * scanning it, as it was done before, with the status computed from the index of the committed files. A few queries
+ * are updated since the last commit, as when the editor polls the status while the application is being edited.
+ * <p>
+ * The export of the application from the database is the same for both and is not measured. Run with the test
+ * classpath, e.g. from the IDE, using the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GitStatusBenchmark {
+
+    private static final Path repoSuffix = Path.of("workspaceId", "applicationId", "repoName");
+
+    @Param({"50"})
+    int pageCount;
+
+    @Param({"20"})
+    int queriesPerPage;
+
+    @Param({"5"})
+    int updatedQueryCount;
+
+    Path gitRootPath;
+
+    FileUtilsImpl fileUtils;
+
+    GitExecutorImpl gitExecutor;
+
+    ApplicationGitReference applicationGitReference;
+
+    String branchName;
+
+    @Setup
+    public void setUp() throws Exception {
+        gitRootPath = Files.createTempDirectory("git-status-benchmark");
+        GitServiceConfig gitServiceConfig = new GitServiceConfig();
+        gitServiceConfig.setGitRootPath(gitRootPath.toString());
+        gitExecutor = new GitExecutorImpl(gitServiceConfig);
+        fileUtils = new FileUtilsImpl(gitServiceConfig, gitExecutor);
+
+        Path repoPath = gitRootPath.resolve(repoSuffix);
+        try (Git git = Git.init().setDirectory(repoPath.toFile()).call()) {
+            git.commit().setMessage("Initial commit").setAuthor("benchmark", "benchmark@appsmith.com").call();
+            branchName = git.getRepository().getBranch();
+        }
+
+        applicationGitReference = generateApplication();
+        fileUtils.saveApplicationToGitRepo(repoSuffix, applicationGitReference, branchName).block();
+        try (Git git = Git.open(repoPath.toFile())) {
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Save application").setAuthor("benchmark", "benchmark@appsmith.com").call();
+        }
+
+        // Update a few queries after the commit
+        Set<String> updatedActions = new HashSet<>();
+        for (int i = 0; i < updatedQueryCount; i++) {
+            String actionKey = "Query" + i + NAME_SEPARATOR + "Page" + i;
+            applicationGitReference.getActions().put(actionKey, generateResource("select " + i + " from updated_table", 10));
+            updatedActions.add(actionKey);
+        }
+        applicationGitReference.setUpdatedResources(Map.of(
+                PAGE_LIST, Set.of(),
+                ACTION_LIST, updatedActions,
+                ACTION_COLLECTION_LIST, Set.of()
+        ));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        FileUtils.deleteDirectory(gitRootPath.toFile());
+    }
+
+    @Benchmark
+    public GitStatusDTO saveAndScanWorkingTree() throws Exception {
+        Path repoPath = fileUtils.saveApplicationToGitRepo(repoSuffix, applicationGitReference, branchName).block();
+        GitStatusDTO status = gitExecutor.getStatus(repoPath, branchName).block();
+        gitExecutor.resetToLastCommit(repoSuffix, branchName).block();
+        return status;
+    }
+
+    @Benchmark
+    public GitStatusDTO compareWithIndex() {
+        return fileUtils.getModifiedFiles(repoSuffix, applicationGitReference, branchName)
+                .flatMap(modifiedFiles -> gitExecutor.getStatusFromModifiedFiles(repoSuffix, branchName, modifiedFiles))
+                .block();
+    }
+
+    private ApplicationGitReference generateApplication() {
+        ApplicationGitReference reference = new ApplicationGitReference();
+        reference.setApplication(generateResource("application", 20));
+        reference.setMetadata(generateResource("metadata", 5));
+        reference.setTheme(generateResource("theme", 20));
+
+        Map<String, Object> pages = new HashMap<>();
+        Map<String, Object> actions = new HashMap<>();
+        Map<String, Object> actionCollections = new HashMap<>();
+        for (int page = 0; page < pageCount; page++) {
+            String pageName = "Page" + page;
+            // Canvas of a page is much larger than a query
+            pages.put(pageName, generateResource(pageName, 500));
+            for (int query = 0; query < queriesPerPage; query++) {
+                actions.put("Query" + query + NAME_SEPARATOR + pageName, generateResource("select " + query + " from table", 10));
+            }
+            actionCollections.put("JSObject1" + NAME_SEPARATOR + pageName, generateResource("export default {}", 10));
+        }
+        reference.setPages(pages);
+        reference.setActions(actions);
+        reference.setActionCollections(actionCollections);
+
+        Map<String, Object> datasources = new HashMap<>();
+        for (int datasource = 0; datasource < 5; datasource++) {
+            datasources.put("Datasource" + datasource, generateResource("datasource", 10));
+        }
+        reference.setDatasources(datasources);
+
+        reference.setUpdatedResources(Map.of(
+                PAGE_LIST, pages.keySet(),
+                ACTION_LIST, actions.keySet(),
+                ACTION_COLLECTION_LIST, actionCollections.keySet()
+        ));
+        return reference;
+    }
+
+    private static Map<String, Object> generateResource(String body, int fieldCount) {
+        Map<String, Object> resource = new HashMap<>();
+        resource.put("body", body);
+        for (int i = 0; i < fieldCount; i++) {
+            resource.put("field" + i, Map.of("value", "value " + i, "tags", List.of("a", "b", "c"), "count", i));
+        }
+        return resource;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GitStatusBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
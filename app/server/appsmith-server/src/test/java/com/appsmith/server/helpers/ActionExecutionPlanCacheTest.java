@@ -0,0 +1,194 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Datasource;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.dtos.ActionExecutionPlan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static com.appsmith.caching.components.TieredCacheManagerImpl.INVALIDATION_CHANNEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class ActionExecutionPlanCacheTest {
+
+    private ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private ActionExecutionPlanCache actionExecutionPlanCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        MappingMongoConverter mongoConverter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        mongoConverter.afterPropertiesSet();
+
+        reactiveRedisOperations = Mockito.mock(ReactiveRedisOperations.class);
+        Mockito.when(reactiveRedisOperations.convertAndSend(anyString(), anyString())).thenReturn(Mono.just(1L));
+
+        actionExecutionPlanCache = new ActionExecutionPlanCache(mongoConverter, reactiveRedisOperations);
+    }
+
+    private ActionExecutionPlan createPlan(String actionId, String applicationId, String datasourceId) {
+        NewAction action = new NewAction();
+        action.setId(actionId);
+        action.setApplicationId(applicationId);
+
+        Datasource datasource = new Datasource();
+        datasource.setId(datasourceId);
+        datasource.setName("datasource " + datasourceId);
+
+        Plugin plugin = new Plugin();
+        plugin.setId("pluginId");
+
+        return new ActionExecutionPlan(action, datasource, plugin, new MockPluginExecutor());
+    }
+
+    private void cache(ActionExecutionPlan plan) {
+        actionExecutionPlanCache.put(plan, actionExecutionPlanCache.getGeneration());
+    }
+
+    @Test
+    public void testGet_returnsNewCopyOfCachedPlan() {
+        ActionExecutionPlan plan = createPlan("action1", "application1", "datasource1");
+        cache(plan);
+
+        ActionExecutionPlan firstCopy = actionExecutionPlanCache.get("action1").orElseThrow();
+        ActionExecutionPlan secondCopy = actionExecutionPlanCache.get("action1").orElseThrow();
+
+        assertEquals("action1", firstCopy.getAction().getId());
+        assertEquals("application1", firstCopy.getAction().getApplicationId());
+        assertEquals("datasource1", firstCopy.getDatasource().getId());
+        assertEquals("datasource datasource1", firstCopy.getDatasource().getName());
+        assertEquals(plan.getPluginExecutor(), firstCopy.getPluginExecutor());
+        assertNotSame(plan.getAction(), firstCopy.getAction());
+        assertNotSame(firstCopy.getAction(), secondCopy.getAction());
+        assertNotSame(firstCopy.getDatasource(), secondCopy.getDatasource());
+    }
+
+    @Test
+    public void testPut_afterEviction_planResolvedBeforeEvictionNotCached() {
+        long generation = actionExecutionPlanCache.getGeneration();
+
+        StepVerifier.create(actionExecutionPlanCache.evictAction("otherAction")).verifyComplete();
+        actionExecutionPlanCache.put(createPlan("action1", "application1", "datasource1"), generation);
+
+        assertTrue(actionExecutionPlanCache.get("action1").isEmpty());
+
+        // A plan resolved after the eviction is cached
+        cache(createPlan("action1", "application1", "datasource1"));
+        assertTrue(actionExecutionPlanCache.get("action1").isPresent());
+    }
+
+    @Test
+    public void testEvictAction_evictsOnlyTheActionAndPublishesEviction() {
+        cache(createPlan("action1", "application1", "datasource1"));
+        cache(createPlan("action2", "application1", "datasource1"));
+        long generation = actionExecutionPlanCache.getGeneration();
+
+        StepVerifier.create(actionExecutionPlanCache.evictAction("action1")).verifyComplete();
+
+        assertTrue(actionExecutionPlanCache.get("action1").isEmpty());
+        assertTrue(actionExecutionPlanCache.get("action2").isPresent());
+        assertNotEquals(generation, actionExecutionPlanCache.getGeneration());
+        Mockito.verify(reactiveRedisOperations)
+                .convertAndSend(INVALIDATION_CHANNEL, "evict:actionExecutionPlans:action/action1");
+    }
+
+    @Test
+    public void testEvictApplication_evictsOnlyActionsOfTheApplication() {
+        cache(createPlan("action1", "application1", "datasource1"));
+        cache(createPlan("action2", "application2", "datasource1"));
+
+        StepVerifier.create(actionExecutionPlanCache.evictApplication("application1")).verifyComplete();
+
+        assertTrue(actionExecutionPlanCache.get("action1").isEmpty());
+        assertTrue(actionExecutionPlanCache.get("action2").isPresent());
+        Mockito.verify(reactiveRedisOperations)
+                .convertAndSend(INVALIDATION_CHANNEL, "evict:actionExecutionPlans:application/application1");
+    }
+
+    @Test
+    public void testEvictDatasource_evictsOnlyActionsOfTheDatasource() {
+        cache(createPlan("action1", "application1", "datasource1"));
+        cache(createPlan("action2", "application1", "datasource2"));
+
+        StepVerifier.create(actionExecutionPlanCache.evictDatasource("datasource1")).verifyComplete();
+
+        assertTrue(actionExecutionPlanCache.get("action1").isEmpty());
+        assertTrue(actionExecutionPlanCache.get("action2").isPresent());
+        Mockito.verify(reactiveRedisOperations)
+                .convertAndSend(INVALIDATION_CHANNEL, "evict:actionExecutionPlans:datasource/datasource1");
+    }
+
+    @Test
+    public void testEvictAll_evictsEveryPlan() {
+        cache(createPlan("action1", "application1", "datasource1"));
+        cache(createPlan("action2", "application2", "datasource2"));
+
+        StepVerifier.create(actionExecutionPlanCache.evictAll()).verifyComplete();
+
+        assertTrue(actionExecutionPlanCache.get("action1").isEmpty());
+        assertTrue(actionExecutionPlanCache.get("action2").isEmpty());
+        Mockito.verify(reactiveRedisOperations).convertAndSend(INVALIDATION_CHANNEL, "evictAll:actionExecutionPlans");
+    }
+
+    @Test
+    public void testEviction_publishFails_planStillEvictedLocally() {
+        Mockito.when(reactiveRedisOperations.convertAndSend(anyString(), anyString()))
+                .thenReturn(Mono.error(new RuntimeException("Redis is down")));
+        cache(createPlan("action1", "application1", "datasource1"));
+
+        StepVerifier.create(actionExecutionPlanCache.evictAction("action1")).verifyComplete();
+
+        assertTrue(actionExecutionPlanCache.get("action1").isEmpty());
+    }
+
+    @Test
+    public void testHandleInvalidation_evictionsFromOtherNodes() {
+        cache(createPlan("action1", "application1", "datasource1"));
+        cache(createPlan("action2", "application2", "datasource2"));
+        cache(createPlan("action3", "application3", "datasource3"));
+        cache(createPlan("action4", "application4", "datasource4"));
+
+        long generation = actionExecutionPlanCache.getGeneration();
+        actionExecutionPlanCache.handleInvalidation("evict:actionExecutionPlans:action/action1");
+        assertNotEquals(generation, actionExecutionPlanCache.getGeneration());
+        assertTrue(actionExecutionPlanCache.get("action1").isEmpty());
+
+        actionExecutionPlanCache.handleInvalidation("evict:actionExecutionPlans:application/application2");
+        assertTrue(actionExecutionPlanCache.get("action2").isEmpty());
+
+        actionExecutionPlanCache.handleInvalidation("evict:actionExecutionPlans:datasource/datasource3");
+        assertTrue(actionExecutionPlanCache.get("action3").isEmpty());
+        assertTrue(actionExecutionPlanCache.get("action4").isPresent());
+
+        actionExecutionPlanCache.handleInvalidation("evictAll:actionExecutionPlans");
+        assertTrue(actionExecutionPlanCache.get("action4").isEmpty());
+
+        // Evictions received from Redis are not published again
+        Mockito.verify(reactiveRedisOperations, Mockito.never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    public void testHandleInvalidation_messagesOfOtherCachesIgnored() {
+        cache(createPlan("action1", "application1", "datasource1"));
+        long generation = actionExecutionPlanCache.getGeneration();
+
+        actionExecutionPlanCache.handleInvalidation("evict:otherCache:action/action1");
+        actionExecutionPlanCache.handleInvalidation("evictAll:otherCache");
+
+        assertEquals(generation, actionExecutionPlanCache.getGeneration());
+        assertTrue(actionExecutionPlanCache.get("action1").isPresent());
+    }
+}
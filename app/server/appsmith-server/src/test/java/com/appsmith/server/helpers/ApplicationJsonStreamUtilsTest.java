@@ -0,0 +1,175 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.converters.GsonISOStringToInstantConverter;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.server.domains.ActionCollection;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.dtos.ActionCollectionDTO;
+import com.appsmith.server.dtos.ApplicationJson;
+import com.appsmith.server.dtos.PageDTO;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ApplicationJsonStreamUtilsTest {
+
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(Instant.class, new GsonISOStringToInstantConverter())
+            .create();
+
+    private final DefaultDataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
+
+    @Test
+    public void write_applicationWithResources_sameJsonAsSingleSerialisation() {
+        ApplicationJson applicationJson = createApplicationJson();
+        String expectedJson = gson.toJson(applicationJson);
+
+        String writtenJson = joinToString(ApplicationJsonStreamUtils.write(applicationJson, gson, dataBufferFactory)
+                .collectList()
+                .block());
+
+        assertThat(JsonParser.parseString(writtenJson)).isEqualTo(JsonParser.parseString(expectedJson));
+        // Resource lists are restored once the application fields are written
+        assertThat(applicationJson.getPageList()).hasSize(2);
+        assertThat(applicationJson.getActionList()).hasSize(1);
+    }
+
+    @Test
+    public void write_applicationWithoutResources_validJson() {
+        ApplicationJson applicationJson = new ApplicationJson();
+        assertThat(joinToString(ApplicationJsonStreamUtils.write(applicationJson, gson, dataBufferFactory)
+                .collectList()
+                .block())).isEqualTo("{}");
+
+        applicationJson.setPageList(new ArrayList<>());
+        assertThat(joinToString(ApplicationJsonStreamUtils.write(applicationJson, gson, dataBufferFactory)
+                .collectList()
+                .block())).isEqualTo("{\"pageList\":[]}");
+    }
+
+    @Test
+    public void read_chunksSplitWithinCharacters_sameAsSingleDeserialisation() {
+        ApplicationJson applicationJson = createApplicationJson();
+        byte[] content = gson.toJson(applicationJson).getBytes(StandardCharsets.UTF_8);
+
+        // Chunks of 5 bytes split the multibyte characters of the page name
+        List<DataBuffer> dataBuffers = new ArrayList<>();
+        for (int offset = 0; offset < content.length; offset += 5) {
+            dataBuffers.add(dataBufferFactory.wrap(Arrays.copyOfRange(content, offset, Math.min(offset + 5, content.length))));
+        }
+
+        ApplicationJson readApplicationJson = ApplicationJsonStreamUtils.read(Flux.fromIterable(dataBuffers), gson).block();
+
+        assertThat(gson.toJson(readApplicationJson)).isEqualTo(gson.toJson(applicationJson));
+        assertThat(readApplicationJson.getPageList().get(1).getUnpublishedPage().getName()).isEqualTo("पृष्ठ");
+    }
+
+    @Test
+    public void read_fileLargerThanPipe_sameAsSingleDeserialisation() {
+        ApplicationJson applicationJson = createApplicationJson();
+        List<NewAction> actions = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            ActionDTO action = new ActionDTO();
+            action.setName("Query" + i);
+            action.setPageId("Page1");
+            NewAction newAction = new NewAction();
+            newAction.setUnpublishedAction(action);
+            actions.add(newAction);
+        }
+        applicationJson.setActionList(actions);
+
+        List<DataBuffer> chunks = ApplicationJsonStreamUtils.write(applicationJson, gson, dataBufferFactory)
+                .collectList()
+                .block();
+
+        StepVerifier.create(ApplicationJsonStreamUtils.read(Flux.fromIterable(chunks), gson))
+                .assertNext(readApplicationJson -> {
+                    assertThat(readApplicationJson.getActionList()).hasSize(2000);
+                    assertThat(gson.toJson(readApplicationJson)).isEqualTo(gson.toJson(applicationJson));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void read_invalidOrEmptyFile_errorOrEmpty() {
+        Flux<DataBuffer> invalidContent = Flux.just("{\"pageList\": [", "{\"unpublishedPage\": ")
+                .map(chunk -> dataBufferFactory.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+        StepVerifier.create(ApplicationJsonStreamUtils.read(invalidContent, gson))
+                .expectError()
+                .verify(Duration.ofSeconds(10));
+
+        StepVerifier.create(ApplicationJsonStreamUtils.read(Flux.empty(), gson))
+                .verifyComplete();
+    }
+
+    private ApplicationJson createApplicationJson() {
+        ApplicationJson applicationJson = new ApplicationJson();
+        applicationJson.setServerSchemaVersion(4);
+        applicationJson.setClientSchemaVersion(1);
+
+        Application application = new Application();
+        application.setName("Streamed application");
+        application.setLastDeployedAt(Instant.parse("2022-01-01T00:00:00Z"));
+        applicationJson.setExportedApplication(application);
+
+        Datasource datasource = new Datasource();
+        datasource.setName("Datasource1");
+        applicationJson.setDatasourceList(new ArrayList<>(List.of(datasource)));
+
+        List<NewPage> pages = new ArrayList<>();
+        for (String pageName : List.of("Page1", "पृष्ठ")) {
+            PageDTO page = new PageDTO();
+            page.setName(pageName);
+            NewPage newPage = new NewPage();
+            newPage.setUnpublishedPage(page);
+            pages.add(newPage);
+        }
+        applicationJson.setPageList(pages);
+
+        ActionDTO action = new ActionDTO();
+        action.setName("Query1");
+        action.setPageId("Page1");
+        NewAction newAction = new NewAction();
+        newAction.setUnpublishedAction(action);
+        applicationJson.setActionList(new ArrayList<>(List.of(newAction)));
+
+        ActionCollectionDTO collection = new ActionCollectionDTO();
+        collection.setName("JSObject1");
+        collection.setPageId("Page1");
+        ActionCollection actionCollection = new ActionCollection();
+        actionCollection.setUnpublishedCollection(collection);
+        applicationJson.setActionCollectionList(new ArrayList<>(List.of(actionCollection)));
+
+        return applicationJson;
+    }
+
+    private static String joinToString(List<DataBuffer> dataBuffers) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (DataBuffer dataBuffer : dataBuffers) {
+            byte[] chunk = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(chunk);
+            DataBufferUtils.release(dataBuffer);
+            content.writeBytes(chunk);
+        }
+        return content.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -1274,6 +1274,95 @@ public class ApplicationServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void changeViewAccess_applicationWithManyActions_allActionPoliciesUpdated() {
+        final int actionCount = 10000;
+
+        Application application = new Application();
+        application.setName("changeViewAccess-ManyActions-Test");
+        Application createdApplication = applicationPageService.createApplication(application, workspaceId).block();
+        String pageId = createdApplication.getPages().get(0).getId();
+
+        try {
+            Plugin plugin = pluginService.findByPackageName("restapi-plugin").block();
+            Datasource datasource = new Datasource();
+            datasource.setName("Many Actions Public App Test");
+            datasource.setPluginId(plugin.getId());
+            DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+            datasourceConfiguration.setUrl("http://test.com");
+            datasource.setDatasourceConfiguration(datasourceConfiguration);
+            datasource.setWorkspaceId(workspaceId);
+            Datasource savedDatasource = datasourceService.create(datasource).block();
+
+            ActionDTO action = new ActionDTO();
+            action.setName("manyActionsTemplate");
+            action.setPageId(pageId);
+            action.setDatasource(savedDatasource);
+            ActionConfiguration actionConfiguration = new ActionConfiguration();
+            actionConfiguration.setHttpMethod(HttpMethod.GET);
+            action.setActionConfiguration(actionConfiguration);
+            ActionDTO savedAction = layoutActionService.createSingleAction(action).block();
+            NewAction templateAction = newActionService.findById(savedAction.getId()).block();
+
+            // Insert the rest of the actions directly, creating them one by one through the services would take too long
+            List<NewAction> actions = new ArrayList<>();
+            for (int i = 1; i < actionCount; i++) {
+                NewAction newAction = new NewAction();
+                newAction.setApplicationId(createdApplication.getId());
+                newAction.setWorkspaceId(workspaceId);
+                newAction.setPluginId(templateAction.getPluginId());
+                newAction.setPluginType(templateAction.getPluginType());
+                newAction.setUnpublishedAction(templateAction.getUnpublishedAction());
+                newAction.setPolicies(templateAction.getPolicies().stream()
+                        .map(policy -> Policy.builder()
+                                .permission(policy.getPermission())
+                                .permissionGroups(new HashSet<>(policy.getPermissionGroups()))
+                                .build())
+                        .collect(Collectors.toSet()));
+                actions.add(newAction);
+            }
+            mongoOperations.insertAll(actions).blockLast();
+
+            String publicPermissionGroupId = permissionGroupService.getPublicPermissionGroupId().block();
+            Query publicActionsQuery = query(where(fieldName(QNewAction.newAction.applicationId)).is(createdApplication.getId())
+                    .and(fieldName(QNewAction.newAction.policies)).elemMatch(
+                            where("permission").is(EXECUTE_ACTIONS.getValue()).and("permissionGroups").is(publicPermissionGroupId)));
+
+            ApplicationAccessDTO applicationAccessDTO = new ApplicationAccessDTO();
+            applicationAccessDTO.setPublicAccess(true);
+            long startTime = System.currentTimeMillis();
+            applicationService.changeViewAccess(createdApplication.getId(), applicationAccessDTO).block();
+            log.debug("Made application with {} actions public in {} ms", actionCount, System.currentTimeMillis() - startTime);
+
+            StepVerifier
+                    .create(Mono.zip(mongoOperations.count(publicActionsQuery, NewAction.class),
+                            datasourceService.findById(savedDatasource.getId())))
+                    .assertNext(tuple -> {
+                        assertThat(tuple.getT1()).isEqualTo(actionCount);
+                        assertThat(tuple.getT2().getPolicies()).anyMatch(policy ->
+                                EXECUTE_DATASOURCES.getValue().equals(policy.getPermission())
+                                        && policy.getPermissionGroups().contains(publicPermissionGroupId));
+                    })
+                    .verifyComplete();
+
+            applicationAccessDTO.setPublicAccess(false);
+            startTime = System.currentTimeMillis();
+            applicationService.changeViewAccess(createdApplication.getId(), applicationAccessDTO).block();
+            log.debug("Made application with {} actions private in {} ms", actionCount, System.currentTimeMillis() - startTime);
+
+            StepVerifier
+                    .create(mongoOperations.count(publicActionsQuery, NewAction.class))
+                    .assertNext(count -> assertThat(count).isZero())
+                    .verifyComplete();
+        } finally {
+            // Remove the inserted actions along with the application, so that they don't slow down the other tests
+            mongoOperations.remove(query(where(fieldName(QNewAction.newAction.applicationId)).is(createdApplication.getId())),
+                    NewAction.class).block();
+            applicationPageService.deleteApplication(createdApplication.getId()).block();
+        }
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void cloneApplication_applicationWithGitMetadata_success() {
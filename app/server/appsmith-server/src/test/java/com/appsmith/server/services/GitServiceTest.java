@@ -192,6 +192,11 @@ public class GitServiceTest {
                 .when(pluginExecutorHelper.getPluginExecutor(Mockito.any()))
                 .thenReturn(Mono.just(new MockPluginExecutor()));
 
+        // Status is computed by saving the application to the local repo unless a test stubs the modified files
+        Mockito
+                .when(gitFileUtils.getModifiedFiles(Mockito.any(Path.class), Mockito.any(ApplicationJson.class), Mockito.anyString()))
+                .thenReturn(Mono.empty());
+
         if (Boolean.TRUE.equals(isSetupDone)) {
             return;
         }
@@ -1386,6 +1391,39 @@ public class GitServiceTest {
                 .verify();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getStatus_withModifiedFilesFromIndex_doesNotSaveToLocalRepo() throws IOException, GitAPIException {
+        Application application = createApplicationConnectedToGit("statusFromIndex", "statusFromIndexBranch");
+        // Connecting the application saves it to the local repo
+        Mockito.clearInvocations(gitFileUtils, gitExecutor);
+
+        GitStatusDTO gitStatusDTO = new GitStatusDTO();
+        gitStatusDTO.setModified(Set.of("pages/Page1/canvas.json"));
+        gitStatusDTO.setIsClean(false);
+
+        Mockito.when(gitFileUtils.getModifiedFiles(Mockito.any(Path.class), Mockito.any(ApplicationJson.class), Mockito.anyString()))
+                .thenReturn(Mono.just(Set.of("pages/Page1/canvas.json")));
+        Mockito.when(gitExecutor.fetchRemote(Mockito.any(Path.class), Mockito.anyString(), Mockito.anyString(), eq(false), Mockito.anyString(), Mockito.anyBoolean()))
+                .thenReturn(Mono.just("fetched"));
+        Mockito.when(gitExecutor.getStatusFromModifiedFiles(Mockito.any(Path.class), Mockito.anyString(), eq(Set.of("pages/Page1/canvas.json"))))
+                .thenReturn(Mono.just(gitStatusDTO));
+
+        Mono<GitStatusDTO> statusMono = gitService.getStatus(application.getId(), application.getGitApplicationMetadata().getBranchName());
+
+        StepVerifier
+                .create(statusMono)
+                .assertNext(status -> {
+                    assertThat(status.getIsClean()).isFalse();
+                    assertThat(status.getModified()).containsExactly("pages/Page1/canvas.json");
+                })
+                .verifyComplete();
+
+        Mockito.verify(gitFileUtils, Mockito.never())
+                .saveApplicationToLocalRepo(Mockito.any(Path.class), Mockito.any(ApplicationJson.class), Mockito.anyString());
+        Mockito.verify(gitExecutor, Mockito.never()).getStatus(Mockito.any(Path.class), Mockito.anyString());
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void pullChanges_noUpstreamChanges_nothingToPullMessage() throws IOException, GitAPIException {
@@ -1,15 +1,27 @@
 package com.appsmith.server.services.ce;
 
+import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.RequestParamDTO;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.PolicyGenerator;
 import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.DatasourceContext;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.dtos.ActionExecutionPlan;
 import com.appsmith.external.models.PluginType;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.helpers.ResponseUtils;
@@ -25,6 +37,8 @@ import com.appsmith.server.services.NewPageService;
 import com.appsmith.server.services.PermissionGroupService;
 import com.appsmith.server.services.PluginService;
 import com.appsmith.server.services.SessionUserService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -62,8 +76,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -120,6 +138,9 @@ public class NewActionServiceCEImplTest {
     @MockBean
     NewActionRepository newActionRepository;
 
+    @MockBean
+    ActionExecutionPlanCache actionExecutionPlanCache;
+
     private BodyExtractor.Context context;
 
     private Map<String, Object> hints;
@@ -145,7 +166,8 @@ public class NewActionServiceCEImplTest {
                 authenticationValidator,
                 configService,
                 responseUtils,
-                permissionGroupService);
+                permissionGroupService,
+                actionExecutionPlanCache);
     }
 
     @BeforeEach
@@ -385,4 +407,179 @@ public class NewActionServiceCEImplTest {
                 })
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    private ActionExecutionResult getBatchResult(List<Map<String, Object>> rows) {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setBody(new ObjectMapper().valueToTree(rows));
+        result.setIsExecutionSuccess(true);
+        return result;
+    }
+
+    private PluginExecutor mockStreamingExecution(Flux<ActionExecutionResult> resultsFlux) {
+        ActionDTO actionDTO = new ActionDTO();
+        actionDTO.setName("Query1");
+        actionDTO.setActionConfiguration(new ActionConfiguration());
+
+        NewAction newAction = new NewAction();
+        newAction.setId("actionId");
+        newAction.setPluginType(PluginType.DB);
+        newAction.setUnpublishedAction(actionDTO);
+
+        Datasource datasource = new Datasource();
+        datasource.setId("datasourceId");
+        datasource.setPluginId("pluginId");
+        datasource.setDatasourceConfiguration(new DatasourceConfiguration());
+
+        Plugin plugin = new Plugin();
+        plugin.setId("pluginId");
+
+        PluginExecutor pluginExecutor = Mockito.mock(PluginExecutor.class);
+        Mockito.when(pluginExecutor.isStreamingSupported()).thenReturn(true);
+        Mockito.when(pluginExecutor.executeParameterizedStreaming(any(), any(), any(), any())).thenReturn(resultsFlux);
+
+        Mockito.when(newActionRepository.findById(anyString(), any(AclPermission.class))).thenReturn(Mono.just(newAction));
+        Mockito.when(datasourceService.getValidDatasourceFromActionMono(any(), any())).thenReturn(Mono.just(datasource));
+        Mockito.when(pluginService.findById(anyString())).thenReturn(Mono.just(plugin));
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(any())).thenReturn(Mono.just(pluginExecutor));
+        Mockito.when(authenticationValidator.validateAuthentication(any())).thenReturn(Mono.just(datasource));
+        Mockito.when(datasourceContextService.getDatasourceContext(any())).thenReturn(Mono.just(new DatasourceContext<>()));
+        Mockito.when(pluginService.getEditorConfigLabelMap(anyString()))
+                .thenReturn(Mono.just(Map.of(ACTION_CONFIGURATION_BODY, "Query")));
+
+        return pluginExecutor;
+    }
+
+    @Test
+    public void testExecuteActionStreaming_emitsOneResultPerBatch() {
+        ActionExecutionResult firstBatch = getBatchResult(List.of(Map.of("id", 1), Map.of("id", 2)));
+        ActionExecutionRequest request = new ActionExecutionRequest();
+        request.setRequestParams(List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, "SELECT id FROM users", null, null, null)));
+        firstBatch.setRequest(request);
+        firstBatch.setMessages(Set.of("duplicate column names"));
+        mockStreamingExecution(Flux.just(firstBatch, getBatchResult(List.of(Map.of("id", 3)))));
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId("actionId");
+        executeActionDTO.setViewMode(false);
+
+        StepVerifier
+                .create(newActionService.executeActionStreaming(executeActionDTO))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(2, ((JsonNode) result.getBody()).size());
+                    assertEquals("actionId", result.getRequest().getActionId());
+                    RequestParamDTO queryParam = (RequestParamDTO) ((Map) result.getRequest().getRequestParams()).get("Query");
+                    assertEquals("SELECT id FROM users", queryParam.getValue());
+                    assertEquals(Set.of("duplicate column names"), result.getMessages());
+                })
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(3, ((JsonNode) result.getBody()).get(0).get("id").asInt());
+                    assertNull(result.getRequest());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteActionStreaming_withErrorMidway_endsWithFailedResult() {
+        mockStreamingExecution(Flux.concat(
+                Flux.just(getBatchResult(List.of(Map.of("id", 1)))),
+                Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED, 5))));
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId("actionId");
+        executeActionDTO.setViewMode(false);
+
+        StepVerifier
+                .create(newActionService.executeActionStreaming(executeActionDTO))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED.getAppErrorCode().toString(),
+                            result.getStatusCode());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteActionStreaming_withoutStreamingSupport_fallsBackToRegularExecution() {
+        PluginExecutor pluginExecutor = mockStreamingExecution(Flux.empty());
+        Mockito.when(pluginExecutor.isStreamingSupported()).thenReturn(false);
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId("actionId");
+        executeActionDTO.setViewMode(false);
+
+        ActionExecutionResult mockResult = new ActionExecutionResult();
+        mockResult.setIsExecutionSuccess(true);
+        mockResult.setBody("test body");
+        Mockito.when(pluginExecutor.executeParameterized(any(), any(), any(), any())).thenReturn(Mono.just(mockResult));
+
+        StepVerifier
+                .create(newActionService.executeActionStreaming(executeActionDTO))
+                .assertNext(result -> {
+                    assertEquals("test body", result.getBody());
+                    assertEquals("actionId", result.getRequest().getActionId());
+                })
+                .verifyComplete();
+
+        // The regular execution reuses the action and datasource that have already been read for the streaming one
+        Mockito.verify(newActionRepository, Mockito.times(1)).findById(anyString(), any(AclPermission.class));
+        Mockito.verify(datasourceService, Mockito.times(1)).getValidDatasourceFromActionMono(any(), any());
+        Mockito.verify(pluginExecutor, Mockito.never()).executeParameterizedStreaming(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testGetActionExecutionPlan_inViewModeWithCachedPlan_skipsDbReads() {
+        ActionExecutionPlan cachedPlan = createCachedExecutionPlan();
+        Mockito.when(actionExecutionPlanCache.get("actionId")).thenReturn(Optional.of(cachedPlan));
+        Mockito.when(newActionRepository.isPermissionPresentForCurrentUser(any(), any())).thenReturn(Mono.just(true));
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId("actionId");
+        executeActionDTO.setViewMode(true);
+
+        StepVerifier
+                .create(((NewActionServiceCEImpl) newActionService).getActionExecutionPlan(executeActionDTO, "actionId"))
+                .assertNext(plan -> assertEquals(cachedPlan, plan))
+                .verifyComplete();
+
+        Mockito.verify(newActionRepository, Mockito.never()).findById(anyString(), any(AclPermission.class));
+        Mockito.verify(actionExecutionPlanCache, Mockito.never()).put(any(), Mockito.anyLong());
+    }
+
+    @Test
+    public void testGetActionExecutionPlan_inViewModeWithoutDatasourcePermission_fails() {
+        ActionExecutionPlan cachedPlan = createCachedExecutionPlan();
+        Mockito.when(actionExecutionPlanCache.get("actionId")).thenReturn(Optional.of(cachedPlan));
+        Mockito.when(newActionRepository.isPermissionPresentForCurrentUser(any(), Mockito.eq(AclPermission.EXECUTE_ACTIONS)))
+                .thenReturn(Mono.just(true));
+        Mockito.when(newActionRepository.isPermissionPresentForCurrentUser(any(), Mockito.eq(AclPermission.EXECUTE_DATASOURCES)))
+                .thenReturn(Mono.just(false));
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId("actionId");
+        executeActionDTO.setViewMode(true);
+
+        StepVerifier
+                .create(((NewActionServiceCEImpl) newActionService).getActionExecutionPlan(executeActionDTO, "actionId"))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                        && throwable.getMessage().equals(AppsmithError.NO_RESOURCE_FOUND.getMessage(FieldName.DATASOURCE, "datasourceId")))
+                .verify();
+    }
+
+    private ActionExecutionPlan createCachedExecutionPlan() {
+        NewAction newAction = new NewAction();
+        newAction.setId("actionId");
+        newAction.setPolicies(Set.of());
+
+        Datasource datasource = new Datasource();
+        datasource.setId("datasourceId");
+        datasource.setPolicies(Set.of());
+
+        Plugin plugin = new Plugin();
+        plugin.setId("pluginId");
+
+        return new ActionExecutionPlan(newAction, datasource, plugin, Mockito.mock(PluginExecutor.class));
+    }
+}
@@ -9,6 +9,7 @@ import com.appsmith.external.models.InvisibleActionFields;
 import com.appsmith.external.models.Policy;
 import com.appsmith.external.models.Property;
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.constants.SerialiseApplicationObjective;
 import com.appsmith.server.domains.ActionCollection;
@@ -168,6 +169,9 @@ public class ImportExportApplicationServiceTests {
     @Autowired
     PermissionGroupService permissionGroupService;
 
+    @Autowired
+    CommonConfig commonConfig;
+
     private static final String INVALID_JSON_FILE = "invalid json file";
     private static Plugin installedPlugin;
     private static String workspaceId;
@@ -3485,4 +3489,201 @@ public class ImportExportApplicationServiceTests {
                 })
                 .verifyComplete();
     }
+
+    /**
+     * Adds copies of the JS action of JSObject1 to the application json, so that the new actions are inserted in
+     * several batches and more than one of them is linked to the collection.
+     */
+    private ApplicationJson createAppJsonWithCollectionActionCopies(int copyCount) {
+        ApplicationJson applicationJson = createAppJson("test_assets/ImportExportServiceTest/valid-application.json").block();
+        NewAction jsAction = applicationJson.getActionList().stream()
+                .filter(newAction -> "run".equals(newAction.getUnpublishedAction().getName()))
+                .findFirst()
+                .orElseThrow();
+
+        Gson gson = new Gson();
+        for (int i = 1; i <= copyCount; i++) {
+            NewAction copy = gson.fromJson(gson.toJson(jsAction), NewAction.class);
+            copy.setId(jsAction.getId() + "_copy" + i);
+            copy.setGitSyncId(null);
+            copy.getUnpublishedAction().setName("run" + i);
+            copy.getUnpublishedAction().setFullyQualifiedName("JSObject1.run" + i);
+            applicationJson.getActionList().add(copy);
+        }
+        return applicationJson;
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void importApplication_importBatchSizeTwo_defaultResourcesAndGitSyncIdsAssigned() {
+        ApplicationJson applicationJson = createAppJsonWithCollectionActionCopies(4);
+        Workspace workspace = new Workspace();
+        workspace.setName("Import batch size default resources workspace");
+        String testWorkspaceId = workspaceService.create(workspace).block().getId();
+
+        int importBatchSize = commonConfig.getImportBatchSize();
+        commonConfig.setImportBatchSize(2);
+        try {
+            final Mono<Application> resultMono = importExportApplicationService.importApplicationInWorkspace(testWorkspaceId, applicationJson);
+
+            StepVerifier
+                    .create(resultMono
+                            .flatMap(application -> Mono.zip(
+                                    Mono.just(application),
+                                    newPageService.findNewPagesByApplicationId(application.getId(), READ_PAGES).collectList(),
+                                    newActionService.findAllByApplicationIdAndViewMode(application.getId(), false, READ_ACTIONS, null).collectList(),
+                                    actionCollectionService.findAllByApplicationIdAndViewMode(application.getId(), false, READ_ACTIONS, null).collectList()
+                            )))
+                    .assertNext(tuple -> {
+                        final Application application = tuple.getT1();
+                        final List<NewPage> pageList = tuple.getT2();
+                        final List<NewAction> actionList = tuple.getT3();
+                        final List<ActionCollection> actionCollectionList = tuple.getT4();
+
+                        assertThat(pageList).hasSize(2);
+                        Set<String> pageIds = pageList.stream().map(NewPage::getId).collect(Collectors.toSet());
+                        pageList.forEach(newPage -> {
+                            assertThat(newPage.getGitSyncId()).isNotEmpty();
+                            assertThat(newPage.getDefaultResources().getApplicationId()).isEqualTo(application.getId());
+                            assertThat(newPage.getDefaultResources().getPageId()).isEqualTo(newPage.getId());
+                        });
+
+                        assertThat(actionList).hasSize(7);
+                        assertThat(actionList.stream().map(NewAction::getGitSyncId).collect(Collectors.toSet())).hasSize(7);
+                        actionList.forEach(newAction -> {
+                            assertThat(newAction.getGitSyncId()).isNotEmpty();
+                            assertThat(newAction.getDefaultResources().getApplicationId()).isEqualTo(application.getId());
+                            assertThat(newAction.getDefaultResources().getActionId()).isEqualTo(newAction.getId());
+                            assertThat(pageIds).contains(newAction.getUnpublishedAction().getPageId());
+                            assertThat(newAction.getUnpublishedAction().getDefaultResources().getPageId())
+                                    .isEqualTo(newAction.getUnpublishedAction().getPageId());
+                        });
+
+                        assertThat(actionCollectionList).hasSize(2);
+                        actionCollectionList.forEach(actionCollection -> {
+                            assertThat(actionCollection.getGitSyncId()).isNotEmpty();
+                            assertThat(actionCollection.getDefaultResources().getApplicationId()).isEqualTo(application.getId());
+                            assertThat(actionCollection.getDefaultResources().getCollectionId()).isEqualTo(actionCollection.getId());
+                            assertThat(pageIds).contains(actionCollection.getUnpublishedCollection().getPageId());
+                            assertThat(actionCollection.getUnpublishedCollection().getDefaultResources().getPageId())
+                                    .isEqualTo(actionCollection.getUnpublishedCollection().getPageId());
+                        });
+                    })
+                    .verifyComplete();
+        } finally {
+            commonConfig.setImportBatchSize(importBatchSize);
+        }
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void importApplication_bulkInsertedResources_createdAtSet() {
+        ApplicationJson applicationJson = createAppJsonWithCollectionActionCopies(4);
+        Workspace workspace = new Workspace();
+        workspace.setName("Import created at workspace");
+        String testWorkspaceId = workspaceService.create(workspace).block().getId();
+
+        int importBatchSize = commonConfig.getImportBatchSize();
+        commonConfig.setImportBatchSize(2);
+        try {
+            final Mono<Application> resultMono = importExportApplicationService.importApplicationInWorkspace(testWorkspaceId, applicationJson);
+
+            StepVerifier
+                    .create(resultMono
+                            .flatMap(application -> Mono.zip(
+                                    newPageService.findNewPagesByApplicationId(application.getId(), READ_PAGES).collectList(),
+                                    newActionService.findAllByApplicationIdAndViewMode(application.getId(), false, READ_ACTIONS, null).collectList(),
+                                    actionCollectionService.findAllByApplicationIdAndViewMode(application.getId(), false, READ_ACTIONS, null).collectList()
+                            )))
+                    .assertNext(tuple -> {
+                        final List<NewPage> pageList = tuple.getT1();
+                        final List<NewAction> actionList = tuple.getT2();
+                        final List<ActionCollection> actionCollectionList = tuple.getT3();
+
+                        assertThat(pageList).isNotEmpty();
+                        pageList.forEach(newPage -> {
+                            assertThat(newPage.getCreatedAt()).isNotNull();
+                            assertThat(newPage.getUpdatedAt()).isNotNull();
+                        });
+
+                        assertThat(actionList).hasSize(7);
+                        actionList.forEach(newAction -> {
+                            assertThat(newAction.getCreatedAt()).isNotNull();
+                            assertThat(newAction.getUpdatedAt()).isNotNull();
+                        });
+
+                        assertThat(actionCollectionList).isNotEmpty();
+                        actionCollectionList.forEach(actionCollection -> {
+                            assertThat(actionCollection.getCreatedAt()).isNotNull();
+                            assertThat(actionCollection.getUpdatedAt()).isNotNull();
+                        });
+                    })
+                    .verifyComplete();
+        } finally {
+            commonConfig.setImportBatchSize(importBatchSize);
+        }
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void importApplication_importBatchSizeTwo_actionsLinkedToCollections() {
+        ApplicationJson applicationJson = createAppJsonWithCollectionActionCopies(4);
+        Workspace workspace = new Workspace();
+        workspace.setName("Import batch size collections workspace");
+        String testWorkspaceId = workspaceService.create(workspace).block().getId();
+
+        int importBatchSize = commonConfig.getImportBatchSize();
+        commonConfig.setImportBatchSize(2);
+        try {
+            final Mono<Application> resultMono = importExportApplicationService.importApplicationInWorkspace(testWorkspaceId, applicationJson);
+
+            StepVerifier
+                    .create(resultMono
+                            .flatMap(application -> Mono.zip(
+                                    newActionService.findAllByApplicationIdAndViewMode(application.getId(), false, READ_ACTIONS, null).collectList(),
+                                    actionCollectionService.findAllByApplicationIdAndViewMode(application.getId(), false, READ_ACTIONS, null).collectList()
+                            )))
+                    .assertNext(tuple -> {
+                        final List<NewAction> actionList = tuple.getT1();
+                        final List<ActionCollection> actionCollectionList = tuple.getT2();
+
+                        ActionCollection jsObject1 = actionCollectionList.stream()
+                                .filter(actionCollection -> "JSObject1".equals(actionCollection.getUnpublishedCollection().getName()))
+                                .findFirst()
+                                .orElseThrow();
+                        ActionCollection jsObject2 = actionCollectionList.stream()
+                                .filter(actionCollection -> "JSObject2".equals(actionCollection.getUnpublishedCollection().getName()))
+                                .findFirst()
+                                .orElseThrow();
+
+                        // The original JS action and its 4 copies, inserted across several batches
+                        List<NewAction> collectionActions = actionList.stream()
+                                .filter(newAction -> newAction.getUnpublishedAction().getName().startsWith("run"))
+                                .collect(Collectors.toList());
+                        assertThat(collectionActions).hasSize(5);
+                        collectionActions.forEach(newAction -> {
+                            ActionDTO unpublishedAction = newAction.getUnpublishedAction();
+                            assertThat(unpublishedAction.getCollectionId()).isEqualTo(jsObject1.getId());
+                            assertThat(unpublishedAction.getDefaultResources().getCollectionId())
+                                    .isEqualTo(jsObject1.getDefaultResources().getCollectionId());
+                        });
+
+                        Map<String, String> defaultToBranchedActionIdsMap =
+                                jsObject1.getUnpublishedCollection().getDefaultToBranchedActionIdsMap();
+                        assertThat(defaultToBranchedActionIdsMap).hasSize(5);
+                        assertThat(defaultToBranchedActionIdsMap.values())
+                                .containsExactlyInAnyOrderElementsOf(
+                                        collectionActions.stream().map(NewAction::getId).collect(Collectors.toList()));
+
+                        // The actions which are not part of any collection are left unlinked
+                        actionList.stream()
+                                .filter(newAction -> !newAction.getUnpublishedAction().getName().startsWith("run"))
+                                .forEach(newAction -> assertThat(newAction.getUnpublishedAction().getCollectionId()).isNull());
+                        assertThat(jsObject2.getUnpublishedCollection().getDefaultToBranchedActionIdsMap()).isNullOrEmpty();
+                    })
+                    .verifyComplete();
+        } finally {
+            commonConfig.setImportBatchSize(importBatchSize);
+        }
+    }
 }
@@ -1,5 +1,8 @@
 package com.appsmith.caching.annotations;
 
+import com.appsmith.caching.model.EvictAllStrategy;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -22,5 +25,56 @@ public @interface Cache {
      * All method arguments can be used in the expression
      */
     String key() default "";
-    
+
+    /**
+     * Time in seconds after which the cached entries expire.
+     * 0 means entries never expire and stay in the cache until they are evicted.
+     */
+    long ttlInSeconds() default 0;
+
+    /**
+     * Fraction of the TTL that is randomly added to the TTL of every entry, e.g. 0.1 for up to 10% more.
+     * Spreads the expiry of entries cached together, so that they are not all recomputed at the same time.
+     */
+    double ttlJitter() default 0;
+
+    /**
+     * Serializer used to store the values in the cache, it must have a public no-arg constructor.
+     * RedisSerializer.class, the default, uses the value serializer of the configured ReactiveRedisTemplate.
+     */
+    @SuppressWarnings("rawtypes")
+    Class<? extends RedisSerializer> serializer() default RedisSerializer.class;
+
+    /**
+     * Maximum size in bytes of a serialized value. Larger values are returned to the caller but not cached.
+     * 0 means there is no limit.
+     */
+    long maxValueSize() default 0;
+
+    /**
+     * Maximum number of entries kept in memory on this node, in front of Redis. 0 disables the local cache.
+     * Entries are dropped from the local cache of all nodes when they are evicted with CacheEvict, and the same
+     * instance is returned to all callers on a local hit, so the returned values must not be modified.
+     */
+    long localCacheSize() default 0;
+
+    /**
+     * Time in seconds after which entries expire from the local cache. Bounds how long a node can serve an entry
+     * whose eviction it missed, e.g. while it was disconnected from Redis.
+     */
+    long localTtlInSeconds() default 60;
+
+    /**
+     * Strategy used to evict all the entries of the cache with CacheEvict(all = true).
+     * GENERATION makes the eviction constant time, and should be used for caches that are evicted completely often.
+     */
+    EvictAllStrategy evictAllStrategy() default EvictAllStrategy.SCAN;
+
+    /**
+     * Lease in milliseconds of the lock taken in Redis to compute a missing entry, 0 to not take a lock.
+     * Concurrent misses for the same key on a node always share a single call of the method. With a lease, a single
+     * node calls the method, the other nodes wait for the entry to be cached for up to the lease before calling it.
+     */
+    long lockLeaseInMillis() default 0;
+
 }
@@ -3,13 +3,19 @@ package com.appsmith.caching.aspects;
 import com.appsmith.caching.annotations.Cache;
 import com.appsmith.caching.annotations.CacheEvict;
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.model.CacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
@@ -25,7 +31,12 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * CacheAspect is an aspect that is used to cache the results of a method call annotated with Cache.
@@ -40,9 +51,99 @@ public class CacheAspect {
 
     public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
 
+    // Interval at which a node waiting for the lock of another node checks whether the entry has been cached.
+    private static final Duration LOCK_POLL_INTERVAL = Duration.ofMillis(50);
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Method, CacheConfig> cacheConfigMap = new ConcurrentHashMap<>();
+
+    // Calls of the original methods that are in progress on this node after a cache miss, by cacheName and key.
+    private final Map<String, Mono<Object>> inFlightMap = new ConcurrentHashMap<>();
+
     @Autowired
-    public CacheAspect(CacheManager cacheManager) {
+    public CacheAspect(CacheManager cacheManager, ObjectProvider<MeterRegistry> meterRegistryProvider) {
         this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    /**
+     * This method is used to count a cache miss that didn't call the original method, but waited for another call.
+     *
+     * @param cacheName The name of the cache
+     * @param scope     "local" if it shared a call on this node, "distributed" if it waited for another node
+     */
+    private void recordCoalescedCall(String cacheName, String scope) {
+        Counter.builder("appsmith.cache.coalesced")
+                .description("Number of cache misses that waited for a single call of the method instead of calling it")
+                .tags("cache", cacheName, "scope", scope)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * This method is used to ensure that concurrent misses for the same key on this node call the original method
+     * only once. All of them get the result of the first call, which runs with the context of the first subscriber.
+     *
+     * @param cacheName The name of the cache
+     * @param key       The key to be used for caching
+     * @param loader    Calls the original method and caches the result
+     * @return The result of the method call, shared by all concurrent misses
+     */
+    private Mono<Object> callOnce(String cacheName, String key, Supplier<Mono<Object>> loader) {
+        String flightKey = cacheName + ":" + key;
+        boolean[] isFirstCall = {false};
+        Mono<Object> flight = inFlightMap.computeIfAbsent(flightKey, k -> {
+            isFirstCall[0] = true;
+            return Mono.defer(loader)
+                    // Later misses call the method again, they should not get this result once it is cached or
+                    // failed. The entry can't be replaced before this as no other call is made while it is present.
+                    .doFinally(signal -> inFlightMap.remove(k))
+                    // Replays the result to all the subscribers. Cancelling a subscriber does not cancel the call.
+                    .cache();
+        });
+
+        if (!isFirstCall[0]) {
+            log.debug("Cache miss for key {} is waiting for the call in progress", flightKey);
+            recordCoalescedCall(cacheName, "local");
+        }
+        return flight;
+    }
+
+    /**
+     * This method is used to ensure that a single node calls the original method for a missing key, if the cache has
+     * a lock lease. The node that takes the lock calls the method, the others wait for the entry to be cached and only
+     * call the method themselves if it isn't cached within the lease.
+     *
+     * @param cacheName   The name of the cache
+     * @param key         The key to be used for caching
+     * @param cacheConfig Config of the cache
+     * @param loader      Calls the original method and caches the result
+     * @return The result of the method call, or the entry cached by another node
+     */
+    private Mono<Object> callWithLock(String cacheName, String key, CacheConfig cacheConfig, Supplier<Mono<Object>> loader) {
+        Duration lease = cacheConfig.getLockLease();
+        if (lease == null) {
+            return loader.get();
+        }
+
+        return cacheManager.tryLock(cacheName, key, lease)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(token -> {
+                    if (token.isPresent()) {
+                        return Mono.usingWhen(Mono.just(token.get()),
+                                lockToken -> loader.get(),
+                                lockToken -> cacheManager.unlock(cacheName, key, lockToken));
+                    }
+
+                    //Another node is calling the method, wait for it to cache the result
+                    return Mono.defer(() -> cacheManager.get(cacheName, key))
+                            .repeatWhenEmpty(repeat -> repeat.delayElements(LOCK_POLL_INTERVAL))
+                            .timeout(lease, Mono.empty())
+                            .doOnNext(value -> recordCoalescedCall(cacheName, "distributed"))
+                            .switchIfEmpty(Mono.defer(loader));
+                });
     }
 
     /**
@@ -142,6 +243,26 @@ public class CacheAspect {
         return deriveKeyWithExpression(expression, parameterNames, args);
     }
 
+    /**
+     * This method is used to derive the config of a cache from the Cache annotation.
+     *
+     * @param annotation Cache annotation of the method
+     * @return Config of the cache
+     */
+    private CacheConfig deriveCacheConfig(Cache annotation) {
+        return CacheConfig.builder()
+                .ttl(annotation.ttlInSeconds() > 0 ? Duration.ofSeconds(annotation.ttlInSeconds()) : null)
+                .ttlJitter(annotation.ttlJitter())
+                //RedisSerializer.class is the marker for the default serializer
+                .serializer(annotation.serializer() == RedisSerializer.class ? null : annotation.serializer())
+                .maxValueSize(annotation.maxValueSize())
+                .localMaxSize(annotation.localCacheSize())
+                .localTtl(Duration.ofSeconds(annotation.localTtlInSeconds()))
+                .evictAllStrategy(annotation.evictAllStrategy())
+                .lockLease(annotation.lockLeaseInMillis() > 0 ? Duration.ofMillis(annotation.lockLeaseInMillis()) : null)
+                .build();
+    }
+
     /**
      * This method defines a Aspect to handle method calls annotated with Cache.
      *
@@ -156,6 +277,13 @@ public class CacheAspect {
         Cache annotation = method.getAnnotation(Cache.class);
         String cacheName = annotation.cacheName();
 
+        //register the config of the cache with CacheManager, once per method
+        CacheConfig cacheConfig = cacheConfigMap.computeIfAbsent(method, m -> {
+            CacheConfig derivedCacheConfig = deriveCacheConfig(annotation);
+            cacheManager.setCacheConfig(cacheName, derivedCacheConfig);
+            return derivedCacheConfig;
+        });
+
         //derive key
         String[] parameterNames = signature.getParameterNames();
         Object[] args = joinPoint.getArgs();
@@ -164,12 +292,16 @@ public class CacheAspect {
         Class<?> returnType = method.getReturnType();
         if (returnType.isAssignableFrom(Mono.class)) { //If method returns Mono<T>
             return cacheManager.get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callMonoMethodAndCache(joinPoint, cacheName, key))); //defer the creation of Mono until subscription as it will call original function
+                    .switchIfEmpty(Mono.defer(() -> callOnce(cacheName, key, //defer the creation of Mono until subscription as it will call original function
+                            () -> callWithLock(cacheName, key, cacheConfig,
+                                    () -> callMonoMethodAndCache(joinPoint, cacheName, key)))));
         }
 
         if (returnType.isAssignableFrom(Flux.class)) { //If method returns Flux<T>
             return cacheManager.get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key).collectList())) //defer the creation of Flux until subscription as it will call original function
+                    .switchIfEmpty(Mono.defer(() -> callOnce(cacheName, key, //defer the creation of Flux until subscription as it will call original function
+                            () -> callWithLock(cacheName, key, cacheConfig,
+                                    () -> callFluxMethodAndCache(joinPoint, cacheName, key).collectList().map(value -> (Object) value)))))
                     .map(value -> (List<?>) value)
                     .flatMapMany(Flux::fromIterable);
         }
@@ -1,13 +1,23 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.model.CacheConfig;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 public interface CacheManager {
     /**
      * This will log the cache stats with INFO severity.
      */
     void logStats();
-    
+
+    /**
+     * This will set the config used for all items of the cache. Caches without a config use CacheConfig.DEFAULT.
+     * @param cacheName The name of the cache.
+     * @param cacheConfig The config of the cache.
+     */
+    void setCacheConfig(String cacheName, CacheConfig cacheConfig);
+
     /**
      * This will get item from the cache, Mono.empty() if not found.
      * @param cacheName The name of the cache.
@@ -39,4 +49,22 @@ public interface CacheManager {
      * @return Mono<Void> that will complete after the items are removed.
      */
     Mono<Void> evictAll(String cacheName);
+
+    /**
+     * This will take a lock on the key of the cache, shared by all nodes, if it is not held already.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @param lease The time after which the lock is released, if it is not unlocked before.
+     * @return Mono<String> with the token to unlock with if the lock was taken, Mono.empty() otherwise.
+     */
+    Mono<String> tryLock(String cacheName, String key, Duration lease);
+
+    /**
+     * This will release a lock taken with tryLock, if it is still held with the token.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @param token The token returned by tryLock.
+     * @return Mono<Void> that will complete after the lock is released.
+     */
+    Mono<Void> unlock(String cacheName, String key, String token);
 }
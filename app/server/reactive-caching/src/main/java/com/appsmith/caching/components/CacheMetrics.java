@@ -0,0 +1,86 @@
+package com.appsmith.caching.components;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the Micrometer meters of the Redis tier of a single cache, tagged with the name of the cache.
+ */
+class CacheMetrics {
+
+    private static final String CACHE_TAG = "cache";
+
+    private static final String TIER_TAG = "tier";
+
+    private static final String TIER = "redis";
+
+    private final Timer hitTimer;
+    private final Timer missTimer;
+    private final Timer putTimer;
+    private final DistributionSummary valueSize;
+    private final Counter oversizedValues;
+    private final Counter singleEvictions;
+    private final Counter completeEvictions;
+
+    CacheMetrics(MeterRegistry meterRegistry, String cacheName) {
+        hitTimer = Timer.builder("appsmith.cache.gets")
+                .description("Time taken to get an item from the cache")
+                .tags(CACHE_TAG, cacheName, TIER_TAG, TIER, "result", "hit")
+                .register(meterRegistry);
+        missTimer = Timer.builder("appsmith.cache.gets")
+                .description("Time taken to get an item from the cache")
+                .tags(CACHE_TAG, cacheName, TIER_TAG, TIER, "result", "miss")
+                .register(meterRegistry);
+        putTimer = Timer.builder("appsmith.cache.puts")
+                .description("Time taken to put an item into the cache")
+                .tags(CACHE_TAG, cacheName, TIER_TAG, TIER)
+                .register(meterRegistry);
+        valueSize = DistributionSummary.builder("appsmith.cache.value.size")
+                .description("Size of the serialized values put into the cache")
+                .baseUnit("bytes")
+                .tags(CACHE_TAG, cacheName, TIER_TAG, TIER)
+                .register(meterRegistry);
+        oversizedValues = Counter.builder("appsmith.cache.puts.skipped")
+                .description("Number of values not cached because they were larger than the maximum value size")
+                .tags(CACHE_TAG, cacheName, TIER_TAG, TIER, "reason", "oversize")
+                .register(meterRegistry);
+        singleEvictions = Counter.builder("appsmith.cache.evictions")
+                .tags(CACHE_TAG, cacheName, TIER_TAG, TIER, "type", "single")
+                .register(meterRegistry);
+        completeEvictions = Counter.builder("appsmith.cache.evictions")
+                .tags(CACHE_TAG, cacheName, TIER_TAG, TIER, "type", "all")
+                .register(meterRegistry);
+    }
+
+    void recordHit(long startNanos) {
+        hitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordMiss(long startNanos) {
+        missTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordPut(long startNanos) {
+        putTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordValueSize(int size) {
+        valueSize.record(size);
+    }
+
+    void recordOversizedValue() {
+        oversizedValues.increment();
+    }
+
+    void recordSingleEviction() {
+        singleEvictions.increment();
+    }
+
+    void recordCompleteEviction() {
+        completeEvictions.increment();
+    }
+}
@@ -1,17 +1,35 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.model.CacheConfig;
 import com.appsmith.caching.model.CacheStats;
+import com.appsmith.caching.model.EvictAllStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
-import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * RedisCacheManagerImpl is a class that implements the CacheManager interface.
@@ -22,11 +40,92 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class RedisCacheManagerImpl implements CacheManager {
 
+    // Number of keys walked by a single SCAN call when evicting all the entries of a cache.
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    // Scripts for caches with EvictAllStrategy.GENERATION. KEYS[1] is the generation counter of the cache and KEYS[2]
+    // the key of the entry in the generation that the node last saw, passed as ARGV[1]. All the keys of such a cache
+    // share the "{cacheName}" hash tag, so that the scripts only touch keys of a single slot on Redis Cluster. The
+    // entry is only read or written if the generation is still current, otherwise the scripts return -1 (nil for
+    // reads) and the node reads the new generation before trying again.
+
+    private static final RedisScript<ByteBuffer> GENERATION_GET_SCRIPT = RedisScript.of(
+            "if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[1] then " +
+            "  return false " +
+            "end " +
+            "return redis.call('GET', KEYS[2])",
+            ByteBuffer.class);
+
+    // ARGV[2] is the value and ARGV[3] the TTL in milliseconds, 0 if the entry never expires. The counter is created on
+    // the first write, its presence marks the cache as one using generations for the eviction scripts.
+    private static final RedisScript<Long> GENERATION_PUT_SCRIPT = RedisScript.of(
+            "local generation = redis.call('GET', KEYS[1]) " +
+            "if not generation then " +
+            "  generation = '0' " +
+            "  redis.call('SET', KEYS[1], generation) " +
+            "end " +
+            "if generation ~= ARGV[1] then " +
+            "  return -1 " +
+            "end " +
+            "if ARGV[3] == '0' then " +
+            "  redis.call('SET', KEYS[2], ARGV[2]) " +
+            "else " +
+            "  redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3]) " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    // A node may evict entries of a cache before it has seen the Cache annotation, and hence the strategy, of that
+    // cache. So evicting an entry removes it with this script, which does nothing if the cache doesn't use generations,
+    // as well as with a plain UNLINK of the key used without generations.
+    private static final RedisScript<Long> GENERATION_EVICT_SCRIPT = RedisScript.of(
+            "local generation = redis.call('GET', KEYS[1]) " +
+            "if not generation then " +
+            "  return 0 " +
+            "end " +
+            "if generation ~= ARGV[1] then " +
+            "  return -1 " +
+            "end " +
+            "return redis.call('UNLINK', KEYS[2])",
+            Long.class);
+
+    // Releases the lock at KEYS[1] only if it is still held with the token in ARGV[1], and not taken over by another node
+    // after its lease expired.
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    // Returns the new generation, or -1 if the cache doesn't use generations and its keys have to be scanned.
+    private static final RedisScript<Long> EVICT_ALL_SCRIPT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  return redis.call('INCR', KEYS[1]) " +
+            "end " +
+            "return -1",
+            Long.class);
+
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
-    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    // Reads and writes the values as raw bytes, so that each cache can use its own serializer and the size of the
+    // serialized values can be checked before they are written.
+    private final ReactiveRedisTemplate<String, ByteBuffer> binaryRedisTemplate;
+
+    private final MeterRegistry meterRegistry;
 
     Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
 
+    Map<String, CacheConfig> configMap = new ConcurrentHashMap<>();
+
+    private final Map<String, CacheMetrics> metricsMap = new ConcurrentHashMap<>();
+
+    // Generation of each cache with EvictAllStrategy.GENERATION, as last read from Redis by this node
+    private final Map<String, String> generationMap = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("rawtypes")
+    private final Map<Class<? extends RedisSerializer>, SerializationPair<Object>> serializerMap = new ConcurrentHashMap<>();
+
     /**
      * Ensures that the key for cacheName is present in statsMap.
      * @param cacheName The name of the cache.
@@ -41,7 +140,7 @@ public class RedisCacheManagerImpl implements CacheManager {
     public void logStats() {
         statsMap.keySet().forEach(key -> {
             CacheStats stats = statsMap.get(key);
-            log.debug("Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}", key, stats.getHits(), stats.getMisses(), stats.getSingleEvictions(), stats.getCompleteEvictions());
+            log.debug("Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}, oversizedValues = {}", key, stats.getHits(), stats.getMisses(), stats.getSingleEvictions(), stats.getCompleteEvictions(), stats.getOversizedValues());
         });
     }
 
@@ -54,57 +153,290 @@ public class RedisCacheManagerImpl implements CacheManager {
 
     @Autowired
     public RedisCacheManagerImpl(ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
-            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
-        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.binaryRedisTemplate = new ReactiveRedisTemplate<>(reactiveRedisTemplate.getConnectionFactory(),
+                RedisSerializationContext.<String, ByteBuffer>newSerializationContext(SerializationPair.byteBuffer())
+                        .key(StringRedisSerializer.UTF_8)
+                        .hashKey(StringRedisSerializer.UTF_8)
+                        .build());
+        // Metrics are recorded to the global registry, which drops them, when the application has no MeterRegistry
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    @Override
+    public void setCacheConfig(String cacheName, CacheConfig cacheConfig) {
+        configMap.put(cacheName, cacheConfig);
+    }
+
+    private CacheConfig getCacheConfig(String cacheName) {
+        return configMap.getOrDefault(cacheName, CacheConfig.DEFAULT);
+    }
+
+    private static boolean isGenerational(CacheConfig cacheConfig) {
+        return cacheConfig.getEvictAllStrategy() == EvictAllStrategy.GENERATION;
+    }
+
+    /**
+     * Returns the key of the generation counter of a cache. It is outside the namespace of the entries, so that it is
+     * not removed along with them, but has the same hash tag.
+     * @param cacheName The name of the cache.
+     * @return The key of the counter.
+     */
+    private static String getGenerationKey(String cacheName) {
+        return "{" + cacheName + "}#generation";
+    }
+
+    /**
+     * Returns the key of an entry of a cache with EvictAllStrategy.GENERATION.
+     * @param cacheName The name of the cache.
+     * @param generation The generation of the cache.
+     * @param key The key of the entry.
+     * @return The key of the entry in Redis.
+     */
+    private static String getGenerationPath(String cacheName, String generation, String key) {
+        return getGenerationPrefix(cacheName) + generation + ":" + key;
+    }
+
+    private static String getGenerationPrefix(String cacheName) {
+        return "{" + cacheName + "}:v";
+    }
+
+    /**
+     * Returns the generation of the cache that this node last saw, reading it from Redis the first time.
+     * @param cacheName The name of the cache.
+     * @return Mono with the generation.
+     */
+    private Mono<String> getGeneration(String cacheName) {
+        return Mono.justOrEmpty(generationMap.get(cacheName))
+            .switchIfEmpty(Mono.defer(() -> refreshGeneration(cacheName)));
+    }
+
+    /**
+     * Reads the generation of the cache from Redis, after it was changed by another node.
+     * @param cacheName The name of the cache.
+     * @return Mono with the generation, "0" if the cache has no entries yet.
+     */
+    private Mono<String> refreshGeneration(String cacheName) {
+        return binaryRedisTemplate.opsForValue().get(getGenerationKey(cacheName))
+            .map(bytes -> StandardCharsets.UTF_8.decode(bytes).toString())
+            .defaultIfEmpty("0")
+            .doOnNext(generation -> generationMap.put(cacheName, generation));
+    }
+
+    /**
+     * Runs one of the generation scripts with the generation this node last saw, and runs it once more with the current
+     * generation if the cache was evicted by another node in the meantime.
+     * @param cacheName The name of the cache.
+     * @param script Runs the script for the given generation, and returns empty if the generation was stale.
+     * @return Mono with the result of the script.
+     */
+    private <T> Mono<T> executeWithGeneration(String cacheName, Function<String, Mono<T>> script) {
+        return getGeneration(cacheName)
+            .flatMap(script)
+            .switchIfEmpty(Mono.defer(() -> refreshGeneration(cacheName).flatMap(script)));
+    }
+
+    /**
+     * Returns the key of the lock on an entry. Like the generation counter, it is outside the "cacheName:" namespace.
+     * @param cacheName The name of the cache.
+     * @param key The key of the entry.
+     * @return The key of the lock.
+     */
+    private static String getLockKey(String cacheName, String key) {
+        return cacheName + "#lock:" + key;
+    }
+
+    private static ByteBuffer toByteBuffer(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private CacheMetrics getMetrics(String cacheName) {
+        return metricsMap.computeIfAbsent(cacheName, name -> new CacheMetrics(meterRegistry, name));
+    }
+
+    /**
+     * Returns the serializer of the cache, the value serializer of the ReactiveRedisTemplate if none is configured.
+     * @param cacheConfig The config of the cache.
+     * @return SerializationPair to write and read the values of the cache.
+     */
+    @SuppressWarnings("unchecked")
+    private SerializationPair<Object> getSerializer(CacheConfig cacheConfig) {
+        if (cacheConfig.getSerializer() == null) {
+            return reactiveRedisTemplate.getSerializationContext().getValueSerializationPair();
+        }
+        return serializerMap.computeIfAbsent(cacheConfig.getSerializer(),
+                serializerClass -> SerializationPair.fromSerializer(BeanUtils.instantiateClass(serializerClass)));
+    }
+
+    /**
+     * Returns the TTL for a new entry of the cache, with a random jitter added to it if configured.
+     * @param cacheConfig The config of the cache.
+     * @return The TTL, null if the entry should never expire.
+     */
+    private static Duration getTtl(CacheConfig cacheConfig) {
+        Duration ttl = cacheConfig.getTtl();
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return null;
+        }
+        if (cacheConfig.getTtlJitter() <= 0) {
+            return ttl;
+        }
+        long maxJitterMillis = (long) (ttl.toMillis() * cacheConfig.getTtlJitter());
+        return ttl.plusMillis(ThreadLocalRandom.current().nextLong(maxJitterMillis + 1));
     }
 
     @Override
     public Mono<Object> get(String cacheName, String key) {
         ensureStats(cacheName);
         String path = cacheName + ":" + key;
-        return reactiveRedisTemplate.opsForValue().get(path)
-            .map(value -> {
-                //This is a cache hit, update stats and return value
-                statsMap.get(cacheName).getHits().incrementAndGet();
-                return value;
-            })
-            .switchIfEmpty(Mono.defer(() -> {
-                //This is a cache miss, update stats and return empty
-                statsMap.get(cacheName).getMisses().incrementAndGet();
-                log.debug("Cache miss for key {}", path);
-                return Mono.empty();
-            }));
+        CacheConfig cacheConfig = getCacheConfig(cacheName);
+        SerializationPair<Object> serializer = getSerializer(cacheConfig);
+        CacheMetrics metrics = getMetrics(cacheName);
+        return Mono.defer(() -> {
+            final long startNanos = System.nanoTime();
+            final Mono<ByteBuffer> valueMono;
+            if (isGenerational(cacheConfig)) {
+                // A stale generation can't be told apart from a miss, so a miss is checked against the current one
+                valueMono = executeWithGeneration(cacheName, generation -> binaryRedisTemplate.execute(GENERATION_GET_SCRIPT,
+                        List.of(getGenerationKey(cacheName), getGenerationPath(cacheName, generation, key)),
+                        List.of(toByteBuffer(generation))).next());
+            } else {
+                valueMono = binaryRedisTemplate.opsForValue().get(path);
+            }
+            return valueMono
+                .flatMap(bytes -> {
+                    try {
+                        return Mono.justOrEmpty(serializer.read(bytes));
+                    } catch (RuntimeException e) {
+                        // Entries written with a different serializer or an older version of the class can't be
+                        // read anymore, treat them as a miss so that they get replaced
+                        log.warn("Unable to deserialize cache entry for key {}", path, e);
+                        return Mono.empty();
+                    }
+                })
+                .map(value -> {
+                    //This is a cache hit, update stats and return value
+                    statsMap.get(cacheName).getHits().incrementAndGet();
+                    metrics.recordHit(startNanos);
+                    return value;
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    //This is a cache miss, update stats and return empty
+                    statsMap.get(cacheName).getMisses().incrementAndGet();
+                    metrics.recordMiss(startNanos);
+                    log.debug("Cache miss for key {}", path);
+                    return Mono.empty();
+                }));
+        });
     }
 
     @Override
     public Mono<Boolean> put(String cacheName, String key, Object value) {
         ensureStats(cacheName);
         String path = cacheName + ":" + key;
-        log.debug("Cache entry added for key {}", path);
-        return reactiveRedisTemplate.opsForValue().set(path, value);
+        CacheConfig cacheConfig = getCacheConfig(cacheName);
+        CacheMetrics metrics = getMetrics(cacheName);
+        return Mono.fromCallable(() -> getSerializer(cacheConfig).write(value))
+            .flatMap(bytes -> {
+                final int size = bytes.remaining();
+                metrics.recordValueSize(size);
+                if (cacheConfig.getMaxValueSize() > 0 && size > cacheConfig.getMaxValueSize()) {
+                    //Value is too large to be cached, skip it
+                    statsMap.get(cacheName).getOversizedValues().incrementAndGet();
+                    metrics.recordOversizedValue();
+                    log.debug("Cache entry for key {} skipped as its size {} is more than {} bytes", path, size, cacheConfig.getMaxValueSize());
+                    return Mono.just(false);
+                }
+
+                final long startNanos = System.nanoTime();
+                final Duration ttl = getTtl(cacheConfig);
+                final Mono<Boolean> setMono;
+                if (isGenerational(cacheConfig)) {
+                    final ByteBuffer ttlBytes = toByteBuffer(ttl == null ? "0" : String.valueOf(ttl.toMillis()));
+                    setMono = executeWithGeneration(cacheName, generation -> binaryRedisTemplate.execute(GENERATION_PUT_SCRIPT,
+                                    List.of(getGenerationKey(cacheName), getGenerationPath(cacheName, generation, key)),
+                                    List.of(toByteBuffer(generation), bytes.duplicate(), ttlBytes.duplicate()))
+                            .next()
+                            .filter(result -> result >= 0))
+                            .map(result -> true)
+                            // The generation changed again while retrying, leave the entry to the next read
+                            .defaultIfEmpty(false);
+                } else if (ttl == null) {
+                    setMono = binaryRedisTemplate.opsForValue().set(path, bytes);
+                } else {
+                    setMono = binaryRedisTemplate.opsForValue().set(path, bytes, ttl);
+                }
+                log.debug("Cache entry added for key {}", path);
+                return setMono.doOnSuccess(result -> metrics.recordPut(startNanos));
+            });
     }
 
     @Override
     public Mono<Void> evict(String cacheName, String key) {
         ensureStats(cacheName);
         statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
+        getMetrics(cacheName).recordSingleEviction();
         String path = cacheName + ":" + key;
         log.debug("Cache entry evicted for key {}", path);
-        return reactiveRedisTemplate.delete(path).then();
+        Mono<Long> generationEvictMono = executeWithGeneration(cacheName, generation -> binaryRedisTemplate
+                .execute(GENERATION_EVICT_SCRIPT,
+                        List.of(getGenerationKey(cacheName), getGenerationPath(cacheName, generation, key)),
+                        List.of(toByteBuffer(generation)))
+                .next()
+                .filter(count -> count >= 0));
+        return Mono.when(binaryRedisTemplate.unlink(path), generationEvictMono);
+    }
+
+    /**
+     * Removes the keys matching the pattern in batches, without blocking Redis for the whole keyspace like KEYS does.
+     * @param pattern Glob style pattern of the keys to remove.
+     * @param filter Only keys matching the filter are removed.
+     * @return Mono<Long> with the number of keys removed.
+     */
+    private Mono<Long> unlinkKeys(String pattern, Predicate<String> filter) {
+        ScanOptions scanOptions = ScanOptions.scanOptions().match(pattern).count(SCAN_BATCH_SIZE).build();
+        return binaryRedisTemplate.unlink(binaryRedisTemplate.scan(scanOptions).filter(filter));
     }
 
     @Override
     public Mono<Void> evictAll(String cacheName) {
         ensureStats(cacheName);
         statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
-        String path = cacheName;
-        //Remove all matching keys with wildcard
-        final String script =
-            "for _,k in ipairs(redis.call('keys','" + path + ":*'))" +
-                    " do redis.call('del',k) " +
-                    "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
-    }
-    
+        getMetrics(cacheName).recordCompleteEviction();
+        return binaryRedisTemplate.execute(EVICT_ALL_SCRIPT, List.of(getGenerationKey(cacheName)), List.of())
+            .next()
+            .flatMap(generation -> {
+                if (generation < 0) {
+                    //Remove all matching keys with SCAN, the eviction completes once all of them are removed
+                    return unlinkKeys(cacheName + ":*", path -> true);
+                }
+
+                generationMap.put(cacheName, String.valueOf(generation));
+
+                //Entries of older generations can't be read anymore. Waiting for their removal would make evictAll
+                //as slow as a SCAN of the whole keyspace, so they are removed in the background and failures logged.
+                String currentPrefix = getGenerationPrefix(cacheName) + generation + ":";
+                unlinkKeys("{" + cacheName + "}:*", path -> !path.startsWith(currentPrefix))
+                    .subscribe(
+                        count -> log.debug("Removed {} entries of older generations of cache {}", count, cacheName),
+                        error -> log.warn("Unable to remove entries of older generations of cache {}", cacheName, error));
+                return Mono.just(0L);
+            })
+            .then();
+    }
+
+    @Override
+    public Mono<String> tryLock(String cacheName, String key, Duration lease) {
+        final String token = UUID.randomUUID().toString();
+        return binaryRedisTemplate.opsForValue().setIfAbsent(getLockKey(cacheName, key), toByteBuffer(token), lease)
+            .filter(Boolean.TRUE::equals)
+            .map(isLocked -> token);
+    }
+
+    @Override
+    public Mono<Void> unlock(String cacheName, String key, String token) {
+        return binaryRedisTemplate.execute(UNLOCK_SCRIPT, List.of(getLockKey(cacheName, key)), List.of(toByteBuffer(token)))
+            .then();
+    }
 }
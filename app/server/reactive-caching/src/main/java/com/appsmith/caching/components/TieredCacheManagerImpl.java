@@ -0,0 +1,260 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheConfig;
+import com.appsmith.caching.model.CacheStats;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TieredCacheManagerImpl is a class that implements the CacheManager interface.
+ * Keeps the entries of caches with a localCacheSize in memory, in front of Redis (RedisCacheManagerImpl).
+ * Evictions are published over Redis pub/sub, so that all nodes drop the entry from their local cache.
+ * Caches without a local cache are served by Redis directly.
+ */
+@Primary
+@Component
+@ConditionalOnClass({ReactiveRedisTemplate.class})
+@Slf4j
+public class TieredCacheManagerImpl implements CacheManager {
+
+    public static final String INVALIDATION_CHANNEL = "appsmith:cache:invalidations";
+
+    public static final String EVICT_PREFIX = "evict:";
+
+    public static final String EVICT_ALL_PREFIX = "evictAll:";
+
+    private final RedisCacheManagerImpl redisCacheManager;
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+    private final MeterRegistry meterRegistry;
+
+    private Disposable invalidationSubscription;
+
+    Map<String, Cache<String, Object>> localCacheMap = new ConcurrentHashMap<>();
+
+    // Stats of the local tier, the stats of the Redis tier are maintained by RedisCacheManagerImpl
+    Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
+
+    // Incremented for every invalidation of a cache. An entry read from Redis is only added to the local cache if the
+    // cache was not invalidated while it was being read, else a stale entry could outlive its eviction.
+    private final Map<String, AtomicLong> invalidationCountMap = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TieredCacheManagerImpl(RedisCacheManagerImpl redisCacheManager,
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.redisCacheManager = redisCacheManager;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    /**
+     * Subscribes to the evictions published by all the nodes.
+     */
+    @PostConstruct
+    public void subscribeToInvalidations() {
+        invalidationSubscription = reactiveRedisOperations.listenToChannel(INVALIDATION_CHANNEL)
+                // Evictions published while this node was not subscribed are lost, drop everything on (re)subscription
+                .doOnSubscribe(subscription -> localCacheMap.keySet().forEach(this::invalidateLocalCache))
+                .map(ReactiveSubscription.Message::getMessage)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofMinutes(1))
+                        .doBeforeRetry(signal -> log.warn("Subscription to cache invalidations failed, retrying", signal.failure())))
+                .subscribe(this::handleInvalidation);
+    }
+
+    @PreDestroy
+    public void unsubscribeFromInvalidations() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    /**
+     * Drops the local entries named in a message published on the invalidation channel.
+     * The cacheName can't contain ':' as it is also the separator of the cacheName and key in Redis.
+     * @param message Either "evict:cacheName:key" or "evictAll:cacheName".
+     */
+    void handleInvalidation(String message) {
+        if (message.startsWith(EVICT_ALL_PREFIX)) {
+            invalidateLocalCache(message.substring(EVICT_ALL_PREFIX.length()));
+            return;
+        }
+
+        if (message.startsWith(EVICT_PREFIX)) {
+            String path = message.substring(EVICT_PREFIX.length());
+            int separatorIndex = path.indexOf(':');
+            if (separatorIndex > 0) {
+                invalidateLocalEntry(path.substring(0, separatorIndex), path.substring(separatorIndex + 1));
+                return;
+            }
+        }
+
+        log.debug("Ignoring unknown cache invalidation message {}", message);
+    }
+
+    private void invalidateLocalEntry(String cacheName, String key) {
+        getInvalidationCount(cacheName).incrementAndGet();
+        Cache<String, Object> localCache = localCacheMap.get(cacheName);
+        if (localCache != null) {
+            localCache.invalidate(key);
+        }
+    }
+
+    private void invalidateLocalCache(String cacheName) {
+        getInvalidationCount(cacheName).incrementAndGet();
+        Cache<String, Object> localCache = localCacheMap.get(cacheName);
+        if (localCache != null) {
+            localCache.invalidateAll();
+        }
+    }
+
+    private AtomicLong getInvalidationCount(String cacheName) {
+        return invalidationCountMap.computeIfAbsent(cacheName, name -> new AtomicLong());
+    }
+
+    private Mono<Void> publishInvalidation(String message) {
+        return reactiveRedisOperations.convertAndSend(INVALIDATION_CHANNEL, message)
+                .onErrorResume(error -> {
+                    // Other nodes will serve the entry from their local cache until it expires there
+                    log.warn("Unable to publish cache invalidation {}", message, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Ensures that the key for cacheName is present in statsMap.
+     * @param cacheName The name of the cache.
+     */
+    private void ensureStats(String cacheName) {
+        if (!statsMap.containsKey(cacheName)) {
+            statsMap.put(cacheName, CacheStats.newInstance());
+        }
+    }
+
+    @Override
+    public void logStats() {
+        statsMap.keySet().forEach(key -> {
+            CacheStats stats = statsMap.get(key);
+            log.debug("Local cache {} stats: hits = {}, misses = {}", key, stats.getHits(), stats.getMisses());
+        });
+        redisCacheManager.logStats();
+    }
+
+    /**
+     * Resets the stats of both tiers.
+     */
+    public void resetStats() {
+        statsMap.clear();
+        redisCacheManager.resetStats();
+    }
+
+    @Override
+    public void setCacheConfig(String cacheName, CacheConfig cacheConfig) {
+        redisCacheManager.setCacheConfig(cacheName, cacheConfig);
+        if (cacheConfig.getLocalMaxSize() <= 0) {
+            return;
+        }
+
+        localCacheMap.computeIfAbsent(cacheName, name -> {
+            Cache<String, Object> localCache = Caffeine.newBuilder()
+                    .maximumSize(cacheConfig.getLocalMaxSize())
+                    .expireAfterWrite(cacheConfig.getLocalTtl())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, localCache, name, "tier", "local");
+            return localCache;
+        });
+    }
+
+    @Override
+    public Mono<Object> get(String cacheName, String key) {
+        Cache<String, Object> localCache = localCacheMap.get(cacheName);
+        if (localCache == null) {
+            return redisCacheManager.get(cacheName, key);
+        }
+
+        ensureStats(cacheName);
+        return Mono.defer(() -> {
+            Object value = localCache.getIfPresent(key);
+            if (value != null) {
+                //This is a local cache hit, no need to go to Redis
+                statsMap.get(cacheName).getHits().incrementAndGet();
+                return Mono.just(value);
+            }
+
+            statsMap.get(cacheName).getMisses().incrementAndGet();
+            final long invalidationCount = getInvalidationCount(cacheName).get();
+            return redisCacheManager.get(cacheName, key)
+                    .doOnNext(redisValue -> {
+                        if (getInvalidationCount(cacheName).get() == invalidationCount) {
+                            localCache.put(key, redisValue);
+                        }
+                    });
+        });
+    }
+
+    @Override
+    public Mono<Boolean> put(String cacheName, String key, Object value) {
+        Cache<String, Object> localCache = localCacheMap.get(cacheName);
+        if (localCache == null) {
+            return redisCacheManager.put(cacheName, key, value);
+        }
+
+        return redisCacheManager.put(cacheName, key, value)
+                .doOnNext(isCached -> {
+                    //Values that were not cached in Redis, e.g. oversized ones, are not cached locally either
+                    if (Boolean.TRUE.equals(isCached)) {
+                        localCache.put(key, value);
+                    }
+                });
+    }
+
+    @Override
+    public Mono<String> tryLock(String cacheName, String key, Duration lease) {
+        return redisCacheManager.tryLock(cacheName, key, lease);
+    }
+
+    @Override
+    public Mono<Void> unlock(String cacheName, String key, String token) {
+        return redisCacheManager.unlock(cacheName, key, token);
+    }
+
+    // The local entries are dropped only after they are removed from Redis, so that a concurrent miss can't bring the
+    // evicted value back from Redis into the local cache.
+
+    @Override
+    public Mono<Void> evict(String cacheName, String key) {
+        return redisCacheManager.evict(cacheName, key)
+                .then(Mono.fromRunnable(() -> invalidateLocalEntry(cacheName, key)))
+                .then(Mono.defer(() -> publishInvalidation(EVICT_PREFIX + cacheName + ":" + key)));
+    }
+
+    @Override
+    public Mono<Void> evictAll(String cacheName) {
+        return redisCacheManager.evictAll(cacheName)
+                .then(Mono.fromRunnable(() -> invalidateLocalCache(cacheName)))
+                .then(Mono.defer(() -> publishInvalidation(EVICT_ALL_PREFIX + cacheName)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.appsmith.caching.model;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+
+/**
+ * This is a CacheConfig class that holds the settings of a cache, as declared on the Cache annotation.
+ * It is maintained for all cacheNames in the memory
+ */
+@Data
+@Builder
+public class CacheConfig {
+
+    public static final CacheConfig DEFAULT = CacheConfig.builder().build();
+
+    /**
+     * Time after which the entries of the cache expire, null if they never expire.
+     */
+    private Duration ttl;
+
+    /**
+     * Fraction of the ttl that is randomly added to it for every entry, so that entries added together do not all
+     * expire at the same time.
+     */
+    private double ttlJitter;
+
+    /**
+     * Serializer used to store the values in the cache, null to use the value serializer of the ReactiveRedisTemplate.
+     */
+    @SuppressWarnings("rawtypes")
+    private Class<? extends RedisSerializer> serializer;
+
+    /**
+     * Maximum size in bytes of a serialized value, values larger than this are not cached. 0 means no limit.
+     */
+    private long maxValueSize;
+
+    /**
+     * Maximum number of entries of the cache kept in the memory of this node. 0 means there is no local cache.
+     */
+    private long localMaxSize;
+
+    /**
+     * Time after which the entries of the local cache expire.
+     */
+    private Duration localTtl;
+
+    /**
+     * Strategy used to evict all the entries of the cache, null for the default (SCAN).
+     */
+    private EvictAllStrategy evictAllStrategy;
+
+    /**
+     * Lease of the lock taken to compute a missing entry across nodes, null to not take a lock.
+     */
+    private Duration lockLease;
+}
@@ -31,4 +31,9 @@ public class CacheStats {
      * The number of times the cache was evicted (all keys).
      */
     private AtomicInteger completeEvictions = new AtomicInteger(0);
+
+    /**
+     * The number of values that were not cached because they were larger than the maximum value size.
+     */
+    private AtomicInteger oversizedValues = new AtomicInteger(0);
 }
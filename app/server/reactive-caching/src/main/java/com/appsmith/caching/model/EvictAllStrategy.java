@@ -0,0 +1,21 @@
+package com.appsmith.caching.model;
+
+/**
+ * This is the strategy used to remove all the entries of a cache, selected per cache with the Cache annotation.
+ */
+public enum EvictAllStrategy {
+    /**
+     * Entries are stored at "cacheName:key". Evicting all of them walks the keys of the cache with SCAN and removes them
+     * with UNLINK in small batches, so Redis keeps serving other commands in between.
+     * Eviction takes time proportional to the size of the keyspace, but without blocking Redis.
+     */
+    SCAN,
+
+    /**
+     * Entries are stored at "cacheName:v{generation}:key", where generation is a counter kept in Redis for the cache.
+     * Evicting all of them increments the counter, so it takes constant time. Entries of older generations can't be
+     * read anymore and are removed in the background.
+     * Reads and writes of the cache run as small Lua scripts to resolve the generation in the same round trip.
+     */
+    GENERATION
+}
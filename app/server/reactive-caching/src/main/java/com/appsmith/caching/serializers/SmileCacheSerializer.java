@@ -0,0 +1,46 @@
+package com.appsmith.caching.serializers;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Serializes cached values with Smile, the binary form of JSON. The values are smaller and faster to (de)serialize than
+ * with JDK serialization, and do not need to implement Serializable.
+ * Type information is stored along with the values, the same way as GenericJackson2JsonRedisSerializer does it. Only
+ * Appsmith classes, JDK collections and JDK date and time types are allowed as types when reading the values back, so
+ * that an entry written to Redis by someone else can't make Jackson instantiate arbitrary classes.
+ * Usage: @Cache(cacheName = "...", serializer = SmileCacheSerializer.class)
+ */
+public class SmileCacheSerializer extends GenericJackson2JsonRedisSerializer {
+
+    private static final PolymorphicTypeValidator TYPE_VALIDATOR = BasicPolymorphicTypeValidator.builder()
+            .allowIfSubType("com.appsmith.")
+            .allowIfSubType(Collection.class)
+            .allowIfSubType(Map.class)
+            .allowIfSubType("java.time.")
+            .allowIfSubType(Date.class)
+            .build();
+
+    public SmileCacheSerializer() {
+        super(createObjectMapper());
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper(new SmileFactory());
+        objectMapper.activateDefaultTyping(TYPE_VALIDATOR, ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        // Entries written before a field was removed from a class should still be readable
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.findAndRegisterModules();
+        return objectMapper;
+    }
+}
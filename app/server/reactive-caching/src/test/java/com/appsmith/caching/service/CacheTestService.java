@@ -3,13 +3,16 @@ package com.appsmith.caching.service;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.stereotype.Service;
 
 import com.appsmith.caching.annotations.CacheEvict;
 import com.appsmith.caching.annotations.Cache;
 import com.appsmith.caching.model.ArgumentModel;
+import com.appsmith.caching.model.EvictAllStrategy;
 import com.appsmith.caching.model.TestModel;
+import com.appsmith.caching.serializers.SmileCacheSerializer;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -21,6 +24,8 @@ public class CacheTestService {
 
     PodamFactory factory = new PodamFactoryImpl();
 
+    AtomicInteger slowObjectCallCount = new AtomicInteger();
+
     /**
      * This method is used to test the caching functionality for Mono<T>.
      * @param id The id
@@ -110,4 +115,110 @@ public class CacheTestService {
     public Mono<Void> evictObjectForWithKey(String id) {
         return Mono.empty();
     }
+
+    /**
+     * This method is used to test the expiry of cached entries.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "expiringcache", ttlInSeconds = 1)
+    public Mono<TestModel> getExpiringObjectFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model);
+    }
+
+    /**
+     * This method is used to test that values larger than the maximum value size are not cached.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "smallcache", maxValueSize = 16)
+    public Mono<TestModel> getLargeObjectFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model);
+    }
+
+    /**
+     * This method is used to test caching with a custom serializer.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "smilecache", serializer = SmileCacheSerializer.class)
+    public Mono<TestModel> getSmileObjectFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model);
+    }
+
+    /**
+     * This method is used to test the caching functionality with a local cache in front of Redis.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "localcache", localCacheSize = 100)
+    public Mono<TestModel> getLocallyCachedObjectFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model);
+    }
+
+    /**
+     * This method is used to test the eviction functionality with a local cache in front of Redis.
+     * @param id The id
+     * @return Mono<Void> that completes after eviction
+     */
+    @CacheEvict(cacheName = "localcache")
+    public Mono<Void> evictLocallyCachedObjectFor(String id) {
+        return Mono.empty();
+    }
+
+    /**
+     * This method is used to test the caching functionality with generation based eviction.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "generationcache", evictAllStrategy = EvictAllStrategy.GENERATION)
+    public Mono<TestModel> getGenerationObjectFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model);
+    }
+
+    /**
+     * This method is used to test the eviction functionality with generation based eviction.
+     * @param id The id
+     * @return Mono<Void> that completes after eviction
+     */
+    @CacheEvict(cacheName = "generationcache")
+    public Mono<Void> evictGenerationObjectFor(String id) {
+        return Mono.empty();
+    }
+
+    /**
+     * This method is used to test eviction functionality with generation based eviction, complete cache.
+     * @return Mono<Void> that completes after eviction
+     */
+    @CacheEvict(cacheName = "generationcache", all = true)
+    public Mono<Void> evictAllGenerationObjects() {
+        return Mono.empty();
+    }
+
+    /**
+     * This method is used to test that concurrent cache misses call the method only once.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "slowcache", lockLeaseInMillis = 5000)
+    public Mono<TestModel> getSlowObjectFor(String id) {
+        slowObjectCallCount.incrementAndGet();
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model).delayElement(Duration.ofSeconds(1));
+    }
+
+    public int getSlowObjectCallCount() {
+        return slowObjectCallCount.get();
+    }
 }
@@ -11,6 +11,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Flux;
 
 import com.appsmith.caching.components.CacheManager;
 import com.appsmith.caching.model.ArgumentModel;
@@ -30,6 +32,9 @@ public class TestCachingMethods {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
     /**
      * This Test is used to test the caching of a method that returns a Mono<T>
      */
@@ -97,6 +102,77 @@ public class TestCachingMethods {
         assertNotEquals(model, model2);
     }
 
+    /**
+     * This Test is used to test that entries expire after the TTL
+     */
+    @Test
+    public void testTtl() throws InterruptedException {
+        TestModel model = cacheTestService.getExpiringObjectFor("test1").block();
+        TestModel model2 = cacheTestService.getExpiringObjectFor("test1").block();
+        assertEquals(model, model2);
+
+        Thread.sleep(1500);
+
+        // If not expired, this will return the same object
+        model2 = cacheTestService.getExpiringObjectFor("test1").block();
+        assertNotEquals(model, model2);
+    }
+
+    /**
+     * This Test is used to test that values larger than the maximum value size are not cached
+     */
+    @Test
+    public void testOversizedValueIsNotCached() {
+        TestModel model = cacheTestService.getLargeObjectFor("test1").block();
+        TestModel model2 = cacheTestService.getLargeObjectFor("test1").block();
+        assertNotEquals(model, model2);
+    }
+
+    /**
+     * This Test is used to test caching with a custom serializer
+     */
+    @Test
+    public void testCustomSerializer() {
+        TestModel model = cacheTestService.getSmileObjectFor("test1").block();
+        TestModel model2 = cacheTestService.getSmileObjectFor("test1").block();
+        assertEquals(model, model2);
+    }
+
+    /**
+     * This Test is used to test that the local cache serves entries without going to Redis, and is evicted with Redis
+     */
+    @Test
+    public void testLocalCache() {
+        TestModel model = cacheTestService.getLocallyCachedObjectFor("test1").block();
+
+        // The entry is still served from the local cache after it is gone from Redis
+        reactiveRedisTemplate.delete("localcache:test1").block();
+        TestModel model2 = cacheTestService.getLocallyCachedObjectFor("test1").block();
+        assertEquals(model, model2);
+
+        cacheTestService.evictLocallyCachedObjectFor("test1").block();
+
+        // If not evicted from the local cache, this will return the same object
+        model2 = cacheTestService.getLocallyCachedObjectFor("test1").block();
+        assertNotEquals(model, model2);
+    }
+
+    /**
+     * This Test is used to test that concurrent cache misses for a key share a single call of the method
+     */
+    @Test
+    public void testConcurrentMissesAreCoalesced() {
+        List<TestModel> models = Flux.range(0, 10)
+                .flatMap(i -> cacheTestService.getSlowObjectFor("test1"))
+                .collectList()
+                .block();
+
+        assertEquals(1, cacheTestService.getSlowObjectCallCount());
+        for (TestModel model : models) {
+            assertEquals(models.get(0), model);
+        }
+    }
+
     /**
      * Test to measure performance of caching
      */
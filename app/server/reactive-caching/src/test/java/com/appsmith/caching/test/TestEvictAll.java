@@ -0,0 +1,128 @@
+package com.appsmith.caching.test;
+
+import com.appsmith.caching.model.TestModel;
+import com.appsmith.caching.service.CacheTestService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Tests evicting all entries of a cache in a Redis that holds a large number of other keys, like sessions.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Slf4j
+public class TestEvictAll {
+
+    private static final int OTHER_KEY_COUNT = 200000;
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    private CacheTestService cacheTestService;
+
+    @Autowired
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    private Long countKeys(String pattern) {
+        return reactiveRedisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(BATCH_SIZE).build())
+                .count()
+                .block();
+    }
+
+    @BeforeAll
+    public void setup() {
+        Flux.range(0, OTHER_KEY_COUNT / BATCH_SIZE)
+                .concatMap(batch -> {
+                    Map<String, Object> keys = new HashMap<>();
+                    for (int i = 0; i < BATCH_SIZE; i++) {
+                        keys.put("session:" + (batch * BATCH_SIZE + i), "value");
+                    }
+                    return reactiveRedisTemplate.opsForValue().multiSet(keys);
+                })
+                .blockLast();
+    }
+
+    @AfterAll
+    public void tearDown() {
+        reactiveRedisTemplate.unlink(reactiveRedisTemplate.scan(ScanOptions.scanOptions().match("session:*").build()))
+                .block();
+    }
+
+    /**
+     * This Test is used to test evict all with SCAN, which only removes the keys of the cache
+     */
+    @Test
+    public void testEvictAllWithScan() {
+        TestModel model1 = cacheTestService.getObjectFor("test1").block();
+        TestModel model2 = cacheTestService.getObjectFor("test2").block();
+
+        long startTime = System.nanoTime();
+        cacheTestService.evictAllObjects().block();
+        log.info("Time taken to evict all with SCAN " + Duration.ofNanos(System.nanoTime() - startTime).toMillis() + " ms");
+
+        assertEquals(0L, countKeys("objectcache:*"));
+        assertEquals(OTHER_KEY_COUNT, countKeys("session:*"));
+
+        assertNotEquals(model1, cacheTestService.getObjectFor("test1").block());
+        assertNotEquals(model2, cacheTestService.getObjectFor("test2").block());
+    }
+
+    /**
+     * This Test is used to test evict all with generations, and that the older generations are removed in the background
+     */
+    @Test
+    public void testEvictAllWithGeneration() throws InterruptedException {
+        TestModel model1 = cacheTestService.getGenerationObjectFor("test1").block();
+        TestModel model2 = cacheTestService.getGenerationObjectFor("test2").block();
+        assertEquals(model1, cacheTestService.getGenerationObjectFor("test1").block());
+
+        long startTime = System.nanoTime();
+        cacheTestService.evictAllGenerationObjects().block();
+        log.info("Time taken to evict all with generation " + Duration.ofNanos(System.nanoTime() - startTime).toMillis() + " ms");
+
+        TestModel model1_2 = cacheTestService.getGenerationObjectFor("test1").block();
+        assertNotEquals(model1, model1_2);
+        assertNotEquals(model2, cacheTestService.getGenerationObjectFor("test2").block());
+        assertEquals(model1_2, cacheTestService.getGenerationObjectFor("test1").block());
+
+        // Single key eviction works on the current generation
+        cacheTestService.evictGenerationObjectFor("test1").block();
+        assertNotEquals(model1_2, cacheTestService.getGenerationObjectFor("test1").block());
+
+        // Wait for the background removal of the older generation
+        Thread.sleep(2000);
+        assertEquals(2L, countKeys("{generationcache}:*"));
+        assertEquals(OTHER_KEY_COUNT, countKeys("session:*"));
+    }
+
+    /**
+     * This Test is used to test that entries are not served from a generation that another node has evicted
+     */
+    @Test
+    public void testEvictAllWithGenerationByAnotherNode() {
+        TestModel model = cacheTestService.getGenerationObjectFor("test3").block();
+        assertEquals(model, cacheTestService.getGenerationObjectFor("test3").block());
+
+        // Another node evicts all the entries, without this node knowing about the new generation
+        reactiveRedisTemplate.opsForValue().increment("{generationcache}#generation").block();
+
+        TestModel model2 = cacheTestService.getGenerationObjectFor("test3").block();
+        assertNotEquals(model, model2);
+        assertEquals(model2, cacheTestService.getGenerationObjectFor("test3").block());
+    }
+}
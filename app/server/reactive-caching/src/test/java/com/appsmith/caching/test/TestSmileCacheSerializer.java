@@ -0,0 +1,55 @@
+package com.appsmith.caching.test;
+
+import com.appsmith.caching.model.NestedModel;
+import com.appsmith.caching.model.TestModel;
+import com.appsmith.caching.serializers.SmileCacheSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the types that SmileCacheSerializer reads back, without going through Redis.
+ */
+public class TestSmileCacheSerializer {
+
+    private final SmileCacheSerializer serializer = new SmileCacheSerializer();
+
+    @Test
+    public void testAllowedTypes_areReadBack() {
+        TestModel model = new TestModel();
+        model.setId("test1");
+        model.setLongValue(10L);
+        NestedModel nestedModel = new NestedModel();
+        nestedModel.setNestedIntValue(5);
+        model.setNestedModel(nestedModel);
+        assertEquals(model, serializer.deserialize(serializer.serialize(model)));
+
+        // Same as the permission groups of a user, which are collected into a HashSet
+        Set<String> permissionGroups = new HashSet<>(Set.of("group1", "group2"));
+        assertEquals(permissionGroups, serializer.deserialize(serializer.serialize(permissionGroups)));
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("updatedAt", Instant.ofEpochSecond(1000));
+        assertEquals(values, serializer.deserialize(serializer.serialize(values)));
+    }
+
+    @Test
+    public void testOtherTypes_areRejected() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("counter", new AtomicLong(1));
+        byte[] bytes = serializer.serialize(values);
+
+        SerializationException exception = assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+        assertTrue(exception.getMessage().contains("PolymorphicTypeValidator"));
+    }
+}